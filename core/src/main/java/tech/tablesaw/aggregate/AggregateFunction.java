@@ -33,4 +33,13 @@ public abstract class AggregateFunction<INCOL extends Column<?>, OUT> {
 
   /** Returns the {@link ColumnType} to be used for the values returned by this function */
   public abstract ColumnType returnType();
+
+  /**
+   * Returns a new accumulator that computes this function incrementally over a sliding window, or
+   * null if the function must summarize each window as a whole. Rolling calculations use the
+   * accumulator, when there is one, so each step costs the same however wide the window is
+   */
+  public RollingAccumulator rollingAccumulator() {
+    return null;
+  }
 }
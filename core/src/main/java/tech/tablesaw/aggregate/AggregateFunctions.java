@@ -239,6 +239,11 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.size() - column.countMissing();
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.countNonMissing();
+        }
       };
 
   /**
@@ -258,6 +263,11 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.countMissing();
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.countMissing();
+        }
       };
 
   /**
@@ -284,6 +294,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.mean(removeMissing(column));
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.mean();
+        }
       };
 
   /**
@@ -311,6 +326,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.sum(removeMissing(column));
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.sum();
+        }
       };
 
   /**
@@ -429,6 +449,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.min(removeMissing(column));
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.min();
+        }
       };
 
   /**
@@ -442,6 +467,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.max(removeMissing(column));
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.max();
+        }
       };
 
   /**
@@ -563,6 +593,11 @@ public class AggregateFunctions {
           double[] values = removeMissing(column);
           return StatUtils.variance(values);
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.variance();
+        }
       };
 
   /**
@@ -576,6 +611,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return Math.sqrt(StatUtils.variance(removeMissing(column)));
         }
+
+        @Override
+        public RollingAccumulator rollingAccumulator() {
+          return RollingAccumulators.stdDev();
+        }
       };
 
   /** Returns the given percentile of the values in the argument */
@@ -0,0 +1,23 @@
+package tech.tablesaw.aggregate;
+
+/**
+ * Computes an aggregate function over a window of values that slides along a column, updating the
+ * result as each value enters on the right and leaves on the left rather than summarizing every
+ * window from scratch. Values leave the window in the order they were added.
+ *
+ * @see AggregateFunction#rollingAccumulator()
+ */
+public interface RollingAccumulator {
+
+  /** Adds a value to the right of the window */
+  void add(double value);
+
+  /** Adds a missing value to the right of the window */
+  void addMissing();
+
+  /** Removes the left most value, missing or not, from the window */
+  void removeLeftMost();
+
+  /** Returns the value of the function over the values currently in the window */
+  double value();
+}
@@ -0,0 +1,221 @@
+package tech.tablesaw.aggregate;
+
+import tech.tablesaw.aggregate.internal.MonotonicQueue;
+import tech.tablesaw.aggregate.internal.SlidingValues;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+
+/**
+ * The {@link RollingAccumulator}s used by the functions in {@link AggregateFunctions}. Each gives
+ * the same answer as the function's summarize method applied to the window, to within rounding
+ */
+final class RollingAccumulators {
+
+  private RollingAccumulators() {}
+
+  static RollingAccumulator sum() {
+    return new WindowAccumulator() {
+      @Override
+      public double value() {
+        return window.sum();
+      }
+    };
+  }
+
+  static RollingAccumulator mean() {
+    return new WindowAccumulator() {
+      @Override
+      public double value() {
+        return window.count() == 0
+            ? DoubleColumnType.missingValueIndicator()
+            : window.sum() / window.count();
+      }
+    };
+  }
+
+  static RollingAccumulator countNonMissing() {
+    return new WindowAccumulator() {
+      @Override
+      public double value() {
+        return window.count();
+      }
+    };
+  }
+
+  static RollingAccumulator countMissing() {
+    return new WindowAccumulator() {
+      @Override
+      public double value() {
+        return window.countMissing();
+      }
+    };
+  }
+
+  static RollingAccumulator min() {
+    return new Extreme(false);
+  }
+
+  static RollingAccumulator max() {
+    return new Extreme(true);
+  }
+
+  static RollingAccumulator variance() {
+    return new Variance(false);
+  }
+
+  static RollingAccumulator stdDev() {
+    return new Variance(true);
+  }
+
+  /** An accumulator whose value depends only on the count and sum of the values in the window */
+  private abstract static class WindowAccumulator implements RollingAccumulator {
+    final SlidingValues window = new SlidingValues();
+
+    @Override
+    public void add(double value) {
+      window.add(value);
+    }
+
+    @Override
+    public void addMissing() {
+      window.addMissing();
+    }
+
+    @Override
+    public void removeLeftMost() {
+      window.removeLeftMost();
+    }
+  }
+
+  private static final class Extreme implements RollingAccumulator {
+    private final MonotonicQueue queue;
+
+    Extreme(boolean max) {
+      this.queue = new MonotonicQueue(max);
+    }
+
+    @Override
+    public void add(double value) {
+      queue.add(value);
+    }
+
+    @Override
+    public void addMissing() {
+      queue.addMissing();
+    }
+
+    @Override
+    public void removeLeftMost() {
+      queue.removeLeftMost();
+    }
+
+    @Override
+    public double value() {
+      return queue.value();
+    }
+  }
+
+  /**
+   * The bias-corrected sample variance (or its square root) of the window, kept with Welford's
+   * updates. Removing a value that accounted for most of the spread cancels almost all of the sum
+   * of squared deviations, leaving mostly rounding error, so when the sum falls far below its
+   * recent peak it's recomputed exactly from the values in the window. That happens at most once
+   * per large value leaving, so the cost stays constant per row on average
+   */
+  private static final class Variance implements RollingAccumulator {
+    private static final double RECOMPUTE_RATIO = 1e-6;
+
+    private final boolean standardDeviation;
+    // The window as a ring buffer, with missing values held as NaN
+    private double[] values = new double[16];
+    private int head;
+    private int size;
+    private int count;
+    private double mean;
+    private double sumOfSquaredDeviations;
+    private double peak;
+
+    Variance(boolean standardDeviation) {
+      this.standardDeviation = standardDeviation;
+    }
+
+    @Override
+    public void add(double value) {
+      enqueue(value);
+      count++;
+      double delta = value - mean;
+      mean += delta / count;
+      sumOfSquaredDeviations += delta * (value - mean);
+      peak = Math.max(peak, sumOfSquaredDeviations);
+    }
+
+    @Override
+    public void addMissing() {
+      enqueue(DoubleColumnType.missingValueIndicator());
+    }
+
+    @Override
+    public void removeLeftMost() {
+      double value = values[head];
+      head = (head + 1) % values.length;
+      size--;
+      if (DoubleColumnType.valueIsMissing(value)) {
+        return;
+      }
+      count--;
+      if (count == 0) {
+        mean = 0;
+        sumOfSquaredDeviations = 0;
+        peak = 0;
+        return;
+      }
+      double delta = value - mean;
+      mean -= delta / count;
+      sumOfSquaredDeviations -= delta * (value - mean);
+      if (sumOfSquaredDeviations < peak * RECOMPUTE_RATIO) {
+        recompute();
+      }
+    }
+
+    @Override
+    public double value() {
+      if (count == 0) {
+        return DoubleColumnType.missingValueIndicator();
+      }
+      double variance = count == 1 ? 0 : Math.max(0, sumOfSquaredDeviations) / (count - 1);
+      return standardDeviation ? Math.sqrt(variance) : variance;
+    }
+
+    private void enqueue(double value) {
+      if (size == values.length) {
+        double[] grown = new double[size * 2];
+        for (int i = 0; i < size; i++) {
+          grown[i] = values[(head + i) % size];
+        }
+        values = grown;
+        head = 0;
+      }
+      values[(head + size) % values.length] = value;
+      size++;
+    }
+
+    /** Computes the mean and sum of squared deviations of the window in two passes */
+    private void recompute() {
+      double total = 0;
+      for (int i = 0; i < size; i++) {
+        double value = values[(head + i) % values.length];
+        if (!DoubleColumnType.valueIsMissing(value)) {
+          total += value;
+        }
+      }
+      mean = total / count;
+      sumOfSquaredDeviations = 0;
+      for (int i = 0; i < size; i++) {
+        double value = values[(head + i) % values.length];
+        if (!DoubleColumnType.valueIsMissing(value)) {
+          sumOfSquaredDeviations += (value - mean) * (value - mean);
+        }
+      }
+      peak = sumOfSquaredDeviations;
+    }
+  }
+}
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.MemoryBudget;
 import tech.tablesaw.api.Row;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
@@ -365,6 +366,11 @@ public class Summarizer {
 
     ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
         getAggregateFunctionMultimap();
+    MemoryBudget.reserve(
+        "summary",
+        () ->
+            (long) group.size() * reductionMultimap.size() * Double.BYTES * 2
+                + (long) temp.rowCount() * Integer.BYTES);
 
     for (String name : reductionMultimap.keys()) {
       List<AggregateFunction<?, ?>> reductions = reductionMultimap.get(name);
@@ -0,0 +1,32 @@
+package tech.tablesaw.aggregate.internal;
+
+/**
+ * A running sum that carries the rounding error of each addition forward (Neumaier's variant of
+ * Kahan summation), so adding and later subtracting the same values leaves it accurate.
+ */
+public final class CompensatedSum {
+  private double sum;
+  private double compensation;
+
+  /** Adds the given value to the sum. Subtract a value by adding its negation */
+  public void add(double value) {
+    double total = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - total) + value;
+    } else {
+      compensation += (value - total) + sum;
+    }
+    sum = total;
+  }
+
+  /** Sets the sum back to zero */
+  public void reset() {
+    sum = 0;
+    compensation = 0;
+  }
+
+  /** Returns the sum of the values added so far */
+  public double value() {
+    return sum + compensation;
+  }
+}
@@ -0,0 +1,57 @@
+package tech.tablesaw.aggregate.internal;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+
+/**
+ * The maximum (or minimum) of a sliding window. The queue holds only the values that could still
+ * become the result as the window slides: each one is greater (or less) than every value added
+ * after it, so the result is always at the front. Each value is added and removed at most once.
+ */
+public final class MonotonicQueue {
+  private final boolean max;
+  private final DoubleArrayFIFOQueue values = new DoubleArrayFIFOQueue();
+  // The position of each value in the queue, counting every value ever added to the window.
+  private final IntArrayFIFOQueue positions = new IntArrayFIFOQueue();
+  private int added = 0;
+  private int removed = 0;
+
+  /** Constructs a queue that tracks the maximum if {@code max} is true, or else the minimum */
+  public MonotonicQueue(boolean max) {
+    this.max = max;
+  }
+
+  /** Adds a value to the right of the window */
+  public void add(double value) {
+    while (!values.isEmpty() && dominates(value, values.lastDouble())) {
+      values.dequeueLastDouble();
+      positions.dequeueLastInt();
+    }
+    values.enqueue(value);
+    positions.enqueue(added++);
+  }
+
+  /** Adds a missing value to the right of the window */
+  public void addMissing() {
+    added++;
+  }
+
+  /** Removes the left most value from the window */
+  public void removeLeftMost() {
+    if (!positions.isEmpty() && positions.firstInt() == removed) {
+      values.dequeueDouble();
+      positions.dequeueInt();
+    }
+    removed++;
+  }
+
+  /** Returns the maximum (or minimum) of the window, or NaN if it holds no values */
+  public double value() {
+    return values.isEmpty() ? DoubleColumnType.missingValueIndicator() : values.firstDouble();
+  }
+
+  private boolean dominates(double value, double other) {
+    return max ? value >= other : value <= other;
+  }
+}
@@ -0,0 +1,54 @@
+package tech.tablesaw.aggregate.internal;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayFIFOQueue;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+
+/**
+ * The values in a sliding window, in order, with their compensated sum. Missing values are held as
+ * NaN so they can be recognized when they leave the window.
+ */
+public final class SlidingValues {
+  private final DoubleArrayFIFOQueue values = new DoubleArrayFIFOQueue();
+  private final CompensatedSum sum = new CompensatedSum();
+  private int missingCount = 0;
+
+  /** Adds a value to the right of the window */
+  public void add(double value) {
+    values.enqueue(value);
+    sum.add(value);
+  }
+
+  /** Adds a missing value to the right of the window */
+  public void addMissing() {
+    values.enqueue(DoubleColumnType.missingValueIndicator());
+    missingCount++;
+  }
+
+  /** Removes the left most value from the window */
+  public void removeLeftMost() {
+    double removed = values.dequeueDouble();
+    if (DoubleColumnType.valueIsMissing(removed)) {
+      missingCount--;
+    } else if (count() == 0) {
+      // start again from zero once the window holds no values, discarding any residue
+      sum.reset();
+    } else {
+      sum.add(-removed);
+    }
+  }
+
+  /** Returns the number of non-missing values in the window */
+  public int count() {
+    return values.size() - missingCount;
+  }
+
+  /** Returns the number of missing values in the window */
+  public int countMissing() {
+    return missingCount;
+  }
+
+  /** Returns the sum of the non-missing values in the window */
+  public double sum() {
+    return sum.value();
+  }
+}
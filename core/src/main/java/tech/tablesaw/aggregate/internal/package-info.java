@@ -0,0 +1,6 @@
+/**
+ * Running aggregates over sliding windows, shared by {@link tech.tablesaw.aggregate} and {@link
+ * tech.tablesaw.analytic}. These classes are public only so both packages can use them; they are
+ * not part of the Tablesaw API and may change without notice.
+ */
+package tech.tablesaw.aggregate.internal;
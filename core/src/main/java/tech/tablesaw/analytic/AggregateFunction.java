@@ -31,6 +31,16 @@ interface AggregateFunction<T, R> {
    */
   void addRightMostMissing();
 
+  /**
+   * Slides the right side (aka end) of the window to the right (aka end) by appending a new
+   * non-missing numeric element, without boxing it. Only functions over numeric columns need to
+   * support this.
+   */
+  default void addRightMostDouble(double value) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " does not support primitive double values");
+  }
+
   /** Shortcut to appending multiple values to the right (aka end) of a window in one pass. */
   default void addAllRightMost(Iterable<T> newValues) {
     newValues.forEach(this::addRightMost);
@@ -42,4 +52,12 @@ interface AggregateFunction<T, R> {
    * @return the aggregate value for the current window.
    */
   R getValue();
+
+  /**
+   * Get the aggregate value for the current window as a double, without boxing it. Missing values
+   * are returned as NaN.
+   */
+  default double getDoubleValue() {
+    return ((Number) getValue()).doubleValue();
+  }
 }
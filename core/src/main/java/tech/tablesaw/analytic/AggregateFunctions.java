@@ -1,7 +1,10 @@
 package tech.tablesaw.analytic;
 
-import java.util.ArrayDeque;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
 import java.util.function.Function;
+import tech.tablesaw.aggregate.internal.CompensatedSum;
+import tech.tablesaw.aggregate.internal.MonotonicQueue;
+import tech.tablesaw.aggregate.internal.SlidingValues;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
@@ -25,9 +28,11 @@ import tech.tablesaw.columns.numbers.DoubleColumnType;
  * one explained above.
  *
  * <p>Sliding windows are windows where both sides of the window are following, preceding or current
- * row. Analytic aggregate algorithms for sliding windows are generally implemented with a {@link
- * java.util.Deque} so that elements can be added or removed from either side of the window as it
- * slides.
+ * row. Analytic aggregate algorithms for sliding windows are implemented with primitive queues so
+ * that elements can be added or removed from either side of the window as it slides without boxing
+ * them. Sums are compensated so that values leaving the window don't leave rounding errors behind,
+ * and MAX and MIN keep a monotonic queue of the candidates for the result, so every function runs
+ * in constant amortized time per row however wide the window is.
  *
  * <p>This class creates two implementations per analytic aggregate function. One for append windows
  * and one for sliding windows.
@@ -91,6 +96,48 @@ enum AggregateFunctions implements FunctionMetaData {
       }
     }
 
+    /** Append functions over numeric values, which work on primitive doubles. */
+    abstract static class NumericAppendFunction<T extends Number>
+        extends AppendAggregateFunction<T, Double> {
+
+      @Override
+      public final void addRightMost(T newValue) {
+        addRightMostDouble(newValue.doubleValue());
+      }
+
+      @Override
+      public final Double getValue() {
+        return getDoubleValue();
+      }
+
+      @Override
+      public abstract void addRightMostDouble(double value);
+
+      @Override
+      public abstract double getDoubleValue();
+    }
+
+    /** Sliding functions over numeric values, which work on primitive doubles. */
+    abstract static class NumericSlidingFunction<T extends Number>
+        implements AggregateFunction<T, Double> {
+
+      @Override
+      public final void addRightMost(T newValue) {
+        addRightMostDouble(newValue.doubleValue());
+      }
+
+      @Override
+      public final Double getValue() {
+        return getDoubleValue();
+      }
+
+      @Override
+      public abstract void addRightMostDouble(double value);
+
+      @Override
+      public abstract double getDoubleValue();
+    }
+
     abstract AppendAggregateFunction<T, ? extends Number> functionForAppendWindows();
 
     abstract AggregateFunction<T, ? extends Number> functionForSlidingWindows();
@@ -111,63 +158,52 @@ enum AggregateFunctions implements FunctionMetaData {
   static class Sum<T extends Number> extends WindowDependentAggregateFunction<T> {
     @Override
     AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private double sum = DoubleColumnType.missingValueIndicator();
+      return new NumericAppendFunction<T>() {
+        private final CompensatedSum sum = new CompensatedSum();
+        private boolean empty = true;
 
         @Override
-        public Double getValue() {
-          return sum;
+        public double getDoubleValue() {
+          return empty ? DoubleColumnType.missingValueIndicator() : sum.value();
         }
 
         @Override
         public void addRightMostMissing() {}
 
         @Override
-        public void addRightMost(T newValue) {
-          if (DoubleColumnType.valueIsMissing(sum)) {
-            this.sum = 0.0;
-          }
-          this.sum += newValue.doubleValue();
+        public void addRightMostDouble(double value) {
+          sum.add(value);
+          empty = false;
         }
       };
     }
 
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
-        private int missingCount = 0;
+      return new NumericSlidingFunction<T>() {
+        private final SlidingValues window = new SlidingValues();
 
         @Override
         public void removeLeftMost() {
-          Double removed = queue.remove();
-          if (DoubleColumnType.valueIsMissing(removed)) {
-            missingCount--;
-          } else {
-            this.sum -= removed;
-          }
+          window.removeLeftMost();
         }
 
         @Override
-        public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
-          this.sum += doubleValue;
-          queue.add(doubleValue);
+        public void addRightMostDouble(double value) {
+          window.add(value);
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
-          missingCount++;
+          window.addMissing();
         }
 
         @Override
-        public Double getValue() {
-          if (queue.isEmpty() || missingCount == queue.size()) {
+        public double getDoubleValue() {
+          if (window.count() == 0) {
             return DoubleColumnType.missingValueIndicator();
           }
-          return sum;
+          return window.sum();
         }
       };
     }
@@ -177,23 +213,23 @@ enum AggregateFunctions implements FunctionMetaData {
 
     @Override
     AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private Double max = DoubleColumnType.missingValueIndicator();
+      return new NumericAppendFunction<T>() {
+        private double max = DoubleColumnType.missingValueIndicator();
 
         @Override
-        public void addRightMost(T newValue) {
+        public void addRightMostDouble(double value) {
           if (DoubleColumnType.valueIsMissing(max)) {
-            max = newValue.doubleValue();
+            max = value;
             return;
           }
-          this.max = Math.max(max, newValue.doubleValue());
+          this.max = Math.max(max, value);
         }
 
         @Override
         public void addRightMostMissing() {}
 
         @Override
-        public Double getValue() {
+        public double getDoubleValue() {
           return max;
         }
       };
@@ -201,33 +237,27 @@ enum AggregateFunctions implements FunctionMetaData {
 
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
+      return new NumericSlidingFunction<T>() {
+        private final MonotonicQueue queue = new MonotonicQueue(true);
 
         @Override
         public void removeLeftMost() {
-          queue.remove();
+          queue.removeLeftMost();
         }
 
         @Override
-        public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
+        public void addRightMostDouble(double value) {
+          queue.add(value);
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
+          queue.addMissing();
         }
 
         @Override
-        public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .max()
-              .orElse(DoubleColumnType.missingValueIndicator());
+        public double getDoubleValue() {
+          return queue.value();
         }
       };
     }
@@ -236,23 +266,23 @@ enum AggregateFunctions implements FunctionMetaData {
   static class Min<T extends Number> extends WindowDependentAggregateFunction<T> {
     @Override
     AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private Double min = DoubleColumnType.missingValueIndicator();
+      return new NumericAppendFunction<T>() {
+        private double min = DoubleColumnType.missingValueIndicator();
 
         @Override
-        public void addRightMost(T newValue) {
+        public void addRightMostDouble(double value) {
           if (DoubleColumnType.valueIsMissing(min)) {
-            min = newValue.doubleValue();
+            min = value;
             return;
           }
-          this.min = Math.min(min, newValue.doubleValue());
+          this.min = Math.min(min, value);
         }
 
         @Override
         public void addRightMostMissing() {}
 
         @Override
-        public Double getValue() {
+        public double getDoubleValue() {
           return min;
         }
       };
@@ -260,33 +290,27 @@ enum AggregateFunctions implements FunctionMetaData {
 
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
+      return new NumericSlidingFunction<T>() {
+        private final MonotonicQueue queue = new MonotonicQueue(false);
 
         @Override
         public void removeLeftMost() {
-          queue.remove();
+          queue.removeLeftMost();
         }
 
         @Override
-        public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
+        public void addRightMostDouble(double value) {
+          queue.add(value);
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
+          queue.addMissing();
         }
 
         @Override
-        public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .min()
-              .orElse(DoubleColumnType.missingValueIndicator());
+        public double getDoubleValue() {
+          return queue.value();
         }
       };
     }
@@ -296,27 +320,24 @@ enum AggregateFunctions implements FunctionMetaData {
 
     @Override
     AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private double sum = DoubleColumnType.missingValueIndicator();
-        private double count = 0;
+      return new NumericAppendFunction<T>() {
+        private final CompensatedSum sum = new CompensatedSum();
+        private int count = 0;
 
         @Override
-        public Double getValue() {
+        public double getDoubleValue() {
           if (count == 0) {
             return DoubleColumnType.missingValueIndicator();
           }
-          return sum / count;
+          return sum.value() / count;
         }
 
         @Override
         public void addRightMostMissing() {}
 
         @Override
-        public void addRightMost(T newValue) {
-          if (DoubleColumnType.valueIsMissing(sum)) {
-            this.sum = 0.0;
-          }
-          this.sum += newValue.doubleValue();
+        public void addRightMostDouble(double value) {
+          sum.add(value);
           count++;
         }
       };
@@ -324,40 +345,30 @@ enum AggregateFunctions implements FunctionMetaData {
 
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
-        private int missingCount = 0;
+      return new NumericSlidingFunction<T>() {
+        private final SlidingValues window = new SlidingValues();
 
         @Override
         public void removeLeftMost() {
-          Double removed = queue.remove();
-          if (DoubleColumnType.valueIsMissing(removed)) {
-            missingCount--;
-          } else {
-            this.sum -= removed;
-          }
+          window.removeLeftMost();
         }
 
         @Override
-        public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
-          this.sum += doubleValue;
-          queue.add(doubleValue);
+        public void addRightMostDouble(double value) {
+          window.add(value);
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
-          missingCount++;
+          window.addMissing();
         }
 
         @Override
-        public Double getValue() {
-          if (queue.size() - missingCount == 0) {
+        public double getDoubleValue() {
+          if (window.count() == 0) {
             return DoubleColumnType.missingValueIndicator();
           }
-          return sum / (queue.size() - missingCount);
+          return window.sum() / window.count();
         }
       };
     }
@@ -375,6 +386,11 @@ enum AggregateFunctions implements FunctionMetaData {
           return count;
         }
 
+        @Override
+        public double getDoubleValue() {
+          return count;
+        }
+
         @Override
         public void addRightMostMissing() {}
 
@@ -382,39 +398,53 @@ enum AggregateFunctions implements FunctionMetaData {
         public void addRightMost(T newValue) {
           count++;
         }
+
+        @Override
+        public void addRightMostDouble(double value) {
+          count++;
+        }
       };
     }
 
     @Override
     AggregateFunction<T, Integer> functionForSlidingWindows() {
       return new AggregateFunction<T, Integer>() {
-        // Deque contains a boolean that when true indicates that the value in that position of the
-        // window is missing.
-        private final ArrayDeque<Boolean> queue = new ArrayDeque<>();
-        private int missingCount = 0;
+        // The positions of the missing values in the window, counting every value ever added.
+        private final IntArrayFIFOQueue missingPositions = new IntArrayFIFOQueue();
+        private int added = 0;
+        private int removed = 0;
 
         @Override
         public void removeLeftMost() {
-          Boolean removedMissingValue = queue.remove();
-          if (removedMissingValue) {
-            missingCount--;
+          if (!missingPositions.isEmpty() && missingPositions.firstInt() == removed) {
+            missingPositions.dequeueInt();
           }
+          removed++;
         }
 
         @Override
         public void addRightMost(T newValue) {
-          queue.add(false);
+          added++;
+        }
+
+        @Override
+        public void addRightMostDouble(double value) {
+          added++;
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(true);
-          missingCount++;
+          missingPositions.enqueue(added++);
         }
 
         @Override
         public Integer getValue() {
-          return queue.size() - missingCount;
+          return (int) getDoubleValue();
+        }
+
+        @Override
+        public double getDoubleValue() {
+          return added - removed - missingPositions.size();
         }
       };
     }
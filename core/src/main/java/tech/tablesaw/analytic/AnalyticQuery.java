@@ -2,6 +2,7 @@ package tech.tablesaw.analytic;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
@@ -18,13 +19,22 @@ import tech.tablesaw.analytic.AnalyticQuerySteps.NumberingQuerySteps;
 import tech.tablesaw.analytic.AnalyticQuerySteps.NumberingQuerySteps.OrderByRequiredStep;
 import tech.tablesaw.analytic.AnalyticQuerySteps.NumberingQuerySteps.PartitionByStep;
 import tech.tablesaw.analytic.AnalyticQuerySteps.QuickQuerySteps;
+import tech.tablesaw.analytic.AnalyticQuerySteps.SetRangeEndOptionOne;
+import tech.tablesaw.analytic.AnalyticQuerySteps.SetRangeEndOptionTwo;
+import tech.tablesaw.analytic.AnalyticQuerySteps.SetRangeStart;
 import tech.tablesaw.analytic.AnalyticQuerySteps.SetWindowEndOptionOne;
 import tech.tablesaw.analytic.AnalyticQuerySteps.SetWindowEndOptionTwo;
 import tech.tablesaw.analytic.AnalyticQuerySteps.SetWindowStart;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.sorting.Sort;
 
-/** A class representing an analytic query similar to the Over or Window clause in SQL. */
+/**
+ * A class representing an analytic query similar to the Over or Window clause in SQL.
+ *
+ * <p>Partitions are independent of each other, so {@link #executeParallel()} can process them in
+ * parallel on the common {@link java.util.concurrent.ForkJoinPool}. The result is the same as that
+ * of {@link #execute()}, which processes them one at a time on the calling thread.
+ */
 public final class AnalyticQuery {
 
   private final Table table;
@@ -182,6 +192,17 @@ public final class AnalyticQuery {
     return AnalyticQueryEngine.create(this).execute();
   }
 
+  /**
+   * Executes the query like {@link #execute()}, but processes the partitions in parallel on the
+   * common {@link java.util.concurrent.ForkJoinPool} when there is more than one. The source table
+   * must not be modified until this method returns
+   *
+   * @return a new table containing only the result columns.
+   */
+  public Table executeParallel() {
+    return AnalyticQueryEngine.create(this).executeParallel();
+  }
+
   /**
    * Executes the query and adds all the calculated columns directly to the source table.
    *
@@ -277,6 +298,9 @@ public final class AnalyticQuery {
           SetWindowStart,
           SetWindowEndOptionOne,
           SetWindowEndOptionTwo,
+          SetRangeStart,
+          SetRangeEndOptionOne,
+          SetRangeEndOptionTwo,
           NameStepAggregate,
           AddAggregateFunctions,
           AddAggregateFunctionsWithExecute {
@@ -334,7 +358,13 @@ public final class AnalyticQuery {
     }
 
     @Override
-    public SetWindowEndOptionOne unboundedPreceding() {
+    public SetRangeStart rangeBetween() {
+      this.frameBuilder.setRange();
+      return this;
+    }
+
+    @Override
+    public AnalyticBuilder unboundedPreceding() {
       // default is unbounded preceding.
       return this;
     }
@@ -346,7 +376,19 @@ public final class AnalyticQuery {
     }
 
     @Override
-    public SetWindowEndOptionTwo currentRow() {
+    public SetRangeEndOptionOne preceding(Duration duration) {
+      this.frameBuilder.setLeftPreceding(duration);
+      return this;
+    }
+
+    @Override
+    public SetRangeEndOptionOne preceding(double amount) {
+      this.frameBuilder.setLeftPreceding(amount);
+      return this;
+    }
+
+    @Override
+    public AnalyticBuilder currentRow() {
       this.frameBuilder.setLeftCurrentRow();
       return this;
     }
@@ -357,6 +399,42 @@ public final class AnalyticQuery {
       return this;
     }
 
+    @Override
+    public SetRangeEndOptionTwo following(Duration duration) {
+      this.frameBuilder.setLeftFollowing(duration);
+      return this;
+    }
+
+    @Override
+    public SetRangeEndOptionTwo following(double amount) {
+      this.frameBuilder.setLeftFollowing(amount);
+      return this;
+    }
+
+    @Override
+    public AddAggregateFunctions andPreceding(Duration duration) {
+      this.frameBuilder.setRightPreceding(duration);
+      return this;
+    }
+
+    @Override
+    public AddAggregateFunctions andPreceding(double amount) {
+      this.frameBuilder.setRightPreceding(amount);
+      return this;
+    }
+
+    @Override
+    public AddAggregateFunctions andFollowing(Duration duration) {
+      this.frameBuilder.setRightFollowing(duration);
+      return this;
+    }
+
+    @Override
+    public AddAggregateFunctions andFollowing(double amount) {
+      this.frameBuilder.setRightFollowing(amount);
+      return this;
+    }
+
     @Override
     public AddAggregateFunctions andPreceding(int nRows) {
       this.frameBuilder.setRightPreceding(nRows);
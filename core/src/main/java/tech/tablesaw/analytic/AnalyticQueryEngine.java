@@ -1,7 +1,12 @@
 package tech.tablesaw.analytic;
 
 import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntUnaryOperator;
 import tech.tablesaw.analytic.ArgumentList.FunctionCall;
 import tech.tablesaw.api.Row;
 import tech.tablesaw.api.Table;
@@ -16,6 +21,11 @@ import tech.tablesaw.table.TableSlice;
  *
  * <p>Makes no changes to the underlying table. The order of the rows in "result" Table will match
  * the order of the rows in underlying source table.
+ *
+ * <p>When partitions are processed in parallel, each one writes its results to columns of its own,
+ * one row for each row of the partition. Once every partition has been processed, the results are
+ * copied into the destination on the calling thread, so the destination columns are never written
+ * by more than one thread.
  */
 final class AnalyticQueryEngine {
   private final AnalyticQuery query;
@@ -35,28 +45,87 @@ final class AnalyticQueryEngine {
   }
 
   /**
-   * Execute the given analytic Query.
+   * Execute the given analytic Query, processing the partitions one at a time on the calling
+   * thread.
    *
    * @return a table with the result of the query. Rows in the result table match the order of rows
    *     in the source table.
    */
   public Table execute() {
+    return execute(false);
+  }
+
+  /**
+   * Execute the given analytic Query, processing the partitions in parallel on the common {@link
+   * ForkJoinPool} when there is more than one.
+   *
+   * @return a table with the result of the query. Rows in the result table match the order of rows
+   *     in the source table.
+   */
+  public Table executeParallel() {
+    return execute(true);
+  }
+
+  private Table execute(boolean parallel) {
+    validateRangeFrame();
     addColumns();
-    partition().forEach(this::processSlice);
+    List<TableSlice> slices = ImmutableList.copyOf(partition());
+    if (parallel && slices.size() > 1) {
+      Table[] results = new Table[slices.size()];
+      ForkJoinPool.commonPool().invoke(new PartitionTask(slices, results));
+      for (int i = 0; i < slices.size(); i++) {
+        copyResults(slices.get(i), results[i]);
+      }
+    } else {
+      for (TableSlice slice : slices) {
+        processSlice(slice, destination, slice::mappedRowNumber);
+      }
+    }
     return destination;
   }
 
-  private void processSlice(TableSlice slice) {
+  /**
+   * Processes the given slice, writing its results to the given table
+   *
+   * @param resultRows maps each row of the slice to the row of the results that receives its values
+   */
+  private void processSlice(TableSlice slice, Table results, IntUnaryOperator resultRows) {
     orderBy(slice);
-    processAggregateFunctions(slice);
-    processNumberingFunctions(slice);
+    processAggregateFunctions(slice, results, resultRows);
+    processNumberingFunctions(slice, results, resultRows);
+  }
+
+  /**
+   * Processes the given slice, returning its results in a new table holding a row for each row of
+   * the slice
+   */
+  private Table processSlice(TableSlice slice) {
+    Table results =
+        Table.create(
+            destination.name(),
+            query.getArgumentList().createEmptyDestinationColumns(slice.rowCount()));
+    processSlice(slice, results, IntUnaryOperator.identity());
+    return results;
+  }
+
+  /** Copies the results of processing the given slice to the slice's rows of the destination */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void copyResults(TableSlice slice, Table results) {
+    for (int c = 0; c < destination.columnCount(); c++) {
+      Column to = destination.column(c);
+      Column<?> from = results.column(c);
+      for (int row = 0; row < slice.rowCount(); row++) {
+        to.set(slice.mappedRowNumber(row), from, row);
+      }
+    }
   }
 
   /**
    * Execute all aggregate functions for the given slice setting values in the appropriate
    * destination column.
    */
-  private void processAggregateFunctions(TableSlice slice) {
+  private void processAggregateFunctions(
+      TableSlice slice, Table results, IntUnaryOperator resultRows) {
     for (String toColumn : query.getArgumentList().getAggregateFunctions().keySet()) {
       FunctionCall<AggregateFunctions> functionCall =
           query.getArgumentList().getAggregateFunctions().get(toColumn);
@@ -65,10 +134,29 @@ final class AnalyticQueryEngine {
       Column<?> sourceColumn = query.getTable().column(functionCall.getSourceColumnName());
       validateColumn(aggregateFunction, sourceColumn);
 
-      Column<?> destinationColumn = destination.column(functionCall.getDestinationColumnName());
-      new WindowSlider(
-              query.getWindowFrame(), aggregateFunction, slice, sourceColumn, destinationColumn)
-          .execute();
+      Column<?> destinationColumn = results.column(functionCall.getDestinationColumnName());
+      if (query.getWindowFrame().isRange()) {
+        Map.Entry<String, Sort.Order> orderBy = query.getSort().get().iterator().next();
+        new RangeWindowSlider(
+                query.getWindowFrame(),
+                aggregateFunction,
+                slice,
+                sourceColumn,
+                query.getTable().column(orderBy.getKey()),
+                orderBy.getValue() == Sort.Order.DESCEND,
+                destinationColumn,
+                resultRows)
+            .execute();
+      } else {
+        new WindowSlider(
+                query.getWindowFrame(),
+                aggregateFunction,
+                slice,
+                sourceColumn,
+                destinationColumn,
+                resultRows)
+            .execute();
+      }
     }
   }
 
@@ -77,7 +165,8 @@ final class AnalyticQueryEngine {
    * destination column.
    */
   @SuppressWarnings({"unchecked", "rawtypes"})
-  private void processNumberingFunctions(TableSlice slice) {
+  private void processNumberingFunctions(
+      TableSlice slice, Table results, IntUnaryOperator resultRows) {
     for (String toColumn : query.getArgumentList().getNumberingFunctions().keySet()) {
       if (rowComparator == null) {
         throw new IllegalArgumentException("Cannot use Numbering Function without OrderBy");
@@ -87,7 +176,7 @@ final class AnalyticQueryEngine {
       NumberingFunctions numberingFunctions = functionCall.getFunction();
       NumberingFunction function = numberingFunctions.getImplementation();
       Column<Integer> destinationColumn =
-          (Column<Integer>) destination.column(functionCall.getDestinationColumnName());
+          (Column<Integer>) results.column(functionCall.getDestinationColumnName());
 
       int prevRowNumber = -1;
       // Slice has already been ordered.
@@ -106,12 +195,38 @@ final class AnalyticQueryEngine {
           }
         }
         prevRowNumber = row.getRowNumber();
-        // Set the row number in the destination that corresponds to the row in the view.
-        destinationColumn.set(slice.mappedRowNumber(row.getRowNumber()), function.getValue());
+        // Set the row of the results that corresponds to the row in the view.
+        destinationColumn.set(resultRows.applyAsInt(row.getRowNumber()), function.getValue());
       }
     }
   }
 
+  /**
+   * Checks that a RANGE window frame is ordered by a single column whose type can be compared with
+   * the frame's bounds.
+   */
+  private void validateRangeFrame() {
+    WindowFrame frame = query.getWindowFrame();
+    if (frame == null || !frame.isRange()) {
+      return;
+    }
+    Optional<Sort> sort = query.getSort();
+    if (!sort.isPresent() || sort.get().size() != 1) {
+      throw new IllegalArgumentException(
+          "A RANGE window frame must be ordered by exactly one column: " + frame);
+    }
+    Column<?> orderColumn = query.getTable().column(sort.get().iterator().next().getKey());
+    if (!RangeWindowSlider.isOrderColumnSupported(orderColumn, frame.hasDurationOffsets())) {
+      throw new IllegalArgumentException(
+          "A RANGE window frame "
+              + (frame.hasDurationOffsets() ? "with duration bounds " : "")
+              + "cannot be ordered by column "
+              + orderColumn.name()
+              + " of type "
+              + orderColumn.type());
+    }
+  }
+
   /**
    * Checks to make sure the given aggregate function is compatible with the type of the source
    * column.
@@ -152,4 +267,75 @@ final class AnalyticQueryEngine {
   private void orderBy(TableSlice tableSlice) {
     query.getSort().ifPresent(tableSlice::sortOn);
   }
+
+  /**
+   * Processes a range of partitions, splitting it where it divides the rows in half until it holds
+   * few enough rows to process directly. Idle threads steal the halves that haven't been started,
+   * which keeps them busy when some partitions are much larger than others.
+   */
+  private final class PartitionTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Ranges with no more than this many rows are not split any further */
+    private static final int MIN_ROWS_TO_SPLIT = 1 << 12;
+
+    private final List<TableSlice> slices;
+
+    // The results of processing each slice
+    private final Table[] results;
+
+    // The number of rows in the partitions before each one, and in all of them at the end
+    private final long[] rowsBefore;
+
+    private final int start;
+    private final int end;
+
+    PartitionTask(List<TableSlice> slices, Table[] results) {
+      this.slices = slices;
+      this.results = results;
+      this.rowsBefore = new long[slices.size() + 1];
+      for (int i = 0; i < slices.size(); i++) {
+        rowsBefore[i + 1] = rowsBefore[i] + slices.get(i).rowCount();
+      }
+      this.start = 0;
+      this.end = slices.size();
+    }
+
+    private PartitionTask(PartitionTask parent, int start, int end) {
+      this.slices = parent.slices;
+      this.results = parent.results;
+      this.rowsBefore = parent.rowsBefore;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start == 1 || rowsBefore[end] - rowsBefore[start] <= MIN_ROWS_TO_SPLIT) {
+        for (int i = start; i < end; i++) {
+          results[i] = processSlice(slices.get(i));
+        }
+        return;
+      }
+      int middle = middle();
+      invokeAll(new PartitionTask(this, start, middle), new PartitionTask(this, middle, end));
+    }
+
+    /** Returns the partition that divides the rows in the range most evenly */
+    private int middle() {
+      long half = (rowsBefore[start] + rowsBefore[end]) / 2;
+      int low = start + 1;
+      int high = end - 1;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (rowsBefore[mid] < half) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package tech.tablesaw.analytic;
 
+import java.time.Duration;
 import tech.tablesaw.api.Table;
 
 public interface AnalyticQuerySteps {
@@ -156,7 +157,7 @@ public interface AnalyticQuerySteps {
    * <p>SQL Grammar for the window frame clause:
    *
    * <pre>
-   * { ROWS }
+   * { ROWS | RANGE }
    * {
    *   { UNBOUNDED PRECEDING | numeric_expression PRECEDING | CURRENT ROW }
    *   |
@@ -169,6 +170,12 @@ public interface AnalyticQuerySteps {
    * window_frame_boundary_end:
    * { UNBOUNDED FOLLOWING | numeric_expression { PRECEDING | FOLLOWING } | CURRENT ROW }
    * </pre>
+   *
+   * <p>A ROWS frame is measured in rows from the current row. A RANGE frame is measured in values
+   * of the order by column from the value in the current row, so it holds every row whose value is
+   * within the given distance. RANGE frames need exactly one order by column, which must be
+   * numeric, or be a date, date-time or instant column when the distances are durations. Rows with
+   * a missing order by value are not in any RANGE frame, and their results are missing.
    */
   interface DefineWindowFame {
     /**
@@ -177,6 +184,13 @@ public interface AnalyticQuerySteps {
      * @return the set window start step in the fluent query builder.
      */
     SetWindowStart rowsBetween();
+
+    /**
+     * The first step in defining a window frame measured in values of the order by column.
+     *
+     * @return the set range start step in the fluent query builder.
+     */
+    SetRangeStart rangeBetween();
   }
 
   /** Set the window frame boundary start. */
@@ -252,6 +266,121 @@ public interface AnalyticQuerySteps {
     AddAggregateFunctions andUnBoundedFollowing();
   }
 
+  /** Set the range frame boundary start. */
+  interface SetRangeStart {
+    /**
+     * Set the bound to the first partition row.
+     *
+     * @return the set range frame end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionOne unboundedPreceding();
+
+    /**
+     * Set the bound to the rows whose order by value is no more than the given duration before the
+     * current row's.
+     *
+     * @param duration the time before the current row to include in the window.
+     * @return the set range frame end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionOne preceding(Duration duration);
+
+    /**
+     * Set the bound to the rows whose order by value is no more than the given amount less than the
+     * current row's.
+     *
+     * @param amount the distance before the current row's value to include in the window.
+     * @return the set range frame end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionOne preceding(double amount);
+
+    /**
+     * Set the bound to the rows with the same order by value as the current row.
+     *
+     * @return the set range frame end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionTwo currentRow();
+
+    /**
+     * Set the bound to the rows whose order by value is at least the given duration after the
+     * current row's.
+     *
+     * @param duration the time after the current row at which the window starts.
+     * @return the set range frame end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionTwo following(Duration duration);
+
+    /**
+     * Set the bound to the rows whose order by value is at least the given amount more than the
+     * current row's.
+     *
+     * @param amount the distance after the current row's value at which the window starts.
+     * @return the set range frame end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionTwo following(double amount);
+  }
+
+  /** Set the range frame boundary end. */
+  interface SetRangeEndOptionOne {
+    /**
+     * Set the bound to the rows whose order by value is at least the given duration before the
+     * current row's.
+     *
+     * @param duration the time before the current row at which the window ends.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andPreceding(Duration duration);
+
+    /**
+     * Set the bound to the rows whose order by value is at least the given amount less than the
+     * current row's.
+     *
+     * @param amount the distance before the current row's value at which the window ends.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andPreceding(double amount);
+
+    /**
+     * Set the bound to the rows with the same order by value as the current row.
+     *
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andCurrentRow();
+
+    /**
+     * Set the bound to the rows whose order by value is no more than the given duration after the
+     * current row's.
+     *
+     * @param duration the time after the current row to include in the window.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andFollowing(Duration duration);
+
+    /**
+     * Set the bound to the rows whose order by value is no more than the given amount more than the
+     * current row's.
+     *
+     * @param amount the distance after the current row's value to include in the window.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andFollowing(double amount);
+
+    /**
+     * Set the bound to the last partition row.
+     *
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andUnBoundedFollowing();
+  }
+
+  /** Set the range frame boundary end. */
+  interface SetRangeEndOptionTwo {
+    AddAggregateFunctions andFollowing(Duration duration);
+
+    AddAggregateFunctions andFollowing(double amount);
+
+    AddAggregateFunctions andUnBoundedFollowing();
+  }
+
   interface NameStepAggregate {
 
     /**
@@ -0,0 +1,183 @@
+package tech.tablesaw.analytic;
+
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import tech.tablesaw.analytic.WindowFrame.WindowBoundTypes;
+import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
+import tech.tablesaw.table.TableSlice;
+
+/**
+ * Execute the aggregate function once for every row in the slice, over a RANGE window frame.
+ *
+ * <p>The slice must already be ordered on the order by column. Because of that, the rows inside the
+ * frame of each row form a run whose two ends only ever move forward from one row to the next, so
+ * the window is slid with two pointers: rows are added on the right as their values come within the
+ * frame, and removed on the left as they fall out of it. Each row is added and removed at most
+ * once, whatever the values in the order by column.
+ *
+ * <p>Order by values are compared as doubles. Dates, date-times and instants are converted to
+ * milliseconds since the epoch, in UTC, so they can be compared with durations. Descending orders
+ * are handled by negating the values, so that preceding rows always have smaller values.
+ */
+class RangeWindowSlider {
+
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private final WindowFrame windowFrame;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private final AggregateFunction function;
+
+  private final TableSlice slice;
+  private final Column<?> sourceColumn;
+
+  // The source column, if it's numeric, or null otherwise.
+  private final NumericColumn<?> numericSource;
+
+  private final Column<?> orderColumn;
+  private final IntToDoubleFunction orderValue;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private final Column destinationColumn;
+
+  // Maps a row of the slice to the row of the destination column that receives its value.
+  private final IntUnaryOperator destinationRows;
+
+  RangeWindowSlider(
+      WindowFrame windowFrame,
+      AggregateFunctions func,
+      TableSlice slice,
+      Column<?> sourceColumn,
+      Column<?> orderColumn,
+      boolean descending,
+      Column<?> destinationColumn,
+      IntUnaryOperator destinationRows) {
+    this.windowFrame = windowFrame;
+    this.slice = slice;
+    this.sourceColumn = sourceColumn;
+    this.numericSource =
+        sourceColumn instanceof NumericColumn ? (NumericColumn<?>) sourceColumn : null;
+    this.orderColumn = orderColumn;
+    IntToDoubleFunction value = orderValueFunction(orderColumn);
+    this.orderValue = descending ? row -> -value.applyAsDouble(row) : value;
+    this.destinationColumn = destinationColumn;
+    this.destinationRows = destinationRows;
+    // Both sides of a range window can move, so the sliding implementation is needed even when one
+    // side is unbounded.
+    this.function = func.getImplementation(WindowGrowthType.SLIDING);
+  }
+
+  /** Returns true if range frames can be ordered by the given column */
+  static boolean isOrderColumnSupported(Column<?> column, boolean durationOffsets) {
+    boolean temporal =
+        column instanceof DateColumn
+            || column instanceof DateTimeColumn
+            || column instanceof InstantColumn;
+    return durationOffsets ? temporal : temporal || column instanceof NumericColumn;
+  }
+
+  /** Slide the window over the slice calculating an aggregate value for every row in the slice. */
+  void execute() {
+    // The rows of the slice that have an order by value, in order, their rows in the source table,
+    // and their order by values.
+    int[] sliceRows = new int[slice.rowCount()];
+    int[] rows = new int[slice.rowCount()];
+    double[] values = new double[slice.rowCount()];
+    int n = 0;
+    for (int i = 0; i < slice.rowCount(); i++) {
+      int row = slice.mappedRowNumber(i);
+      // Rows with a missing order by value are in no frame, and their results stay missing.
+      if (!orderColumn.isMissing(row)) {
+        sliceRows[n] = i;
+        rows[n] = row;
+        values[n] = orderValue.applyAsDouble(row);
+        n++;
+      }
+    }
+
+    boolean unboundedLeft = windowFrame.getLeftBoundType() == WindowBoundTypes.UNBOUNDED_PRECEDING;
+    boolean unboundedRight =
+        windowFrame.getRightBoundType() == WindowBoundTypes.UNBOUNDED_FOLLOWING;
+    double leftOffset = windowFrame.getLeftOffset();
+    double rightOffset = windowFrame.getRightOffset();
+
+    // Rows before added have been added to the function, and rows before removed removed from it.
+    int added = 0;
+    int removed = 0;
+    for (int i = 0; i < n; i++) {
+      double high = values[i] + rightOffset;
+      while (added < n && (unboundedRight || values[added] <= high)) {
+        add(rows[added]);
+        added++;
+      }
+      if (!unboundedLeft) {
+        double low = values[i] + leftOffset;
+        while (removed < added && values[removed] < low) {
+          function.removeLeftMost();
+          removed++;
+        }
+      }
+      setValue(destinationRows.applyAsInt(sliceRows[i]));
+    }
+  }
+
+  /** Set the value in the destination column at the given row to the value of the function. */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void setValue(int row) {
+    if (destinationColumn instanceof DoubleColumn) {
+      ((DoubleColumn) destinationColumn).set(row, function.getDoubleValue());
+    } else if (destinationColumn instanceof IntColumn) {
+      ((IntColumn) destinationColumn).set(row, (int) function.getDoubleValue());
+    } else {
+      destinationColumn.set(row, function.getValue());
+    }
+  }
+
+  /** Add the value in the source column at the given row to the right of the window. */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void add(int row) {
+    if (sourceColumn.isMissing(row)) {
+      function.addRightMostMissing();
+    } else if (numericSource != null) {
+      function.addRightMostDouble(numericSource.getDouble(row));
+    } else {
+      function.addRightMost(sourceColumn.get(row));
+    }
+  }
+
+  /** Returns a function giving the value of the given column at a row as a double */
+  private static IntToDoubleFunction orderValueFunction(Column<?> column) {
+    if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      return row -> epochMillis(instants.getLongInternal(row));
+    }
+    if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      return row -> epochMillis(dateTimes.getLongInternal(row));
+    }
+    if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      return row -> PackedLocalDate.toEpochDay(dates.getIntInternal(row)) * MILLIS_PER_DAY;
+    }
+    NumericColumn<?> numbers = (NumericColumn<?>) column;
+    return numbers::getDouble;
+  }
+
+  /** Returns the milliseconds since the epoch of a packed date-time or instant, taken as UTC */
+  private static double epochMillis(long packedDateTime) {
+    int date = PackedInstant.date(packedDateTime);
+    int time = PackedInstant.time(packedDateTime);
+    return PackedLocalDate.toEpochDay(date) * MILLIS_PER_DAY
+        + PackedLocalTime.getMillisecondOfDay(time);
+  }
+}
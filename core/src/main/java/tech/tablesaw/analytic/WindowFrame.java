@@ -2,6 +2,7 @@ package tech.tablesaw.analytic;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import java.time.Duration;
 
 /**
  * This class holds data on the WindowFrame clause of an analytic query.
@@ -11,6 +12,10 @@ import com.google.common.base.Preconditions;
  * <p>For example in the window [1, 2, (3, 4, 5), 6, 7] The left most element in the window is 3 and
  * the rightmost element is 5.
  *
+ * <p>The bounds of a ROWS frame are counted in rows from the current row. The bounds of a RANGE
+ * frame are offsets from the current row's value in the order by column, so the number of rows in
+ * the window varies from row to row.
+ *
  * <p>For more information on the window frame clause in SQL see {@link
  * AnalyticQuerySteps.DefineWindowFame}
  */
@@ -30,6 +35,11 @@ final class WindowFrame {
     }
   }
 
+  enum FrameUnits {
+    ROWS,
+    RANGE
+  }
+
   enum WindowGrowthType {
     // UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING
     FIXED,
@@ -41,21 +51,35 @@ final class WindowFrame {
     SLIDING;
   }
 
+  private final FrameUnits units;
   private final WindowBoundTypes leftBoundType;
   private final int initialLeftBound;
   private final WindowBoundTypes rightBoundType;
   // Set to zero for UNBOUNDED FOLLOWING windows.
   private final int initialRightBound;
+  // The offsets of a RANGE frame from the current row's order by value, negative when preceding.
+  // Durations are held in milliseconds.
+  private final double leftOffset;
+  private final double rightOffset;
+  private final boolean durationOffsets;
 
   private WindowFrame(
+      FrameUnits units,
       WindowBoundTypes leftBoundType,
       int initialLeftBound,
+      double leftOffset,
       WindowBoundTypes rightBoundType,
-      int initialRightBound) {
+      int initialRightBound,
+      double rightOffset,
+      boolean durationOffsets) {
+    this.units = units;
     this.leftBoundType = leftBoundType;
     this.initialLeftBound = initialLeftBound;
+    this.leftOffset = leftOffset;
     this.rightBoundType = rightBoundType;
     this.initialRightBound = initialRightBound;
+    this.rightOffset = rightOffset;
+    this.durationOffsets = durationOffsets;
     validateWindow();
   }
 
@@ -63,6 +87,29 @@ final class WindowFrame {
     return new Builder();
   }
 
+  FrameUnits getUnits() {
+    return units;
+  }
+
+  boolean isRange() {
+    return units == FrameUnits.RANGE;
+  }
+
+  /** Returns the offset of a RANGE frame's left bound, which is negative when it precedes */
+  double getLeftOffset() {
+    return leftOffset;
+  }
+
+  /** Returns the offset of a RANGE frame's right bound, which is negative when it precedes */
+  double getRightOffset() {
+    return rightOffset;
+  }
+
+  /** Returns true if the offsets of a RANGE frame are durations, held in milliseconds */
+  boolean hasDurationOffsets() {
+    return durationOffsets;
+  }
+
   WindowBoundTypes getLeftBoundType() {
     return leftBoundType;
   }
@@ -85,6 +132,8 @@ final class WindowFrame {
    */
   private void validateWindow() {
     String errorMsg = "Invalid Window: " + this.toString() + '.';
+    double left = isRange() ? leftOffset : initialLeftBound;
+    double right = isRange() ? rightOffset : initialRightBound;
     // If bounds are the same they both must either be preceding or following.
     if (this.rightBoundType == this.leftBoundType) {
       Preconditions.checkArgument(
@@ -94,21 +143,21 @@ final class WindowFrame {
       // When the bounds are both preceding the lef bound should be greater than
       if (this.leftBoundType == WindowBoundTypes.PRECEDING) {
         Preconditions.checkArgument(
-            initialLeftBound < initialRightBound,
+            left < right,
             errorMsg
                 + " The number preceding at start of the window '"
-                + Math.abs(initialLeftBound)
+                + formatOffset(left)
                 + "' must be greater than the number preceding at the end of the window '"
-                + Math.abs(initialRightBound)
+                + formatOffset(right)
                 + "'");
       } else {
         Preconditions.checkArgument(
-            initialRightBound > initialLeftBound,
+            right > left,
             errorMsg
                 + " The number following at start of the window '"
-                + initialLeftBound
+                + formatOffset(left)
                 + "' must be less than the number following at the end of the window '"
-                + initialRightBound
+                + formatOffset(right)
                 + "'");
       }
     }
@@ -143,31 +192,56 @@ final class WindowFrame {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     WindowFrame that = (WindowFrame) o;
-    return initialLeftBound == that.initialLeftBound
+    return units == that.units
+        && initialLeftBound == that.initialLeftBound
         && initialRightBound == that.initialRightBound
+        && leftOffset == that.leftOffset
+        && rightOffset == that.rightOffset
+        && durationOffsets == that.durationOffsets
         && leftBoundType == that.leftBoundType
         && rightBoundType == that.rightBoundType;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(leftBoundType, initialLeftBound, rightBoundType, initialRightBound);
+    return Objects.hashCode(
+        units,
+        leftBoundType,
+        initialLeftBound,
+        leftOffset,
+        rightBoundType,
+        initialRightBound,
+        rightOffset,
+        durationOffsets);
   }
 
   String toSqlString() {
     String formatedStart = leftBoundType.toString();
     if (leftBoundType == WindowBoundTypes.PRECEDING
         || leftBoundType == WindowBoundTypes.FOLLOWING) {
-      formatedStart = Math.abs(initialLeftBound) + " " + formatedStart;
+      formatedStart = formatOffset(isRange() ? leftOffset : initialLeftBound) + " " + formatedStart;
     }
 
     String formattedRightBound = rightBoundType.toString();
     if (rightBoundType == WindowBoundTypes.PRECEDING
         || rightBoundType == WindowBoundTypes.FOLLOWING) {
-      formattedRightBound = Math.abs(initialRightBound) + " " + formattedRightBound;
+      formattedRightBound =
+          formatOffset(isRange() ? rightOffset : initialRightBound) + " " + formattedRightBound;
     }
 
-    return "ROWS BETWEEN " + formatedStart + " AND " + formattedRightBound;
+    return units + " BETWEEN " + formatedStart + " AND " + formattedRightBound;
+  }
+
+  /** Formats the size of a bound, as a duration when the bounds of a RANGE frame are durations */
+  private String formatOffset(double offset) {
+    double size = Math.abs(offset);
+    if (durationOffsets) {
+      return Duration.ofNanos(Math.round(size * 1_000_000)).toString();
+    }
+    if (size == Math.rint(size)) {
+      return Long.toString((long) size);
+    }
+    return Double.toString(size);
   }
 
   @Override
@@ -183,14 +257,25 @@ final class WindowFrame {
    */
   static final class Builder {
 
+    private FrameUnits units = FrameUnits.ROWS;
     private WindowBoundTypes leftBoundType = WindowBoundTypes.UNBOUNDED_PRECEDING;
     private int initialLeftBound = 0;
+    private double leftOffset = 0;
     private WindowBoundTypes rightBoundType = WindowBoundTypes.UNBOUNDED_FOLLOWING;
     // Set to zero for UNBOUNDED FOLLOWING windows
     private int initialRightBound = 0;
+    private double rightOffset = 0;
+    private boolean durationOffsets = false;
+    private boolean numericOffsets = false;
 
     private Builder() {}
 
+    /** Measures the bounds in values of the order by column rather than in rows */
+    Builder setRange() {
+      this.units = FrameUnits.RANGE;
+      return this;
+    }
+
     Builder setLeftPreceding(int nRows) {
       Preconditions.checkArgument(nRows > 0);
       this.leftBoundType = WindowBoundTypes.PRECEDING;
@@ -229,8 +314,89 @@ final class WindowFrame {
       return this;
     }
 
+    Builder setLeftPreceding(double amount) {
+      Preconditions.checkArgument(amount > 0);
+      this.leftBoundType = WindowBoundTypes.PRECEDING;
+      this.leftOffset = amount * -1;
+      this.numericOffsets = true;
+      return this;
+    }
+
+    Builder setLeftPreceding(Duration duration) {
+      boolean numeric = numericOffsets;
+      setLeftPreceding(toMillis(duration));
+      return durations(numeric);
+    }
+
+    Builder setLeftFollowing(double amount) {
+      Preconditions.checkArgument(amount > 0);
+      this.leftBoundType = WindowBoundTypes.FOLLOWING;
+      this.leftOffset = amount;
+      this.numericOffsets = true;
+      return this;
+    }
+
+    Builder setLeftFollowing(Duration duration) {
+      boolean numeric = numericOffsets;
+      setLeftFollowing(toMillis(duration));
+      return durations(numeric);
+    }
+
+    Builder setRightPreceding(double amount) {
+      Preconditions.checkArgument(amount > 0);
+      this.rightBoundType = WindowBoundTypes.PRECEDING;
+      this.rightOffset = amount * -1;
+      this.numericOffsets = true;
+      return this;
+    }
+
+    Builder setRightPreceding(Duration duration) {
+      boolean numeric = numericOffsets;
+      setRightPreceding(toMillis(duration));
+      return durations(numeric);
+    }
+
+    Builder setRightFollowing(double amount) {
+      Preconditions.checkArgument(amount > 0);
+      this.rightBoundType = WindowBoundTypes.FOLLOWING;
+      this.rightOffset = amount;
+      this.numericOffsets = true;
+      return this;
+    }
+
+    Builder setRightFollowing(Duration duration) {
+      boolean numeric = numericOffsets;
+      setRightFollowing(toMillis(duration));
+      return durations(numeric);
+    }
+
+    /**
+     * Marks the offset just set as a duration rather than a number, restoring whether any other
+     * offset is a number
+     */
+    private Builder durations(boolean numeric) {
+      this.durationOffsets = true;
+      this.numericOffsets = numeric;
+      return this;
+    }
+
+    private static double toMillis(Duration duration) {
+      return duration.toNanos() / 1_000_000.0;
+    }
+
     public WindowFrame build() {
-      return new WindowFrame(leftBoundType, initialLeftBound, rightBoundType, initialRightBound);
+      Preconditions.checkArgument(
+          !(durationOffsets && numericOffsets),
+          "The bounds of a RANGE frame must both be durations or both be numbers");
+      return new WindowFrame(
+          units,
+          leftBoundType,
+          initialLeftBound,
+          leftOffset,
+          rightBoundType,
+          initialRightBound,
+          rightOffset,
+          durationOffsets);
     }
   }
 }
@@ -1,7 +1,10 @@
 package tech.tablesaw.analytic;
 
-import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.table.TableSlice;
 
@@ -11,6 +14,9 @@ import tech.tablesaw.table.TableSlice;
  * <p>Any window with a Fixed end (UNBOUNDED FOLLOWING) is converted ("mirrored") into the
  * equivalent UNBOUNDED PRECEDING widow so that it is an append window and a faster algorithm can be
  * used.
+ *
+ * <p>Numeric source columns are read, and double and int destination columns written, as
+ * primitives, so sliding the window doesn't box a value for every row.
  */
 class WindowSlider {
   private final boolean mirrored;
@@ -24,18 +30,28 @@ class WindowSlider {
   private final TableSlice slice;
   private final Column<?> sourceColumn;
 
+  // The source column, if it's numeric, or null otherwise.
+  private final NumericColumn<?> numericSource;
+
   @SuppressWarnings({"unchecked", "rawtypes"})
   private final Column destinationColumn;
 
+  // Maps a row of the slice to the row of the destination column that receives its value.
+  private final IntUnaryOperator destinationRows;
+
   WindowSlider(
       WindowFrame windowFrame,
       AggregateFunctions func,
       TableSlice slice,
       Column<?> sourceColumn,
-      Column<?> destinationColumn) {
+      Column<?> destinationColumn,
+      IntUnaryOperator destinationRows) {
     this.slice = slice;
     this.destinationColumn = destinationColumn;
+    this.destinationRows = destinationRows;
     this.sourceColumn = sourceColumn;
+    this.numericSource =
+        sourceColumn instanceof NumericColumn ? (NumericColumn<?>) sourceColumn : null;
     this.function = func.getImplementation(windowFrame.windowGrowthType());
 
     // Convert UNBOUNDED FOLLOWING to an equivalent UNBOUNDED PRECEDING window.
@@ -61,11 +77,13 @@ class WindowSlider {
     // to slide into the slice. Rows outside the slide will be ignored.
     int leftBound = getInitialLeftBound() - 1;
     int rightBound = getInitialRightBound();
+    int leftStep = leftStep();
+    int rightStep = rightStep();
     for (int i = 0; i < slice.rowCount(); i++) {
-      this.set(i, function.getValue());
+      this.setValue(i);
 
       // Slide the left side of the window if applicable for the window definition.
-      int newLeftBound = slideLeftStrategy().apply(leftBound);
+      int newLeftBound = leftBound + leftStep;
       if (newLeftBound > leftBound && isRowNumberInSlice(newLeftBound)) {
         // If the left side of the window changed remove the left most value from the aggregate
         // function.
@@ -74,14 +92,10 @@ class WindowSlider {
       leftBound = newLeftBound;
 
       // Slide the right side of the window if applicable for the window definition.
-      int newRightBound = slideRightStrategy().apply(rightBound);
+      int newRightBound = rightBound + rightStep;
       if (newRightBound > rightBound && isRowNumberInSlice(newRightBound)) {
         // If the right side of the window changed add the next value to the aggregate function.
-        if (isMissing(newRightBound)) {
-          function.addRightMostMissing();
-        } else {
-          function.addRightMost(get(newRightBound));
-        }
+        add(newRightBound);
       }
       rightBound = newRightBound;
     }
@@ -107,30 +121,40 @@ class WindowSlider {
     int leftBound = Math.max(getInitialLeftBound(), 0);
     int rightBound = Math.min(getInitialRightBound(), slice.rowCount() - 1);
     for (int i = leftBound; i <= rightBound; i++) {
-      if (isMissing(i)) {
-        function.addRightMostMissing();
-      } else {
-        function.addRightMost(get(i));
-      }
+      add(i);
     }
   }
 
-  /** Set the value in the destination column that corresponds to the row in the view. */
+  /**
+   * Set the value in the destination column that corresponds to the row in the view to the value of
+   * the aggregate function for the current window.
+   */
   @SuppressWarnings({"unchecked", "rawtypes"})
-  private void set(int rowNumberInSlice, Object value) {
-    destinationColumn.set(slice.mappedRowNumber(mirror(rowNumberInSlice)), value);
-  }
-
-  /** Get a value from the source column that corresponds to the row in the view. */
-  private Object get(int rowNumberInSlice) {
-    return sourceColumn.get(slice.mappedRowNumber(mirror(rowNumberInSlice)));
+  private void setValue(int rowNumberInSlice) {
+    int row = destinationRows.applyAsInt(mirror(rowNumberInSlice));
+    if (destinationColumn instanceof DoubleColumn) {
+      ((DoubleColumn) destinationColumn).set(row, function.getDoubleValue());
+    } else if (destinationColumn instanceof IntColumn) {
+      ((IntColumn) destinationColumn).set(row, (int) function.getDoubleValue());
+    } else {
+      destinationColumn.set(row, function.getValue());
+    }
   }
 
   /**
-   * Determine if the value in the source column that corresponds to the row in the view is missing.
+   * Add the value in the source column that corresponds to the row in the view to the right of the
+   * window.
    */
-  private boolean isMissing(int rowNumberInSlice) {
-    return sourceColumn.isMissing(slice.mappedRowNumber(mirror(rowNumberInSlice)));
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void add(int rowNumberInSlice) {
+    int row = slice.mappedRowNumber(mirror(rowNumberInSlice));
+    if (sourceColumn.isMissing(row)) {
+      function.addRightMostMissing();
+    } else if (numericSource != null) {
+      function.addRightMostDouble(numericSource.getDouble(row));
+    } else {
+      function.addRightMost(sourceColumn.get(row));
+    }
   }
 
   /** Returns true of the rowNumber exists in the slice. */
@@ -138,24 +162,28 @@ class WindowSlider {
     return rowNumber >= 0 && rowNumber < slice.rowCount();
   }
 
-  private Function<Integer, Integer> slideLeftStrategy() {
+  /** Returns how far the left side of the window moves for each row, given the window definition */
+  private int leftStep() {
     switch (this.windowGrowthType) {
       case FIXED:
       case FIXED_LEFT:
-        return i -> i;
+        return 0;
       case SLIDING:
-        return i -> i + 1;
+        return 1;
     }
     throw new IllegalArgumentException("Unexpected growthType: " + this.windowGrowthType);
   }
 
-  private Function<Integer, Integer> slideRightStrategy() {
+  /**
+   * Returns how far the right side of the window moves for each row, given the window definition
+   */
+  private int rightStep() {
     switch (this.windowGrowthType) {
       case FIXED:
-        return i -> i;
+        return 0;
       case FIXED_LEFT:
       case SLIDING:
-        return i -> i + 1;
+        return 1;
     }
     throw new IllegalArgumentException("Unexpected growthType: " + this.windowGrowthType);
   }
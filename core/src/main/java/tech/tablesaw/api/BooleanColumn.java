@@ -34,6 +34,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
@@ -74,7 +75,7 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
    */
   private BooleanColumn(String name, ByteArrayList values) {
     super(BooleanColumnType.instance(), name, BooleanColumnType.DEFAULT_PARSER);
-    data = new BitSetBooleanData(values);
+    data = new RoaringBooleanData(values);
   }
 
   public BooleanColumn(String name, BooleanData data) {
@@ -110,16 +111,27 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
    * @return A new BooleanColumn
    */
   public static BooleanColumn create(String name, Selection hits, int columnSize) {
-    BooleanColumn column = create(name, columnSize);
     checkArgument(
         (hits.size() <= columnSize),
         "Cannot have more true values than total values in a boolean column");
-
-    for (int hit : hits) {
-      column.set(hit, true);
+    RoaringBitmap trueValues;
+    if (hits instanceof BitmapBackedSelection) {
+      trueValues = ((BitmapBackedSelection) hits).toBitmap();
+    } else {
+      trueValues = new RoaringBitmap();
+      for (int hit : hits) {
+        trueValues.add(hit);
+      }
     }
-    column.set(column.isMissing(), false);
-    return column;
+    return new BooleanColumn(
+        name,
+        new RoaringBooleanData(
+            trueValues, new RoaringBitmap(), Math.max(columnSize, end(trueValues))));
+  }
+
+  /** Returns one more than the last position in the bitmap, or 0 if it's empty */
+  private static int end(RoaringBitmap bitmap) {
+    return bitmap.isEmpty() ? 0 : bitmap.last() + 1;
   }
 
   /**
@@ -254,6 +266,7 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
     } else {
       data.add(BooleanColumnType.BYTE_FALSE);
     }
+    invalidateIndex();
     return this;
   }
 
@@ -267,6 +280,7 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
     } else {
       data.add(BooleanColumnType.BYTE_FALSE);
     }
+    invalidateIndex();
     return this;
   }
 
@@ -286,6 +300,7 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
   /** Appends b to the end of this column and returns this column */
   public BooleanColumn append(byte b) {
     data.add(b);
+    invalidateIndex();
     return this;
   }
 
@@ -342,6 +357,22 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
   @Override
   public void clear() {
     data.clear();
+    invalidateIndex();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return data.memoryUsage();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof RoaringBooleanData) {
+      return ((RoaringBooleanData) data).trimToSize();
+    }
+    return 0;
   }
 
   /** {@inheritDoc} */
@@ -354,12 +385,14 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
   @Override
   public void sortAscending() {
     data.sortAscending();
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sortDescending();
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
@@ -488,12 +521,14 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
     } else {
       data.set(i, BooleanColumnType.BYTE_FALSE);
     }
+    invalidateIndex();
     return this;
   }
 
   /** Sets the value at i to b, and returns this column */
   public BooleanColumn set(int i, byte b) {
     data.set(i, b);
+    invalidateIndex();
     return this;
   }
 
@@ -532,7 +567,7 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
     System.arraycopy(data.toByteArray(), srcPos, dest, destPos, length);
 
     BooleanColumn copy = emptyCopy(size());
-    copy.data = new BitSetBooleanData(new ByteArrayList(dest));
+    copy.data = new RoaringBooleanData(new ByteArrayList(dest));
     copy.setName(name() + " lag(" + n + ")");
     return copy;
   }
@@ -645,12 +680,15 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
   /** {@inheritDoc} */
   @Override
   public Selection isMissing() {
-    return eval(BooleanColumnUtils.isMissing);
+    return data.isMissing();
   }
 
   /** {@inheritDoc} */
   @Override
   public Selection isNotMissing() {
+    if (data instanceof RoaringBooleanData) {
+      return ((RoaringBooleanData) data).isNotMissing();
+    }
     return eval(BooleanColumnUtils.isNotMissing);
   }
 
@@ -895,6 +933,7 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
    */
   public void trueBytes(byte[] encodedValues) {
     data.setTrueBytes(encodedValues);
+    invalidateIndex();
   }
 
   /**
@@ -905,6 +944,7 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
    */
   public void falseBytes(byte[] encodedValues) {
     data.setFalseBytes(encodedValues);
+    invalidateIndex();
   }
 
   /**
@@ -915,5 +955,6 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
    */
   public void missingBytes(byte[] encodedValues) {
     data.setMissingBytes(encodedValues);
+    invalidateIndex();
   }
 }
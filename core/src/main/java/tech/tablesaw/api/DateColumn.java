@@ -22,6 +22,7 @@ import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import it.unimi.dsi.fastutil.ints.IntComparators;
 import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.nio.ByteBuffer;
@@ -40,12 +41,17 @@ import javax.annotation.Nonnull;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.columns.dates.DateColumnFormatter;
 import tech.tablesaw.columns.dates.DateColumnType;
 import tech.tablesaw.columns.dates.DateFillers;
 import tech.tablesaw.columns.dates.DateFilters;
 import tech.tablesaw.columns.dates.DateMapFunctions;
 import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.columns.storage.EncodedList;
+import tech.tablesaw.columns.storage.ListViews;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains int-encoded local date values */
@@ -55,8 +61,17 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
         DateMapFunctions,
         CategoricalColumn<LocalDate> {
 
-  /** The data held in this column in its integer encoding form. See {@link PackedLocalDate} */
-  protected IntArrayList data;
+  /**
+   * The data held in this column in its integer encoding form. See {@link PackedLocalDate}.
+   *
+   * <p>This was {@code IntArrayList} before columns could keep their values in a {@link
+   * ColumnStorage}. It is now a {@code IntList}, which subclasses should use through that
+   * interface, since it may be a chunked, compressed, off-heap or mapped list rather than an array
+   */
+  protected IntList data;
+
+  /** Block-level statistics used to speed up range filters, or null if they aren't maintained */
+  private ZoneMap zoneMap;
 
   /** A comparator for the encoded dates. Note that the ints compared are the column indexes */
   private final IntComparator comparator =
@@ -74,6 +89,11 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
     return new DateColumn(name, new IntArrayList(DEFAULT_ARRAY_SIZE));
   }
 
+  /** Returns a new, empty column that keeps its values in the given storage */
+  public static DateColumn create(String name, ColumnStorage storage) {
+    return new DateColumn(name, storage.intList());
+  }
+
   /**
    * Creates a new DateColumn with the given name and integer-encoded data. See {@link
    * PackedLocalDate} for details of the encoding
@@ -123,7 +143,7 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
    * Creates a new DateColumn with the given name and integer-encoded data. See {@link
    * PackedLocalDate} for the details of the encoding scheme
    */
-  private DateColumn(String name, IntArrayList data) {
+  private DateColumn(String name, IntList data) {
     super(DateColumnType.instance(), name, DateColumnType.DEFAULT_PARSER);
     this.data = data;
   }
@@ -134,6 +154,38 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
     return data.size();
   }
 
+  /**
+   * Starts keeping the earliest and latest date in each block of {@link ZoneMap#DEFAULT_BLOCK_SIZE}
+   * rows, so filters like isBetweenIncluding and isAfter can skip blocks that can't match. Dates
+   * recorded in the order they occur are a good fit
+   */
+  public DateColumn enableZoneMap() {
+    return enableZoneMap(ZoneMap.DEFAULT_BLOCK_SIZE);
+  }
+
+  /** Starts keeping the earliest and latest date in each block of {@code blockSize} rows */
+  public DateColumn enableZoneMap(int blockSize) {
+    zoneMap =
+        new ZoneMap(
+            blockSize, DateColumnType.missingValueIndicator(), this::size, this::getIntInternal);
+    return this;
+  }
+
+  /** Stops maintaining block-level statistics for this column */
+  public DateColumn disableZoneMap() {
+    zoneMap = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    if (zoneMap == null && data instanceof EncodedList) {
+      return ((EncodedList) data).zoneMap();
+    }
+    return zoneMap;
+  }
+
   /** {@inheritDoc} */
   @Override
   public DateColumn subset(final int[] rows) {
@@ -145,12 +197,22 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   }
 
   public DateColumn appendInternal(int f) {
+    ensureOwnData();
     data.add(f);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.append(f);
+    }
     return this;
   }
 
   public DateColumn set(int index, int value) {
+    ensureOwnData();
     data.set(index, value);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidate(index);
+    }
     return this;
   }
 
@@ -214,19 +276,74 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
     return copy;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new IntArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public DateColumn copy() {
     DateColumn copy = emptyCopy(data.size());
-    copy.data = data.clone();
+    if (data instanceof IntArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      copy.data = data;
+      shareData(copy);
+    } else {
+      copy.data = new IntArrayList(data);
+    }
     copy.printFormatter = printFormatter;
     return copy;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.of(data);
+    return zoneMap == null ? bytes : bytes + zoneMap.memoryUsage();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof IntArrayList) {
+      IntArrayList list = (IntArrayList) data;
+      long spare = (long) (list.elements().length - list.size()) * Integer.BYTES;
+      list.trim();
+      return spare;
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateColumn view(int[] rows) {
+    DateColumn view = new DateColumn(name(), ListViews.intView(() -> data, rows));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateColumn view(int start, int end) {
+    DateColumn view = new DateColumn(name(), ListViews.intView(() -> data, start, end));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
@@ -260,13 +377,23 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
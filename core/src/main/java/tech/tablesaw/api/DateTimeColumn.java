@@ -20,6 +20,7 @@ import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrays;
 import it.unimi.dsi.fastutil.longs.LongComparators;
 import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import java.nio.ByteBuffer;
@@ -42,11 +43,16 @@ import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.columns.datetimes.DateTimeColumnFormatter;
 import tech.tablesaw.columns.datetimes.DateTimeColumnType;
 import tech.tablesaw.columns.datetimes.DateTimeFilters;
 import tech.tablesaw.columns.datetimes.DateTimeMapFunctions;
 import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.columns.storage.EncodedList;
+import tech.tablesaw.columns.storage.ListViews;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.columns.temporal.TemporalFillers;
 import tech.tablesaw.selection.Selection;
 
@@ -57,8 +63,17 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
         TemporalFillers<LocalDateTime, DateTimeColumn>,
         CategoricalColumn<LocalDateTime> {
 
-  /** The dateTime values held in this column, in their {@link PackedLocalDateTime} format */
-  protected LongArrayList data;
+  /**
+   * The dateTime values held in this column, in their {@link PackedLocalDateTime} format.
+   *
+   * <p>This was {@code LongArrayList} before columns could keep their values in a {@link
+   * ColumnStorage}. It is now a {@code LongList}, which subclasses should use through that
+   * interface, since it may be a chunked, compressed, off-heap or mapped list rather than an array
+   */
+  protected LongList data;
+
+  /** Block-level statistics used to speed up range filters, or null if they aren't maintained */
+  private ZoneMap zoneMap;
 
   /** A comparator for this column. Note that the ints compared are the column indexes */
   private final IntComparator comparator =
@@ -82,7 +97,7 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
     return getLongInternal(rowNumber1) == getLongInternal(rowNumber2);
   }
 
-  private DateTimeColumn(String name, LongArrayList data) {
+  private DateTimeColumn(String name, LongList data) {
     super(DateTimeColumnType.instance(), name, DateTimeColumnType.DEFAULT_PARSER);
     this.data = data;
   }
@@ -101,6 +116,11 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
     return new DateTimeColumn(name, new LongArrayList(DEFAULT_ARRAY_SIZE));
   }
 
+  /** Returns a new, empty column that keeps its values in the given storage */
+  public static DateTimeColumn create(String name, ColumnStorage storage) {
+    return new DateTimeColumn(name, storage.longList());
+  }
+
   public static DateTimeColumn create(String name, int initialSize) {
     DateTimeColumn column = new DateTimeColumn(name, new LongArrayList(initialSize));
     for (int i = 0; i < initialSize; i++) {
@@ -285,10 +305,50 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
     return data.size();
   }
 
+  /**
+   * Starts keeping the earliest and latest date-time in each block of {@link
+   * ZoneMap#DEFAULT_BLOCK_SIZE} rows, so range filters can skip blocks that can't match. This suits
+   * logs and other data appended in time order
+   */
+  public DateTimeColumn enableZoneMap() {
+    return enableZoneMap(ZoneMap.DEFAULT_BLOCK_SIZE);
+  }
+
+  /** Starts keeping the earliest and latest date-time in each block of {@code blockSize} rows */
+  public DateTimeColumn enableZoneMap(int blockSize) {
+    zoneMap =
+        new ZoneMap(
+            blockSize,
+            DateTimeColumnType.missingValueIndicator(),
+            this::size,
+            this::getLongInternal);
+    return this;
+  }
+
+  /** Stops maintaining block-level statistics for this column */
+  public DateTimeColumn disableZoneMap() {
+    zoneMap = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    if (zoneMap == null && data instanceof EncodedList) {
+      return ((EncodedList) data).zoneMap();
+    }
+    return zoneMap;
+  }
+
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn appendInternal(long dateTime) {
+    ensureOwnData();
     data.add(dateTime);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.append(dateTime);
+    }
     return this;
   }
 
@@ -320,31 +380,96 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
     return column;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new LongArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn copy() {
     DateTimeColumn column = emptyCopy(data.size());
-    column.data = data.clone();
+    if (data instanceof LongArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      column.data = data;
+      shareData(column);
+    } else {
+      column.data = new LongArrayList(data);
+    }
     column.printFormatter = printFormatter;
     return column;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.of(data);
+    return zoneMap == null ? bytes : bytes + zoneMap.memoryUsage();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof LongArrayList) {
+      LongArrayList list = (LongArrayList) data;
+      long spare = (long) (list.elements().length - list.size()) * Long.BYTES;
+      list.trim();
+      return spare;
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateTimeColumn view(int[] rows) {
+    DateTimeColumn view = new DateTimeColumn(name(), ListViews.longView(() -> data, rows));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateTimeColumn view(int start, int end) {
+    DateTimeColumn view = new DateTimeColumn(name(), ListViews.longView(() -> data, start, end));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
@@ -617,7 +742,12 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   }
 
   public DateTimeColumn set(int index, long value) {
+    ensureOwnData();
     data.set(index, value);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidate(index);
+    }
     return this;
   }
 
@@ -21,6 +21,9 @@ import tech.tablesaw.columns.numbers.FloatColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
 import tech.tablesaw.columns.numbers.NumberFillers;
 import tech.tablesaw.columns.numbers.fillers.DoubleRangeIterable;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.columns.storage.ListViews;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
@@ -28,9 +31,20 @@ import tech.tablesaw.selection.Selection;
 public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
     implements NumberFillers<DoubleColumn> {
 
-  protected final DoubleArrayList data;
+  /**
+   * The values held in this column.
+   *
+   * <p>This was {@code DoubleArrayList} before columns could keep their values in a {@link
+   * ColumnStorage}. It is now a {@code DoubleList}, which subclasses should use through that
+   * interface, since it may be a chunked, compressed, off-heap or mapped list rather than an array
+   */
+  protected DoubleList data;
 
   protected DoubleColumn(String name, DoubleArrayList data) {
+    this(name, (DoubleList) data);
+  }
+
+  private DoubleColumn(String name, DoubleList data) {
     super(DoubleColumnType.instance(), name, DoubleColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.floatingPointDefault());
     this.data = data;
@@ -56,7 +70,9 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
@@ -80,6 +96,11 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
     return new DoubleColumn(name);
   }
 
+  /** Returns a new, empty column that keeps its values in the given storage */
+  public static DoubleColumn create(String name, ColumnStorage storage) {
+    return new DoubleColumn(name, storage.doubleList());
+  }
+
   public static DoubleColumn create(String name, float... arr) {
     final double[] doubles = new double[arr.length];
     for (int i = 0; i < arr.length; i++) {
@@ -258,18 +279,24 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
 
   /** Adds the given float to this column */
   public DoubleColumn append(final float f) {
+    ensureOwnData();
     data.add(f);
+    invalidateIndex();
     return this;
   }
 
   /** Adds the given double to this column */
   public DoubleColumn append(double d) {
+    ensureOwnData();
     data.add(d);
+    invalidateIndex();
     return this;
   }
 
   public DoubleColumn append(int i) {
+    ensureOwnData();
     data.add(i);
+    invalidateIndex();
     return this;
   }
 
@@ -305,15 +332,67 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
     return this;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new DoubleArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public DoubleColumn copy() {
-    DoubleColumn copy = new DoubleColumn(name(), data.clone());
+    DoubleColumn copy;
+    if (data instanceof DoubleArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      copy = new DoubleColumn(name(), data);
+      shareData(copy);
+    } else {
+      copy = new DoubleColumn(name(), new DoubleArrayList(data));
+    }
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.of(data);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof DoubleArrayList) {
+      DoubleArrayList list = (DoubleArrayList) data;
+      long spare = (long) (list.elements().length - list.size()) * Double.BYTES;
+      list.trim();
+      return spare;
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleColumn view(int[] rows) {
+    DoubleColumn view = new DoubleColumn(name(), ListViews.doubleView(() -> data, rows));
+    view.setViewOf(this);
+    view.setPrintFormatter(getPrintFormatter());
+    view.locale = locale;
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleColumn view(int start, int end) {
+    DoubleColumn view = new DoubleColumn(name(), ListViews.doubleView(() -> data, start, end));
+    view.setViewOf(this);
+    view.setPrintFormatter(getPrintFormatter());
+    view.locale = locale;
+    return view;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Iterator<Double> iterator() {
@@ -351,7 +430,9 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   }
 
   public DoubleColumn set(int i, double val) {
+    ensureOwnData();
     data.set(i, val);
+    invalidateIndex();
     return this;
   }
 
@@ -385,10 +466,9 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
         column.name(),
         column.type());
     final DoubleColumn numberColumn = (DoubleColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getDouble(i));
-    }
+    ensureOwnData();
+    data.addAll(numberColumn.data);
+    invalidateIndex();
     return this;
   }
 
@@ -474,13 +554,17 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(DoubleComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(DoubleComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
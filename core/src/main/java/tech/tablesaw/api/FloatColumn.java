@@ -12,13 +12,14 @@ import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.FloatColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains float values */
 public class FloatColumn extends NumberColumn<FloatColumn, Float> {
 
-  protected final FloatArrayList data;
+  protected FloatArrayList data;
 
   private FloatColumn(String name, FloatArrayList data) {
     super(FloatColumnType.instance(), name, FloatColumnType.DEFAULT_PARSER);
@@ -135,7 +136,9 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
@@ -210,7 +213,9 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   }
 
   public FloatColumn append(float i) {
+    ensureOwnData();
     data.add(i);
+    invalidateIndex();
     return this;
   }
 
@@ -225,15 +230,43 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
     return this;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new FloatArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public FloatColumn copy() {
-    FloatColumn copy = new FloatColumn(name(), data.clone());
+    FloatColumn copy;
+    if (data instanceof FloatArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      copy = new FloatColumn(name(), data);
+      shareData(copy);
+    } else {
+      copy = new FloatColumn(name(), new FloatArrayList(data));
+    }
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.arrayList(data.elements().length, Float.BYTES);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    long spare = (long) (data.elements().length - data.size()) * Float.BYTES;
+    data.trim();
+    return spare;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Iterator<Float> iterator() {
@@ -271,7 +304,9 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   }
 
   public FloatColumn set(int i, float val) {
+    ensureOwnData();
     data.set(i, val);
+    invalidateIndex();
     return this;
   }
 
@@ -382,13 +417,17 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(FloatComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(FloatComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
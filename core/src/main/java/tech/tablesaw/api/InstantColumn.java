@@ -23,6 +23,7 @@ import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrays;
 import it.unimi.dsi.fastutil.longs.LongComparators;
 import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import java.nio.ByteBuffer;
@@ -44,10 +45,15 @@ import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.columns.instant.InstantColumnFormatter;
 import tech.tablesaw.columns.instant.InstantColumnType;
 import tech.tablesaw.columns.instant.InstantMapFunctions;
 import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.columns.storage.EncodedList;
+import tech.tablesaw.columns.storage.ListViews;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.columns.temporal.TemporalFillers;
 import tech.tablesaw.columns.temporal.TemporalFilters;
 import tech.tablesaw.selection.Selection;
@@ -63,7 +69,17 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
         TemporalFilters<Instant>,
         CategoricalColumn<Instant> {
 
-  protected LongArrayList data;
+  /**
+   * The instants held in this column, in their {@link PackedInstant} format.
+   *
+   * <p>This was {@code LongArrayList} before columns could keep their values in a {@link
+   * ColumnStorage}. It is now a {@code LongList}, which subclasses should use through that
+   * interface, since it may be a chunked, compressed, off-heap or mapped list rather than an array
+   */
+  protected LongList data;
+
+  /** Block-level statistics used to speed up range filters, or null if they aren't maintained */
+  private ZoneMap zoneMap;
 
   /** {@inheritDoc} */
   @Override
@@ -86,7 +102,7 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
 
   private InstantColumnFormatter printFormatter = new InstantColumnFormatter();
 
-  private InstantColumn(String name, LongArrayList data) {
+  private InstantColumn(String name, LongList data) {
     super(InstantColumnType.instance(), name, InstantColumnType.DEFAULT_PARSER);
     this.data = data;
   }
@@ -95,6 +111,11 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
     return new InstantColumn(name, new LongArrayList(DEFAULT_ARRAY_SIZE));
   }
 
+  /** Returns a new, empty column that keeps its values in the given storage */
+  public static InstantColumn create(String name, ColumnStorage storage) {
+    return new InstantColumn(name, storage.longList());
+  }
+
   /**
    * For internal Tablesaw use only Returns a new column with the given name and data
    *
@@ -282,10 +303,50 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
     return data.size();
   }
 
+  /**
+   * Starts keeping the earliest and latest instant in each block of {@link
+   * ZoneMap#DEFAULT_BLOCK_SIZE} rows, so range filters can skip blocks that can't match. Event
+   * timestamps that arrive roughly in order benefit the most
+   */
+  public InstantColumn enableZoneMap() {
+    return enableZoneMap(ZoneMap.DEFAULT_BLOCK_SIZE);
+  }
+
+  /** Starts keeping the earliest and latest instant in each block of {@code blockSize} rows */
+  public InstantColumn enableZoneMap(int blockSize) {
+    zoneMap =
+        new ZoneMap(
+            blockSize,
+            InstantColumnType.missingValueIndicator(),
+            this::size,
+            this::getLongInternal);
+    return this;
+  }
+
+  /** Stops maintaining block-level statistics for this column */
+  public InstantColumn disableZoneMap() {
+    zoneMap = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    if (zoneMap == null && data instanceof EncodedList) {
+      return ((EncodedList) data).zoneMap();
+    }
+    return zoneMap;
+  }
+
   /** {@inheritDoc} */
   @Override
   public InstantColumn appendInternal(long dateTime) {
+    ensureOwnData();
     data.add(dateTime);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.append(dateTime);
+    }
     return this;
   }
 
@@ -317,31 +378,96 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
     return column;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new LongArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public InstantColumn copy() {
     InstantColumn column = emptyCopy(data.size());
-    column.data = data.clone();
+    if (data instanceof LongArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      column.data = data;
+      shareData(column);
+    } else {
+      column.data = new LongArrayList(data);
+    }
     column.printFormatter = this.printFormatter;
     return column;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.of(data);
+    return zoneMap == null ? bytes : bytes + zoneMap.memoryUsage();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof LongArrayList) {
+      LongArrayList list = (LongArrayList) data;
+      long spare = (long) (list.elements().length - list.size()) * Long.BYTES;
+      list.trim();
+      return spare;
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public InstantColumn view(int[] rows) {
+    InstantColumn view = new InstantColumn(name(), ListViews.longView(() -> data, rows));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public InstantColumn view(int start, int end) {
+    InstantColumn view = new InstantColumn(name(), ListViews.longView(() -> data, start, end));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
@@ -621,7 +747,12 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   }
 
   public InstantColumn set(int index, long value) {
+    ensureOwnData();
     data.set(index, value);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidate(index);
+    }
     return this;
   }
 
@@ -11,9 +11,14 @@ import java.util.Set;
 import java.util.stream.IntStream;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.IntColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.columns.storage.EncodedList;
+import tech.tablesaw.columns.storage.ListViews;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
@@ -21,9 +26,23 @@ import tech.tablesaw.selection.Selection;
 public class IntColumn extends NumberColumn<IntColumn, Integer>
     implements CategoricalColumn<Integer> {
 
-  protected final IntArrayList data;
+  /**
+   * The values held in this column.
+   *
+   * <p>This was {@code IntArrayList} before columns could keep their values in a {@link
+   * ColumnStorage}. It is now a {@code IntList}, which subclasses should use through that
+   * interface, since it may be a chunked, compressed, off-heap or mapped list rather than an array
+   */
+  protected IntList data;
+
+  /** Block-level statistics used to speed up range filters, or null if they aren't maintained */
+  private ZoneMap zoneMap;
 
   protected IntColumn(final String name, IntArrayList data) {
+    this(name, (IntList) data);
+  }
+
+  private IntColumn(final String name, IntList data) {
     super(IntColumnType.instance(), name, IntColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.ints());
     this.data = data;
@@ -33,6 +52,11 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
     return new IntColumn(name, new IntArrayList());
   }
 
+  /** Returns a new, empty column that keeps its values in the given storage */
+  public static IntColumn create(final String name, ColumnStorage storage) {
+    return new IntColumn(name, storage.intList());
+  }
+
   public static IntColumn create(final String name, final int... arr) {
     return new IntColumn(name, new IntArrayList(arr));
   }
@@ -92,6 +116,65 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
     return data.size();
   }
 
+  /**
+   * Starts keeping the smallest and largest value in each block of {@link
+   * ZoneMap#DEFAULT_BLOCK_SIZE} rows, so range filters like isBetweenInclusive can skip blocks that
+   * can't match. This helps most when the values are sorted or nearly so, like ids or sequence
+   * numbers
+   */
+  public IntColumn enableZoneMap() {
+    return enableZoneMap(ZoneMap.DEFAULT_BLOCK_SIZE);
+  }
+
+  /** Starts keeping the smallest and largest value in each block of {@code blockSize} rows */
+  public IntColumn enableZoneMap(int blockSize) {
+    zoneMap =
+        new ZoneMap(blockSize, IntColumnType.missingValueIndicator(), this::size, this::getInt);
+    return this;
+  }
+
+  /** Stops maintaining block-level statistics for this column */
+  public IntColumn disableZoneMap() {
+    zoneMap = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    if (zoneMap == null && data instanceof EncodedList) {
+      return ((EncodedList) data).zoneMap();
+    }
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double sum() {
+    if (data instanceof EncodedList) {
+      return ((EncodedList) data).sum();
+    }
+    return super.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double min() {
+    if (data instanceof EncodedList) {
+      return ((EncodedList) data).min();
+    }
+    return super.min();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double max() {
+    if (data instanceof EncodedList) {
+      return ((EncodedList) data).max();
+    }
+    return super.max();
+  }
+
   /** {@inheritDoc} */
   @Override
   public int valueHash(int rowNumber) {
@@ -107,7 +190,12 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   public static boolean valueIsMissing(int value) {
@@ -207,7 +295,12 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   }
 
   public IntColumn append(int i) {
+    ensureOwnData();
     data.add(i);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.append(i);
+    }
     return this;
   }
 
@@ -222,15 +315,68 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
     return this;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new IntArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public IntColumn copy() {
-    IntColumn copy = new IntColumn(name(), data.clone());
+    IntColumn copy;
+    if (data instanceof IntArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      copy = new IntColumn(name(), data);
+      shareData(copy);
+    } else {
+      copy = new IntColumn(name(), new IntArrayList(data));
+    }
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.of(data);
+    return zoneMap == null ? bytes : bytes + zoneMap.memoryUsage();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof IntArrayList) {
+      IntArrayList list = (IntArrayList) data;
+      long spare = (long) (list.elements().length - list.size()) * Integer.BYTES;
+      list.trim();
+      return spare;
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntColumn view(int[] rows) {
+    IntColumn view = new IntColumn(name(), ListViews.intView(() -> data, rows));
+    view.setViewOf(this);
+    view.setPrintFormatter(getPrintFormatter());
+    view.locale = locale;
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntColumn view(int start, int end) {
+    IntColumn view = new IntColumn(name(), ListViews.intView(() -> data, start, end));
+    view.setViewOf(this);
+    view.setPrintFormatter(getPrintFormatter());
+    view.locale = locale;
+    return view;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Iterator<Integer> iterator() {
@@ -268,7 +414,12 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   }
 
   public IntColumn set(int i, int val) {
+    ensureOwnData();
     data.set(i, val);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidate(i);
+    }
     return this;
   }
 
@@ -283,10 +434,10 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
         column.name(),
         column.type());
     final IntColumn numberColumn = (IntColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getInt(i));
-    }
+    ensureOwnData();
+    data.addAll(numberColumn.data);
+    // the zone map picks up the appended rows the next time it's read
+    invalidateIndex();
     return this;
   }
 
@@ -399,13 +550,23 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
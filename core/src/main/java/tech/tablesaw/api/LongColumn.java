@@ -13,18 +13,33 @@ import java.util.Set;
 import java.util.stream.LongStream;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.LongColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.columns.storage.EncodedList;
+import tech.tablesaw.columns.storage.ListViews;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains long values */
 public class LongColumn extends NumberColumn<LongColumn, Long> implements CategoricalColumn<Long> {
 
-  protected final LongArrayList data;
+  /**
+   * The values held in this column.
+   *
+   * <p>This was {@code LongArrayList} before columns could keep their values in a {@link
+   * ColumnStorage}. It is now a {@code LongList}, which subclasses should use through that
+   * interface, since it may be a chunked, compressed, off-heap or mapped list rather than an array
+   */
+  protected LongList data;
+
+  /** Block-level statistics used to speed up range filters, or null if they aren't maintained */
+  private ZoneMap zoneMap;
 
-  private LongColumn(String name, LongArrayList data) {
+  private LongColumn(String name, LongList data) {
     super(LongColumnType.instance(), name, LongColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.ints());
     this.data = data;
@@ -46,6 +61,11 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
     return new LongColumn(name, new LongArrayList());
   }
 
+  /** Returns a new, empty column that keeps its values in the given storage */
+  public static LongColumn create(final String name, ColumnStorage storage) {
+    return new LongColumn(name, storage.longList());
+  }
+
   public static LongColumn create(String name, long... arr) {
     return new LongColumn(name, new LongArrayList(arr));
   }
@@ -108,10 +128,73 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
     return data.size();
   }
 
+  /**
+   * Starts keeping the smallest and largest value in each block of {@link
+   * ZoneMap#DEFAULT_BLOCK_SIZE} rows, so range filters can skip blocks that can't match. Large
+   * columns of ascending keys, or of epoch timestamps stored as longs, benefit the most
+   */
+  public LongColumn enableZoneMap() {
+    return enableZoneMap(ZoneMap.DEFAULT_BLOCK_SIZE);
+  }
+
+  /** Starts keeping the smallest and largest value in each block of {@code blockSize} rows */
+  public LongColumn enableZoneMap(int blockSize) {
+    zoneMap =
+        new ZoneMap(blockSize, LongColumnType.missingValueIndicator(), this::size, this::getLong);
+    return this;
+  }
+
+  /** Stops maintaining block-level statistics for this column */
+  public LongColumn disableZoneMap() {
+    zoneMap = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    if (zoneMap == null && data instanceof EncodedList) {
+      return ((EncodedList) data).zoneMap();
+    }
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double sum() {
+    if (data instanceof EncodedList) {
+      return ((EncodedList) data).sum();
+    }
+    return super.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double min() {
+    if (data instanceof EncodedList) {
+      return ((EncodedList) data).min();
+    }
+    return super.min();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double max() {
+    if (data instanceof EncodedList) {
+      return ((EncodedList) data).max();
+    }
+    return super.max();
+  }
+
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
@@ -221,7 +304,12 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   }
 
   public LongColumn append(long i) {
+    ensureOwnData();
     data.add(i);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.append(i);
+    }
     return this;
   }
 
@@ -236,15 +324,68 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
     return this;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new LongArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public LongColumn copy() {
-    LongColumn copy = new LongColumn(name(), data.clone());
+    LongColumn copy;
+    if (data instanceof LongArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      copy = new LongColumn(name(), data);
+      shareData(copy);
+    } else {
+      copy = new LongColumn(name(), new LongArrayList(data));
+    }
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.of(data);
+    return zoneMap == null ? bytes : bytes + zoneMap.memoryUsage();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof LongArrayList) {
+      LongArrayList list = (LongArrayList) data;
+      long spare = (long) (list.elements().length - list.size()) * Long.BYTES;
+      list.trim();
+      return spare;
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongColumn view(int[] rows) {
+    LongColumn view = new LongColumn(name(), ListViews.longView(() -> data, rows));
+    view.setViewOf(this);
+    view.setPrintFormatter(getPrintFormatter());
+    view.locale = locale;
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongColumn view(int start, int end) {
+    LongColumn view = new LongColumn(name(), ListViews.longView(() -> data, start, end));
+    view.setViewOf(this);
+    view.setPrintFormatter(getPrintFormatter());
+    view.locale = locale;
+    return view;
+  }
+
   public long[] asLongArray() {
     // TODO: Need to figure out how to handle NaN -> Maybe just use a list with nulls?
     final long[] result = new long[size()];
@@ -309,7 +450,12 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   }
 
   public LongColumn set(int i, long val) {
+    ensureOwnData();
     data.set(i, val);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidate(i);
+    }
     return this;
   }
 
@@ -330,10 +476,10 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
         column.name(),
         column.type());
     final LongColumn numberColumn = (LongColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getLong(i));
-    }
+    ensureOwnData();
+    data.addAll(numberColumn.data);
+    // the zone map picks up the appended rows the next time it's read
+    invalidateIndex();
     return this;
   }
 
@@ -447,13 +593,23 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
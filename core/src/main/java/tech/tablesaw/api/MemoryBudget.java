@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+import com.google.common.base.Preconditions;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the memory that operations on the current thread may allocate for large intermediate
+ * results, like the sorted copy made by {@link Table#sortOn(String...)}, the result of a join, or
+ * the groups built by a summary. Operations that respect the budget estimate what they are about to
+ * allocate and reserve it from the budget, throwing a {@link MemoryBudgetExceededException} before
+ * allocating it if it doesn't fit, rather than running the JVM out of memory part way through.
+ *
+ * <p>The budget is cumulative: what each operation reserves stays counted until the budget is
+ * closed, since the budget can't tell when a result is no longer used. Ten sorts of a table under a
+ * budget need ten times the memory of one.
+ *
+ * <p>A budget applies to the thread that sets it until it is closed, so a service can give each
+ * request its own:
+ *
+ * <pre>
+ * try (MemoryBudget budget = MemoryBudget.limit(512 * 1024 * 1024)) {
+ *   Table joined = orders.joinOn("customer").inner(customers);
+ * }
+ * </pre>
+ *
+ * <p>Budgets can be nested; an inner budget replaces the outer one until it is closed, and what is
+ * reserved from it is also reserved from the outer one. The estimates come from {@link
+ * Table#memoryUsage()} and are approximate, so a budget should leave some headroom.
+ */
+public final class MemoryBudget implements AutoCloseable {
+
+  private static final ThreadLocal<MemoryBudget> CURRENT = new ThreadLocal<>();
+
+  private final long limit;
+
+  /** The budget this one replaced, restored when this one is closed */
+  private final MemoryBudget previous;
+
+  /** The number of bytes reserved from this budget so far */
+  private long reserved;
+
+  private MemoryBudget(long limit, MemoryBudget previous) {
+    this.limit = limit;
+    this.previous = previous;
+  }
+
+  /** Sets a budget of the given number of bytes for the current thread, until it is closed */
+  public static MemoryBudget limit(long bytes) {
+    Preconditions.checkArgument(bytes >= 0, "A memory budget can't be negative, but was %s", bytes);
+    MemoryBudget budget = new MemoryBudget(bytes, CURRENT.get());
+    CURRENT.set(budget);
+    return budget;
+  }
+
+  /** Returns the budget for the current thread, or null if it doesn't have one */
+  public static MemoryBudget current() {
+    return CURRENT.get();
+  }
+
+  /** Returns the number of bytes this budget allows */
+  public long bytes() {
+    return limit;
+  }
+
+  /** Returns the number of bytes reserved from this budget so far */
+  public long reserved() {
+    return reserved;
+  }
+
+  /**
+   * Returns the number of bytes that can still be reserved from this budget, which is also limited
+   * by what is left in any budget it is nested in
+   */
+  public long remaining() {
+    long remaining = limit - reserved;
+    for (MemoryBudget outer = previous; outer != null; outer = outer.previous) {
+      remaining = Math.min(remaining, outer.limit - outer.reserved);
+    }
+    return remaining;
+  }
+
+  /**
+   * Returns true if an allocation of the given number of bytes fits within what is left of the
+   * current thread's budget, or if the thread doesn't have one. Operations with a choice of
+   * strategies can use this to choose one that needs less memory
+   */
+  public static boolean allows(long bytes) {
+    MemoryBudget budget = CURRENT.get();
+    return budget == null || bytes <= budget.remaining();
+  }
+
+  /**
+   * Reserves the number of bytes estimated by the given supplier for the given operation, from the
+   * current thread's budget and any budgets it is nested in. The estimate is only computed if the
+   * current thread has a budget
+   *
+   * @throws MemoryBudgetExceededException if the estimate exceeds what is left of the budget, in
+   *     which case nothing is reserved
+   */
+  public static void reserve(String operation, LongSupplier estimate) {
+    MemoryBudget budget = CURRENT.get();
+    if (budget != null) {
+      long bytes = estimate.getAsLong();
+      long remaining = budget.remaining();
+      if (bytes > remaining) {
+        throw new MemoryBudgetExceededException(operation, bytes, remaining);
+      }
+      for (MemoryBudget b = budget; b != null; b = b.previous) {
+        b.reserved += bytes;
+      }
+    }
+  }
+
+  /** Removes this budget, restoring the one that was in place when it was set */
+  @Override
+  public void close() {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+}
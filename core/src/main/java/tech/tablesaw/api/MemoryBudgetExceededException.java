@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+/**
+ * Thrown when an operation would allocate more memory than is left in the current {@link
+ * MemoryBudget}
+ */
+public class MemoryBudgetExceededException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long requiredBytes;
+  private final long budgetBytes;
+
+  /**
+   * Constructs an exception for the given operation
+   *
+   * @param operation A short description of the operation, like "sort"
+   * @param requiredBytes The estimated number of bytes the operation needed
+   * @param budgetBytes The number of bytes left in the budget
+   */
+  public MemoryBudgetExceededException(String operation, long requiredBytes, long budgetBytes) {
+    super(
+        String.format(
+            "The %s needs about %,d bytes, more than the %,d bytes left in the memory budget",
+            operation, requiredBytes, budgetBytes));
+    this.requiredBytes = requiredBytes;
+    this.budgetBytes = budgetBytes;
+  }
+
+  /** Returns the estimated number of bytes the operation needed */
+  public long getRequiredBytes() {
+    return requiredBytes;
+  }
+
+  /** Returns the number of bytes that were left in the budget */
+  public long getBudgetBytes() {
+    return budgetBytes;
+  }
+}
@@ -81,6 +81,15 @@ public abstract class NumberColumn<C extends NumberColumn<C, T>, T extends Numbe
     return printFormatter;
   }
 
+  /**
+   * Gives this column the print formatter and locale of the given column. Used when a column is
+   * replaced by a copy of another numeric type, so the copy prints the same way
+   */
+  public void copyFormattingFrom(NumberColumn<?, ?> other) {
+    setPrintFormatter(other.printFormatter);
+    locale = other.locale;
+  }
+
   /**
    * Returns the largest ("top") n values in the column TODO(lwhite): Consider whether this should
    * exclude missing
@@ -20,9 +20,12 @@ import org.apache.commons.math3.stat.correlation.SpearmansCorrelation;
 import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.aggregate.NumericAggregateFunction;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ColumnStats;
 import tech.tablesaw.columns.numbers.*;
+import tech.tablesaw.index.Index;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 /**
  * A Column of numeric values
@@ -32,6 +35,18 @@ import tech.tablesaw.selection.Selection;
 public interface NumericColumn<T extends Number>
     extends Column<T>, NumberMapFunctions, NumberFilters {
 
+  /** {@inheritDoc} */
+  @Override
+  default ColumnStats<T> columnStats() {
+    return Column.super.columnStats();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  default Index index() {
+    return Column.super.index();
+  }
+
   /** {@inheritDoc} */
   @Override
   default boolean isEmpty() {
@@ -51,42 +66,29 @@ public interface NumericColumn<T extends Number>
   /** {@inheritDoc} */
   @Override
   default Selection eval(final DoublePredicate predicate) {
-    final Selection bitmap = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      final double next = getDouble(idx);
-      if (predicate.test(next)) {
-        bitmap.add(idx);
-      }
-    }
-    return bitmap;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getDouble(idx)));
   }
 
   /** {@inheritDoc} */
   @Override
   default Selection eval(final BiPredicate<Number, Number> predicate, final Number number) {
     final double value = number.doubleValue();
-    final Selection bitmap = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      final double next = getDouble(idx);
-      if (predicate.test(next, value)) {
-        bitmap.add(idx);
-      }
-    }
-    return bitmap;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getDouble(idx), value));
   }
 
   /** {@inheritDoc} */
   @Override
   default Selection isIn(Collection<Number> numbers) {
-    DoubleOpenHashSet doubleNumbers =
-        new DoubleOpenHashSet(numbers.stream().mapToDouble(Number::doubleValue).toArray());
-    final Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (doubleNumbers.contains(getDouble(i))) {
-        results.add(i);
+    if (index() != null) {
+      Selection results = new BitmapBackedSelection();
+      for (Number number : numbers) {
+        results.or(isEqualTo(number.doubleValue()));
       }
+      return results;
     }
-    return results;
+    DoubleOpenHashSet doubleNumbers =
+        new DoubleOpenHashSet(numbers.stream().mapToDouble(Number::doubleValue).toArray());
+    return SelectionEvaluator.eval(size(), i -> doubleNumbers.contains(getDouble(i)));
   }
 
   /** {@inheritDoc} */
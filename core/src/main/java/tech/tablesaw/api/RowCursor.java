@@ -0,0 +1,479 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.table.TableSlice;
+
+/**
+ * A cursor over the rows of a Table or TableSlice for row-wise code that needs to be fast. Unlike
+ * {@link Row}, which looks each column up by name on every access, a RowCursor hands out typed
+ * accessors that are bound to their column once, before iteration starts:
+ *
+ * <pre>{@code
+ * RowCursor cursor = table.cursor();
+ * DoubleAccessor price = cursor.doubleAccessor("price");
+ * IntAccessor quantity = cursor.intAccessor("quantity");
+ * double total = 0;
+ * while (cursor.next()) {
+ *   total += price.get() * quantity.get();
+ * }
+ * }</pre>
+ *
+ * <p>Moving the cursor is an int increment, and reading through an accessor goes straight to the
+ * column's storage, with no hashing, type checks, or boxing of primitive values. The row numbers of
+ * a TableSlice are resolved once, when the cursor is created, so the slice's selection and sort
+ * order should not be changed while it is in use. Like Row, a RowCursor is not thread-safe.
+ */
+public class RowCursor {
+
+  private final Table table;
+
+  /** The rows of the backing table to visit, in order, or null to visit every row in the table */
+  private final int[] rows;
+
+  private final int rowCount;
+
+  /** The position of the cursor, from 0 to rowCount - 1, or -1 before the first row */
+  private int position = -1;
+
+  /** The row in the backing table that the cursor is positioned at */
+  private int row = -1;
+
+  /** Constructs a cursor over every row in the given table */
+  public RowCursor(Table table) {
+    this.table = table;
+    this.rows = null;
+    this.rowCount = table.rowCount();
+  }
+
+  /** Constructs a cursor over the rows of the given slice, in the slice's order */
+  public RowCursor(TableSlice slice) {
+    this.table = slice.getTable();
+    this.rowCount = slice.rowCount();
+    this.rows = new int[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      rows[i] = slice.mappedRowNumber(i);
+    }
+  }
+
+  /**
+   * Moves the cursor to the next row, returning false if there are no more rows. A new cursor is
+   * positioned before the first row, so next() must be called before reading any values
+   */
+  public boolean next() {
+    if (position + 1 >= rowCount) {
+      return false;
+    }
+    position++;
+    row = rows == null ? position : rows[position];
+    return true;
+  }
+
+  /** Moves the cursor to the given 0-based position */
+  public void at(int position) {
+    if (position < 0 || position >= rowCount) {
+      throw new IndexOutOfBoundsException(
+          String.format("Position %d is outside the %d rows of the cursor", position, rowCount));
+    }
+    this.position = position;
+    this.row = rows == null ? position : rows[position];
+  }
+
+  /** Moves the cursor back to before the first row, so the rows can be visited again */
+  public void reset() {
+    position = -1;
+    row = -1;
+  }
+
+  /** Returns the 0-based position of the cursor, or -1 if it is before the first row */
+  public int position() {
+    return position;
+  }
+
+  /**
+   * Returns the row number in the table backing the cursor. This value may differ from position()
+   * if the cursor is over a slice of the table
+   */
+  public int backingRow() {
+    return row;
+  }
+
+  /** Returns the number of rows the cursor visits */
+  public int rowCount() {
+    return rowCount;
+  }
+
+  /** Returns an accessor for the double column with the given name */
+  public DoubleAccessor doubleAccessor(String columnName) {
+    return new DoubleAccessor(bind(columnName, DoubleColumn.class, ColumnType.DOUBLE.name()));
+  }
+
+  /** Returns an accessor for the float column with the given name */
+  public FloatAccessor floatAccessor(String columnName) {
+    return new FloatAccessor(bind(columnName, FloatColumn.class, ColumnType.FLOAT.name()));
+  }
+
+  /** Returns an accessor for the int column with the given name */
+  public IntAccessor intAccessor(String columnName) {
+    return new IntAccessor(bind(columnName, IntColumn.class, ColumnType.INTEGER.name()));
+  }
+
+  /** Returns an accessor for the long column with the given name */
+  public LongAccessor longAccessor(String columnName) {
+    return new LongAccessor(bind(columnName, LongColumn.class, ColumnType.LONG.name()));
+  }
+
+  /** Returns an accessor for the short column with the given name */
+  public ShortAccessor shortAccessor(String columnName) {
+    return new ShortAccessor(bind(columnName, ShortColumn.class, ColumnType.SHORT.name()));
+  }
+
+  /** Returns an accessor that reads any numeric column with the given name as doubles */
+  public NumberAccessor numberAccessor(String columnName) {
+    return new NumberAccessor(bind(columnName, NumericColumn.class, "Number"));
+  }
+
+  /** Returns an accessor for the boolean column with the given name */
+  public BooleanAccessor booleanAccessor(String columnName) {
+    return new BooleanAccessor(bind(columnName, BooleanColumn.class, ColumnType.BOOLEAN.name()));
+  }
+
+  /** Returns an accessor for the string column with the given name */
+  public StringAccessor stringAccessor(String columnName) {
+    return new StringAccessor(bind(columnName, StringColumn.class, ColumnType.STRING.name()));
+  }
+
+  /** Returns an accessor for the date column with the given name */
+  public DateAccessor dateAccessor(String columnName) {
+    return new DateAccessor(bind(columnName, DateColumn.class, ColumnType.LOCAL_DATE.name()));
+  }
+
+  /** Returns an accessor for the date-time column with the given name */
+  public DateTimeAccessor dateTimeAccessor(String columnName) {
+    return new DateTimeAccessor(
+        bind(columnName, DateTimeColumn.class, ColumnType.LOCAL_DATE_TIME.name()));
+  }
+
+  /** Returns an accessor for the instant column with the given name */
+  public InstantAccessor instantAccessor(String columnName) {
+    return new InstantAccessor(bind(columnName, InstantColumn.class, ColumnType.INSTANT.name()));
+  }
+
+  /** Returns an accessor for the time column with the given name */
+  public TimeAccessor timeAccessor(String columnName) {
+    return new TimeAccessor(bind(columnName, TimeColumn.class, ColumnType.LOCAL_TIME.name()));
+  }
+
+  /**
+   * Returns the column with the given name as the given type. An IllegalStateException is thrown if
+   * the column is not present in the table and an IllegalArgumentException is thrown if it has a
+   * different type
+   */
+  private <T> T bind(String columnName, Class<T> columnClass, String typeName) {
+    Column<?> column = table.column(columnName);
+    if (!columnClass.isInstance(column)) {
+      String actualType = column.type().name();
+      throw new IllegalArgumentException(
+          String.format(
+              "Column %s is of type %s and cannot be cast to %s. Use the accessor for %s.",
+              columnName, actualType, typeName, actualType));
+    }
+    return columnClass.cast(column);
+  }
+
+  /** Reads and writes a DoubleColumn at the cursor's row */
+  public final class DoubleAccessor {
+    private final DoubleColumn column;
+
+    private DoubleAccessor(DoubleColumn column) {
+      this.column = column;
+    }
+
+    public double get() {
+      return column.getDouble(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(double value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes a FloatColumn at the cursor's row */
+  public final class FloatAccessor {
+    private final FloatColumn column;
+
+    private FloatAccessor(FloatColumn column) {
+      this.column = column;
+    }
+
+    public float get() {
+      return column.getFloat(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(float value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes an IntColumn at the cursor's row */
+  public final class IntAccessor {
+    private final IntColumn column;
+
+    private IntAccessor(IntColumn column) {
+      this.column = column;
+    }
+
+    public int get() {
+      return column.getInt(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(int value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes a LongColumn at the cursor's row */
+  public final class LongAccessor {
+    private final LongColumn column;
+
+    private LongAccessor(LongColumn column) {
+      this.column = column;
+    }
+
+    public long get() {
+      return column.getLong(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(long value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes a ShortColumn at the cursor's row */
+  public final class ShortAccessor {
+    private final ShortColumn column;
+
+    private ShortAccessor(ShortColumn column) {
+      this.column = column;
+    }
+
+    public short get() {
+      return column.getShort(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(short value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads any numeric column at the cursor's row as a double */
+  public final class NumberAccessor {
+    private final NumericColumn<?> column;
+
+    private NumberAccessor(NumericColumn<?> column) {
+      this.column = column;
+    }
+
+    public double get() {
+      return column.getDouble(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+  }
+
+  /** Reads and writes a BooleanColumn at the cursor's row */
+  public final class BooleanAccessor {
+    private final BooleanColumn column;
+
+    private BooleanAccessor(BooleanColumn column) {
+      this.column = column;
+    }
+
+    /** Returns the value in its internal byte form, avoiding boxing */
+    public byte getByte() {
+      return column.getByte(row);
+    }
+
+    /** Returns true if the value is true, and false if it is false or missing */
+    public boolean isTrue() {
+      return column.getByte(row) == BooleanColumnType.BYTE_TRUE;
+    }
+
+    public Boolean get() {
+      return column.get(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(boolean value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes a StringColumn at the cursor's row */
+  public final class StringAccessor {
+    private final StringColumn column;
+
+    private StringAccessor(StringColumn column) {
+      this.column = column;
+    }
+
+    public String get() {
+      return column.get(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(String value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes a DateColumn at the cursor's row */
+  public final class DateAccessor {
+    private final DateColumn column;
+
+    private DateAccessor(DateColumn column) {
+      this.column = column;
+    }
+
+    /** Returns the value in its packed int form, avoiding the creation of a LocalDate */
+    public int getPacked() {
+      return column.getIntInternal(row);
+    }
+
+    public LocalDate get() {
+      return column.get(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(LocalDate value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes a DateTimeColumn at the cursor's row */
+  public final class DateTimeAccessor {
+    private final DateTimeColumn column;
+
+    private DateTimeAccessor(DateTimeColumn column) {
+      this.column = column;
+    }
+
+    /** Returns the value in its packed long form, avoiding the creation of a LocalDateTime */
+    public long getPacked() {
+      return column.getLongInternal(row);
+    }
+
+    public LocalDateTime get() {
+      return column.get(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(LocalDateTime value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes an InstantColumn at the cursor's row */
+  public final class InstantAccessor {
+    private final InstantColumn column;
+
+    private InstantAccessor(InstantColumn column) {
+      this.column = column;
+    }
+
+    /** Returns the value in its packed long form, avoiding the creation of an Instant */
+    public long getPacked() {
+      return column.getLongInternal(row);
+    }
+
+    public Instant get() {
+      return column.get(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(Instant value) {
+      column.set(row, value);
+    }
+  }
+
+  /** Reads and writes a TimeColumn at the cursor's row */
+  public final class TimeAccessor {
+    private final TimeColumn column;
+
+    private TimeAccessor(TimeColumn column) {
+      this.column = column;
+    }
+
+    /** Returns the value in its packed int form, avoiding the creation of a LocalTime */
+    public int getPacked() {
+      return column.getIntInternal(row);
+    }
+
+    public LocalTime get() {
+      return column.get(row);
+    }
+
+    public boolean isMissing() {
+      return column.isMissing(row);
+    }
+
+    public void set(LocalTime value) {
+      column.set(row, value);
+    }
+  }
+}
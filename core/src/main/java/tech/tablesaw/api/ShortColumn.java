@@ -20,6 +20,7 @@ import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
 import tech.tablesaw.columns.numbers.ShortColumnType;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
@@ -27,7 +28,7 @@ import tech.tablesaw.selection.Selection;
 public class ShortColumn extends NumberColumn<ShortColumn, Short>
     implements CategoricalColumn<Short> {
 
-  protected final ShortArrayList data;
+  protected ShortArrayList data;
 
   protected ShortColumn(final String name, ShortArrayList data) {
     super(ShortColumnType.instance(), name, ShortColumnType.DEFAULT_PARSER);
@@ -137,7 +138,9 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
@@ -213,7 +216,9 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   }
 
   public ShortColumn append(short i) {
+    ensureOwnData();
     data.add(i);
+    invalidateIndex();
     return this;
   }
 
@@ -240,15 +245,43 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
     return super.emptyCopy(rowSize);
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new ShortArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public ShortColumn copy() {
-    ShortColumn copy = new ShortColumn(name(), data.clone());
+    ShortColumn copy;
+    if (data instanceof ShortArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      copy = new ShortColumn(name(), data);
+      shareData(copy);
+    } else {
+      copy = new ShortColumn(name(), new ShortArrayList(data));
+    }
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.arrayList(data.elements().length, Short.BYTES);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    long spare = (long) (data.elements().length - data.size()) * Short.BYTES;
+    data.trim();
+    return spare;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Iterator<Short> iterator() {
@@ -286,7 +319,9 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   }
 
   public ShortColumn set(int i, short val) {
+    ensureOwnData();
     data.set(i, val);
+    invalidateIndex();
     return this;
   }
 
@@ -424,13 +459,17 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(ShortComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(ShortComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
@@ -20,12 +20,16 @@ import static tech.tablesaw.api.ColumnType.*;
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.strings.*;
+import tech.tablesaw.index.StringIndex;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
@@ -59,6 +63,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public StringColumn appendMissing() {
     data.appendMissing();
+    invalidateIndex();
     return this;
   }
 
@@ -71,7 +76,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   /** {@inheritDoc} */
   @Override
   public boolean equals(int rowNumber1, int rowNumber2) {
-    return getDictionary().getKeyAtIndex(rowNumber1) == getDictionary().getKeyAtIndex(rowNumber2);
+    return data.equals(rowNumber1, rowNumber2);
   }
 
   public static StringColumn create(String name) {
@@ -178,12 +183,14 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public void sortAscending() {
     data.sortAscending();
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sortDescending();
+    invalidateIndex();
   }
 
   /**
@@ -196,6 +203,24 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
     return data.size();
   }
 
+  /**
+   * Starts maintaining a bitmap of the rows holding each unique value in this column. Equality and
+   * membership filters then combine bitmaps rather than scanning every row, which is very effective
+   * for categorical columns with few unique values. The bitmaps are kept up to date as the column
+   * is modified, so this may be called before the data is loaded. They are dropped if the column
+   * has so many unique values that it's no longer dictionary encoded
+   */
+  public StringColumn enableBitmapIndex() {
+    data.enableBitmapIndex();
+    return this;
+  }
+
+  /** Stops maintaining the bitmaps created by {@link #enableBitmapIndex()} */
+  public StringColumn disableBitmapIndex() {
+    data.disableBitmapIndex();
+    return this;
+  }
+
   /**
    * Returns the value at rowIndex in this column. The index is zero-based.
    *
@@ -259,6 +284,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public void clear() {
     data.clear();
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
@@ -330,6 +356,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
         throw new IllegalStateException(e);
       }
     }
+    invalidateIndex();
     return this;
   }
 
@@ -402,9 +429,78 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
     return data.isEmpty();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When the column is dictionary encoded, the predicate is evaluated once for each unique value
+   * rather than once for each row
+   */
+  @Override
+  public Selection eval(Predicate<String> predicate) {
+    return data.eval(predicate);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(BiPredicate<String, String> predicate, String value) {
+    return data.eval(predicate, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(BiPredicate<String, Integer> predicate, Integer value) {
+    return data.eval(predicate, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection startsWith(String string) {
+    return data.startsWith(string);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection endsWith(String string) {
+    return data.endsWith(string);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection containsString(String string) {
+    return data.containsString(string);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isEmptyString() {
+    return data.isEmptyString();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When the column is dictionary encoded, the function is applied once for each unique value,
+   * and the new column reuses the row layout of this one. If the results have more unique values
+   * than the dictionary can hold, the function is applied to each row instead
+   */
+  @Override
+  public StringColumn mapValues(String columnName, Function<String, String> function) {
+    if (!(data instanceof NullDictionaryMap)) {
+      try {
+        return createInternal(columnName, data.mapValues(function));
+      } catch (NoKeysAvailableException e) {
+        // fall through to the row at a time version, which promotes the dictionary as needed
+      }
+    }
+    return StringMapFunctions.super.mapValues(columnName, function);
+  }
+
   /** {@inheritDoc} */
   @Override
   public Selection isEqualTo(String string) {
+    if (isIndexed()) {
+      return ((StringIndex) index()).get(string);
+    }
     return data.isEqualTo(string);
   }
 
@@ -447,6 +543,18 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
     return subset(selection.toArray());
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return data.memoryUsage();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    return data.trimToSize();
+  }
+
   /** {@inheritDoc} */
   @Override
   public StringColumn copy() {
@@ -533,6 +641,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
         throw new IllegalStateException(e);
       }
     }
+    invalidateIndex();
     return this;
   }
 
@@ -552,12 +661,23 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   /** {@inheritDoc} */
   @Override
   public Selection isIn(String... strings) {
+    if (isIndexed()) {
+      return isIn(Arrays.asList(strings));
+    }
     return data.isIn(strings);
   }
 
   /** {@inheritDoc} */
   @Override
   public Selection isIn(Collection<String> strings) {
+    if (isIndexed()) {
+      StringIndex index = (StringIndex) index();
+      Selection results = new BitmapBackedSelection();
+      for (String string : strings) {
+        results.or(index.get(string));
+      }
+      return results;
+    }
     return data.isIn(strings);
   }
 
@@ -37,6 +37,7 @@ import tech.tablesaw.aggregate.CrossTab;
 import tech.tablesaw.aggregate.PivotTable;
 import tech.tablesaw.aggregate.Summarizer;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ColumnStats;
 import tech.tablesaw.io.DataFrameReader;
 import tech.tablesaw.io.DataFrameWriter;
 import tech.tablesaw.io.DataReader;
@@ -362,6 +363,33 @@ public class Table extends Relation implements Iterable<Row> {
     return replaceColumn(newColumn.name(), newColumn);
   }
 
+  /**
+   * Returns an estimate of the number of bytes of memory used by the columns of this table. See
+   * {@link Column#memoryUsage()}
+   */
+  public long memoryUsage() {
+    long bytes = 0;
+    for (Column<?> column : columnList) {
+      bytes += column.memoryUsage();
+    }
+    return bytes;
+  }
+
+  /**
+   * Shrinks this table in place without changing any of its values, and returns a table reporting
+   * the type of each column before and after and the approximate number of bytes saved. Numeric
+   * columns are narrowed to the smallest type that holds all their values exactly, string
+   * dictionaries are re-encoded with the narrowest keys their unique values allow, and spare
+   * capacity is released. This is most useful for tables that are loaded once and then kept for a
+   * long time.
+   *
+   * <p>Narrowed columns replace the originals, so references to the old columns held elsewhere are
+   * no longer part of this table.
+   */
+  public Table compact() {
+    return new TableCompactor(this).compact();
+  }
+
   /** Sets the name of the table */
   @Override
   public Table setName(String name) {
@@ -469,9 +497,17 @@ public class Table extends Relation implements Iterable<Row> {
     return columnList.stream().map(Column::name).collect(toList());
   }
 
-  /** Returns a table with the same columns and data as this table */
+  /**
+   * Returns a table with the same columns and data as this table. Columns that support it share
+   * their data with their copies until either is modified, so copying is cheap when the copy is
+   * only read
+   */
   public Table copy() {
-    return inRange(0, this.rowCount());
+    Table copy = new Table(name);
+    for (Column<?> column : columnList) {
+      copy.addColumns(column.copy());
+    }
+    return copy;
   }
 
   /** Returns a table with the same columns as this table, but no data */
@@ -694,6 +730,10 @@ public class Table extends Relation implements Iterable<Row> {
    */
   public Table sortOn(Sort key) {
     Preconditions.checkArgument(!key.isEmpty());
+    if (isSortedOn(key)) {
+      // the copy shares its columns' data until one of them is modified, so it needs no budget
+      return copy();
+    }
     if (key.size() == 1) {
       IntComparator comparator = SortUtils.getComparator(this, key);
       return parallelSortOn(comparator);
@@ -702,11 +742,41 @@ public class Table extends Relation implements Iterable<Row> {
     return parallelSortOn(chain);
   }
 
+  /**
+   * Returns true if the rows of this table are already in the order given by the column names, as
+   * in {@link #sortOn(String...)}
+   */
+  public boolean isSortedOn(String... columnNames) {
+    return isSortedOn(Sort.create(this, columnNames));
+  }
+
+  /**
+   * Returns true if the rows of this table are already in the order given by the sort key, so that
+   * sorting on the key wouldn't change the table. The order of a single column is cached in the
+   * column's {@link Column#columnStats()}; other keys are checked by comparing adjacent rows
+   */
+  public boolean isSortedOn(Sort key) {
+    Preconditions.checkArgument(!key.isEmpty());
+    if (key.size() == 1) {
+      Map.Entry<String, Sort.Order> sort = key.iterator().next();
+      ColumnStats<?> stats = column(sort.getKey()).columnStats();
+      return sort.getValue() == Sort.Order.DESCEND ? stats.isDescending() : stats.isAscending();
+    }
+    IntComparatorChain chain = SortUtils.getChain(this, key);
+    for (int row = 1; row < rowCount(); row++) {
+      if (chain.compare(row - 1, row) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns a copy of this table sorted using the given comparator. This method sorts in a single
    * thread, as is required for using Comparator<Row>
    */
   private Table sortOn(IntComparator rowComparator) {
+    MemoryBudget.reserve("sort", this::sortMemoryEstimate);
     Table newTable = emptyCopy(rowCount());
 
     int[] newRows = rows();
@@ -718,6 +788,7 @@ public class Table extends Relation implements Iterable<Row> {
 
   /** Returns a copy of this table sorted in parallel using the given comparator */
   private Table parallelSortOn(IntComparator rowComparator) {
+    MemoryBudget.reserve("sort", this::sortMemoryEstimate);
     Table newTable = emptyCopy(rowCount());
 
     int[] newRows = rows();
@@ -740,6 +811,11 @@ public class Table extends Relation implements Iterable<Row> {
             });
   }
 
+  /** Returns the memory needed to sort this table: the row order, and the sorted copy */
+  private long sortMemoryEstimate() {
+    return (long) rowCount() * Integer.BYTES + memoryUsage();
+  }
+
   /** Returns an array of ints of the same number of rows as the table */
   private int[] rows() {
     int[] rowIndexes = new int[rowCount()];
@@ -1090,6 +1166,26 @@ public class Table extends Relation implements Iterable<Row> {
     return this;
   }
 
+  /**
+   * Creates an index on each of the named columns and returns this table. The indexes are kept with
+   * the columns and used by equality and range filters and by joins on those columns. They are
+   * discarded when a column is modified and rebuilt the next time they're needed
+   */
+  public Table createIndex(String... columnNames) {
+    for (String columnName : columnNames) {
+      column(columnName).createIndex();
+    }
+    return this;
+  }
+
+  /** Removes the index from each of the named columns and returns this table */
+  public Table dropIndex(String... columnNames) {
+    for (String columnName : columnNames) {
+      column(columnName).dropIndex();
+    }
+    return this;
+  }
+
   /** Returns this table after adding the data from the argument */
   @SuppressWarnings({"rawtypes", "unchecked"})
   public Table append(Relation tableToAppend) {
@@ -1453,6 +1549,14 @@ public class Table extends Relation implements Iterable<Row> {
     };
   }
 
+  /**
+   * Returns a cursor over the rows in this table, whose typed accessors avoid the per-value lookups
+   * made by {@link Row}
+   */
+  public RowCursor cursor() {
+    return new RowCursor(this);
+  }
+
   /** Returns the rows in this table as a Stream */
   public Stream<Row> stream() {
     return Streams.stream(iterator());
@@ -1477,6 +1581,47 @@ public class Table extends Relation implements Iterable<Row> {
     return Streams.stream(rollingIterator(n));
   }
 
+  /**
+   * Iterates over consecutive batches of rows, column by column. I.e. 0 to n-1, n to 2n-1, etc. The
+   * last batch holds the remaining rows, so it may have fewer than n
+   *
+   * @param batchSize the number of rows in each batch
+   */
+  public Iterator<TableBatch> batchIterator(int batchSize) {
+    Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+
+    return new Iterator<TableBatch>() {
+
+      private int currRow = 0;
+
+      @Override
+      public TableBatch next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int end = Math.min(currRow + batchSize, rowCount());
+        TableBatch batch = new TableBatch(Table.this, currRow, end);
+        currRow = end;
+        return batch;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return currRow < rowCount();
+      }
+    };
+  }
+
+  /**
+   * Streams over consecutive batches of rows, column by column. I.e. 0 to n-1, n to 2n-1, etc. The
+   * last batch holds the remaining rows, so it may have fewer than n
+   *
+   * @param batchSize the number of rows in each batch
+   */
+  public Stream<TableBatch> batches(int batchSize) {
+    return Streams.stream(batchIterator(batchSize));
+  }
+
   /**
    * Transposes data in the table, switching rows for columns. For example, a table like this.<br>
    * value1 | value2 |<br>
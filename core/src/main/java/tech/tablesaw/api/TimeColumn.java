@@ -23,6 +23,7 @@ import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import it.unimi.dsi.fastutil.ints.IntComparators;
 import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.nio.ByteBuffer;
@@ -36,6 +37,9 @@ import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.columns.storage.ListViews;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.columns.times.PackedLocalTime;
 import tech.tablesaw.columns.times.TimeColumnFormatter;
 import tech.tablesaw.columns.times.TimeColumnType;
@@ -53,7 +57,14 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
 
   private TimeColumnFormatter printFormatter = new TimeColumnFormatter();
 
-  protected IntArrayList data;
+  /**
+   * The times held in this column, in their {@link PackedLocalTime} format.
+   *
+   * <p>This was {@code IntArrayList} before columns could keep their values in a {@link
+   * ColumnStorage}. It is now a {@code IntList}, which subclasses should use through that
+   * interface, since it may be a chunked, compressed, off-heap or mapped list rather than an array
+   */
+  protected IntList data;
 
   private final IntComparator comparator =
       (r1, r2) -> {
@@ -74,7 +85,7 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
     return getIntInternal(rowNumber1) == getIntInternal(rowNumber2);
   }
 
-  private TimeColumn(String name, IntArrayList times) {
+  private TimeColumn(String name, IntList times) {
     super(TimeColumnType.instance(), name, TimeColumnType.DEFAULT_PARSER);
     data = times;
   }
@@ -96,6 +107,11 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
     return new TimeColumn(name);
   }
 
+  /** Returns a new, empty column that keeps its values in the given storage */
+  public static TimeColumn create(String name, ColumnStorage storage) {
+    return new TimeColumn(name, storage.intList());
+  }
+
   public static TimeColumn create(String name, AbstractColumnParser<LocalTime> parser) {
     TimeColumn column = new TimeColumn(name);
     column.setParser(parser);
@@ -182,7 +198,9 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   }
 
   public TimeColumn appendInternal(int f) {
+    ensureOwnData();
     data.add(f);
+    invalidateIndex();
     return this;
   }
 
@@ -269,19 +287,70 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
     return column;
   }
 
+  /** Gives this column its own copy of its data, if the data is shared with a copy of the column */
+  private void ensureOwnData() {
+    if (detachSharedData()) {
+      data = new IntArrayList(data);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public TimeColumn copy() {
     TimeColumn column = emptyCopy(size());
-    column.data = data.clone();
+    if (data instanceof IntArrayList) {
+      // the copy shares this column's data until one of them modifies it
+      column.data = data;
+      shareData(column);
+    } else {
+      column.data = new IntArrayList(data);
+    }
     column.printFormatter = printFormatter;
     return column;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.of(data);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long trimToSize() {
+    if (data instanceof IntArrayList) {
+      IntArrayList list = (IntArrayList) data;
+      long spare = (long) (list.elements().length - list.size()) * Integer.BYTES;
+      list.trim();
+      return spare;
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TimeColumn view(int[] rows) {
+    TimeColumn view = new TimeColumn(name(), ListViews.intView(() -> data, rows));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TimeColumn view(int start, int end) {
+    TimeColumn view = new TimeColumn(name(), ListViews.intView(() -> data, start, end));
+    view.setViewOf(this);
+    view.printFormatter = printFormatter;
+    return view;
+  }
+
   /** {@inheritDoc} */
   @Override
   public void clear() {
+    ensureOwnData();
     data.clear();
+    invalidateIndex();
   }
 
   /** Returns the entire contents of this column as a list */
@@ -297,13 +366,17 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
+    ensureOwnData();
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    invalidateIndex();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
+    ensureOwnData();
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    invalidateIndex();
   }
 
   public LocalTime max() {
@@ -548,7 +621,9 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   }
 
   public TimeColumn set(int index, int value) {
+    ensureOwnData();
     data.set(index, value);
+    invalidateIndex();
     return this;
   }
 
@@ -591,7 +666,9 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   /** {@inheritDoc} */
   @Override
   public TimeColumn setMissing(int i) {
+    ensureOwnData();
     data.set(i, TimeColumnType.missingValueIndicator());
+    invalidateIndex();
     return this;
   }
 
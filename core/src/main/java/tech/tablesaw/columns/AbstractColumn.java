@@ -16,11 +16,13 @@ package tech.tablesaw.columns;
 
 import com.google.common.base.Preconditions;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.index.Index;
 import tech.tablesaw.selection.Selection;
 
 /** Partial implementation of the {@link Column} interface */
@@ -34,6 +36,29 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
 
   private AbstractColumnParser<T> parser;
 
+  /** True if a secondary index has been created for this column */
+  private boolean indexed;
+
+  /** The secondary index, or null if it hasn't been built since the column was last modified */
+  private Index index;
+
+  private ColumnStats<T> stats;
+
+  /** The {@link #version()} the cached statistics were computed at */
+  private long statsVersion;
+
+  /** The number of times this column has been modified */
+  private long modifications;
+
+  /** The column whose data this column reads through to, or null if it owns its data */
+  private AbstractColumn<?, ?> viewOf;
+
+  /**
+   * The number of columns sharing this column's data, if it was shared by {@link #shareData}, or
+   * null if the data belongs to this column alone
+   */
+  private AtomicInteger sharers;
+
   /**
    * Constructs a column with the given {@link ColumnType}, name, and {@link AbstractColumnParser}
    */
@@ -166,6 +191,20 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
     return (C) Column.super.subset(rows);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public C view(int[] rows) {
+    return (C) Column.super.view(rows);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public C view(int start, int end) {
+    return (C) Column.super.view(start, end);
+  }
+
   /** {@inheritDoc} */
   @Override
   @SuppressWarnings({"unchecked", "rawtypes"})
@@ -173,6 +212,106 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
     return (C) Column.super.inRange(start, end);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public C createIndex() {
+    index = Index.forColumn(this);
+    indexed = true;
+    return (C) this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public C dropIndex() {
+    indexed = false;
+    index = null;
+    return (C) this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isIndexed() {
+    return indexed;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized Index index() {
+    if (indexed && index == null) {
+      index = Index.forColumn(this);
+    }
+    return index;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized ColumnStats<T> columnStats() {
+    long version = version();
+    if (stats == null || statsVersion != version) {
+      stats = new ColumnStats<>(this);
+      statsVersion = version;
+    }
+    return stats;
+  }
+
+  /**
+   * Returns a number that changes whenever this column or any column it reads through to is
+   * modified
+   */
+  private long version() {
+    return viewOf == null ? modifications : modifications + viewOf.version();
+  }
+
+  /**
+   * Discards the secondary index and cached statistics for this column, if they've been built, so
+   * that they're rebuilt the next time they're needed. Subclasses must call this whenever they
+   * modify their data
+   */
+  protected void invalidateIndex() {
+    index = null;
+    stats = null;
+    modifications++;
+  }
+
+  /**
+   * Records that the given copy of this column shares this column's data rather than holding a copy
+   * of its own. Neither column may modify the shared data until it has called {@link
+   * #detachSharedData()}
+   */
+  protected void shareData(AbstractColumn<?, ?> copy) {
+    if (sharers == null) {
+      sharers = new AtomicInteger(1);
+    }
+    sharers.incrementAndGet();
+    copy.sharers = sharers;
+  }
+
+  /**
+   * Stops sharing this column's data with the columns it was shared with, and returns true if any
+   * of them still use it, in which case the caller must replace its data with a copy before
+   * modifying it. Returns false if the data belongs to this column alone. Subclasses that share
+   * their data call this before every modification
+   */
+  protected boolean detachSharedData() {
+    if (sharers == null) {
+      return false;
+    }
+    boolean shared = sharers.decrementAndGet() > 0;
+    sharers = null;
+    return shared;
+  }
+
+  /**
+   * Marks this column as a view over data owned by the given column. Changes to that data are seen
+   * by this column without it being told, so its cached statistics are recomputed whenever the
+   * given column has been modified since they were computed
+   */
+  protected void setViewOf(AbstractColumn<?, ?> column) {
+    viewOf = column;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString() {
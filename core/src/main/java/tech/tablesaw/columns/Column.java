@@ -25,6 +25,8 @@ import java.util.function.Predicate;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.storage.MemoryEstimates;
+import tech.tablesaw.index.Index;
 import tech.tablesaw.interpolation.Interpolator;
 import tech.tablesaw.selection.Selection;
 import tech.tablesaw.table.RollingColumn;
@@ -449,6 +451,45 @@ public interface Column<T> extends Iterable<T>, Comparator<T> {
     return c;
   }
 
+  /**
+   * Returns an estimate of the number of bytes of memory used by this column's values, including
+   * any dictionary, bitmaps and block statistics it maintains. The estimate is computed from the
+   * sizes of the column's arrays and doesn't need an instrumentation agent; see {@link
+   * MemoryEstimates} for its assumptions
+   */
+  default long memoryUsage() {
+    return MemoryEstimates.arrayList(size(), type().byteSize());
+  }
+
+  /**
+   * Releases any spare capacity this column holds for values that haven't been appended yet, and
+   * returns the approximate number of bytes released. Columns that don't hold spare capacity return
+   * 0
+   */
+  default long trimToSize() {
+    return 0;
+  }
+
+  /**
+   * Returns a column of the same type holding the values at the given indexes, in the order given.
+   * Unlike {@link #subset(int[])}, columns that can do so return a view that reads through to this
+   * column rather than copying its values. The view copies the values it refers to the first time
+   * it is changed, so changing it never changes this column, but changes made to this column before
+   * then are seen through the view. Use a view for short-lived, read-only work over part of a
+   * column, like computing a summary per group.
+   */
+  default Column<T> view(int[] rows) {
+    return subset(rows);
+  }
+
+  /**
+   * Returns a column of the same type holding the values from start inclusive to end exclusive.
+   * Like {@link #view(int[])}, columns that can do so return a view rather than a copy
+   */
+  default Column<T> view(int start, int end) {
+    return inRange(start, end);
+  }
+
   /**
    * Returns a new Column of the same type sorted according to the provided Comparator
    *
@@ -749,4 +790,45 @@ public interface Column<T> extends Iterable<T>, Comparator<T> {
    * in the column.
    */
   int lastIndexOf(Object o);
+
+  /**
+   * Creates a secondary index over the values in this column. Filters and joins on the column use
+   * the index automatically. The index is discarded whenever the column is modified, and is rebuilt
+   * the next time it's needed
+   *
+   * @throws IllegalArgumentException if columns of this type can't be indexed
+   * @throws UnsupportedOperationException if this implementation doesn't support indexes, which is
+   *     the default
+   */
+  default Column<T> createIndex() {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " doesn't support secondary indexes");
+  }
+
+  /** Discards the secondary index over this column, if there is one */
+  default Column<T> dropIndex() {
+    return this;
+  }
+
+  /** Returns true if a secondary index has been created for this column */
+  default boolean isIndexed() {
+    return false;
+  }
+
+  /**
+   * Returns the secondary index over the values in this column, building it if necessary, or null
+   * if no index has been created for this column
+   */
+  default Index index() {
+    return null;
+  }
+
+  /**
+   * Returns statistics about the values in this column, such as its range, missing and distinct
+   * counts, and whether it's sorted. Each statistic is computed when first needed and cached until
+   * the column is modified
+   */
+  default ColumnStats<T> columnStats() {
+    return new ColumnStats<>(this);
+  }
 }
@@ -1,4 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
 package tech.tablesaw.columns;
 
-/** Collects and holds column stats for optimizations */
-public class ColumnStats {}
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.Optional;
+import tech.tablesaw.api.Table;
+
+/**
+ * Collects and holds column stats for optimizations. Each statistic is computed the first time it's
+ * asked for and remembered after that. A column discards its stats whenever its data changes, so a
+ * stats object obtained from {@link Column#columnStats()} is only valid until the next modification
+ * of the column. The statistics may be asked for by several threads at once, as long as none of
+ * them modifies the column
+ *
+ * @param <T> the type of value held by the column
+ */
+public class ColumnStats<T> {
+
+  private static final int UNKNOWN = -1;
+  private static final int NO_VALUES = -2;
+
+  private final Column<T> column;
+
+  private int countMissing = UNKNOWN;
+  private int countUnique = UNKNOWN;
+  private int minRow = UNKNOWN;
+  private int maxRow = UNKNOWN;
+  private Boolean ascending;
+  private Boolean descending;
+  private Table summary;
+
+  public ColumnStats(Column<T> column) {
+    this.column = column;
+  }
+
+  /** Returns the number of missing values in the column */
+  public synchronized int countMissing() {
+    if (countMissing == UNKNOWN) {
+      countMissing = column.countMissing();
+    }
+    return countMissing;
+  }
+
+  /** Returns the number of distinct values in the column, counting missing as one value */
+  public synchronized int countUnique() {
+    if (countUnique == UNKNOWN) {
+      countUnique = column.countUnique();
+    }
+    return countUnique;
+  }
+
+  /** Returns the smallest non-missing value in the column, or empty if there isn't one */
+  public synchronized Optional<T> min() {
+    computeRange();
+    return minRow == NO_VALUES ? Optional.empty() : Optional.of(column.get(minRow));
+  }
+
+  /** Returns the largest non-missing value in the column, or empty if there isn't one */
+  public synchronized Optional<T> max() {
+    computeRange();
+    return maxRow == NO_VALUES ? Optional.empty() : Optional.of(column.get(maxRow));
+  }
+
+  /**
+   * Returns true if every row of the column is less than or equal to the row that follows it,
+   * according to the column's {@link Column#rowComparator()}. That is, if sorting the column in
+   * ascending order would leave it unchanged
+   */
+  public synchronized boolean isAscending() {
+    if (ascending == null) {
+      ascending = isOrdered(1);
+    }
+    return ascending;
+  }
+
+  /**
+   * Returns true if every row of the column is greater than or equal to the row that follows it,
+   * according to the column's {@link Column#rowComparator()}
+   */
+  public synchronized boolean isDescending() {
+    if (descending == null) {
+      descending = isOrdered(-1);
+    }
+    return descending;
+  }
+
+  /**
+   * Returns the column's {@link Column#summary()}. The summary is computed once, and a copy is
+   * returned on each call so that callers may modify it
+   */
+  public synchronized Table summary() {
+    if (summary == null) {
+      summary = column.summary();
+    }
+    return summary.copy();
+  }
+
+  private boolean isOrdered(int direction) {
+    IntComparator comparator = column.rowComparator();
+    for (int row = 1; row < column.size(); row++) {
+      if (comparator.compare(row - 1, row) * direction > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void computeRange() {
+    if (minRow != UNKNOWN) {
+      return;
+    }
+    IntComparator comparator = column.rowComparator();
+    int min = NO_VALUES;
+    int max = NO_VALUES;
+    for (int row = 0; row < column.size(); row++) {
+      if (column.isMissing(row)) {
+        continue;
+      }
+      if (min == NO_VALUES) {
+        min = row;
+        max = row;
+      } else if (comparator.compare(row, min) < 0) {
+        min = row;
+      } else if (comparator.compare(row, max) > 0) {
+        max = row;
+      }
+    }
+    minRow = min;
+    maxRow = max;
+  }
+}
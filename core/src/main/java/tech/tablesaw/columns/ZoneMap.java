@@ -0,0 +1,275 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.BitSet;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import tech.tablesaw.columns.storage.MemoryEstimates;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * Block-level statistics for a column whose values are (or are encoded as) integers. The rows of
+ * the column are divided into fixed-size blocks, and for each block the minimum and maximum
+ * non-missing values and the number of missing values are kept. Range filters use these statistics
+ * to skip blocks that can't contain a match and to accept blocks where every row matches without
+ * looking at the individual values.
+ *
+ * <p>The statistics are maintained as values are appended. Setting a value marks its block as
+ * stale, and stale blocks are recomputed the next time the zone map is used. Any rows the zone map
+ * hasn't seen are added at that time as well, so a zone map can be enabled on a column that already
+ * contains data.
+ *
+ * <p>Because reading the statistics may bring them up to date, every method synchronizes on the
+ * zone map, so concurrent filters on the same column see consistent statistics. Changing the column
+ * while it's being filtered isn't supported, as for any column.
+ *
+ * <p>Range queries on a zone map use the same semantics as comparing the raw encoded values: a
+ * missing value is matched if, and only if, it falls within the requested bounds.
+ */
+public class ZoneMap {
+
+  /** The default number of rows summarized by each block */
+  public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+  private final int blockSize;
+
+  /** The encoded value used to represent a missing value in the column */
+  private final long missingValue;
+
+  /** Supplies the current number of rows in the column */
+  private final IntSupplier columnSize;
+
+  /** Supplies the encoded value at a given row of the column */
+  private final IntToLongFunction values;
+
+  private final LongArrayList mins = new LongArrayList();
+  private final LongArrayList maxs = new LongArrayList();
+  private final IntArrayList missingCounts = new IntArrayList();
+
+  /** Blocks whose statistics no longer reflect the data in the column */
+  private final BitSet staleBlocks = new BitSet();
+
+  /** The number of rows summarized by this zone map */
+  private int rowCount;
+
+  /**
+   * Constructs a zone map over a column
+   *
+   * @param blockSize The number of rows summarized by each block
+   * @param missingValue The encoded value used to represent a missing value in the column
+   * @param columnSize Supplies the current number of rows in the column
+   * @param values Supplies the encoded value at a given row of the column
+   */
+  public ZoneMap(
+      int blockSize, long missingValue, IntSupplier columnSize, IntToLongFunction values) {
+    Preconditions.checkArgument(
+        blockSize > 0, "Block size must be positive, but was %s", blockSize);
+    this.blockSize = blockSize;
+    this.missingValue = missingValue;
+    this.columnSize = columnSize;
+    this.values = values;
+  }
+
+  /** Returns the number of rows summarized by each block */
+  public int blockSize() {
+    return blockSize;
+  }
+
+  /** Returns the number of blocks currently held by this zone map */
+  public synchronized int blockCount() {
+    sync();
+    return mins.size();
+  }
+
+  /** Returns the smallest non-missing value in the given block */
+  public synchronized long min(int block) {
+    sync();
+    return mins.getLong(block);
+  }
+
+  /** Returns the largest non-missing value in the given block */
+  public synchronized long max(int block) {
+    sync();
+    return maxs.getLong(block);
+  }
+
+  /** Returns the number of missing values in the given block */
+  public synchronized int missingCount(int block) {
+    sync();
+    return missingCounts.getInt(block);
+  }
+
+  /** Returns the approximate number of bytes used by the statistics */
+  public synchronized long memoryUsage() {
+    return MemoryEstimates.of(mins)
+        + MemoryEstimates.of(maxs)
+        + MemoryEstimates.of(missingCounts)
+        + MemoryEstimates.array(staleBlocks.size() / Long.SIZE, Long.BYTES);
+  }
+
+  /** Updates the statistics for a value appended to the end of the column */
+  public synchronized void append(long value) {
+    if (rowCount != columnSize.getAsInt() - 1) {
+      // some rows were added without being recorded; they'll be picked up on the next sync
+      return;
+    }
+    add(value);
+  }
+
+  /** Marks the statistics for the block holding the given row as stale */
+  public synchronized void invalidate(int row) {
+    if (row < rowCount) {
+      staleBlocks.set(row / blockSize);
+    }
+  }
+
+  /**
+   * Discards all statistics. They are rebuilt the next time the zone map is used. This should be
+   * called after operations like sorting or clearing that may change every row in the column
+   */
+  public synchronized void invalidateAll() {
+    mins.clear();
+    maxs.clear();
+    missingCounts.clear();
+    staleBlocks.clear();
+    rowCount = 0;
+  }
+
+  /**
+   * Returns a selection containing every row whose encoded value is greater than or equal to low
+   * and less than or equal to high
+   */
+  public synchronized Selection isBetweenInclusive(long low, long high) {
+    sync();
+    Selection selection = new BitmapBackedSelection();
+    if (low > high) {
+      return selection;
+    }
+    boolean missingMatches = low <= missingValue && missingValue <= high;
+    for (int block = 0; block < mins.size(); block++) {
+      int start = block * blockSize;
+      int end = Math.min(start + blockSize, rowCount);
+      int missing = missingCounts.getInt(block);
+      boolean hasValues = missing < end - start;
+      long min = mins.getLong(block);
+      long max = maxs.getLong(block);
+
+      boolean valuesExcluded = !hasValues || max < low || min > high;
+      boolean missingExcluded = missing == 0 || !missingMatches;
+      if (valuesExcluded && missingExcluded) {
+        continue;
+      }
+      boolean valuesIncluded = !hasValues || (min >= low && max <= high);
+      boolean missingIncluded = missing == 0 || missingMatches;
+      if (valuesIncluded && missingIncluded) {
+        selection.addRange(start, end);
+        continue;
+      }
+      for (int row = start; row < end; row++) {
+        long value = values.applyAsLong(row);
+        if (value >= low && value <= high) {
+          selection.add(row);
+        }
+      }
+    }
+    return selection;
+  }
+
+  /**
+   * Returns a selection containing every row whose non-missing value falls in the range described
+   * by the arguments, where values are compared as doubles. Missing values are never matched
+   *
+   * @param low The lower bound of the range
+   * @param lowInclusive Whether a value equal to the lower bound is matched
+   * @param high The upper bound of the range
+   * @param highInclusive Whether a value equal to the upper bound is matched
+   */
+  public Selection isBetween(double low, boolean lowInclusive, double high, boolean highInclusive) {
+    if (Double.isNaN(low) || Double.isNaN(high)) {
+      return new BitmapBackedSelection();
+    }
+    // the smallest long matching the lower bound, and the largest long matching the upper bound
+    double first = lowInclusive ? Math.ceil(low) : Math.floor(low) + 1;
+    double last = highInclusive ? Math.floor(high) : Math.ceil(high) - 1;
+    if (first > last || first > Long.MAX_VALUE || last < Long.MIN_VALUE) {
+      return new BitmapBackedSelection();
+    }
+    long lowValue = first <= missingValue ? missingValue + 1 : (long) first;
+    long highValue = (long) last;
+    return isBetweenInclusive(lowValue, highValue);
+  }
+
+  /** Brings the statistics up to date with the column */
+  private void sync() {
+    int size = columnSize.getAsInt();
+    if (size < rowCount) {
+      invalidateAll();
+    }
+    for (int block = staleBlocks.nextSetBit(0);
+        block >= 0;
+        block = staleBlocks.nextSetBit(block + 1)) {
+      recompute(block);
+    }
+    staleBlocks.clear();
+    while (rowCount < size) {
+      add(values.applyAsLong(rowCount));
+    }
+  }
+
+  private void add(long value) {
+    int block = rowCount / blockSize;
+    if (block == mins.size()) {
+      mins.add(Long.MAX_VALUE);
+      maxs.add(Long.MIN_VALUE);
+      missingCounts.add(0);
+    }
+    if (value == missingValue) {
+      missingCounts.set(block, missingCounts.getInt(block) + 1);
+    } else {
+      if (value < mins.getLong(block)) {
+        mins.set(block, value);
+      }
+      if (value > maxs.getLong(block)) {
+        maxs.set(block, value);
+      }
+    }
+    rowCount++;
+  }
+
+  private void recompute(int block) {
+    int start = block * blockSize;
+    int end = Math.min(start + blockSize, rowCount);
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    int missing = 0;
+    for (int row = start; row < end; row++) {
+      long value = values.applyAsLong(row);
+      if (value == missingValue) {
+        missing++;
+      } else {
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+      }
+    }
+    mins.set(block, min);
+    maxs.set(block, max);
+    missingCounts.set(block, missing);
+  }
+}
@@ -5,6 +5,7 @@ import static tech.tablesaw.columns.booleans.BooleanColumnType.*;
 import it.unimi.dsi.fastutil.bytes.ByteArrayList;
 import it.unimi.dsi.fastutil.bytes.ByteIterator;
 import java.util.BitSet;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitSetBackedSelection;
 import tech.tablesaw.selection.Selection;
 
@@ -36,9 +37,10 @@ public class BitSetBooleanData implements BooleanData {
    */
   public BitSetBooleanData(ByteArrayList values) {
     for (int i = 0; i < values.size(); i++) {
-      if (i == BYTE_TRUE) trueValues.set(i);
-      else if (i == BYTE_FALSE) falseValues.set(i);
-      else if (i == MISSING_VALUE) missingValues.set(i);
+      byte value = values.getByte(i);
+      if (value == BYTE_TRUE) trueValues.set(i);
+      else if (value == BYTE_FALSE) falseValues.set(i);
+      else if (value == MISSING_VALUE) missingValues.set(i);
     }
   }
 
@@ -226,6 +228,20 @@ public class BitSetBooleanData implements BooleanData {
     return new BitSetBackedSelection((BitSet) missingValues.clone());
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.object(3 * MemoryEstimates.REFERENCE)
+        + bitSetBytes(trueValues)
+        + bitSetBytes(falseValues)
+        + bitSetBytes(missingValues);
+  }
+
+  private static long bitSetBytes(BitSet bits) {
+    return MemoryEstimates.object(MemoryEstimates.REFERENCE + Integer.BYTES + 1)
+        + MemoryEstimates.array(bits.size() / Long.SIZE, Long.BYTES);
+  }
+
   @Override
   public String toString() {
     return this.getClass().getSimpleName()
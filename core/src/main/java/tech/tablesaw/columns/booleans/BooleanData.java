@@ -79,6 +79,9 @@ public interface BooleanData extends ByteIterable {
   /** Returns a selection matching all the missing values in the data */
   Selection isMissing();
 
+  /** Returns an estimate of the heap memory used by this data, in bytes */
+  long memoryUsage();
+
   /**
    * Returns a byte representation of the true values, encoded in the format specified in {@link
    * java.util.BitSet#toByteArray()}
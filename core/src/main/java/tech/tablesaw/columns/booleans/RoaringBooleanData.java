@@ -0,0 +1,381 @@
+package tech.tablesaw.columns.booleans;
+
+import static tech.tablesaw.columns.booleans.BooleanColumnType.*;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteIterator;
+import java.util.BitSet;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.columns.storage.MemoryEstimates;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * An implementation of BooleanData that holds the positions of the true and missing values in
+ * compressed RoaringBitmaps. Every other position up to the size of the data is false, so columns
+ * that are mostly false, like sparse flags, take very little space. Selections made from the data
+ * are backed by copies of the same bitmaps, so combining them with other selections works a
+ * container at a time rather than a row at a time
+ */
+public class RoaringBooleanData implements BooleanData {
+
+  /** The position of the true values in the data */
+  private RoaringBitmap trueValues;
+
+  /** The position of the missing values in the data */
+  private RoaringBitmap missingValues;
+
+  /** The number of values in the data */
+  private int size;
+
+  /**
+   * Constructs a RoaringBooleanData from the positions of its true and missing values. Every other
+   * position less than size is false
+   */
+  public RoaringBooleanData(RoaringBitmap trueValues, RoaringBitmap missingValues, int size) {
+    this.trueValues = trueValues;
+    this.missingValues = missingValues;
+    this.size = size;
+  }
+
+  /**
+   * Constructs a RoaringBooleanData from the given ByteArrayList
+   *
+   * @param values The values must be encoded as 0, 1, or -128 (for missing)
+   */
+  public RoaringBooleanData(ByteArrayList values) {
+    this();
+    for (int i = 0; i < values.size(); i++) {
+      add(values.getByte(i));
+    }
+  }
+
+  public RoaringBooleanData() {
+    this(new RoaringBitmap(), new RoaringBitmap(), 0);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void add(byte b) {
+    if (b == BYTE_TRUE) {
+      trueValues.add(size);
+    } else if (b == MISSING_VALUE) {
+      missingValues.add(size);
+    }
+    size++;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    trueValues.clear();
+    missingValues.clear();
+    size = 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void sortAscending() {
+    int t = trueValues.getCardinality();
+    int m = missingValues.getCardinality();
+    trueValues = RoaringBitmap.bitmapOfRange(size - t, size);
+    missingValues = RoaringBitmap.bitmapOfRange(0, m);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void sortDescending() {
+    int t = trueValues.getCardinality();
+    int m = missingValues.getCardinality();
+    trueValues = RoaringBitmap.bitmapOfRange(0, t);
+    missingValues = RoaringBitmap.bitmapOfRange(size - m, size);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public BooleanData copy() {
+    return new RoaringBooleanData(trueValues.clone(), missingValues.clone(), size);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte getByte(int i) {
+    if (trueValues.contains(i)) return BYTE_TRUE;
+    if (missingValues.contains(i)) return MISSING_VALUE;
+    return BYTE_FALSE;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countFalse() {
+    return size - countTrue() - countMissing();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countTrue() {
+    return trueValues.getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countMissing() {
+    return missingValues.getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countUnique() {
+    int unique = 0;
+    if (!trueValues.isEmpty()) unique++;
+    if (!missingValues.isEmpty()) unique++;
+    if (countFalse() > 0) unique++;
+    return unique;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] toByteArray() {
+    byte[] values = new byte[size];
+    trueValues.forEach((int i) -> values[i] = BYTE_TRUE);
+    missingValues.forEach((int i) -> values[i] = MISSING_VALUE);
+    return values;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ByteArrayList toByteArrayList() {
+    return ByteArrayList.wrap(toByteArray());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void set(int i, byte b) {
+    if (b == BYTE_TRUE) {
+      trueValues.add(i);
+      missingValues.remove(i);
+    } else if (b == BYTE_FALSE) {
+      trueValues.remove(i);
+      missingValues.remove(i);
+    } else if (b == MISSING_VALUE) {
+      trueValues.remove(i);
+      missingValues.add(i);
+    } else {
+      return;
+    }
+    size = Math.max(size, i + 1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return countMissing() == size;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean contains(byte b) {
+    if (b == BYTE_TRUE) {
+      return !trueValues.isEmpty();
+    }
+    if (b == BYTE_FALSE) {
+      return countFalse() > 0;
+    }
+    if (b == MISSING_VALUE) {
+      return !missingValues.isEmpty();
+    }
+    throw new IllegalArgumentException(
+        "The value "
+            + b
+            + " is not a legal byte representation of a boolean value. Only 0, 1, and -1 are valid.");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection asSelection() {
+    return isTrue();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isFalse() {
+    return new BitmapBackedSelection(falseValues());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isTrue() {
+    return new BitmapBackedSelection(trueValues.clone());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isMissing() {
+    return new BitmapBackedSelection(missingValues.clone());
+  }
+
+  /** Returns a selection matching all the values in the data that aren't missing */
+  public Selection isNotMissing() {
+    RoaringBitmap notMissing = RoaringBitmap.bitmapOfRange(0, size);
+    notMissing.andNot(missingValues);
+    return new BitmapBackedSelection(notMissing);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.object(2 * MemoryEstimates.REFERENCE + Integer.BYTES)
+        + trueValues.getLongSizeInBytes()
+        + missingValues.getLongSizeInBytes();
+  }
+
+  /**
+   * Converts the bitmaps to run-length encoding where that makes them smaller, and releases any
+   * spare capacity they hold. This is worthwhile once the data has been loaded, especially for long
+   * runs of true or missing values. Returns the approximate number of bytes released
+   */
+  public long trimToSize() {
+    long before = memoryUsage();
+    trueValues.runOptimize();
+    missingValues.runOptimize();
+    trueValues.trim();
+    missingValues.trim();
+    return Math.max(0, before - memoryUsage());
+  }
+
+  private RoaringBitmap falseValues() {
+    RoaringBitmap falseValues = RoaringBitmap.bitmapOfRange(0, size);
+    falseValues.andNot(trueValues);
+    falseValues.andNot(missingValues);
+    return falseValues;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+        + "{ size: "
+        + size()
+        + ", true: "
+        + countTrue()
+        + ", false: "
+        + countFalse()
+        + ", missing: "
+        + countMissing()
+        + "}";
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] falseBytes() {
+    return toBitSet(falseValues()).toByteArray();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] trueBytes() {
+    return toBitSet(trueValues).toByteArray();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] missingBytes() {
+    return toBitSet(missingValues).toByteArray();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setTrueBytes(byte[] bytes) {
+    trueValues = fromBitSet(BitSet.valueOf(bytes));
+    size = Math.max(size, end(trueValues));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setFalseBytes(byte[] bytes) {
+    RoaringBitmap falseValues = fromBitSet(BitSet.valueOf(bytes));
+    trueValues.andNot(falseValues);
+    missingValues.andNot(falseValues);
+    size = Math.max(size, end(falseValues));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setMissingBytes(byte[] bytes) {
+    missingValues = fromBitSet(BitSet.valueOf(bytes));
+    size = Math.max(size, end(missingValues));
+  }
+
+  private static BitSet toBitSet(RoaringBitmap bitmap) {
+    BitSet bits = new BitSet();
+    bitmap.forEach((int i) -> bits.set(i));
+    return bits;
+  }
+
+  private static RoaringBitmap fromBitSet(BitSet bits) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      bitmap.add(i);
+    }
+    return bitmap;
+  }
+
+  /** Returns one more than the last position in the bitmap, or 0 if it's empty */
+  private static int end(RoaringBitmap bitmap) {
+    return bitmap.isEmpty() ? 0 : bitmap.last() + 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ByteIterator iterator() {
+    return new RoaringByteIterator(this);
+  }
+
+  /** Iterates over the data in order, stepping through the true and missing bitmaps together */
+  static class RoaringByteIterator implements ByteIterator {
+
+    private final int size;
+    private final IntIterator trueRows;
+    private final IntIterator missingRows;
+    private int nextTrue;
+    private int nextMissing;
+    private int current = -1;
+
+    RoaringByteIterator(RoaringBooleanData data) {
+      this.size = data.size;
+      this.trueRows = data.trueValues.getIntIterator();
+      this.missingRows = data.missingValues.getIntIterator();
+      this.nextTrue = next(trueRows);
+      this.nextMissing = next(missingRows);
+    }
+
+    private static int next(IntIterator rows) {
+      return rows.hasNext() ? rows.next() : -1;
+    }
+
+    @Override
+    public byte nextByte() {
+      current++;
+      if (current == nextTrue) {
+        nextTrue = next(trueRows);
+        return BYTE_TRUE;
+      }
+      if (current == nextMissing) {
+        nextMissing = next(missingRows);
+        return MISSING_VALUE;
+      }
+      return BYTE_FALSE;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return current < size - 1;
+    }
+  }
+}
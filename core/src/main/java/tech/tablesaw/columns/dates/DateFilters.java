@@ -9,10 +9,13 @@ import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ColumnStats;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.filtering.DateAndDateTimeFilterSpec;
 import tech.tablesaw.filtering.predicates.IntBiPredicate;
-import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.index.IntIndex;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpec<Selection> {
 
@@ -24,53 +27,60 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
    * developer understand the semantics of packedLocalTimes
    */
   default Selection eval(IntPredicate predicate) {
-    Selection selection = new BitmapBackedSelection();
-    IntIterator iterator = intIterator();
-    int idx = 0;
-    while (iterator.hasNext()) {
-      int next = iterator.nextInt();
-      if (predicate.test(next)) {
-        selection.add(idx);
-      }
-      idx++;
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getIntInternal(idx)));
   }
 
   default Selection eval(IntBiPredicate predicate, int value) {
-    Selection selection = new BitmapBackedSelection();
-    IntIterator iterator = intIterator();
-    int idx = 0;
-    while (iterator.hasNext()) {
-      int next = iterator.nextInt();
-      if (predicate.test(next, value)) {
-        selection.add(idx);
-      }
-      idx++;
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getIntInternal(idx), value));
   }
 
   default Selection eval(IntBiPredicate predicate, DateColumn otherColumn) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(getIntInternal(idx), otherColumn.getIntInternal(idx))) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(
+        size(), idx -> predicate.test(getIntInternal(idx), otherColumn.getIntInternal(idx)));
   }
 
   int getIntInternal(int idx);
 
-  default Selection eval(BiPredicate<LocalDate, LocalDate> predicate, LocalDate valueToCompare) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx), valueToCompare)) {
-        selection.add(idx);
-      }
+  /**
+   * Returns the {@link ZoneMap} used to speed up range filters on this column, or null if this
+   * column doesn't maintain one
+   */
+  ZoneMap zoneMap();
+
+  /**
+   * Returns a selection of the rows whose packed values are greater than or equal to low and less
+   * than or equal to high. The column's index is used if there is one, then a binary search if the
+   * column is sorted, and otherwise its zone map
+   */
+  default Selection evalRange(long low, long high) {
+    if (index() instanceof IntIndex) {
+      int lowValue = (int) Math.max(low, Integer.MIN_VALUE);
+      int highValue = (int) Math.min(high, Integer.MAX_VALUE);
+      return ((IntIndex) index()).between(lowValue, highValue);
     }
-    return selection;
+    ColumnStats<LocalDate> stats = columnStats();
+    if (stats.isAscending() || stats.isDescending()) {
+      return SelectionEvaluator.evalSorted(
+          size(),
+          stats.isAscending(),
+          idx -> {
+            int value = getIntInternal(idx);
+            return value < low ? -1 : value > high ? 1 : 0;
+          });
+    }
+    if (zoneMap() != null) {
+      return zoneMap().isBetweenInclusive(low, high);
+    }
+    return SelectionEvaluator.eval(
+        size(),
+        idx -> {
+          int value = getIntInternal(idx);
+          return value >= low && value <= high;
+        });
+  }
+
+  default Selection eval(BiPredicate<LocalDate, LocalDate> predicate, LocalDate valueToCompare) {
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx), valueToCompare));
   }
 
   /**
@@ -80,13 +90,7 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
    * object for each value in the column
    */
   default Selection eval(Predicate<LocalDate> predicate) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx))) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx)));
   }
 
   default Selection isMonday() {
@@ -194,20 +198,19 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isAfter(int value) {
-    return eval(PackedLocalDate::isAfter, value);
+    return evalRange(value + 1L, Integer.MAX_VALUE);
   }
 
   default Selection isAfter(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(PackedLocalDate::isAfter, packed);
+    return isAfter(PackedLocalDate.pack(value));
   }
 
   default Selection isBefore(int value) {
-    return eval(PackedLocalDate::isBefore, value);
+    return evalRange(Integer.MIN_VALUE, value - 1L);
   }
 
   default Selection isBetweenExcluding(int lowValue, int highValue) {
-    return eval(PackedLocalDate::isAfter, lowValue).and(eval(PackedLocalDate::isBefore, highValue));
+    return evalRange(lowValue + 1L, highValue - 1L);
   }
 
   default Selection isBetweenExcluding(LocalDate lowValue, LocalDate highValue) {
@@ -219,8 +222,7 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isBetweenIncluding(int lowValue, int highValue) {
-    return eval(PackedLocalDate::isOnOrAfter, lowValue)
-        .and(eval(PackedLocalDate::isOnOrBefore, highValue));
+    return evalRange(lowValue, highValue);
   }
 
   default Selection isBefore(LocalDate value) {
@@ -228,21 +230,19 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isOnOrBefore(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(PackedLocalDate::isOnOrBefore, packed);
+    return evalRange(Integer.MIN_VALUE, PackedLocalDate.pack(value));
   }
 
   default Selection isOnOrAfter(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(isGreaterThanOrEqualTo, packed);
+    return evalRange(PackedLocalDate.pack(value), Integer.MAX_VALUE);
   }
 
   default Selection isEqualTo(LocalDate value) {
-    return eval(isEqualTo, PackedLocalDate.pack(value));
+    return isEqualTo(PackedLocalDate.pack(value));
   }
 
   default Selection isEqualTo(int packedDate) {
-    return eval(isEqualTo, packedDate);
+    return evalRange(packedDate, packedDate);
   }
 
   default Selection isNotEqualTo(int packedDate) {
@@ -258,13 +258,7 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
    * in the given column Column-wise isEqualTo.
    */
   default Selection isEqualTo(DateColumn column) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (getIntInternal(i) == column.getIntInternal(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> getIntInternal(i) == column.getIntInternal(i));
   }
 
   default Selection isNotEqualTo(DateColumn column) {
@@ -283,23 +277,11 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isAfter(DateColumn column) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (getIntInternal(i) > column.getIntInternal(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> getIntInternal(i) > column.getIntInternal(i));
   }
 
   default Selection isBefore(DateColumn column) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (getIntInternal(i) < column.getIntInternal(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> getIntInternal(i) < column.getIntInternal(i));
   }
 
   @Override
@@ -23,9 +23,12 @@ import java.util.Collection;
 import java.util.function.BiPredicate;
 import java.util.function.DoublePredicate;
 import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.ColumnStats;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.filtering.NumberFilterSpec;
-import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.index.Index;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 public interface NumberFilters extends NumberFilterSpec<Selection> {
 
@@ -33,7 +36,29 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
 
   Selection eval(BiPredicate<Number, Number> predicate, Number value);
 
+  /**
+   * Returns the {@link ZoneMap} used to speed up range filters on this column, or null if this
+   * column doesn't maintain one
+   */
+  default ZoneMap zoneMap() {
+    return null;
+  }
+
+  /** Returns the index on this column, or null if the column isn't indexed */
+  Index index();
+
+  /** Returns the statistics cached for this column */
+  ColumnStats<?> columnStats();
+
   default Selection isEqualTo(double d) {
+    Selection indexed = indexLookup(d);
+    if (indexed != null) {
+      return indexed;
+    }
+    Selection ranged = rangeLookup(d, true, d, true);
+    if (ranged != null) {
+      return ranged;
+    }
     return eval(NumberPredicates.isEqualTo(d));
   }
 
@@ -42,26 +67,50 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
   }
 
   default Selection isBetweenExclusive(double start, double end) {
+    Selection ranged = rangeLookup(start, false, end, false);
+    if (ranged != null) {
+      return ranged;
+    }
     return eval(NumberPredicates.isBetweenExclusive(start, end));
   }
 
   default Selection isBetweenInclusive(double start, double end) {
+    Selection ranged = rangeLookup(start, true, end, true);
+    if (ranged != null) {
+      return ranged;
+    }
     return eval(NumberPredicates.isBetweenInclusive(start, end));
   }
 
   default Selection isGreaterThan(double f) {
+    Selection ranged = rangeLookup(f, false, Double.POSITIVE_INFINITY, true);
+    if (ranged != null) {
+      return ranged;
+    }
     return eval(NumberPredicates.isGreaterThan(f));
   }
 
   default Selection isGreaterThanOrEqualTo(double f) {
+    Selection ranged = rangeLookup(f, true, Double.POSITIVE_INFINITY, true);
+    if (ranged != null) {
+      return ranged;
+    }
     return eval(NumberPredicates.isGreaterThanOrEqualTo(f));
   }
 
   default Selection isLessThan(double f) {
+    Selection ranged = rangeLookup(Double.NEGATIVE_INFINITY, true, f, false);
+    if (ranged != null) {
+      return ranged;
+    }
     return eval(NumberPredicates.isLessThan(f));
   }
 
   default Selection isLessThanOrEqualTo(double f) {
+    Selection ranged = rangeLookup(Double.NEGATIVE_INFINITY, true, f, true);
+    if (ranged != null) {
+      return ranged;
+    }
     return eval(NumberPredicates.isLessThanOrEqualTo(f));
   }
 
@@ -87,16 +136,14 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
 
   // TODO(lwhite): see section in Effective Java on double point comparisons.
   default Selection isCloseTo(Number target, Number margin) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      double targetValue = target.doubleValue();
-      double marginValue = margin.doubleValue();
-      double val = getDouble(i);
-      if (val > targetValue - marginValue && val < targetValue + marginValue) {
-        results.add(i);
-      }
-    }
-    return results;
+    double targetValue = target.doubleValue();
+    double marginValue = margin.doubleValue();
+    return SelectionEvaluator.eval(
+        size(),
+        i -> {
+          double val = getDouble(i);
+          return val > targetValue - marginValue && val < targetValue + marginValue;
+        });
   }
 
   Selection isMissing();
@@ -106,66 +153,71 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
   // Column filters
 
   default Selection isGreaterThan(NumericColumn<?> d) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (this.getDouble(i) > d.getDouble(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> this.getDouble(i) > d.getDouble(i));
   }
 
   default Selection isGreaterThanOrEqualTo(NumericColumn<?> d) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (this.getDouble(i) >= d.getDouble(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> this.getDouble(i) >= d.getDouble(i));
   }
 
   default Selection isEqualTo(NumericColumn<?> d) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (this.getDouble(i) == d.getDouble(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> this.getDouble(i) == d.getDouble(i));
   }
 
   int size();
 
   double getDouble(int i);
 
-  default Selection isNotEqualTo(NumericColumn<?> d) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (this.getDouble(i) != d.getDouble(i)) {
-        results.add(i);
-      }
+  /**
+   * Returns the rows whose values are between low and high, or null if they can only be found by
+   * testing every row. A binary search is used if the column is sorted, and otherwise its zone map
+   * if it has one. Missing values are never matched
+   */
+  default Selection rangeLookup(
+      double low, boolean lowInclusive, double high, boolean highInclusive) {
+    ColumnStats<?> stats = columnStats();
+    if (!Double.isNaN(low)
+        && !Double.isNaN(high)
+        && (stats.isAscending() || stats.isDescending())) {
+      return SelectionEvaluator.evalSorted(
+          size(),
+          stats.isAscending(),
+          i -> {
+            double value = getDouble(i);
+            if (value < low || (value == low && !lowInclusive)) {
+              return -1;
+            }
+            // missing values sort after every other value
+            if (Double.isNaN(value) || value > high || (value == high && !highInclusive)) {
+              return 1;
+            }
+            return 0;
+          });
+    }
+    if (zoneMap() != null) {
+      return zoneMap().isBetween(low, lowInclusive, high, highInclusive);
     }
-    return results;
+    return null;
+  }
+
+  /**
+   * Returns the rows equal to the given value using this column's index, or null if the column has
+   * no index that can answer the lookup. Missing values are never matched
+   */
+  default Selection indexLookup(double d) {
+    Index index = index();
+    return index == null ? null : index.getNumeric(d);
+  }
+
+  default Selection isNotEqualTo(NumericColumn<?> d) {
+    return SelectionEvaluator.eval(size(), i -> this.getDouble(i) != d.getDouble(i));
   }
 
   default Selection isLessThan(NumericColumn<?> d) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (this.getDouble(i) < d.getDouble(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> this.getDouble(i) < d.getDouble(i));
   }
 
   default Selection isLessThanOrEqualTo(NumericColumn<?> d) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (this.getDouble(i) <= d.getDouble(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> this.getDouble(i) <= d.getDouble(i));
   }
 }
@@ -0,0 +1,257 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A growable sequence of fixed-width values held outside the Java heap, in a series of buffers
+ * called segments. Every segment except possibly the last holds {@link #SEGMENT_ELEMENTS} values,
+ * so growing never copies more than one segment, and no single buffer has to be larger than the 2GB
+ * a ByteBuffer can address.
+ *
+ * <p>Values are stored little-endian, so mapped files can be read on any platform.
+ */
+abstract class BufferSegments {
+
+  static final int SEGMENT_SHIFT = 20;
+
+  /** The number of values held by each full segment */
+  static final int SEGMENT_ELEMENTS = 1 << SEGMENT_SHIFT;
+
+  private static final int SEGMENT_MASK = SEGMENT_ELEMENTS - 1;
+
+  /** The width of each value in bytes */
+  final int elementBytes;
+
+  private ByteBuffer[] segments = new ByteBuffer[0];
+
+  /** The number of values the last segment has room for */
+  private int lastSegmentCapacity;
+
+  private int size;
+
+  BufferSegments(int elementBytes) {
+    this.elementBytes = elementBytes;
+  }
+
+  /** Returns segments that allocate their buffers with {@link ByteBuffer#allocateDirect(int)} */
+  static BufferSegments direct(int elementBytes) {
+    return new Direct(elementBytes);
+  }
+
+  /**
+   * Returns segments mapped from the given file, which is created if it doesn't exist. If it does,
+   * the values already in it are kept. The type names the kind of value held, and is recorded in
+   * the file so it can't be reopened as a column of another type
+   */
+  static BufferSegments mapped(int elementBytes, char type, Path file) {
+    return new Mapped(elementBytes, type, file);
+  }
+
+  int size() {
+    return size;
+  }
+
+  void setSize(int size) {
+    this.size = size;
+  }
+
+  /** Returns the buffer holding the value at the given index */
+  final ByteBuffer segment(int index) {
+    return segments[index >>> SEGMENT_SHIFT];
+  }
+
+  /** Returns the position of the value at the given index in its segment */
+  final int position(int index) {
+    return (index & SEGMENT_MASK) * elementBytes;
+  }
+
+  /** Makes sure there is room for at least the given number of values */
+  final void ensureCapacity(int elements) {
+    long capacity = capacity();
+    if (elements <= capacity) {
+      return;
+    }
+    int lastSegment = segments.length - 1;
+    if (lastSegment >= 0 && lastSegmentCapacity < SEGMENT_ELEMENTS) {
+      // grow the partial last segment first, doubling it so appends copy each value a few times
+      int needed =
+          (int) Math.min(elements - (long) lastSegment * SEGMENT_ELEMENTS, SEGMENT_ELEMENTS);
+      int newCapacity = Math.min(Math.max(needed, lastSegmentCapacity * 2), SEGMENT_ELEMENTS);
+      segments[lastSegment] = allocate(lastSegment, newCapacity, segments[lastSegment]);
+      lastSegmentCapacity = newCapacity;
+    }
+    while (capacity() < elements) {
+      int index = segments.length;
+      long remaining = elements - (long) index * SEGMENT_ELEMENTS;
+      int segmentCapacity = initialCapacity((int) Math.min(remaining, SEGMENT_ELEMENTS));
+      segments = Arrays.copyOf(segments, index + 1);
+      segments[index] = allocate(index, segmentCapacity, null);
+      lastSegmentCapacity = segmentCapacity;
+    }
+  }
+
+  private long capacity() {
+    if (segments.length == 0) {
+      return 0;
+    }
+    return (long) (segments.length - 1) * SEGMENT_ELEMENTS + lastSegmentCapacity;
+  }
+
+  /** Returns the approximate number of bytes of memory held by the segments */
+  long memoryUsage() {
+    long bytes =
+        MemoryEstimates.object(Integer.BYTES * 3 + MemoryEstimates.REFERENCE)
+            + MemoryEstimates.array(segments.length, MemoryEstimates.REFERENCE);
+    for (ByteBuffer segment : segments) {
+      bytes += segment.capacity();
+    }
+    return bytes;
+  }
+
+  /** Returns the capacity of a new segment that must hold at least the given number of values */
+  abstract int initialCapacity(int needed);
+
+  /**
+   * Returns a buffer for the segment with the given index, with room for the given number of
+   * values. If a previous buffer for the segment is given, its contents are copied to the new one
+   */
+  abstract ByteBuffer allocate(int segmentIndex, int capacity, ByteBuffer previous);
+
+  /** Segments allocated from direct memory */
+  private static final class Direct extends BufferSegments {
+
+    private static final int MIN_SEGMENT_ELEMENTS = 1 << 10;
+
+    Direct(int elementBytes) {
+      super(elementBytes);
+    }
+
+    @Override
+    int initialCapacity(int needed) {
+      return Math.max(needed, MIN_SEGMENT_ELEMENTS);
+    }
+
+    @Override
+    ByteBuffer allocate(int segmentIndex, int capacity, ByteBuffer previous) {
+      ByteBuffer buffer =
+          ByteBuffer.allocateDirect(capacity * elementBytes).order(ByteOrder.LITTLE_ENDIAN);
+      if (previous != null) {
+        ByteBuffer source = previous.duplicate();
+        source.clear();
+        buffer.put(source);
+        buffer.clear();
+      }
+      return buffer;
+    }
+  }
+
+  /**
+   * Segments mapped from a file. The file starts with a sixteen byte header holding the type of the
+   * values and the number of values, followed by the values themselves.
+   *
+   * <p>The file is only open while a part of it is being mapped. A mapping stays valid after the
+   * channel used to create it is closed, and is released when its buffer is garbage collected, so
+   * no file handle is held for the life of the column.
+   */
+  private static final class Mapped extends BufferSegments {
+
+    private static final int TYPE_OFFSET = 0;
+    private static final int SIZE_OFFSET = Long.BYTES;
+    private static final int HEADER_BYTES = Long.BYTES * 2;
+
+    private final Path file;
+    private final MappedByteBuffer header;
+
+    Mapped(int elementBytes, char type, Path file) {
+      super(elementBytes);
+      this.file = file;
+      try (FileChannel channel = open(file)) {
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      long existingType = header.getLong(TYPE_OFFSET);
+      long existing = header.getLong(SIZE_OFFSET);
+      if (existingType == 0 && existing == 0) {
+        header.putLong(TYPE_OFFSET, type);
+      } else if (existingType != type) {
+        throw new IllegalStateException(
+            "File "
+                + file
+                + " does not hold a column of type "
+                + type
+                + ", its header gives a type of "
+                + (char) existingType);
+      }
+      if (existing < 0 || existing > Integer.MAX_VALUE) {
+        throw new IllegalStateException(
+            "File " + file + " does not hold a column, its header gives a size of " + existing);
+      }
+      ensureCapacity((int) existing);
+      super.setSize((int) existing);
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+      return FileChannel.open(
+          file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    void setSize(int size) {
+      super.setSize(size);
+      header.putLong(SIZE_OFFSET, size);
+    }
+
+    @Override
+    long memoryUsage() {
+      // the operating system holds the pages of a mapped file, and can drop them when memory is
+      // short
+      return MemoryEstimates.object(Integer.BYTES * 3 + MemoryEstimates.REFERENCE * 4);
+    }
+
+    @Override
+    int initialCapacity(int needed) {
+      // mapping whole segments lets the file grow without remapping, and the operating system
+      // only commits the pages that are written
+      return SEGMENT_ELEMENTS;
+    }
+
+    @Override
+    ByteBuffer allocate(int segmentIndex, int capacity, ByteBuffer previous) {
+      long segmentBytes = (long) SEGMENT_ELEMENTS * elementBytes;
+      try (FileChannel channel = open(file)) {
+        return channel
+            .map(
+                FileChannel.MapMode.READ_WRITE,
+                HEADER_BYTES + segmentIndex * segmentBytes,
+                (long) capacity * elementBytes)
+            .order(ByteOrder.LITTLE_ENDIAN);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The fixed-size chunks holding the values of {@link IntChunkedList}, {@link LongChunkedList} and
+ * {@link DoubleChunkedList}, which differ only in the type of their chunks. Every chunk but the
+ * last is always full size, so only the last chunk ever grows. Chunks can be shared between lists,
+ * and a shared chunk is copied the first time it's written to.
+ *
+ * @param <A> the primitive array type of a chunk
+ */
+abstract class Chunks<A> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Chunks hold 2^16 values, the same number of rows as each container in a selection's bitmap, so
+   * the parallel filter evaluation in {@link tech.tablesaw.selection.SelectionEvaluator} reads
+   * whole chunks
+   */
+  static final int CHUNK_SHIFT = 16;
+
+  static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+  static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private Object[] chunks = new Object[0];
+
+  /** The chunks that are also referenced by another list, and must be copied before writing */
+  private final BitSet shared = new BitSet();
+
+  private int size;
+
+  /** Returns a new chunk holding the given number of zeros */
+  abstract A newChunk(int length);
+
+  abstract int length(A chunk);
+
+  /** Returns the size of a value in bytes */
+  abstract int elementBytes();
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Throws an exception like the one fastutil's array lists throw if the index isn't in the list
+   */
+  void checkIndex(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index (" + index + ") is negative");
+    }
+    if (index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index (" + index + ") is greater than or equal to list size (" + size + ")");
+    }
+  }
+
+  /** Returns the chunk holding the given index, which must not be written to */
+  @SuppressWarnings("unchecked")
+  final A chunk(int index) {
+    return (A) chunks[index >>> CHUNK_SHIFT];
+  }
+
+  /**
+   * Returns the chunk holding the given index, copying it first if it's shared with another list
+   */
+  final A writableChunk(int index) {
+    return writable(index >>> CHUNK_SHIFT);
+  }
+
+  @SuppressWarnings("unchecked")
+  private A writable(int chunkIndex) {
+    A chunk = (A) chunks[chunkIndex];
+    if (shared.get(chunkIndex)) {
+      chunk = copyOf(chunk, length(chunk));
+      chunks[chunkIndex] = chunk;
+      shared.clear(chunkIndex);
+    }
+    return chunk;
+  }
+
+  private A copyOf(A chunk, int length) {
+    A copy = newChunk(length);
+    System.arraycopy(chunk, 0, copy, 0, Math.min(length(chunk), length));
+    return copy;
+  }
+
+  /** Makes sure there is room for at least the given number of values */
+  @SuppressWarnings("unchecked")
+  private void ensureCapacity(int capacity) {
+    int lastChunk = (capacity - 1) >>> CHUNK_SHIFT;
+    int needed = ((capacity - 1) & CHUNK_MASK) + 1;
+    if (lastChunk < chunks.length && length((A) chunks[lastChunk]) >= needed) {
+      return;
+    }
+    if (lastChunk >= chunks.length) {
+      int first = chunks.length;
+      if (first > 0 && length((A) chunks[first - 1]) < CHUNK_SIZE) {
+        chunks[first - 1] = copyOf(writable(first - 1), CHUNK_SIZE);
+      }
+      chunks = Arrays.copyOf(chunks, lastChunk + 1);
+      for (int i = first; i < lastChunk; i++) {
+        chunks[i] = newChunk(CHUNK_SIZE);
+      }
+      chunks[lastChunk] = newChunk(Math.max(needed, 16));
+    } else {
+      int length = Math.min(Math.max(needed, length((A) chunks[lastChunk]) * 2), CHUNK_SIZE);
+      chunks[lastChunk] = copyOf(writable(lastChunk), length);
+    }
+  }
+
+  /**
+   * Adds room for the given number of values at the end, which must all fit in the last chunk, and
+   * returns that chunk so the caller can write them
+   */
+  final A grow(int count) {
+    int start = size;
+    ensureCapacity(start + count);
+    size += count;
+    return writableChunk(start);
+  }
+
+  /** Changes the size, filling any new values with zeros */
+  void setSize(int newSize) {
+    if (newSize > size) {
+      A zeros = newChunk(Math.min(newSize - size, CHUNK_SIZE));
+      while (size < newSize) {
+        int offset = size & CHUNK_MASK;
+        int count = Math.min(newSize - size, CHUNK_SIZE - offset);
+        System.arraycopy(zeros, 0, grow(count), offset, count);
+      }
+    } else {
+      int chunkCount = (newSize + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+      chunks = Arrays.copyOf(chunks, chunkCount);
+      shared.clear(chunkCount, Math.max(chunkCount, shared.length()));
+      size = newSize;
+    }
+  }
+
+  /** Copies a range of values into the given array */
+  void getElements(int from, A a, int offset, int length) {
+    if (from < 0 || length < 0 || from + length > size) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + from + ", " + (from + length) + ") of size " + size);
+    }
+    while (length > 0) {
+      int chunkOffset = from & CHUNK_MASK;
+      int count = Math.min(length, CHUNK_SIZE - chunkOffset);
+      System.arraycopy(chunk(from), chunkOffset, a, offset, count);
+      from += count;
+      offset += count;
+      length -= count;
+    }
+  }
+
+  /**
+   * Appends the full chunks of the other chunks by sharing them, if these chunks are all full, and
+   * returns the number of values appended
+   */
+  int shareFullChunks(Chunks<A> other) {
+    if ((size & CHUNK_MASK) != 0) {
+      return 0;
+    }
+    int fullChunks = other.size >>> CHUNK_SHIFT;
+    int first = size >>> CHUNK_SHIFT;
+    chunks = Arrays.copyOf(chunks, first + fullChunks);
+    for (int i = 0; i < fullChunks; i++) {
+      chunks[first + i] = other.chunks[i];
+      shared.set(first + i);
+      other.shared.set(i);
+    }
+    size += fullChunks << CHUNK_SHIFT;
+    return fullChunks << CHUNK_SHIFT;
+  }
+
+  @SuppressWarnings("unchecked")
+  long memoryUsage() {
+    // chunks shared with another list are counted by both
+    long bytes =
+        MemoryEstimates.object(Integer.BYTES + MemoryEstimates.REFERENCE * 2)
+            + MemoryEstimates.array(chunks.length, MemoryEstimates.REFERENCE);
+    for (Object chunk : chunks) {
+      if (chunk != null) {
+        bytes += MemoryEstimates.array(length((A) chunk), elementBytes());
+      }
+    }
+    return bytes;
+  }
+}
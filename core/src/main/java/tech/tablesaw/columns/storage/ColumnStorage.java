@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.nio.file.Path;
+
+/**
+ * Decides where and how the values of a primitive column are kept. Columns created with the default
+ * factory methods keep their values in a single array on the Java heap. Passing another storage to
+ * a column's {@code create(String, ColumnStorage)} method keeps them in chunks or compressed
+ * instead, or outside the heap, where they are neither limited by the maximum heap size nor traced
+ * by the garbage collector:
+ *
+ * <pre>
+ * DoubleColumn prices = DoubleColumn.create("price", ColumnStorage.offHeap());
+ * LongColumn ids = LongColumn.create("id", ColumnStorage.mapped(Paths.get("ids.col")));
+ * </pre>
+ *
+ * <p>The column API is the same whatever the storage. Only the column itself uses the chosen
+ * storage: copies, filtered subsets and other derived columns are created on the heap.
+ */
+public interface ColumnStorage {
+
+  /** Returns a new, empty list of doubles */
+  DoubleList doubleList();
+
+  /** Returns a new, empty list of ints */
+  IntList intList();
+
+  /** Returns a new, empty list of longs */
+  LongList longList();
+
+  /** Returns the default storage, which keeps values in arrays on the heap */
+  static ColumnStorage onHeap() {
+    return new ColumnStorage() {
+      @Override
+      public DoubleList doubleList() {
+        return new DoubleArrayList();
+      }
+
+      @Override
+      public IntList intList() {
+        return new IntArrayList();
+      }
+
+      @Override
+      public LongList longList() {
+        return new LongArrayList();
+      }
+    };
+  }
+
+  /**
+   * Returns storage that keeps values on the heap in chunks of 65,536 values rather than in a
+   * single array. Appending never copies the values already in the column, so loading a very large
+   * column doesn't need a second copy of it while the array grows. Appending one chunked column to
+   * another shares the full chunks of the appended column rather than copying them; a shared chunk
+   * is copied the first time either column changes it
+   */
+  static ColumnStorage chunked() {
+    return new ColumnStorage() {
+      @Override
+      public DoubleList doubleList() {
+        return new DoubleChunkedList();
+      }
+
+      @Override
+      public IntList intList() {
+        return new IntChunkedList();
+      }
+
+      @Override
+      public LongList longList() {
+        return new LongChunkedList();
+      }
+    };
+  }
+
+  /**
+   * Returns storage that compresses values on the heap. Int and long values, including those of
+   * date, date-time and instant columns, are kept in encoded blocks of 1,024 values, each using
+   * whichever of bit-packing, delta or run-length encoding is smallest for it, so small ids,
+   * steadily increasing timestamps and long runs of the same value take a fraction of their usual
+   * space. Any value can still be read without decoding the rest of its block, and range filters
+   * and sums use the block headers to skip most of the decoding. Changing a value re-encodes its
+   * block, so compressed storage suits columns that are mostly appended to and read.
+   *
+   * <p>Doubles don't compress this way and are kept in an array as usual.
+   */
+  static ColumnStorage compressed() {
+    return new ColumnStorage() {
+      @Override
+      public DoubleList doubleList() {
+        return new DoubleArrayList();
+      }
+
+      @Override
+      public IntList intList() {
+        return new IntEncodedList();
+      }
+
+      @Override
+      public LongList longList() {
+        return new LongEncodedList();
+      }
+    };
+  }
+
+  /**
+   * Returns storage that keeps values in direct byte buffers outside the heap. The memory is
+   * released when the column is garbage collected
+   */
+  static ColumnStorage offHeap() {
+    return new ColumnStorage() {
+      @Override
+      public DoubleList doubleList() {
+        return new DoubleBufferList(BufferSegments.direct(Double.BYTES));
+      }
+
+      @Override
+      public IntList intList() {
+        return new IntBufferList(BufferSegments.direct(Integer.BYTES));
+      }
+
+      @Override
+      public LongList longList() {
+        return new LongBufferList(BufferSegments.direct(Long.BYTES));
+      }
+    };
+  }
+
+  /**
+   * Returns storage that keeps values in the given file, which is mapped into memory so the
+   * operating system pages values in and out as they're used. The file is created if it doesn't
+   * exist. If it does, the column starts out holding the values already written to it, so a column
+   * built once can be reopened later without parsing or loading it.
+   *
+   * <p>The file holds the values of a single column, so the returned storage can create only one
+   * list, and the file records the type of its values so it can't be reopened as a column of
+   * another type. Changes to the column are written through to the file, and the operating system
+   * flushes them to disk in the background. The file is only kept open while it's being mapped, and
+   * the mapped memory is released when the column is garbage collected.
+   */
+  static ColumnStorage mapped(Path file) {
+    return new MappedStorage(file);
+  }
+}
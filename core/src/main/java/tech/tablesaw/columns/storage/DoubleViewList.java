@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import it.unimi.dsi.fastutil.doubles.AbstractDoubleList;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * A list of doubles that reads through to some of the values in another list, either those at an
+ * array of indexes or those in a range. The values are copied into a list of this view's own the
+ * first time the view is changed, so changing a view never changes the list it was taken from
+ */
+final class DoubleViewList extends AbstractDoubleList implements RandomAccess, HeapSized {
+
+  /**
+   * Returns the list this view reads through to. It is asked for the list on every read, so the
+   * view follows the owning column when it replaces its list, as it does when it stops sharing it
+   * with a copy
+   */
+  private Supplier<? extends DoubleList> source;
+
+  /** The indexes of the viewed values in the source, or null when the view is a range */
+  private int[] rows;
+
+  private int start;
+  private int size;
+
+  /** The values of this view once it has been changed, or null until then */
+  private DoubleArrayList copy;
+
+  DoubleViewList(Supplier<? extends DoubleList> source, int[] rows) {
+    this.source = source;
+    this.rows = rows;
+    this.size = rows.length;
+  }
+
+  DoubleViewList(Supplier<? extends DoubleList> source, int start, int end) {
+    this.source = source;
+    this.start = start;
+    this.size = end - start;
+  }
+
+  @Override
+  public int size() {
+    return copy == null ? size : copy.size();
+  }
+
+  @Override
+  public double getDouble(int index) {
+    if (copy != null) {
+      return copy.getDouble(index);
+    }
+    ensureRestrictedIndex(index);
+    return source.get().getDouble(rows == null ? start + index : rows[index]);
+  }
+
+  @Override
+  public void getElements(int from, double[] a, int offset, int length) {
+    if (copy != null) {
+      copy.getElements(from, a, offset, length);
+    } else if (rows == null) {
+      source.get().getElements(start + from, a, offset, length);
+    } else {
+      DoubleList values = source.get();
+      for (int i = 0; i < length; i++) {
+        a[offset + i] = values.getDouble(rows[from + i]);
+      }
+    }
+  }
+
+  /** Copies the viewed values so they can be changed without changing the source */
+  private DoubleArrayList materialize() {
+    if (copy == null) {
+      double[] values = new double[size];
+      getElements(0, values, 0, size);
+      copy = DoubleArrayList.wrap(values);
+      source = null;
+      rows = null;
+    }
+    return copy;
+  }
+
+  @Override
+  public double set(int index, double value) {
+    return materialize().set(index, value);
+  }
+
+  @Override
+  public boolean add(double value) {
+    return materialize().add(value);
+  }
+
+  @Override
+  public void add(int index, double value) {
+    materialize().add(index, value);
+  }
+
+  @Override
+  public double removeDouble(int index) {
+    return materialize().removeDouble(index);
+  }
+
+  @Override
+  public void removeElements(int from, int to) {
+    materialize().removeElements(from, to);
+  }
+
+  @Override
+  public void size(int size) {
+    materialize().size(size);
+  }
+
+  @Override
+  public void clear() {
+    materialize().clear();
+  }
+
+  @Override
+  public long memoryUsage() {
+    // the rows of a view are usually shared by the views of every column in a slice, but are
+    // counted by each
+    long bytes = MemoryEstimates.object(Integer.BYTES * 2 + MemoryEstimates.REFERENCE * 3);
+    if (copy != null) {
+      return bytes + MemoryEstimates.of(copy);
+    }
+    return rows == null ? bytes : bytes + MemoryEstimates.array(rows.length, Integer.BYTES);
+  }
+}
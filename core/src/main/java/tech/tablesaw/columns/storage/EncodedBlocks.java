@@ -0,0 +1,677 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import java.util.Arrays;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * A growable sequence of integer values held in compressed blocks of {@link #BLOCK_SIZE} values.
+ * Each full block is encoded on its own, with whichever of these encodings is smallest for it:
+ *
+ * <ul>
+ *   <li>{@link #PACKED}: frame of reference. Each value is stored as its distance from the smallest
+ *       value in the block, using only as many bits as the largest distance needs. A block where
+ *       every value is the same takes no bits at all
+ *   <li>{@link #LINEAR}: delta from a straight line. Each value is stored as its distance from a
+ *       line through the first and last values of the block, so steadily increasing values like
+ *       timestamps take a few bits each, but any value can still be read without reading the ones
+ *       before it
+ *   <li>{@link #RUNS}: run-length encoding. Each run of equal values is stored once, with the
+ *       position where it ends
+ * </ul>
+ *
+ * <p>The missing value, which is the smallest value of the column's type, is stored as an exception
+ * listing its positions in the block, so it doesn't widen the encoding of the other values.
+ *
+ * <p>Every block keeps a small header with its encoding and the minimum and maximum of its values,
+ * which lets range filters and aggregations skip or accept whole blocks without decoding them. The
+ * last, partial block is held uncompressed until it fills up.
+ */
+final class EncodedBlocks {
+
+  static final int BLOCK_SHIFT = 10;
+
+  /** The number of values in each encoded block */
+  static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+  private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+  static final byte PACKED = 0;
+  static final byte LINEAR = 1;
+  static final byte RUNS = 2;
+
+  /** The value used to represent a missing value */
+  private final long missingValue;
+
+  private int blockCount;
+
+  // block headers
+  private byte[] encodings = new byte[0];
+  private byte[] widths = new byte[0];
+  private long[] bases = new long[0];
+  private long[] slopes = new long[0];
+  private int[] runCounts = new int[0];
+  private long[] mins = new long[0];
+  private long[] maxs = new long[0];
+
+  /** The positions of missing values in each block, or null if a block has none */
+  private short[][] missing = new short[0][];
+
+  private long[][] words = new long[0][];
+
+  /** The values after the last full block, not yet encoded */
+  private final long[] tail = new long[BLOCK_SIZE];
+
+  private int tailSize;
+
+  EncodedBlocks(long missingValue) {
+    this.missingValue = missingValue;
+  }
+
+  int size() {
+    return (blockCount << BLOCK_SHIFT) + tailSize;
+  }
+
+  long get(int index) {
+    int block = index >>> BLOCK_SHIFT;
+    if (block == blockCount) {
+      return tail[index & BLOCK_MASK];
+    }
+    int position = index & BLOCK_MASK;
+    short[] missingPositions = missing[block];
+    if (missingPositions != null && Arrays.binarySearch(missingPositions, (short) position) >= 0) {
+      return missingValue;
+    }
+    return decode(block, position);
+  }
+
+  void add(long value) {
+    tail[tailSize++] = value;
+    if (tailSize == BLOCK_SIZE) {
+      encodeTail();
+    }
+  }
+
+  /** Appends the given number of values from the array, encoding each block as it fills */
+  void add(long[] values, int offset, int length) {
+    while (length > 0) {
+      int count = Math.min(length, BLOCK_SIZE - tailSize);
+      System.arraycopy(values, offset, tail, tailSize, count);
+      tailSize += count;
+      offset += count;
+      length -= count;
+      if (tailSize == BLOCK_SIZE) {
+        encodeTail();
+      }
+    }
+  }
+
+  /** Encodes the full tail as a new block */
+  private void encodeTail() {
+    ensureBlockCapacity(blockCount + 1);
+    encode(blockCount, tail);
+    blockCount++;
+    tailSize = 0;
+  }
+
+  void set(int index, long value) {
+    int block = index >>> BLOCK_SHIFT;
+    if (block == blockCount) {
+      tail[index & BLOCK_MASK] = value;
+      return;
+    }
+    long[] values = new long[BLOCK_SIZE];
+    decode(block, values);
+    values[index & BLOCK_MASK] = value;
+    encode(block, values);
+  }
+
+  /** Sets the given number of values starting at index, encoding each block changed only once */
+  void set(int index, long[] values, int offset, int length) {
+    long[] buffer = null;
+    int end = index + length;
+    while (index < end) {
+      int block = index >>> BLOCK_SHIFT;
+      int position = index & BLOCK_MASK;
+      int count = Math.min(BLOCK_SIZE - position, end - index);
+      if (block == blockCount) {
+        System.arraycopy(values, offset, tail, position, count);
+      } else {
+        if (buffer == null) {
+          buffer = new long[BLOCK_SIZE];
+        }
+        if (count < BLOCK_SIZE) {
+          decode(block, buffer);
+        }
+        System.arraycopy(values, offset, buffer, position, count);
+        encode(block, buffer);
+      }
+      index += count;
+      offset += count;
+    }
+  }
+
+  /** Copies the given number of values starting at index into the given array */
+  void get(int index, long[] values, int offset, int length) {
+    long[] buffer = null;
+    int end = index + length;
+    while (index < end) {
+      int block = index >>> BLOCK_SHIFT;
+      int position = index & BLOCK_MASK;
+      int count = Math.min(BLOCK_SIZE - position, end - index);
+      if (block == blockCount) {
+        System.arraycopy(tail, position, values, offset, count);
+      } else if (count == BLOCK_SIZE) {
+        decode(block, values, offset);
+      } else {
+        if (buffer == null) {
+          buffer = new long[BLOCK_SIZE];
+        }
+        decode(block, buffer);
+        System.arraycopy(buffer, position, values, offset, count);
+      }
+      index += count;
+      offset += count;
+    }
+  }
+
+  /** Changes the number of values, adding zeros or dropping values from the end */
+  void setSize(int size) {
+    int current = size();
+    if (size >= current) {
+      for (int i = current; i < size; i++) {
+        add(0);
+      }
+      return;
+    }
+    int block = size >>> BLOCK_SHIFT;
+    if (block < blockCount) {
+      decode(block, tail);
+      Arrays.fill(words, block, blockCount, null);
+      Arrays.fill(missing, block, blockCount, null);
+      blockCount = block;
+    }
+    tailSize = size & BLOCK_MASK;
+  }
+
+  void clear() {
+    blockCount = 0;
+    tailSize = 0;
+    Arrays.fill(words, null);
+    Arrays.fill(missing, null);
+  }
+
+  /** Returns the approximate number of bytes used to hold the values */
+  long encodedBytes() {
+    long bytes = (long) tail.length * Long.BYTES + (long) blockCount * 64;
+    for (int block = 0; block < blockCount; block++) {
+      bytes += (long) words[block].length * Long.BYTES;
+      if (missing[block] != null) {
+        bytes += (long) missing[block].length * Short.BYTES;
+      }
+    }
+    return bytes;
+  }
+
+  /** Returns the sum of the non-missing values, or NaN if there are none */
+  double sum() {
+    double sum = 0;
+    int count = 0;
+    long[] buffer = null;
+    for (int block = 0; block < blockCount; block++) {
+      int missingCount = missingCount(block);
+      count += BLOCK_SIZE - missingCount;
+      if (missingCount == BLOCK_SIZE) {
+        continue;
+      }
+      if (mins[block] == maxs[block]) {
+        sum += (double) mins[block] * (BLOCK_SIZE - missingCount);
+      } else if (encodings[block] == RUNS && missingCount == 0) {
+        sum += sumRuns(block);
+      } else {
+        if (buffer == null) {
+          buffer = new long[BLOCK_SIZE];
+        }
+        decode(block, buffer);
+        for (long value : buffer) {
+          if (value != missingValue) {
+            sum += value;
+          }
+        }
+      }
+    }
+    for (int i = 0; i < tailSize; i++) {
+      if (tail[i] != missingValue) {
+        sum += tail[i];
+        count++;
+      }
+    }
+    return count == 0 ? Double.NaN : sum;
+  }
+
+  /** Returns the smallest non-missing value, or NaN if there are none */
+  double min() {
+    long min = Long.MAX_VALUE;
+    boolean found = false;
+    for (int block = 0; block < blockCount; block++) {
+      if (missingCount(block) < BLOCK_SIZE) {
+        min = Math.min(min, mins[block]);
+        found = true;
+      }
+    }
+    for (int i = 0; i < tailSize; i++) {
+      if (tail[i] != missingValue) {
+        min = Math.min(min, tail[i]);
+        found = true;
+      }
+    }
+    return found ? min : Double.NaN;
+  }
+
+  /** Returns the largest non-missing value, or NaN if there are none */
+  double max() {
+    long max = Long.MIN_VALUE;
+    boolean found = false;
+    for (int block = 0; block < blockCount; block++) {
+      if (missingCount(block) < BLOCK_SIZE) {
+        max = Math.max(max, maxs[block]);
+        found = true;
+      }
+    }
+    for (int i = 0; i < tailSize; i++) {
+      if (tail[i] != missingValue) {
+        max = Math.max(max, tail[i]);
+        found = true;
+      }
+    }
+    return found ? max : Double.NaN;
+  }
+
+  /**
+   * Returns the rows whose value is greater than or equal to low and less than or equal to high. As
+   * with {@link ZoneMap#isBetweenInclusive(long, long)}, a missing value is matched if, and only
+   * if, it falls within the bounds
+   */
+  Selection isBetweenInclusive(long low, long high) {
+    Selection selection = new BitmapBackedSelection();
+    if (low > high) {
+      return selection;
+    }
+    boolean missingMatches = low <= missingValue && missingValue <= high;
+    long[] buffer = null;
+    for (int block = 0; block < blockCount; block++) {
+      int start = block << BLOCK_SHIFT;
+      int missingCount = missingCount(block);
+      boolean hasValues = missingCount < BLOCK_SIZE;
+      boolean valuesExcluded = !hasValues || maxs[block] < low || mins[block] > high;
+      boolean missingExcluded = missingCount == 0 || !missingMatches;
+      if (valuesExcluded && missingExcluded) {
+        continue;
+      }
+      boolean valuesIncluded = !hasValues || (mins[block] >= low && maxs[block] <= high);
+      boolean missingIncluded = missingCount == 0 || missingMatches;
+      if (valuesIncluded && missingIncluded) {
+        selection.addRange(start, start + BLOCK_SIZE);
+        continue;
+      }
+      if (buffer == null) {
+        buffer = new long[BLOCK_SIZE];
+      }
+      decode(block, buffer);
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        if (buffer[i] >= low && buffer[i] <= high) {
+          selection.add(start + i);
+        }
+      }
+    }
+    int start = blockCount << BLOCK_SHIFT;
+    for (int i = 0; i < tailSize; i++) {
+      if (tail[i] >= low && tail[i] <= high) {
+        selection.add(start + i);
+      }
+    }
+    return selection;
+  }
+
+  /** Returns a zone map that reads its statistics from the block headers */
+  ZoneMap zoneMap() {
+    return new HeaderZoneMap();
+  }
+
+  private int missingCount(int block) {
+    return missing[block] == null ? 0 : missing[block].length;
+  }
+
+  private void ensureBlockCapacity(int capacity) {
+    if (capacity <= encodings.length) {
+      return;
+    }
+    int newCapacity = Math.max(capacity, encodings.length * 2);
+    encodings = Arrays.copyOf(encodings, newCapacity);
+    widths = Arrays.copyOf(widths, newCapacity);
+    bases = Arrays.copyOf(bases, newCapacity);
+    slopes = Arrays.copyOf(slopes, newCapacity);
+    runCounts = Arrays.copyOf(runCounts, newCapacity);
+    mins = Arrays.copyOf(mins, newCapacity);
+    maxs = Arrays.copyOf(maxs, newCapacity);
+    missing = Arrays.copyOf(missing, newCapacity);
+    words = Arrays.copyOf(words, newCapacity);
+  }
+
+  /** Encodes a full block of values into the given block, replacing anything already there */
+  private void encode(int block, long[] values) {
+    // find the missing values, and fill their places with a neighbouring value so that they don't
+    // break up runs or widen the range of the block
+    long[] filled = values.clone();
+    int missingCount = 0;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (long value : values) {
+      if (value == missingValue) {
+        missingCount++;
+      } else {
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+      }
+    }
+    short[] missingPositions = null;
+    if (missingCount > 0) {
+      missingPositions = new short[missingCount];
+      long previous = missingCount == BLOCK_SIZE ? 0 : firstValue(values);
+      int m = 0;
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        if (values[i] == missingValue) {
+          missingPositions[m++] = (short) i;
+          filled[i] = previous;
+        } else {
+          previous = values[i];
+        }
+      }
+    }
+    if (missingCount == BLOCK_SIZE) {
+      min = 0;
+      max = 0;
+    }
+    mins[block] = missingCount == BLOCK_SIZE ? Long.MAX_VALUE : min;
+    maxs[block] = missingCount == BLOCK_SIZE ? Long.MIN_VALUE : max;
+    missing[block] = missingPositions;
+
+    int packedWidth = bitsFor(max - min);
+    long packedBits = (long) packedWidth * BLOCK_SIZE;
+
+    long slope = (filled[BLOCK_SIZE - 1] - filled[0]) / (BLOCK_SIZE - 1);
+    long linearBase = Long.MAX_VALUE;
+    long linearMax = Long.MIN_VALUE;
+    for (int i = 0; i < BLOCK_SIZE; i++) {
+      long residual = filled[i] - slope * i;
+      linearBase = Math.min(linearBase, residual);
+      linearMax = Math.max(linearMax, residual);
+    }
+    int linearWidth = bitsFor(linearMax - linearBase);
+    long linearBits = slope == 0 ? Long.MAX_VALUE : (long) linearWidth * BLOCK_SIZE;
+
+    int runs = 1;
+    for (int i = 1; i < BLOCK_SIZE; i++) {
+      if (filled[i] != filled[i - 1]) {
+        runs++;
+      }
+    }
+    long runBits = (long) runs * (BLOCK_SHIFT + packedWidth);
+
+    if (runBits < packedBits && runBits < linearBits) {
+      long[] encoded = new long[wordsFor(runBits)];
+      int run = 0;
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        if (i == BLOCK_SIZE - 1 || filled[i] != filled[i + 1]) {
+          write(encoded, (long) run * BLOCK_SHIFT, BLOCK_SHIFT, i);
+          write(
+              encoded,
+              (long) runs * BLOCK_SHIFT + (long) run * packedWidth,
+              packedWidth,
+              filled[i] - min);
+          run++;
+        }
+      }
+      setHeader(block, RUNS, packedWidth, min, 0, runs, encoded);
+    } else if (linearBits < packedBits) {
+      long[] encoded = new long[wordsFor(linearBits)];
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        write(encoded, (long) i * linearWidth, linearWidth, filled[i] - slope * i - linearBase);
+      }
+      setHeader(block, LINEAR, linearWidth, linearBase, slope, 0, encoded);
+    } else {
+      long[] encoded = new long[wordsFor(packedBits)];
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        write(encoded, (long) i * packedWidth, packedWidth, filled[i] - min);
+      }
+      setHeader(block, PACKED, packedWidth, min, 0, 0, encoded);
+    }
+  }
+
+  private void setHeader(
+      int block, byte encoding, int width, long base, long slope, int runs, long[] encoded) {
+    encodings[block] = encoding;
+    widths[block] = (byte) width;
+    bases[block] = base;
+    slopes[block] = slope;
+    runCounts[block] = runs;
+    words[block] = encoded;
+  }
+
+  private long firstValue(long[] values) {
+    for (long value : values) {
+      if (value != missingValue) {
+        return value;
+      }
+    }
+    return 0;
+  }
+
+  /** Returns the value at the given position of a block, ignoring missing values */
+  private long decode(int block, int position) {
+    int width = widths[block];
+    long[] encoded = words[block];
+    switch (encodings[block]) {
+      case LINEAR:
+        return bases[block]
+            + read(encoded, (long) position * width, width)
+            + slopes[block] * position;
+      case RUNS:
+        int runs = runCounts[block];
+        int low = 0;
+        int high = runs - 1;
+        while (low < high) {
+          int mid = (low + high) >>> 1;
+          if (read(encoded, (long) mid * BLOCK_SHIFT, BLOCK_SHIFT) < position) {
+            low = mid + 1;
+          } else {
+            high = mid;
+          }
+        }
+        return bases[block] + read(encoded, (long) runs * BLOCK_SHIFT + (long) low * width, width);
+      default:
+        return bases[block] + read(encoded, (long) position * width, width);
+    }
+  }
+
+  private void decode(int block, long[] values) {
+    decode(block, values, 0);
+  }
+
+  /** Decodes every value of a block into the given array, starting at offset */
+  private void decode(int block, long[] values, int offset) {
+    int width = widths[block];
+    long base = bases[block];
+    long[] encoded = words[block];
+    switch (encodings[block]) {
+      case LINEAR:
+        long slope = slopes[block];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+          values[offset + i] = base + read(encoded, (long) i * width, width) + slope * i;
+        }
+        break;
+      case RUNS:
+        int runs = runCounts[block];
+        int start = 0;
+        for (int run = 0; run < runs; run++) {
+          int end = (int) read(encoded, (long) run * BLOCK_SHIFT, BLOCK_SHIFT) + 1;
+          long value = base + read(encoded, (long) runs * BLOCK_SHIFT + (long) run * width, width);
+          Arrays.fill(values, offset + start, offset + end, value);
+          start = end;
+        }
+        break;
+      default:
+        if (width == 0) {
+          Arrays.fill(values, offset, offset + BLOCK_SIZE, base);
+        } else {
+          for (int i = 0; i < BLOCK_SIZE; i++) {
+            values[offset + i] = base + read(encoded, (long) i * width, width);
+          }
+        }
+    }
+    short[] missingPositions = missing[block];
+    if (missingPositions != null) {
+      for (short position : missingPositions) {
+        values[offset + position] = missingValue;
+      }
+    }
+  }
+
+  /** Returns the sum of a run-length encoded block without missing values */
+  private double sumRuns(int block) {
+    int width = widths[block];
+    long base = bases[block];
+    long[] encoded = words[block];
+    int runs = runCounts[block];
+    double sum = 0;
+    int start = 0;
+    for (int run = 0; run < runs; run++) {
+      int end = (int) read(encoded, (long) run * BLOCK_SHIFT, BLOCK_SHIFT) + 1;
+      long value = base + read(encoded, (long) runs * BLOCK_SHIFT + (long) run * width, width);
+      sum += (double) value * (end - start);
+      start = end;
+    }
+    return sum;
+  }
+
+  /** Returns the number of bits needed to hold the given difference, read as unsigned */
+  private static int bitsFor(long difference) {
+    return Long.SIZE - Long.numberOfLeadingZeros(difference);
+  }
+
+  private static int wordsFor(long bits) {
+    return (int) ((bits + Long.SIZE - 1) >>> 6);
+  }
+
+  private static long read(long[] words, long bitPosition, int width) {
+    if (width == 0) {
+      return 0;
+    }
+    int word = (int) (bitPosition >>> 6);
+    int shift = (int) (bitPosition & 63);
+    long value = words[word] >>> shift;
+    if (shift + width > Long.SIZE) {
+      value |= words[word + 1] << (Long.SIZE - shift);
+    }
+    return width == Long.SIZE ? value : value & ((1L << width) - 1);
+  }
+
+  private static void write(long[] words, long bitPosition, int width, long value) {
+    if (width == 0) {
+      return;
+    }
+    if (width < Long.SIZE) {
+      value &= (1L << width) - 1;
+    }
+    int word = (int) (bitPosition >>> 6);
+    int shift = (int) (bitPosition & 63);
+    words[word] |= value << shift;
+    if (shift + width > Long.SIZE) {
+      words[word + 1] |= value >>> (Long.SIZE - shift);
+    }
+  }
+
+  /** A zone map whose blocks are the encoded blocks, so it never has to scan the values */
+  private final class HeaderZoneMap extends ZoneMap {
+
+    HeaderZoneMap() {
+      super(BLOCK_SIZE, missingValue, EncodedBlocks.this::size, EncodedBlocks.this::get);
+    }
+
+    @Override
+    public int blockCount() {
+      return tailSize == 0 ? blockCount : blockCount + 1;
+    }
+
+    @Override
+    public long min(int block) {
+      if (block < blockCount) {
+        return mins[block];
+      }
+      long min = Long.MAX_VALUE;
+      for (int i = 0; i < tailSize; i++) {
+        if (tail[i] != missingValue) {
+          min = Math.min(min, tail[i]);
+        }
+      }
+      return min;
+    }
+
+    @Override
+    public long max(int block) {
+      if (block < blockCount) {
+        return maxs[block];
+      }
+      long max = Long.MIN_VALUE;
+      for (int i = 0; i < tailSize; i++) {
+        if (tail[i] != missingValue) {
+          max = Math.max(max, tail[i]);
+        }
+      }
+      return max;
+    }
+
+    @Override
+    public int missingCount(int block) {
+      if (block < blockCount) {
+        return EncodedBlocks.this.missingCount(block);
+      }
+      int count = 0;
+      for (int i = 0; i < tailSize; i++) {
+        if (tail[i] == missingValue) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public void append(long value) {}
+
+    @Override
+    public void invalidate(int row) {}
+
+    @Override
+    public void invalidateAll() {}
+
+    @Override
+    public Selection isBetweenInclusive(long low, long high) {
+      return EncodedBlocks.this.isBetweenInclusive(low, high);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import tech.tablesaw.columns.ZoneMap;
+
+/**
+ * A list whose values are held in compressed blocks, created by {@link ColumnStorage#compressed()}.
+ * Columns use the block headers to filter and aggregate the values without decoding most of them.
+ * Missing values, which are the smallest value of the list's type, are left out of the aggregates.
+ */
+public interface EncodedList {
+
+  /** Returns a zone map whose statistics are read from the headers of the encoded blocks */
+  ZoneMap zoneMap();
+
+  /** Returns the sum of the non-missing values, or NaN if there are none */
+  double sum();
+
+  /** Returns the smallest non-missing value, or NaN if there are none */
+  double min();
+
+  /** Returns the largest non-missing value, or NaN if there are none */
+  double max();
+
+  /** Returns the approximate number of bytes used to hold the values */
+  long encodedBytes();
+}
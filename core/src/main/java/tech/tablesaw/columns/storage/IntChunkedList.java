@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import static tech.tablesaw.columns.storage.Chunks.CHUNK_MASK;
+import static tech.tablesaw.columns.storage.Chunks.CHUNK_SIZE;
+
+import it.unimi.dsi.fastutil.ints.AbstractIntList;
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.RandomAccess;
+
+/**
+ * A list of ints held in fixed-size chunks rather than in one array. Appending never copies the
+ * values already in the list, and appending another chunked list shares its full chunks rather than
+ * copying them. Shared chunks are copied the first time either list writes to them.
+ */
+final class IntChunkedList extends AbstractIntList implements RandomAccess, HeapSized {
+
+  private static final long serialVersionUID = 1L;
+
+  private final IntChunks chunks = new IntChunks();
+
+  @Override
+  public int size() {
+    return chunks.size();
+  }
+
+  @Override
+  public int getInt(int index) {
+    chunks.checkIndex(index);
+    return chunks.chunk(index)[index & CHUNK_MASK];
+  }
+
+  @Override
+  public int set(int index, int value) {
+    chunks.checkIndex(index);
+    int[] chunk = chunks.writableChunk(index);
+    int offset = index & CHUNK_MASK;
+    int previous = chunk[offset];
+    chunk[offset] = value;
+    return previous;
+  }
+
+  @Override
+  public boolean add(int value) {
+    int index = chunks.size();
+    chunks.grow(1)[index & CHUNK_MASK] = value;
+    return true;
+  }
+
+  @Override
+  public void add(int index, int value) {
+    ensureIndex(index);
+    add(value);
+    for (int i = size() - 1; i > index; i--) {
+      set(i, getInt(i - 1));
+    }
+    set(index, value);
+  }
+
+  @Override
+  public int removeInt(int index) {
+    ensureRestrictedIndex(index);
+    int previous = getInt(index);
+    removeElements(index, index + 1);
+    return previous;
+  }
+
+  @Override
+  public void removeElements(int from, int to) {
+    int size = size();
+    if (from < 0 || to > size || from > to) {
+      throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of size " + size);
+    }
+    for (int i = to; i < size; i++) {
+      set(i - (to - from), getInt(i));
+    }
+    chunks.setSize(size - (to - from));
+  }
+
+  @Override
+  public void size(int newSize) {
+    chunks.setSize(newSize);
+  }
+
+  @Override
+  public void clear() {
+    chunks.setSize(0);
+  }
+
+  @Override
+  public void getElements(int from, int[] a, int offset, int length) {
+    chunks.getElements(from, a, offset, length);
+  }
+
+  @Override
+  public int[] toIntArray() {
+    int[] result = new int[size()];
+    chunks.getElements(0, result, 0, result.length);
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When another chunked list is appended to one whose size is a whole number of chunks, the
+   * full chunks of the other list are shared rather than copied
+   */
+  @Override
+  public boolean addAll(int index, IntCollection c) {
+    if (index != size() || !(c instanceof IntList)) {
+      return super.addAll(index, c);
+    }
+    IntList list = (IntList) c;
+    int count = list.size();
+    int from = 0;
+    if (list instanceof IntChunkedList) {
+      from = chunks.shareFullChunks(((IntChunkedList) list).chunks);
+    }
+    while (from < count) {
+      int start = chunks.size();
+      int length = Math.min(count - from, CHUNK_SIZE - (start & CHUNK_MASK));
+      list.getElements(from, chunks.grow(length), start & CHUNK_MASK, length);
+      from += length;
+    }
+    return count > 0;
+  }
+
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.object(MemoryEstimates.REFERENCE) + chunks.memoryUsage();
+  }
+
+  private static final class IntChunks extends Chunks<int[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    int[] newChunk(int length) {
+      return new int[length];
+    }
+
+    @Override
+    int length(int[] chunk) {
+      return chunk.length;
+    }
+
+    @Override
+    int elementBytes() {
+      return Integer.BYTES;
+    }
+  }
+}
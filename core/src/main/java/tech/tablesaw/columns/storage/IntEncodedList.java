@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import it.unimi.dsi.fastutil.ints.AbstractIntList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.RandomAccess;
+import tech.tablesaw.columns.ZoneMap;
+
+/** A list of ints held in compressed {@link EncodedBlocks} */
+final class IntEncodedList extends AbstractIntList implements RandomAccess, EncodedList, HeapSized {
+
+  private final EncodedBlocks blocks = new EncodedBlocks(Integer.MIN_VALUE);
+
+  @Override
+  public int size() {
+    return blocks.size();
+  }
+
+  @Override
+  public int getInt(int index) {
+    ensureRestrictedIndex(index);
+    return (int) blocks.get(index);
+  }
+
+  @Override
+  public void getElements(int from, int[] a, int offset, int length) {
+    long[] values = new long[length];
+    blocks.get(from, values, 0, length);
+    for (int i = 0; i < length; i++) {
+      a[offset + i] = (int) values[i];
+    }
+  }
+
+  @Override
+  public void setElements(int index, int[] a, int offset, int length) {
+    ensureIndex(index);
+    long[] values = new long[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = a[offset + i];
+    }
+    blocks.set(index, values, 0, length);
+  }
+
+  @Override
+  public int set(int index, int value) {
+    int previous = getInt(index);
+    blocks.set(index, value);
+    return previous;
+  }
+
+  @Override
+  public boolean add(int value) {
+    blocks.add(value);
+    return true;
+  }
+
+  @Override
+  public void add(int index, int value) {
+    ensureIndex(index);
+    if (index == size()) {
+      blocks.add(value);
+      return;
+    }
+    // only the blocks from the one holding index onwards are re-encoded
+    int[] after = valuesFrom(index);
+    blocks.add(value);
+    append(after, 0, after.length);
+  }
+
+  @Override
+  public boolean addAll(IntList l) {
+    return addAll(size(), (IntCollection) l);
+  }
+
+  @Override
+  public boolean addAll(int index, IntList l) {
+    return addAll(index, (IntCollection) l);
+  }
+
+  @Override
+  public boolean addAll(IntCollection c) {
+    return addAll(size(), c);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The values are encoded a block at a time, and only the blocks from the one holding index
+   * onwards are re-encoded
+   */
+  @Override
+  public boolean addAll(int index, IntCollection c) {
+    ensureIndex(index);
+    if (c.isEmpty()) {
+      return false;
+    }
+    if (c == this) {
+      c = IntArrayList.wrap(toIntArray());
+    }
+    int[] after = index < size() ? valuesFrom(index) : null;
+    if (c instanceof IntList) {
+      IntList list = (IntList) c;
+      int count = list.size();
+      int[] buffer = new int[Math.min(count, EncodedBlocks.BLOCK_SIZE)];
+      for (int from = 0; from < count; from += buffer.length) {
+        int length = Math.min(buffer.length, count - from);
+        list.getElements(from, buffer, 0, length);
+        append(buffer, 0, length);
+      }
+    } else {
+      IntIterator iterator = c.iterator();
+      while (iterator.hasNext()) {
+        blocks.add(iterator.nextInt());
+      }
+    }
+    if (after != null) {
+      append(after, 0, after.length);
+    }
+    return true;
+  }
+
+  /** Removes the values from index to the end, and returns them */
+  private int[] valuesFrom(int index) {
+    int[] values = new int[size() - index];
+    getElements(index, values, 0, values.length);
+    blocks.setSize(index);
+    return values;
+  }
+
+  /** Appends values from the array, encoding them a block at a time */
+  private void append(int[] a, int offset, int length) {
+    long[] values = new long[Math.min(length, EncodedBlocks.BLOCK_SIZE)];
+    while (length > 0) {
+      int count = Math.min(length, values.length);
+      for (int i = 0; i < count; i++) {
+        values[i] = a[offset + i];
+      }
+      blocks.add(values, 0, count);
+      offset += count;
+      length -= count;
+    }
+  }
+
+  @Override
+  public int removeInt(int index) {
+    int previous = getInt(index);
+    removeElements(index, index + 1);
+    return previous;
+  }
+
+  @Override
+  public void removeElements(int from, int to) {
+    int size = size();
+    if (from < 0 || to > size || from > to) {
+      throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of size " + size);
+    }
+    int[] after = valuesFrom(to);
+    blocks.setSize(from);
+    append(after, 0, after.length);
+  }
+
+  @Override
+  public void size(int size) {
+    blocks.setSize(size);
+  }
+
+  @Override
+  public void clear() {
+    blocks.clear();
+  }
+
+  @Override
+  public ZoneMap zoneMap() {
+    return blocks.zoneMap();
+  }
+
+  @Override
+  public double sum() {
+    return blocks.sum();
+  }
+
+  @Override
+  public double min() {
+    return blocks.min();
+  }
+
+  @Override
+  public double max() {
+    return blocks.max();
+  }
+
+  @Override
+  public long encodedBytes() {
+    return blocks.encodedBytes();
+  }
+
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.object(MemoryEstimates.REFERENCE) + blocks.encodedBytes();
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.function.Supplier;
+
+/**
+ * Read-only views over part of a primitive list, used by columns to take a subset of their values
+ * without copying them. A view reads through to the list given by its source until it is first
+ * changed, when it copies the values it views and stops reading through. Changes made to the source
+ * list before then are seen through the view. The source is asked for the list on every read, so a
+ * column can replace its list, for example when it stops sharing it with a copy, without its views
+ * falling behind.
+ */
+public final class ListViews {
+
+  private ListViews() {}
+
+  /** Returns a view of the values at the given indexes of the source list, in the order given */
+  public static DoubleList doubleView(Supplier<? extends DoubleList> source, int[] rows) {
+    return new DoubleViewList(source, rows);
+  }
+
+  /** Returns a view of the values from start inclusive to end exclusive of the source list */
+  public static DoubleList doubleView(Supplier<? extends DoubleList> source, int start, int end) {
+    checkRange(source.get().size(), start, end);
+    return new DoubleViewList(source, start, end);
+  }
+
+  /** Returns a view of the values at the given indexes of the source list, in the order given */
+  public static IntList intView(Supplier<? extends IntList> source, int[] rows) {
+    return new IntViewList(source, rows);
+  }
+
+  /** Returns a view of the values from start inclusive to end exclusive of the source list */
+  public static IntList intView(Supplier<? extends IntList> source, int start, int end) {
+    checkRange(source.get().size(), start, end);
+    return new IntViewList(source, start, end);
+  }
+
+  /** Returns a view of the values at the given indexes of the source list, in the order given */
+  public static LongList longView(Supplier<? extends LongList> source, int[] rows) {
+    return new LongViewList(source, rows);
+  }
+
+  /** Returns a view of the values from start inclusive to end exclusive of the source list */
+  public static LongList longView(Supplier<? extends LongList> source, int start, int end) {
+    checkRange(source.get().size(), start, end);
+    return new LongViewList(source, start, end);
+  }
+
+  private static void checkRange(int size, int start, int end) {
+    Preconditions.checkPositionIndexes(start, end, size);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import it.unimi.dsi.fastutil.longs.AbstractLongList;
+import java.util.RandomAccess;
+
+/** A list of longs held in {@link BufferSegments} rather than in an array on the heap */
+final class LongBufferList extends AbstractLongList implements RandomAccess, HeapSized {
+
+  private final BufferSegments segments;
+
+  LongBufferList(BufferSegments segments) {
+    this.segments = segments;
+  }
+
+  @Override
+  public int size() {
+    return segments.size();
+  }
+
+  @Override
+  public long getLong(int index) {
+    ensureIndex(index);
+    return segments.segment(index).getLong(segments.position(index));
+  }
+
+  private void put(int index, long value) {
+    segments.segment(index).putLong(segments.position(index), value);
+  }
+
+  @Override
+  public long set(int index, long value) {
+    long previous = getLong(index);
+    put(index, value);
+    return previous;
+  }
+
+  @Override
+  public boolean add(long value) {
+    int size = size();
+    segments.ensureCapacity(size + 1);
+    put(size, value);
+    segments.setSize(size + 1);
+    return true;
+  }
+
+  @Override
+  public void add(int index, long value) {
+    int size = size();
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    segments.ensureCapacity(size + 1);
+    for (int i = size; i > index; i--) {
+      put(i, segments.segment(i - 1).getLong(segments.position(i - 1)));
+    }
+    put(index, value);
+    segments.setSize(size + 1);
+  }
+
+  @Override
+  public long removeLong(int index) {
+    long previous = getLong(index);
+    int size = size();
+    for (int i = index + 1; i < size; i++) {
+      put(i - 1, segments.segment(i).getLong(segments.position(i)));
+    }
+    segments.setSize(size - 1);
+    return previous;
+  }
+
+  @Override
+  public void removeElements(int from, int to) {
+    int size = size();
+    if (from < 0 || to > size || from > to) {
+      throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of size " + size);
+    }
+    for (int i = to; i < size; i++) {
+      put(i - (to - from), segments.segment(i).getLong(segments.position(i)));
+    }
+    segments.setSize(size - (to - from));
+  }
+
+  @Override
+  public void size(int size) {
+    int current = size();
+    if (size > current) {
+      segments.ensureCapacity(size);
+      for (int i = current; i < size; i++) {
+        put(i, 0L);
+      }
+    }
+    segments.setSize(size);
+  }
+
+  @Override
+  public void clear() {
+    segments.setSize(0);
+  }
+
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.object(MemoryEstimates.REFERENCE) + segments.memoryUsage();
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import it.unimi.dsi.fastutil.longs.AbstractLongList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.RandomAccess;
+import tech.tablesaw.columns.ZoneMap;
+
+/** A list of longs held in compressed {@link EncodedBlocks} */
+final class LongEncodedList extends AbstractLongList
+    implements RandomAccess, EncodedList, HeapSized {
+
+  private final EncodedBlocks blocks = new EncodedBlocks(Long.MIN_VALUE);
+
+  @Override
+  public int size() {
+    return blocks.size();
+  }
+
+  @Override
+  public long getLong(int index) {
+    ensureRestrictedIndex(index);
+    return blocks.get(index);
+  }
+
+  @Override
+  public void getElements(int from, long[] a, int offset, int length) {
+    blocks.get(from, a, offset, length);
+  }
+
+  @Override
+  public void setElements(int index, long[] a, int offset, int length) {
+    ensureIndex(index);
+    blocks.set(index, a, offset, length);
+  }
+
+  @Override
+  public long set(int index, long value) {
+    long previous = getLong(index);
+    blocks.set(index, value);
+    return previous;
+  }
+
+  @Override
+  public boolean add(long value) {
+    blocks.add(value);
+    return true;
+  }
+
+  @Override
+  public void add(int index, long value) {
+    ensureIndex(index);
+    if (index == size()) {
+      blocks.add(value);
+      return;
+    }
+    // only the blocks from the one holding index onwards are re-encoded
+    long[] after = valuesFrom(index);
+    blocks.add(value);
+    append(after, 0, after.length);
+  }
+
+  @Override
+  public boolean addAll(LongList l) {
+    return addAll(size(), (LongCollection) l);
+  }
+
+  @Override
+  public boolean addAll(int index, LongList l) {
+    return addAll(index, (LongCollection) l);
+  }
+
+  @Override
+  public boolean addAll(LongCollection c) {
+    return addAll(size(), c);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The values are encoded a block at a time, and only the blocks from the one holding index
+   * onwards are re-encoded
+   */
+  @Override
+  public boolean addAll(int index, LongCollection c) {
+    ensureIndex(index);
+    if (c.isEmpty()) {
+      return false;
+    }
+    if (c == this) {
+      c = LongArrayList.wrap(toLongArray());
+    }
+    long[] after = index < size() ? valuesFrom(index) : null;
+    if (c instanceof LongList) {
+      LongList list = (LongList) c;
+      int count = list.size();
+      long[] buffer = new long[Math.min(count, EncodedBlocks.BLOCK_SIZE)];
+      for (int from = 0; from < count; from += buffer.length) {
+        int length = Math.min(buffer.length, count - from);
+        list.getElements(from, buffer, 0, length);
+        append(buffer, 0, length);
+      }
+    } else {
+      LongIterator iterator = c.iterator();
+      while (iterator.hasNext()) {
+        blocks.add(iterator.nextLong());
+      }
+    }
+    if (after != null) {
+      append(after, 0, after.length);
+    }
+    return true;
+  }
+
+  /** Removes the values from index to the end, and returns them */
+  private long[] valuesFrom(int index) {
+    long[] values = new long[size() - index];
+    getElements(index, values, 0, values.length);
+    blocks.setSize(index);
+    return values;
+  }
+
+  private void append(long[] a, int offset, int length) {
+    blocks.add(a, offset, length);
+  }
+
+  @Override
+  public long removeLong(int index) {
+    long previous = getLong(index);
+    removeElements(index, index + 1);
+    return previous;
+  }
+
+  @Override
+  public void removeElements(int from, int to) {
+    int size = size();
+    if (from < 0 || to > size || from > to) {
+      throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of size " + size);
+    }
+    long[] after = valuesFrom(to);
+    blocks.setSize(from);
+    append(after, 0, after.length);
+  }
+
+  @Override
+  public void size(int size) {
+    blocks.setSize(size);
+  }
+
+  @Override
+  public void clear() {
+    blocks.clear();
+  }
+
+  @Override
+  public ZoneMap zoneMap() {
+    return blocks.zoneMap();
+  }
+
+  @Override
+  public double sum() {
+    return blocks.sum();
+  }
+
+  @Override
+  public double min() {
+    return blocks.min();
+  }
+
+  @Override
+  public double max() {
+    return blocks.max();
+  }
+
+  @Override
+  public long encodedBytes() {
+    return blocks.encodedBytes();
+  }
+
+  @Override
+  public long memoryUsage() {
+    return MemoryEstimates.object(MemoryEstimates.REFERENCE) + blocks.encodedBytes();
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.nio.file.Path;
+
+/**
+ * Storage that maps a single file. Since the file holds the values of one column, only the first
+ * list requested is created, and asking for another throws an exception rather than letting two
+ * columns overwrite each other's values
+ */
+final class MappedStorage implements ColumnStorage {
+
+  private final Path file;
+
+  private boolean used;
+
+  MappedStorage(Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public DoubleList doubleList() {
+    claim();
+    return new DoubleBufferList(BufferSegments.mapped(Double.BYTES, 'D', file));
+  }
+
+  @Override
+  public IntList intList() {
+    claim();
+    return new IntBufferList(BufferSegments.mapped(Integer.BYTES, 'I', file));
+  }
+
+  @Override
+  public LongList longList() {
+    claim();
+    return new LongBufferList(BufferSegments.mapped(Long.BYTES, 'L', file));
+  }
+
+  private synchronized void claim() {
+    if (used) {
+      throw new IllegalStateException(
+          "The storage mapped to " + file + " already holds a column. Use one file per column");
+    }
+    used = true;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.List;
+
+/**
+ * Estimates the memory used by the structures that hold column data, without an instrumentation
+ * agent. The estimates assume a 64-bit JVM with compressed object pointers, which is the default
+ * for heaps under 32GB, and are meant for comparing and budgeting rather than exact accounting.
+ *
+ * <p>Values held outside the heap in direct buffers are included, since they use memory just the
+ * same. Values in memory-mapped files aren't, since the operating system can page them out.
+ */
+public final class MemoryEstimates {
+
+  /** The size of an object header */
+  public static final int OBJECT_HEADER = 12;
+
+  /** The size of an array header, including its length */
+  public static final int ARRAY_HEADER = 16;
+
+  /** The size of a reference to an object */
+  public static final int REFERENCE = 4;
+
+  private MemoryEstimates() {}
+
+  /** Returns the size of an object with the given number of bytes of fields, rounded up to 8 */
+  public static long object(long fieldBytes) {
+    return align(OBJECT_HEADER + fieldBytes);
+  }
+
+  /** Returns the size of an array with the given length and element width */
+  public static long array(long length, int elementBytes) {
+    return align(ARRAY_HEADER + length * elementBytes);
+  }
+
+  /** Returns the size of the given string, including its character array */
+  public static long string(String value) {
+    boolean latin1 = true;
+    for (int i = 0; i < value.length() && latin1; i++) {
+      latin1 = value.charAt(i) < 256;
+    }
+    return object(Integer.BYTES * 2 + REFERENCE + 1) + array(value.length(), latin1 ? 1 : 2);
+  }
+
+  /**
+   * Returns the size of an open hash map or set with the given number of entries, whose keys and
+   * values together take the given number of bytes. Like fastutil's, the table is a power of two at
+   * most three quarters full
+   */
+  public static long hashTable(int entries, int entryBytes) {
+    long capacity = Long.highestOneBit(Math.max(2, (long) Math.ceil(entries / 0.75)) - 1) << 1;
+    return object(Integer.BYTES * 4 + REFERENCE * 2) + array(capacity + 1, entryBytes);
+  }
+
+  /** Returns the memory used by the given list */
+  public static long of(DoubleList list) {
+    if (list instanceof DoubleArrayList) {
+      return arrayList(((DoubleArrayList) list).elements().length, Double.BYTES);
+    }
+    return sized(list, Double.BYTES);
+  }
+
+  /** Returns the memory used by the given list */
+  public static long of(IntList list) {
+    if (list instanceof IntArrayList) {
+      return arrayList(((IntArrayList) list).elements().length, Integer.BYTES);
+    }
+    return sized(list, Integer.BYTES);
+  }
+
+  /** Returns the memory used by the given list */
+  public static long of(LongList list) {
+    if (list instanceof LongArrayList) {
+      return arrayList(((LongArrayList) list).elements().length, Long.BYTES);
+    }
+    return sized(list, Long.BYTES);
+  }
+
+  /** Returns the memory used by an array-backed list with the given capacity and element width */
+  public static long arrayList(int capacity, int elementBytes) {
+    return object(Integer.BYTES + REFERENCE) + array(capacity, elementBytes);
+  }
+
+  private static long sized(List<?> list, int elementBytes) {
+    if (list instanceof HeapSized) {
+      return ((HeapSized) list).memoryUsage();
+    }
+    return arrayList(list.size(), elementBytes);
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
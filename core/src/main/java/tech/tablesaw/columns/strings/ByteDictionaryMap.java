@@ -23,13 +23,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 /** A map that supports reversible key value pairs of int-String */
 public class ByteDictionaryMap implements DictionaryMap {
@@ -68,6 +72,9 @@ public class ByteDictionaryMap implements DictionaryMap {
   // the map with counts
   private Byte2IntOpenHashMap keyToCount = new Byte2IntOpenHashMap();
 
+  // the bitmaps of the rows holding each key, if they're maintained
+  private final KeyBitmapIndexSupport bitmapIndex = new KeyBitmapIndexSupport(this);
+
   /** {@inheritDoc} */
   @Override
   public int getKeyAtIndex(int rowNumber) {
@@ -170,6 +177,7 @@ public class ByteDictionaryMap implements DictionaryMap {
     byte[] elements = values.toByteArray();
     ByteArrays.parallelQuickSort(elements, dictionarySortComparator);
     this.values = new ByteArrayList(elements);
+    bitmapIndex.invalidate();
   }
 
   @Override
@@ -186,6 +194,7 @@ public class ByteDictionaryMap implements DictionaryMap {
     byte[] elements = values.toByteArray();
     ByteArrays.parallelQuickSort(elements, reverseDictionarySortComparator);
     this.values = new ByteArrayList(elements);
+    bitmapIndex.invalidate();
   }
 
   public int countOccurrences(String value) {
@@ -218,6 +227,10 @@ public class ByteDictionaryMap implements DictionaryMap {
         keys.add(key);
       }
     }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(keys);
+    }
 
     Selection results = new BitmapBackedSelection();
     for (int i = 0; i < values.size(); i++) {
@@ -238,6 +251,10 @@ public class ByteDictionaryMap implements DictionaryMap {
         keys.add(key);
       }
     }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(keys);
+    }
 
     Selection results = new BitmapBackedSelection();
     for (int i = 0; i < values.size(); i++) {
@@ -250,6 +267,14 @@ public class ByteDictionaryMap implements DictionaryMap {
 
   @Override
   public void append(String value) throws NoKeysAvailableException {
+    byte key = getOrCreateKey(value);
+    values.add(key);
+    keyToCount.addTo(key, 1);
+    bitmapIndex.add(values.size() - 1, key);
+  }
+
+  /** Returns the key for the given value, adding the value to the dictionary if necessary */
+  private byte getOrCreateKey(String value) throws NoKeysAvailableException {
     byte key;
     if (value == null || StringColumnType.missingValueIndicator().equals(value)) {
       key = MISSING_VALUE;
@@ -261,8 +286,29 @@ public class ByteDictionaryMap implements DictionaryMap {
       key = getValueId();
       put(key, value);
     }
-    values.add(key);
-    keyToCount.addTo(key, 1);
+    return key;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DictionaryMap mapValues(Function<String, String> function)
+      throws NoKeysAvailableException {
+    ByteDictionaryMap result = new ByteDictionaryMap(canPromoteToText);
+    // the new key for each old key, indexed by the old key's offset from Byte.MIN_VALUE
+    byte[] newKeys = new byte[1 << Byte.SIZE];
+    for (Byte2ObjectMap.Entry<String> entry : keyToValue.byte2ObjectEntrySet()) {
+      newKeys[entry.getByteKey() - Byte.MIN_VALUE] =
+          result.getOrCreateKey(function.apply(entry.getValue()));
+    }
+    byte[] mapped = new byte[values.size()];
+    for (int i = 0; i < mapped.length; i++) {
+      mapped[i] = newKeys[values.getByte(i) - Byte.MIN_VALUE];
+    }
+    result.values = ByteArrayList.wrap(mapped);
+    for (Byte2IntMap.Entry entry : keyToCount.byte2IntEntrySet()) {
+      result.keyToCount.addTo(newKeys[entry.getByteKey() - Byte.MIN_VALUE], entry.getIntValue());
+    }
+    return result;
   }
 
   private byte getValueId() throws NoKeysAvailableException {
@@ -305,6 +351,7 @@ public class ByteDictionaryMap implements DictionaryMap {
       put(valueId, str);
     }
     byte oldKey = values.set(rowIndex, valueId);
+    bitmapIndex.set(rowIndex, oldKey, valueId);
     keyToCount.addTo(valueId, 1);
     if (keyToCount.addTo(oldKey, -1) == 1) {
       String obsoleteValue = keyToValue.remove(oldKey);
@@ -317,16 +364,91 @@ public class ByteDictionaryMap implements DictionaryMap {
   public void clear() {
     nextIndex = new AtomicInteger(DEFAULT_RETURN_VALUE);
     values.clear();
+    bitmapIndex.invalidate();
     keyToValue.clear();
     valueToKey.clear();
     keyToCount.clear();
   }
 
+  /**
+   * Evaluates the predicate once for each key in the dictionary rather than once for each row, and
+   * then selects the rows holding one of the matching keys
+   */
+  @Override
+  public Selection eval(Predicate<String> predicate) {
+    ByteArrayList matchingKeys = new ByteArrayList();
+    for (Byte2ObjectMap.Entry<String> entry : keyToValue.byte2ObjectEntrySet()) {
+      if (predicate.test(entry.getValue())) {
+        matchingKeys.add(entry.getByteKey());
+      }
+    }
+    if (matchingKeys.isEmpty()) {
+      return new BitmapBackedSelection();
+    }
+    if (matchingKeys.size() == keyToValue.size()) {
+      return Selection.withRange(0, size());
+    }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(matchingKeys);
+    }
+    boolean[] matches = new boolean[1 << Byte.SIZE];
+    for (byte key : matchingKeys) {
+      matches[key - Byte.MIN_VALUE] = true;
+    }
+    ByteArrayList keys = values;
+    return SelectionEvaluator.eval(keys.size(), i -> matches[keys.getByte(i) - Byte.MIN_VALUE]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void enableBitmapIndex() {
+    bitmapIndex.enable();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void disableBitmapIndex() {
+    bitmapIndex.disable();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isBitmapIndexEnabled() {
+    return bitmapIndex.isEnabled();
+  }
+
   @Override
   public int countUnique() {
     return keyToValueMap().size();
   }
 
+  @Override
+  public long trimToSize() {
+    long spare = (long) (values.elements().length - values.size()) * Byte.BYTES;
+    values.trim();
+    if (keyToValue instanceof Byte2ObjectOpenHashMap) {
+      ((Byte2ObjectOpenHashMap<String>) keyToValue).trim();
+    }
+    valueToKey.trim();
+    keyToCount.trim();
+    return spare;
+  }
+
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.arrayList(values.elements().length, Byte.BYTES);
+    int unique = keyToValue.size();
+    bytes += MemoryEstimates.hashTable(unique, Byte.BYTES + MemoryEstimates.REFERENCE);
+    bytes += MemoryEstimates.hashTable(unique, MemoryEstimates.REFERENCE + Byte.BYTES);
+    bytes += MemoryEstimates.hashTable(keyToCount.size(), Byte.BYTES + Integer.BYTES);
+    for (String value : keyToValue.values()) {
+      bytes += MemoryEstimates.string(value);
+    }
+    bytes += bitmapIndex.memoryUsage();
+    return bytes;
+  }
+
   /** */
   @Override
   public Table countByCategory(String columnName) {
@@ -345,8 +467,12 @@ public class ByteDictionaryMap implements DictionaryMap {
 
   @Override
   public Selection isEqualTo(String string) {
-    Selection results = new BitmapBackedSelection();
     byte key = getKeyForValue(string);
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return key == DEFAULT_RETURN_VALUE ? new BitmapBackedSelection() : index.get(key);
+    }
+    Selection results = new BitmapBackedSelection();
     addValuesToSelection(results, key);
     return results;
   }
@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.selection.BitmapBackedSelection;
@@ -82,10 +84,57 @@ public interface DictionaryMap extends StringReduceUtils, StringFilters {
 
   int countUnique();
 
+  /**
+   * Releases any spare capacity held for rows or values that haven't been added yet, and returns
+   * the approximate number of bytes released
+   */
+  long trimToSize();
+
+  /** Returns the approximate number of bytes used by the keys, values and any bitmap index */
+  long memoryUsage();
+
   Table countByCategory(String columnName);
 
   Selection isEqualTo(String string);
 
+  /**
+   * Returns a new dictionary holding the result of applying the given function to each value in
+   * this one. The function is applied once for each unique value, and the keys for each row are
+   * remapped to the keys for the results
+   *
+   * @throws NoKeysAvailableException if the results have more unique values than this kind of
+   *     dictionary can hold
+   */
+  DictionaryMap mapValues(Function<String, String> function) throws NoKeysAvailableException;
+
+  /**
+   * Starts maintaining a bitmap of the rows holding each key in the dictionary. Equality and
+   * membership filters then read the bitmaps rather than scanning every row. The bitmaps are kept
+   * up to date as values are appended or set, so this may be called before the data is loaded
+   */
+  void enableBitmapIndex();
+
+  /** Stops maintaining the bitmaps created by {@link #enableBitmapIndex()} */
+  void disableBitmapIndex();
+
+  /** Returns true if a bitmap of the rows holding each key is maintained */
+  boolean isBitmapIndexEnabled();
+
+  /** Returns true if the two rows hold the same value */
+  default boolean equals(int rowNumber1, int rowNumber2) {
+    return getKeyAtIndex(rowNumber1) == getKeyAtIndex(rowNumber2);
+  }
+
+  @Override
+  default Selection eval(BiPredicate<String, String> predicate, String value) {
+    return eval(s -> predicate.test(s, value));
+  }
+
+  @Override
+  default Selection eval(BiPredicate<String, Integer> predicate, Integer value) {
+    return eval(s -> predicate.test(s, value));
+  }
+
   default Selection isNotEqualTo(String string) {
     Selection selection = new BitmapBackedSelection();
     selection.addRange(0, size());
@@ -23,13 +23,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 /** A map that supports reversible key value pairs of int-String */
 public class IntDictionaryMap implements DictionaryMap {
@@ -65,6 +69,14 @@ public class IntDictionaryMap implements DictionaryMap {
 
   private Int2IntOpenHashMap keyToCount = new Int2IntOpenHashMap();
 
+  // the bitmaps of the rows holding each key, if they're maintained
+  private final KeyBitmapIndexSupport bitmapIndex = new KeyBitmapIndexSupport(this);
+
+  private IntDictionaryMap() {
+    valueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    keyToCount.defaultReturnValue(0);
+  }
+
   /** Returns a new DictionaryMap that is a deep copy of the original */
   IntDictionaryMap(DictionaryMap original) throws NoKeysAvailableException {
     valueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
@@ -74,6 +86,9 @@ public class IntDictionaryMap implements DictionaryMap {
       String value = original.getValueForIndex(i);
       append(value);
     }
+    if (original.isBitmapIndexEnabled()) {
+      enableBitmapIndex();
+    }
   }
 
   private IntDictionaryMap(IntDictionaryBuilder builder) {
@@ -161,6 +176,7 @@ public class IntDictionaryMap implements DictionaryMap {
     int[] elements = values.toIntArray();
     IntArrays.parallelQuickSort(elements, dictionarySortComparator);
     this.values = new IntArrayList(elements);
+    bitmapIndex.invalidate();
   }
 
   /** {@inheritDoc} */
@@ -179,6 +195,7 @@ public class IntDictionaryMap implements DictionaryMap {
     int[] elements = values.toIntArray();
     IntArrays.parallelQuickSort(elements, reverseDictionarySortComparator);
     this.values = new IntArrayList(elements);
+    bitmapIndex.invalidate();
   }
 
   public int countOccurrences(String value) {
@@ -202,11 +219,81 @@ public class IntDictionaryMap implements DictionaryMap {
     return output;
   }
 
+  /**
+   * Evaluates the predicate once for each key in the dictionary rather than once for each row, and
+   * then selects the rows holding one of the matching keys
+   */
+  @Override
+  public Selection eval(Predicate<String> predicate) {
+    IntOpenHashSet matchingKeys = new IntOpenHashSet();
+    for (Int2ObjectMap.Entry<String> entry : keyToValue.int2ObjectEntrySet()) {
+      if (predicate.test(entry.getValue())) {
+        matchingKeys.add(entry.getIntKey());
+      }
+    }
+    if (matchingKeys.isEmpty()) {
+      return new BitmapBackedSelection();
+    }
+    if (matchingKeys.size() == keyToValue.size()) {
+      return Selection.withRange(0, size());
+    }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(matchingKeys);
+    }
+    IntArrayList keys = values;
+    return SelectionEvaluator.eval(keys.size(), i -> matchingKeys.contains(keys.getInt(i)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void enableBitmapIndex() {
+    bitmapIndex.enable();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void disableBitmapIndex() {
+    bitmapIndex.disable();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isBitmapIndexEnabled() {
+    return bitmapIndex.isEnabled();
+  }
+
   @Override
   public int countUnique() {
     return keyToValueMap().size();
   }
 
+  @Override
+  public long trimToSize() {
+    long spare = (long) (values.elements().length - values.size()) * Integer.BYTES;
+    values.trim();
+    if (keyToValue instanceof Int2ObjectOpenHashMap) {
+      ((Int2ObjectOpenHashMap<String>) keyToValue).trim();
+    }
+    valueToKey.trim();
+    keyToCount.trim();
+    return spare;
+  }
+
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.arrayList(values.elements().length, Integer.BYTES);
+    int unique = keyToValue.size();
+    bytes += MemoryEstimates.hashTable(unique, Integer.BYTES + MemoryEstimates.REFERENCE);
+    bytes += MemoryEstimates.hashTable(unique, MemoryEstimates.REFERENCE + Integer.BYTES);
+    bytes += MemoryEstimates.hashTable(keyToCount.size(), Integer.BYTES + Integer.BYTES);
+    for (String value : keyToValue.values()) {
+      bytes += MemoryEstimates.string(value);
+    }
+    bytes += bitmapIndex.memoryUsage();
+    return bytes;
+  }
+
   @Override
   public Selection selectIsIn(String... strings) {
     IntOpenHashSet keys = new IntOpenHashSet(strings.length);
@@ -216,6 +303,10 @@ public class IntDictionaryMap implements DictionaryMap {
         keys.add(key);
       }
     }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(keys);
+    }
 
     Selection results = new BitmapBackedSelection();
     for (int i = 0; i < values.size(); i++) {
@@ -235,6 +326,10 @@ public class IntDictionaryMap implements DictionaryMap {
         keys.add(key);
       }
     }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(keys);
+    }
 
     Selection results = new BitmapBackedSelection();
     for (int i = 0; i < values.size(); i++) {
@@ -247,6 +342,14 @@ public class IntDictionaryMap implements DictionaryMap {
 
   @Override
   public void append(String value) throws NoKeysAvailableException {
+    int key = getOrCreateKey(value);
+    values.add(key);
+    keyToCount.addTo(key, 1);
+    bitmapIndex.add(values.size() - 1, key);
+  }
+
+  /** Returns the key for the given value, adding the value to the dictionary if necessary */
+  private int getOrCreateKey(String value) throws NoKeysAvailableException {
     int key;
     if (value == null || StringColumnType.missingValueIndicator().equals(value)) {
       key = MISSING_VALUE;
@@ -258,8 +361,27 @@ public class IntDictionaryMap implements DictionaryMap {
       key = getValueId();
       put(key, value);
     }
-    values.add(key);
-    keyToCount.addTo(key, 1);
+    return key;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DictionaryMap mapValues(Function<String, String> function)
+      throws NoKeysAvailableException {
+    IntDictionaryMap result = new IntDictionaryMap();
+    Int2IntOpenHashMap newKeys = new Int2IntOpenHashMap(keyToValue.size());
+    for (Int2ObjectMap.Entry<String> entry : keyToValue.int2ObjectEntrySet()) {
+      newKeys.put(entry.getIntKey(), result.getOrCreateKey(function.apply(entry.getValue())));
+    }
+    int[] mapped = new int[values.size()];
+    for (int i = 0; i < mapped.length; i++) {
+      mapped[i] = newKeys.get(values.getInt(i));
+    }
+    result.values = IntArrayList.wrap(mapped);
+    for (Int2IntMap.Entry entry : keyToCount.int2IntEntrySet()) {
+      result.keyToCount.addTo(newKeys.get(entry.getIntKey()), entry.getIntValue());
+    }
+    return result;
   }
 
   private int getValueId() throws NoKeysAvailableException {
@@ -299,6 +421,7 @@ public class IntDictionaryMap implements DictionaryMap {
       put(valueId, str);
     }
     int oldKey = values.set(rowIndex, valueId);
+    bitmapIndex.set(rowIndex, oldKey, valueId);
     keyToCount.addTo(valueId, 1);
     if (keyToCount.addTo(oldKey, -1) == 1) {
       String obsoleteValue = keyToValue.remove(oldKey);
@@ -311,6 +434,7 @@ public class IntDictionaryMap implements DictionaryMap {
   public void clear() {
     nextIndex = new AtomicInteger(DEFAULT_RETURN_VALUE);
     values.clear();
+    bitmapIndex.invalidate();
     keyToValue.clear();
     valueToKey.clear();
     keyToCount.clear();
@@ -334,8 +458,12 @@ public class IntDictionaryMap implements DictionaryMap {
 
   @Override
   public Selection isEqualTo(String string) {
-    Selection results = new BitmapBackedSelection();
     int key = getKeyForValue(string);
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return key == DEFAULT_RETURN_VALUE ? new BitmapBackedSelection() : index.get(key);
+    }
+    Selection results = new BitmapBackedSelection();
     addValuesToSelection(results, key);
     return results;
   }
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.strings;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.util.Collection;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.columns.storage.MemoryEstimates;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * A bitmap index over the keys of a {@link DictionaryMap}. It holds one bitmap per dictionary key,
+ * containing the rows that hold that key, so that equality and membership filters become bitmap
+ * unions rather than scans of every row. This works well for columns with few unique values
+ */
+class KeyBitmapIndex {
+
+  private final Int2ObjectOpenHashMap<RoaringBitmap> keyToRows = new Int2ObjectOpenHashMap<>();
+
+  /** Returns a new index over the keys currently held by the given dictionary */
+  static KeyBitmapIndex build(DictionaryMap dictionary) {
+    KeyBitmapIndex index = new KeyBitmapIndex();
+    for (int row = 0; row < dictionary.size(); row++) {
+      index.add(row, dictionary.getKeyForIndex(row));
+    }
+    return index;
+  }
+
+  /** Returns the approximate number of bytes used by the index */
+  long memoryUsage() {
+    long bytes =
+        MemoryEstimates.hashTable(keyToRows.size(), Integer.BYTES + MemoryEstimates.REFERENCE);
+    for (RoaringBitmap rows : keyToRows.values()) {
+      bytes += rows.getLongSizeInBytes();
+    }
+    return bytes;
+  }
+
+  /** Records that the given row holds the given key */
+  void add(int row, int key) {
+    RoaringBitmap rows = keyToRows.get(key);
+    if (rows == null) {
+      rows = new RoaringBitmap();
+      keyToRows.put(key, rows);
+    }
+    rows.add(row);
+  }
+
+  /** Records that the key held by the given row has changed from oldKey to newKey */
+  void set(int row, int oldKey, int newKey) {
+    RoaringBitmap rows = keyToRows.get(oldKey);
+    if (rows != null) {
+      rows.remove(row);
+      if (rows.isEmpty()) {
+        keyToRows.remove(oldKey);
+      }
+    }
+    add(row, newKey);
+  }
+
+  /** Returns a selection of the rows that hold the given key */
+  Selection get(int key) {
+    RoaringBitmap rows = keyToRows.get(key);
+    if (rows == null) {
+      return new BitmapBackedSelection();
+    }
+    return new BitmapBackedSelection(rows.clone());
+  }
+
+  /** Returns a selection of the rows that hold any of the given keys */
+  Selection getAll(Collection<? extends Number> keys) {
+    RoaringBitmap result = new RoaringBitmap();
+    for (Number key : keys) {
+      RoaringBitmap rows = keyToRows.get(key.intValue());
+      if (rows != null) {
+        result.or(rows);
+      }
+    }
+    return new BitmapBackedSelection(result);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.strings;
+
+/**
+ * Keeps the {@link KeyBitmapIndex} for a dictionary: whether one is enabled, and the index itself
+ * while it's current. Changes that move many rows at once, like sorting, just discard the index,
+ * and it's rebuilt the next time it's needed
+ */
+class KeyBitmapIndexSupport {
+
+  private final DictionaryMap dictionary;
+
+  // true if a bitmap of the rows holding each key is maintained
+  private boolean enabled;
+
+  // the bitmaps for each key, or null if they need to be rebuilt. Volatile because readers on
+  // several threads may rebuild it at once
+  private volatile KeyBitmapIndex index;
+
+  KeyBitmapIndexSupport(DictionaryMap dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  void enable() {
+    enabled = true;
+    index = KeyBitmapIndex.build(dictionary);
+  }
+
+  void disable() {
+    enabled = false;
+    index = null;
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Returns the index, rebuilding it if necessary, or null if it isn't enabled */
+  KeyBitmapIndex current() {
+    KeyBitmapIndex current = index;
+    if (enabled && current == null) {
+      // build it fully before publishing it, so other threads never see a partly built index
+      current = KeyBitmapIndex.build(dictionary);
+      index = current;
+    }
+    return current;
+  }
+
+  /** Discards the index, so it's rebuilt the next time it's needed */
+  void invalidate() {
+    index = null;
+  }
+
+  /** Records that the given row, just appended, holds the given key */
+  void add(int row, int key) {
+    if (index != null) {
+      index.add(row, key);
+    }
+  }
+
+  /** Records that the key held by the given row has changed from oldKey to newKey */
+  void set(int row, int oldKey, int newKey) {
+    if (index != null) {
+      index.set(row, oldKey, newKey);
+    }
+  }
+
+  /** Returns the approximate number of bytes used by the index, if it's been built */
+  long memoryUsage() {
+    return index == null ? 0 : index.memoryUsage();
+  }
+}
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.selection.Selection;
@@ -12,13 +13,16 @@ import tech.tablesaw.selection.Selection;
  * A null dictionary map has no actual dictionary as the underlying data is not dictionary encoded.
  * It works with textual data that is non-categorical, or where the number of categories approaches
  * 1/2 of the total number of values, making dictionary encoding inefficient.
+ *
+ * <p>The values are held as UTF-8 bytes in a {@link Utf8StringData}, rather than as a String per
+ * row.
  */
 public class NullDictionaryMap implements DictionaryMap {
 
-  private final TextualStringData data;
+  private final Utf8StringData data;
 
   public NullDictionaryMap(DictionaryMap dictionaryMap) {
-    data = TextualStringData.create();
+    data = Utf8StringData.create();
     for (String s : dictionaryMap) {
       data.append(s);
     }
@@ -112,16 +116,84 @@ public class NullDictionaryMap implements DictionaryMap {
     return data.countUnique();
   }
 
+  @Override
+  public long trimToSize() {
+    return data.trimToSize();
+  }
+
+  @Override
+  public long memoryUsage() {
+    return data.memoryUsage();
+  }
+
   @Override
   public Table countByCategory(String columnName) {
     return data.countByCategory(columnName);
   }
 
+  @Override
+  public DictionaryMap mapValues(Function<String, String> function) {
+    throw new UnsupportedOperationException(
+        "NullDictionaryMap does not support mapValues because there is no dictionary encoding.");
+  }
+
+  /** Does nothing, as there are no dictionary keys to index */
+  @Override
+  public void enableBitmapIndex() {}
+
+  @Override
+  public void disableBitmapIndex() {}
+
+  @Override
+  public boolean isBitmapIndexEnabled() {
+    return false;
+  }
+
+  @Override
+  public boolean equals(int rowNumber1, int rowNumber2) {
+    return data.equals(rowNumber1, rowNumber2);
+  }
+
   @Override
   public Selection isEqualTo(String string) {
     return data.isEqualTo(string);
   }
 
+  @Override
+  public Selection isNotEqualTo(String string) {
+    return data.isNotEqualTo(string);
+  }
+
+  @Override
+  public Selection startsWith(String string) {
+    return data.startsWith(string);
+  }
+
+  @Override
+  public Selection endsWith(String string) {
+    return data.endsWith(string);
+  }
+
+  @Override
+  public Selection containsString(String string) {
+    return data.containsString(string);
+  }
+
+  @Override
+  public Selection isEmptyString() {
+    return data.isEmptyString();
+  }
+
+  @Override
+  public Selection isMissing() {
+    return data.isMissing();
+  }
+
+  @Override
+  public Selection isNotMissing() {
+    return data.isNotMissing();
+  }
+
   @Override
   public String get(int index) {
     return data.get(index);
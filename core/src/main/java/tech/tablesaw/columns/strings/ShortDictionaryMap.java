@@ -23,13 +23,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.storage.MemoryEstimates;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 /** A map that supports reversible key value pairs of short-String */
 public class ShortDictionaryMap implements DictionaryMap {
@@ -67,12 +71,21 @@ public class ShortDictionaryMap implements DictionaryMap {
 
   private Short2IntOpenHashMap keyToCount = new Short2IntOpenHashMap();
 
+  // the bitmaps of the rows holding each key, if they're maintained
+  private final KeyBitmapIndexSupport bitmapIndex = new KeyBitmapIndexSupport(this);
+
   /** {@inheritDoc} */
   @Override
   public int getKeyAtIndex(int rowNumber) {
     return values.getShort(rowNumber);
   }
 
+  private ShortDictionaryMap(boolean canPromoteToText) {
+    valueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    keyToCount.defaultReturnValue(0);
+    this.canPromoteToText = canPromoteToText;
+  }
+
   /** Returns a new DictionaryMap that is a deep copy of the original */
   ShortDictionaryMap(ByteDictionaryMap original) throws NoKeysAvailableException {
     valueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
@@ -83,6 +96,9 @@ public class ShortDictionaryMap implements DictionaryMap {
       String value = original.getValueForIndex(i);
       append(value);
     }
+    if (original.isBitmapIndexEnabled()) {
+      enableBitmapIndex();
+    }
   }
 
   private ShortDictionaryMap(ShortDictionaryBuilder builder) {
@@ -175,6 +191,7 @@ public class ShortDictionaryMap implements DictionaryMap {
     short[] elements = values.toShortArray();
     ShortArrays.parallelQuickSort(elements, dictionarySortComparator);
     this.values = new ShortArrayList(elements);
+    bitmapIndex.invalidate();
   }
 
   @Override
@@ -191,6 +208,7 @@ public class ShortDictionaryMap implements DictionaryMap {
     short[] elements = values.toShortArray();
     ShortArrays.parallelQuickSort(elements, reverseDictionarySortComparator);
     this.values = new ShortArrayList(elements);
+    bitmapIndex.invalidate();
   }
 
   public int countOccurrences(String value) {
@@ -214,11 +232,85 @@ public class ShortDictionaryMap implements DictionaryMap {
     return output;
   }
 
+  /**
+   * Evaluates the predicate once for each key in the dictionary rather than once for each row, and
+   * then selects the rows holding one of the matching keys
+   */
+  @Override
+  public Selection eval(Predicate<String> predicate) {
+    ShortArrayList matchingKeys = new ShortArrayList();
+    for (Short2ObjectMap.Entry<String> entry : keyToValue.short2ObjectEntrySet()) {
+      if (predicate.test(entry.getValue())) {
+        matchingKeys.add(entry.getShortKey());
+      }
+    }
+    if (matchingKeys.isEmpty()) {
+      return new BitmapBackedSelection();
+    }
+    if (matchingKeys.size() == keyToValue.size()) {
+      return Selection.withRange(0, size());
+    }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(matchingKeys);
+    }
+    boolean[] matches = new boolean[1 << Short.SIZE];
+    for (short key : matchingKeys) {
+      matches[key - Short.MIN_VALUE] = true;
+    }
+    ShortArrayList keys = values;
+    return SelectionEvaluator.eval(keys.size(), i -> matches[keys.getShort(i) - Short.MIN_VALUE]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void enableBitmapIndex() {
+    bitmapIndex.enable();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void disableBitmapIndex() {
+    bitmapIndex.disable();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isBitmapIndexEnabled() {
+    return bitmapIndex.isEnabled();
+  }
+
   @Override
   public int countUnique() {
     return keyToValueMap().size();
   }
 
+  @Override
+  public long trimToSize() {
+    long spare = (long) (values.elements().length - values.size()) * Short.BYTES;
+    values.trim();
+    if (keyToValue instanceof Short2ObjectOpenHashMap) {
+      ((Short2ObjectOpenHashMap<String>) keyToValue).trim();
+    }
+    valueToKey.trim();
+    keyToCount.trim();
+    return spare;
+  }
+
+  @Override
+  public long memoryUsage() {
+    long bytes = MemoryEstimates.arrayList(values.elements().length, Short.BYTES);
+    int unique = keyToValue.size();
+    bytes += MemoryEstimates.hashTable(unique, Short.BYTES + MemoryEstimates.REFERENCE);
+    bytes += MemoryEstimates.hashTable(unique, MemoryEstimates.REFERENCE + Short.BYTES);
+    bytes += MemoryEstimates.hashTable(keyToCount.size(), Short.BYTES + Integer.BYTES);
+    for (String value : keyToValue.values()) {
+      bytes += MemoryEstimates.string(value);
+    }
+    bytes += bitmapIndex.memoryUsage();
+    return bytes;
+  }
+
   @Override
   public Selection selectIsIn(String... strings) {
     ShortOpenHashSet keys = new ShortOpenHashSet(strings.length);
@@ -228,6 +320,10 @@ public class ShortDictionaryMap implements DictionaryMap {
         keys.add(key);
       }
     }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(keys);
+    }
 
     Selection results = new BitmapBackedSelection();
     for (int i = 0; i < values.size(); i++) {
@@ -247,6 +343,10 @@ public class ShortDictionaryMap implements DictionaryMap {
         keys.add(key);
       }
     }
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return index.getAll(keys);
+    }
 
     Selection results = new BitmapBackedSelection();
     for (int i = 0; i < values.size(); i++) {
@@ -259,6 +359,14 @@ public class ShortDictionaryMap implements DictionaryMap {
 
   @Override
   public void append(String value) throws NoKeysAvailableException {
+    short key = getOrCreateKey(value);
+    values.add(key);
+    keyToCount.addTo(key, 1);
+    bitmapIndex.add(values.size() - 1, key);
+  }
+
+  /** Returns the key for the given value, adding the value to the dictionary if necessary */
+  private short getOrCreateKey(String value) throws NoKeysAvailableException {
     short key;
     if (value == null || StringColumnType.missingValueIndicator().equals(value)) {
       key = MISSING_VALUE;
@@ -270,8 +378,29 @@ public class ShortDictionaryMap implements DictionaryMap {
       key = getValueId();
       put(key, value);
     }
-    values.add(key);
-    keyToCount.addTo(key, 1);
+    return key;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DictionaryMap mapValues(Function<String, String> function)
+      throws NoKeysAvailableException {
+    ShortDictionaryMap result = new ShortDictionaryMap(canPromoteToText);
+    // the new key for each old key, indexed by the old key's offset from Short.MIN_VALUE
+    short[] newKeys = new short[1 << Short.SIZE];
+    for (Short2ObjectMap.Entry<String> entry : keyToValue.short2ObjectEntrySet()) {
+      newKeys[entry.getShortKey() - Short.MIN_VALUE] =
+          result.getOrCreateKey(function.apply(entry.getValue()));
+    }
+    short[] mapped = new short[values.size()];
+    for (int i = 0; i < mapped.length; i++) {
+      mapped[i] = newKeys[values.getShort(i) - Short.MIN_VALUE];
+    }
+    result.values = ShortArrayList.wrap(mapped);
+    for (Short2IntMap.Entry entry : keyToCount.short2IntEntrySet()) {
+      result.keyToCount.addTo(newKeys[entry.getShortKey() - Short.MIN_VALUE], entry.getIntValue());
+    }
+    return result;
   }
 
   private short getValueId() throws NoKeysAvailableException {
@@ -313,6 +442,7 @@ public class ShortDictionaryMap implements DictionaryMap {
       put(valueId, str);
     }
     short oldKey = values.set(rowIndex, valueId);
+    bitmapIndex.set(rowIndex, oldKey, valueId);
     keyToCount.addTo(valueId, 1);
     if (keyToCount.addTo(oldKey, -1) == 1) {
       String obsoleteValue = keyToValue.remove(oldKey);
@@ -325,6 +455,7 @@ public class ShortDictionaryMap implements DictionaryMap {
   public void clear() {
     nextIndex = new AtomicInteger(DEFAULT_RETURN_VALUE);
     values.clear();
+    bitmapIndex.invalidate();
     keyToValue.clear();
     valueToKey.clear();
     keyToCount.clear();
@@ -348,8 +479,12 @@ public class ShortDictionaryMap implements DictionaryMap {
 
   @Override
   public Selection isEqualTo(String string) {
-    Selection results = new BitmapBackedSelection();
     short key = getKeyForValue(string);
+    KeyBitmapIndex index = bitmapIndex.current();
+    if (index != null) {
+      return key == DEFAULT_RETURN_VALUE ? new BitmapBackedSelection() : index.get(key);
+    }
+    Selection results = new BitmapBackedSelection();
     addValuesToSelection(results, key);
     return results;
   }
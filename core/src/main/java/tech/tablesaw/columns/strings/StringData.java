@@ -57,6 +57,9 @@ public interface StringData extends StringFilters, StringReduceUtils {
 
   boolean isMissing(int rowNumber);
 
+  /** Returns true if the values in the two given rows are equal */
+  boolean equals(int rowNumber1, int rowNumber2);
+
   int countUnique();
 
   void append(Column<String> column);
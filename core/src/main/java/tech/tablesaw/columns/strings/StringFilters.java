@@ -40,47 +40,24 @@ import tech.tablesaw.columns.Column;
 import tech.tablesaw.filtering.StringFilterSpec;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 public interface StringFilters extends StringFilterSpec<Selection> {
 
   default Selection eval(BiPredicate<String, String> predicate, Column<String> otherColumn) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx), otherColumn.get(idx))) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx), otherColumn.get(idx)));
   }
 
   default Selection eval(BiPredicate<String, String> predicate, String value) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx), value)) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx), value));
   }
 
   default Selection eval(BiPredicate<String, Integer> predicate, Integer value) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx), value)) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx), value));
   }
 
   default Selection eval(Predicate<String> predicate) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx))) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx)));
   }
 
   default Selection equalsIgnoreCase(String string) {
@@ -20,6 +20,7 @@ import com.google.common.base.Strings;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
@@ -41,29 +42,32 @@ public interface StringMapFunctions {
 
   String getString(int idx);
 
-  default StringColumn upperCase() {
-    StringColumn newColumn = StringColumn.create(this.name() + "[ucase]");
-
+  /**
+   * Returns a new column with the given name, containing the result of applying the given function
+   * to each value in this column. Missing values are passed to the function as the missing value
+   * indicator.
+   *
+   * <p>Dictionary-encoded columns apply the function once for each unique value rather than once
+   * for each row, so the function must return the same result whenever it's given the same value
+   *
+   * @param columnName the name of the new column
+   * @param function the function to apply to each value
+   * @return the new column
+   */
+  default StringColumn mapValues(String columnName, Function<String, String> function) {
+    StringColumn newColumn = StringColumn.create(columnName);
     for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      if (value == null) {
-        newColumn.append(StringColumnType.missingValueIndicator());
-      } else {
-        newColumn.append(value.toUpperCase());
-      }
+      newColumn.append(function.apply(getString(r)));
     }
     return newColumn;
   }
 
-  default StringColumn lowerCase() {
-
-    StringColumn newColumn = StringColumn.create(name() + "[lcase]");
+  default StringColumn upperCase() {
+    return mapValues(name() + "[ucase]", String::toUpperCase);
+  }
 
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.toLowerCase());
-    }
-    return newColumn;
+  default StringColumn lowerCase() {
+    return mapValues(name() + "[lcase]", String::toLowerCase);
   }
 
   /**
@@ -79,14 +83,7 @@ public interface StringMapFunctions {
    * </pre>
    */
   default StringColumn capitalize() {
-
-    StringColumn newColumn = StringColumn.create(name() + "[titleCase]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(StringUtils.capitalize(value));
-    }
-    return newColumn;
+    return mapValues(name() + "[titleCase]", StringUtils::capitalize);
   }
 
   /**
@@ -101,57 +98,24 @@ public interface StringMapFunctions {
    * @return the new StringColumn
    */
   default StringColumn repeat(int times) {
-
-    StringColumn newColumn = StringColumn.create(String.format("%s [rep %d]", name(), times));
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(StringUtils.repeat(value, times));
-    }
-    return newColumn;
+    return mapValues(
+        String.format("%s [rep %d]", name(), times), value -> StringUtils.repeat(value, times));
   }
 
   default StringColumn trim() {
-
-    StringColumn newColumn = StringColumn.create(name() + "[trim]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.trim());
-    }
-    return newColumn;
+    return mapValues(name() + "[trim]", String::trim);
   }
 
   default StringColumn replaceAll(String regex, String replacement) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[repl]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.replaceAll(regex, replacement));
-    }
-    return newColumn;
+    return mapValues(name() + "[repl]", value -> value.replaceAll(regex, replacement));
   }
 
   default StringColumn replaceFirst(String regex, String replacement) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[repl]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.replaceFirst(regex, replacement));
-    }
-    return newColumn;
+    return mapValues(name() + "[repl]", value -> value.replaceFirst(regex, replacement));
   }
 
   default StringColumn substring(int start, int end) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[sub]");
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.substring(start, end));
-    }
-    return newColumn;
+    return mapValues(name() + "[sub]", value -> value.substring(start, end));
   }
 
   /**
@@ -161,14 +125,7 @@ public interface StringMapFunctions {
    *     start
    */
   default StringColumn substring(int start) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[sub]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.substring(start));
-    }
-    return newColumn;
+    return mapValues(name() + "[sub]", value -> value.substring(start));
   }
 
   /**
@@ -179,22 +136,12 @@ public interface StringMapFunctions {
    */
   default StringColumn abbreviate(int maxWidth) {
     final String defaultAbbrevMarker = "...";
-
-    StringColumn newColumn = StringColumn.create(name() + "[abbr]");
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(StringUtils.abbreviate(value, defaultAbbrevMarker, maxWidth));
-    }
-    return newColumn;
+    return mapValues(
+        name() + "[abbr]", value -> StringUtils.abbreviate(value, defaultAbbrevMarker, maxWidth));
   }
 
   default StringColumn format(String formatString) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[formatted]");
-    for (int r = 0; r < size(); r++) {
-      newColumn.append(String.format(formatString, getString(r)));
-    }
-    return newColumn;
+    return mapValues(name() + "[formatted]", value -> String.format(formatString, value));
   }
 
   /**
@@ -255,25 +202,11 @@ public interface StringMapFunctions {
   }
 
   default StringColumn padEnd(int minLength, char padChar) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[pad]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(Strings.padEnd(value, minLength, padChar));
-    }
-    return newColumn;
+    return mapValues(name() + "[pad]", value -> Strings.padEnd(value, minLength, padChar));
   }
 
   default StringColumn padStart(int minLength, char padChar) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[pad]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(Strings.padStart(value, minLength, padChar));
-    }
-    return newColumn;
+    return mapValues(name() + "[pad]", value -> Strings.padStart(value, minLength, padChar));
   }
 
   default StringColumn commonPrefix(Column<String> column2) {
@@ -373,34 +306,25 @@ public interface StringMapFunctions {
    * @return the new column
    */
   default StringColumn replaceAll(String[] regexArray, String replacement) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[repl]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      for (String regex : regexArray) {
-        value = value.replaceAll(regex, replacement);
-      }
-      newColumn.set(r, value);
-    }
-    return newColumn;
+    return mapValues(
+        name() + "[repl]",
+        value -> {
+          for (String regex : regexArray) {
+            value = value.replaceAll(regex, replacement);
+          }
+          return value;
+        });
   }
 
   default StringColumn tokenizeAndSort(String separator) {
-    StringColumn newColumn = StringColumn.create(name() + "[sorted]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-
-      Splitter splitter = Splitter.on(separator);
-      splitter = splitter.trimResults();
-      splitter = splitter.omitEmptyStrings();
-      List<String> tokens = new ArrayList<>(splitter.splitToList(value));
-      Collections.sort(tokens);
-      value = String.join(separator, tokens);
-      newColumn.set(r, value);
-    }
-    return newColumn;
+    Splitter splitter = Splitter.on(separator).trimResults().omitEmptyStrings();
+    return mapValues(
+        name() + "[sorted]",
+        value -> {
+          List<String> tokens = new ArrayList<>(splitter.splitToList(value));
+          Collections.sort(tokens);
+          return String.join(separator, tokens);
+        });
   }
 
   default DoubleColumn countTokens(String separator) {
@@ -477,36 +401,22 @@ public interface StringMapFunctions {
    * @return a {@link StringColumn}
    */
   default StringColumn tokenizeAndSort() {
-    StringColumn newColumn = StringColumn.create(name() + "[sorted]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      Splitter splitter = Splitter.on(CharMatcher.whitespace());
-      splitter = splitter.trimResults();
-      splitter = splitter.omitEmptyStrings();
-      List<String> tokens = new ArrayList<>(splitter.splitToList(value));
-      Collections.sort(tokens);
-      value = String.join(" ", tokens);
-      newColumn.set(r, value);
-    }
-    return newColumn;
+    Splitter splitter = Splitter.on(CharMatcher.whitespace()).trimResults().omitEmptyStrings();
+    return mapValues(
+        name() + "[sorted]",
+        value -> {
+          List<String> tokens = new ArrayList<>(splitter.splitToList(value));
+          Collections.sort(tokens);
+          return String.join(" ", tokens);
+        });
   }
 
   default StringColumn tokenizeAndRemoveDuplicates(String separator) {
-    StringColumn newColumn = StringColumn.create(name() + "[without duplicates]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-
-      Splitter splitter = Splitter.on(separator);
-      splitter = splitter.trimResults();
-      splitter = splitter.omitEmptyStrings();
-      List<String> tokens = new ArrayList<>(splitter.splitToList(value));
-
-      String result = tokens.stream().distinct().collect(Collectors.joining(separator));
-      newColumn.set(r, result);
-    }
-    return newColumn;
+    Splitter splitter = Splitter.on(separator).trimResults().omitEmptyStrings();
+    return mapValues(
+        name() + "[without duplicates]",
+        value ->
+            splitter.splitToList(value).stream().distinct().collect(Collectors.joining(separator)));
   }
 
   String name();
@@ -56,6 +56,7 @@ public class TextualStringData implements StringData {
   }
 
   /** {@inheritDoc} */
+  @Override
   public boolean equals(int rowNumber1, int rowNumber2) {
     return get(rowNumber1).equals(get(rowNumber2));
   }
@@ -0,0 +1,979 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.strings;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenCustomHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import it.unimi.dsi.fastutil.ints.IntHash;
+import it.unimi.dsi.fastutil.ints.IntOpenCustomHashSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import javax.annotation.Nullable;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.storage.MemoryEstimates;
+import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
+
+/**
+ * String data for free-form text, stored as UTF-8 bytes packed end to end in a few large arrays
+ * rather than as a String object per row. Each row costs twelve bytes plus its encoded length,
+ * instead of the forty or more bytes of object headers, fields and padding that a String and its
+ * backing array take, and the garbage collector has a handful of arrays to trace rather than two
+ * objects per row.
+ *
+ * <p>Values are decoded only when they are read with {@link #get(int)}. Equality, hashing, sorting,
+ * and the prefix, suffix and substring filters work on the encoded bytes directly. Ordering matches
+ * {@link String#compareTo(String)}.
+ *
+ * <p>As with the other string data, the missing value is the empty string, which takes no space in
+ * the arena.
+ *
+ * <p>A Java string may hold unpaired surrogates, which have no UTF-8 encoding. Rather than replace
+ * them with '?', as {@link String#getBytes(java.nio.charset.Charset)} does, each one is written as
+ * the three bytes UTF-8 would use for its code point, as in WTF-8, so every string reads back
+ * unchanged. Those byte sequences never appear in well-formed UTF-8, so values without unpaired
+ * surrogates are unaffected, and the slower decoding they need is only used once one is stored.
+ */
+public class Utf8StringData implements StringData {
+
+  /** The size of the first segment of the arena. Later segments double in size up to the maximum */
+  private static final int INITIAL_SEGMENT_SIZE = 1 << 12;
+
+  /** The largest segment created for values that fit in it. Larger values get their own segment */
+  private static final int MAX_SEGMENT_SIZE = 1 << 24;
+
+  private static final byte[] EMPTY = new byte[0];
+
+  /** The segments holding the encoded values */
+  private final List<byte[]> segments = new ArrayList<>();
+
+  /** The position of the first free byte in the last segment */
+  private int segmentPosition;
+
+  /** The total number of bytes written to the arena, including those no longer referenced */
+  private long arenaBytes;
+
+  /** The number of bytes in the arena that were replaced by calls to set */
+  private long wastedBytes;
+
+  /** True if an escaped unpaired surrogate has been written to the arena */
+  private boolean escapedSurrogates;
+
+  /** The segment index (high 32 bits) and offset in that segment (low 32 bits) of each row */
+  private LongArrayList addresses;
+
+  /** The encoded length of each row */
+  private int[] lengths;
+
+  private final IntComparator rowComparator = this::compareRows;
+
+  private final IntHash.Strategy rowHashStrategy =
+      new IntHash.Strategy() {
+        @Override
+        public int hashCode(int row) {
+          return hashRow(row);
+        }
+
+        @Override
+        public boolean equals(int row1, int row2) {
+          return Utf8StringData.this.equals(row1, row2);
+        }
+      };
+
+  private Utf8StringData(int initialCapacity) {
+    addresses = new LongArrayList(initialCapacity);
+    lengths = new int[Math.max(initialCapacity, 1)];
+  }
+
+  public static Utf8StringData create() {
+    return new Utf8StringData(16);
+  }
+
+  public static Utf8StringData create(String... strings) {
+    Utf8StringData data = new Utf8StringData(strings.length);
+    for (String string : strings) {
+      data.append(string);
+    }
+    return data;
+  }
+
+  public static Utf8StringData create(Collection<String> strings) {
+    Utf8StringData data = new Utf8StringData(strings.size());
+    for (String string : strings) {
+      data.append(string);
+    }
+    return data;
+  }
+
+  public static Utf8StringData create(int size) {
+    Utf8StringData data = new Utf8StringData(size);
+    for (int i = 0; i < size; i++) {
+      data.appendMissing();
+    }
+    return data;
+  }
+
+  /** Returns the total number of bytes held by the arena, including unused and replaced bytes */
+  public long arenaSize() {
+    long size = 0;
+    for (byte[] segment : segments) {
+      size += segment.length;
+    }
+    return size;
+  }
+
+  private byte[] segment(int row) {
+    if (lengths[row] == 0) {
+      return EMPTY;
+    }
+    return segments.get((int) (addresses.getLong(row) >>> 32));
+  }
+
+  private int offset(int row) {
+    return (int) addresses.getLong(row);
+  }
+
+  /** Copies the given bytes into the arena, and returns their address */
+  private long write(byte[] bytes, int from, int length) {
+    if (length == 0) {
+      return 0L;
+    }
+    byte[] segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    if (segment == null || segment.length - segmentPosition < length) {
+      int size =
+          segment == null
+              ? INITIAL_SEGMENT_SIZE
+              : Math.min(Math.max(segment.length, INITIAL_SEGMENT_SIZE) * 2, MAX_SEGMENT_SIZE);
+      segment = new byte[Math.max(size, length)];
+      segments.add(segment);
+      segmentPosition = 0;
+    }
+    System.arraycopy(bytes, from, segment, segmentPosition, length);
+    if (!escapedSurrogates && hasEscapedSurrogate(bytes, from, length)) {
+      escapedSurrogates = true;
+    }
+    long address = ((long) (segments.size() - 1) << 32) | segmentPosition;
+    segmentPosition += length;
+    arenaBytes += length;
+    return address;
+  }
+
+  private void appendBytes(byte[] bytes, int from, int length) {
+    int row = addresses.size();
+    addresses.add(write(bytes, from, length));
+    if (row == lengths.length) {
+      lengths = Arrays.copyOf(lengths, (int) Math.min(Integer.MAX_VALUE - 8, row * 2L));
+    }
+    lengths[row] = length;
+  }
+
+  /** Appends the value at the given row of the source without decoding it */
+  private void appendRow(Utf8StringData source, int row) {
+    appendBytes(source.segment(row), source.offset(row), source.lengths[row]);
+  }
+
+  private static byte[] encode(@Nullable String value) {
+    if (value == null) {
+      return EMPTY;
+    }
+    return hasUnpairedSurrogate(value) ? encodeEscaped(value) : value.getBytes(UTF_8);
+  }
+
+  private static boolean hasUnpairedSurrogate(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (Character.isHighSurrogate(c)
+          && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Encodes a value as UTF-8, writing each unpaired surrogate as if it were a character */
+  private static byte[] encodeEscaped(String value) {
+    byte[] bytes = new byte[value.length() * 3];
+    int n = 0;
+    for (int i = 0; i < value.length(); i++) {
+      int c = value.charAt(i);
+      if (c < 0x80) {
+        bytes[n++] = (byte) c;
+      } else if (c < 0x800) {
+        bytes[n++] = (byte) (0xC0 | c >> 6);
+        bytes[n++] = (byte) (0x80 | c & 0x3F);
+      } else if (Character.isHighSurrogate((char) c)
+          && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint((char) c, value.charAt(++i));
+        bytes[n++] = (byte) (0xF0 | codePoint >> 18);
+        bytes[n++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        bytes[n++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        bytes[n++] = (byte) (0x80 | codePoint & 0x3F);
+      } else {
+        bytes[n++] = (byte) (0xE0 | c >> 12);
+        bytes[n++] = (byte) (0x80 | c >> 6 & 0x3F);
+        bytes[n++] = (byte) (0x80 | c & 0x3F);
+      }
+    }
+    return Arrays.copyOf(bytes, n);
+  }
+
+  /** Returns true if the byte at the given position starts an escaped surrogate */
+  private static boolean isEscapedSurrogate(byte[] bytes, int position, int end) {
+    return bytes[position] == (byte) 0xED
+        && position + 1 < end
+        && (bytes[position + 1] & 0xFF) >= 0xA0;
+  }
+
+  private static boolean hasEscapedSurrogate(byte[] bytes, int from, int length) {
+    for (int i = from; i < from + length; i++) {
+      if (isEscapedSurrogate(bytes, i, from + length)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Decodes bytes written by {@link #encodeEscaped(String)} */
+  private static String decodeEscaped(byte[] bytes, int from, int length) {
+    char[] chars = new char[length];
+    int n = 0;
+    int i = from;
+    while (i < from + length) {
+      int b = bytes[i] & 0xFF;
+      if (b < 0x80) {
+        chars[n++] = (char) b;
+        i += 1;
+      } else if (b < 0xE0) {
+        chars[n++] = (char) ((b & 0x1F) << 6 | bytes[i + 1] & 0x3F);
+        i += 2;
+      } else if (b < 0xF0) {
+        chars[n++] = (char) ((b & 0x0F) << 12 | (bytes[i + 1] & 0x3F) << 6 | bytes[i + 2] & 0x3F);
+        i += 3;
+      } else {
+        int codePoint =
+            (b & 0x07) << 18
+                | (bytes[i + 1] & 0x3F) << 12
+                | (bytes[i + 2] & 0x3F) << 6
+                | bytes[i + 3] & 0x3F;
+        n += Character.toChars(codePoint, chars, n);
+        i += 4;
+      }
+    }
+    return new String(chars, 0, n);
+  }
+
+  /** Returns true if the bytes of the given row, starting at the given position, match target */
+  private boolean regionMatches(int row, int position, byte[] target) {
+    byte[] segment = segment(row);
+    int offset = offset(row) + position;
+    for (int i = 0; i < target.length; i++) {
+      if (segment[offset + i] != target[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean rowEquals(int row, byte[] target) {
+    return lengths[row] == target.length && regionMatches(row, 0, target);
+  }
+
+  private int hashRow(int row) {
+    return hash(segment(row), offset(row), lengths[row]);
+  }
+
+  private static int hash(byte[] bytes, int from, int length) {
+    int h = 1;
+    for (int i = from; i < from + length; i++) {
+      h = 31 * h + bytes[i];
+    }
+    return h;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(int rowNumber1, int rowNumber2) {
+    int length = lengths[rowNumber1];
+    if (length != lengths[rowNumber2]) {
+      return false;
+    }
+    byte[] segment1 = segment(rowNumber1);
+    byte[] segment2 = segment(rowNumber2);
+    int offset1 = offset(rowNumber1);
+    int offset2 = offset(rowNumber2);
+    for (int i = 0; i < length; i++) {
+      if (segment1[offset1 + i] != segment2[offset2 + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares the values in two rows, giving the same result as {@link String#compareTo(String)} on
+   * the decoded values
+   */
+  private int compareRows(int row1, int row2) {
+    byte[] segment1 = segment(row1);
+    byte[] segment2 = segment(row2);
+    int offset1 = offset(row1);
+    int offset2 = offset(row2);
+    int length1 = lengths[row1];
+    int length2 = lengths[row2];
+    int length = Math.min(length1, length2);
+    for (int i = 0; i < length; i++) {
+      int b1 = segment1[offset1 + i] & 0xFF;
+      int b2 = segment2[offset2 + i] & 0xFF;
+      if (b1 != b2) {
+        // UTF-8 bytes sort in code point order, but Strings sort by UTF-16 code unit, where
+        // characters above U+FFFF (surrogate pairs) come before U+E000 to U+FFFF. The first
+        // differing byte is always the lead byte of a character when the two characters differ in
+        // encoded length, so only those two lead byte ranges need fixing
+        if (escapedSurrogates
+            && (b1 >= 0xF0 || b2 >= 0xF0)
+            && (isEscapedSurrogate(segment1, offset1 + i, offset1 + length1)
+                || isEscapedSurrogate(segment2, offset2 + i, offset2 + length2))) {
+          // an unpaired surrogate against a surrogate pair depends on the code units that follow
+          return get(row1).compareTo(get(row2));
+        }
+        if (b1 >= 0xF0 && (b2 == 0xEE || b2 == 0xEF)) {
+          return -1;
+        }
+        if (b2 >= 0xF0 && (b1 == 0xEE || b1 == 0xEF)) {
+          return 1;
+        }
+        return b1 - b2;
+      }
+    }
+    return length1 - length2;
+  }
+
+  public static boolean valueIsMissing(String string) {
+    return StringColumnType.valueIsMissing(string);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData appendMissing() {
+    appendBytes(EMPTY, 0, 0);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData append(String value) {
+    byte[] bytes = encode(value);
+    appendBytes(bytes, 0, bytes.length);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void append(Column<String> column) {
+    for (int i = 0; i < column.size(); i++) {
+      append(column.getString(i));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData appendObj(Object obj) {
+    if (obj == null) {
+      return appendMissing();
+    }
+    if (!(obj instanceof String)) {
+      throw new IllegalArgumentException(
+          "Cannot append " + obj.getClass().getName() + " to StringColumn");
+    }
+    return append((String) obj);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData emptyCopy() {
+    return create();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData emptyCopy(int rowSize) {
+    return create(rowSize);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void sortAscending() {
+    sort(rowComparator);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void sortDescending() {
+    sort((row1, row2) -> compareRows(row2, row1));
+  }
+
+  /** Reorders the rows by the given comparator. Only the addresses move; the bytes stay put */
+  private void sort(IntComparator comparator) {
+    int[] rows = new int[size()];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = i;
+    }
+    IntArrays.mergeSort(rows, comparator);
+    long[] sortedAddresses = new long[rows.length];
+    int[] sortedLengths = new int[Math.max(rows.length, 1)];
+    for (int i = 0; i < rows.length; i++) {
+      sortedAddresses[i] = addresses.getLong(rows[i]);
+      sortedLengths[i] = lengths[rows[i]];
+    }
+    addresses = LongArrayList.wrap(sortedAddresses);
+    lengths = sortedLengths;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    segments.clear();
+    segmentPosition = 0;
+    arenaBytes = 0;
+    wastedBytes = 0;
+    escapedSurrogates = false;
+    addresses.clear();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return addresses.size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return addresses.isEmpty();
+  }
+
+  /**
+   * Returns the value at rowIndex in this column. The index is zero-based.
+   *
+   * @param rowIndex index of the row
+   * @return value as String
+   * @throws IndexOutOfBoundsException if the given rowIndex is not in the column
+   */
+  @Override
+  public String get(int rowIndex) {
+    if (rowIndex >= size()) {
+      throw new IndexOutOfBoundsException("Index: " + rowIndex + ", Size: " + size());
+    }
+    int length = lengths[rowIndex];
+    if (length == 0) {
+      return StringColumnType.missingValueIndicator();
+    }
+    byte[] segment = segment(rowIndex);
+    int offset = offset(rowIndex);
+    if (escapedSurrogates && hasEscapedSurrogate(segment, offset, length)) {
+      return decodeEscaped(segment, offset, length);
+    }
+    return new String(segment, offset, length, UTF_8);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData set(Selection rowSelection, String newValue) {
+    for (int row : rowSelection) {
+      set(row, newValue);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The new value is written to the end of the arena, and the space held by the old value is
+   * reclaimed once replaced values make up more than half of the arena
+   */
+  @Override
+  public Utf8StringData set(int rowIndex, String stringValue) {
+    byte[] bytes = encode(stringValue);
+    if (rowEquals(rowIndex, bytes)) {
+      return this;
+    }
+    wastedBytes += lengths[rowIndex];
+    addresses.set(rowIndex, write(bytes, 0, bytes.length));
+    lengths[rowIndex] = bytes.length;
+    if (wastedBytes > INITIAL_SEGMENT_SIZE && wastedBytes * 2 > arenaBytes) {
+      compact();
+    }
+    return this;
+  }
+
+  /** Rewrites the arena so it holds only the bytes of the current values, in row order */
+  public void compact() {
+    Utf8StringData compacted = new Utf8StringData(size());
+    long liveBytes = arenaBytes - wastedBytes;
+    if (liveBytes > 0) {
+      compacted.segments.add(new byte[(int) Math.min(liveBytes, MAX_SEGMENT_SIZE)]);
+    }
+    for (int row = 0; row < size(); row++) {
+      compacted.appendRow(this, row);
+    }
+    segments.clear();
+    segments.addAll(compacted.segments);
+    segmentPosition = compacted.segmentPosition;
+    arenaBytes = compacted.arenaBytes;
+    wastedBytes = 0;
+    addresses = compacted.addresses;
+    lengths = compacted.lengths;
+  }
+
+  /**
+   * Compacts the arena and trims the per-row arrays to the number of rows, and returns the number
+   * of bytes released
+   */
+  public long trimToSize() {
+    long before = capacityBytes();
+    compact();
+    return before - capacityBytes();
+  }
+
+  /** Returns the approximate number of bytes used by the arena and the per-row arrays */
+  public long memoryUsage() {
+    // this object, the segments list and its array of references, and the header of each segment
+    return MemoryEstimates.object(
+            Long.BYTES * 2 + Integer.BYTES + 1 + MemoryEstimates.REFERENCE * 4)
+        + MemoryEstimates.arrayList(segments.size(), MemoryEstimates.REFERENCE)
+        + segments.size() * (long) MemoryEstimates.ARRAY_HEADER
+        + capacityBytes();
+  }
+
+  private long capacityBytes() {
+    return arenaSize()
+        + (long) addresses.elements().length * Long.BYTES
+        + (long) lengths.length * Integer.BYTES;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData setMissing(int i) {
+    return set(i, StringColumnType.missingValueIndicator());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData lead(int n) {
+    return lag(-n);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData lag(int n) {
+    Utf8StringData copy = new Utf8StringData(size());
+    if (n >= 0) {
+      for (int m = 0; m < n; m++) {
+        copy.appendMissing();
+      }
+      for (int i = 0; i + n < size(); i++) {
+        copy.appendRow(this, i);
+      }
+    } else {
+      for (int i = -n; i < size(); i++) {
+        copy.appendRow(this, i);
+      }
+      for (int m = 0; m > n; m--) {
+        copy.appendMissing();
+      }
+    }
+    return copy;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData copy() {
+    Utf8StringData copy = new Utf8StringData(size());
+    for (byte[] segment : segments) {
+      copy.segments.add(segment.clone());
+    }
+    copy.segmentPosition = segmentPosition;
+    copy.arenaBytes = arenaBytes;
+    copy.wastedBytes = wastedBytes;
+    copy.addresses = new LongArrayList(addresses);
+    copy.lengths = lengths.clone();
+    return copy;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData subset(int[] rows) {
+    Utf8StringData subset = new Utf8StringData(rows.length);
+    for (int row : rows) {
+      subset.appendRow(this, row);
+    }
+    return subset;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData where(Selection selection) {
+    return subset(selection.toArray());
+  }
+
+  /** Returns the first row holding each distinct value */
+  private IntOpenCustomHashSet uniqueRows() {
+    IntOpenCustomHashSet rows = new IntOpenCustomHashSet(rowHashStrategy);
+    for (int row = 0; row < size(); row++) {
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData unique() {
+    Utf8StringData unique = create();
+    for (int row : uniqueRows()) {
+      unique.appendRow(this, row);
+    }
+    return unique;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countUnique() {
+    return uniqueRows().size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<String> asSet() {
+    IntOpenCustomHashSet rows = uniqueRows();
+    Set<String> result = new HashSet<>(rows.size());
+    for (int row : rows) {
+      result.add(get(row));
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Table countByCategory(String columnName) {
+    Int2IntOpenCustomHashMap counts = new Int2IntOpenCustomHashMap(rowHashStrategy);
+    for (int row = 0; row < size(); row++) {
+      counts.addTo(row, 1);
+    }
+    Table t = Table.create("Column: " + columnName);
+    StringColumn categories = StringColumn.create("Category");
+    IntColumn countColumn = IntColumn.create("Count");
+    for (Int2IntMap.Entry entry : counts.int2IntEntrySet()) {
+      categories.append(get(entry.getIntKey()));
+      countColumn.append(entry.getIntValue());
+    }
+    t.addColumns(categories, countColumn);
+    return t;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean contains(String aString) {
+    return firstIndexOf(aString) >= 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int firstIndexOf(String value) {
+    byte[] bytes = encode(value);
+    for (int row = 0; row < size(); row++) {
+      if (rowEquals(row, bytes)) {
+        return row;
+      }
+    }
+    return -1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countOccurrences(String value) {
+    byte[] bytes = encode(value);
+    int count = 0;
+    for (int row = 0; row < size(); row++) {
+      if (rowEquals(row, bytes)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isMissing(int rowNumber) {
+    return lengths[rowNumber] == 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countMissing() {
+    int count = 0;
+    for (int row = 0; row < size(); row++) {
+      if (lengths[row] == 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8StringData removeMissing() {
+    Utf8StringData noMissing = create();
+    for (int row = 0; row < size(); row++) {
+      if (lengths[row] != 0) {
+        noMissing.appendRow(this, row);
+      }
+    }
+    return noMissing;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntComparator rowComparator() {
+    return rowComparator;
+  }
+
+  /** Returns the contents of the cell at rowNumber as a byte[] */
+  @Override
+  public byte[] asBytes(int rowNumber) {
+    int offset = offset(rowNumber);
+    return Arrays.copyOfRange(segment(rowNumber), offset, offset + lengths[rowNumber]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String[] asObjectArray() {
+    final String[] output = new String[size()];
+    for (int i = 0; i < size(); i++) {
+      output[i] = get(i);
+    }
+    return output;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<String> asList() {
+    return Arrays.asList(asObjectArray());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Iterator<String> iterator() {
+    return new Iterator<String>() {
+      private int row = 0;
+
+      @Override
+      public boolean hasNext() {
+        return row < size();
+      }
+
+      @Override
+      public String next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return get(row++);
+      }
+    };
+  }
+
+  /**
+   * Returns a double that can stand in for the string at index i in some ML applications
+   *
+   * @param i The index in this column
+   */
+  @Override
+  public double getDouble(int i) {
+    return get(i).hashCode();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double[] asDoubleArray() {
+    double[] result = new double[size()];
+    for (int i = 0; i < size(); i++) {
+      result[i] = getDouble(i);
+    }
+    return result;
+  }
+
+  /** Returns a predicate that is true for the rows holding one of the given strings */
+  private IntPredicate isInPredicate(Collection<String> strings) {
+    Int2ObjectOpenHashMap<List<byte[]>> candidates = new Int2ObjectOpenHashMap<>();
+    for (String string : strings) {
+      byte[] bytes = encode(string);
+      candidates.computeIfAbsent(hash(bytes, 0, bytes.length), h -> new ArrayList<>()).add(bytes);
+    }
+    return row -> {
+      List<byte[]> matches = candidates.get(hashRow(row));
+      if (matches != null) {
+        for (byte[] bytes : matches) {
+          if (rowEquals(row, bytes)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    };
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isIn(String... strings) {
+    return isIn(Arrays.asList(strings));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isIn(Collection<String> strings) {
+    return SelectionEvaluator.eval(size(), isInPredicate(strings));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isNotIn(String... strings) {
+    return isNotIn(Arrays.asList(strings));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isNotIn(Collection<String> strings) {
+    return SelectionEvaluator.eval(size(), isInPredicate(strings).negate());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isEqualTo(String string) {
+    byte[] bytes = encode(string);
+    return SelectionEvaluator.eval(size(), row -> rowEquals(row, bytes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isNotEqualTo(String string) {
+    byte[] bytes = encode(string);
+    return SelectionEvaluator.eval(size(), row -> !rowEquals(row, bytes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection startsWith(String string) {
+    if (hasUnpairedSurrogate(string)) {
+      // half of a surrogate pair can't be matched on the encoded bytes
+      return SelectionEvaluator.eval(size(), row -> get(row).startsWith(string));
+    }
+    byte[] prefix = encode(string);
+    return SelectionEvaluator.eval(
+        size(), row -> lengths[row] >= prefix.length && regionMatches(row, 0, prefix));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection endsWith(String string) {
+    if (hasUnpairedSurrogate(string)) {
+      return SelectionEvaluator.eval(size(), row -> get(row).endsWith(string));
+    }
+    byte[] suffix = encode(string);
+    return SelectionEvaluator.eval(
+        size(),
+        row ->
+            lengths[row] >= suffix.length
+                && regionMatches(row, lengths[row] - suffix.length, suffix));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Because no UTF-8 encoded character is a byte sequence inside another, searching the bytes
+   * finds exactly the rows whose decoded values contain the string. A string holding an unpaired
+   * surrogate may match half of a surrogate pair, so it's searched for in the decoded values
+   */
+  @Override
+  public Selection containsString(String string) {
+    if (hasUnpairedSurrogate(string)) {
+      return SelectionEvaluator.eval(size(), row -> get(row).contains(string));
+    }
+    byte[] target = encode(string);
+    return SelectionEvaluator.eval(
+        size(),
+        row -> {
+          for (int position = 0; position <= lengths[row] - target.length; position++) {
+            if (regionMatches(row, position, target)) {
+              return true;
+            }
+          }
+          return false;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isEmptyString() {
+    return isMissing();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isMissing() {
+    return SelectionEvaluator.eval(size(), row -> lengths[row] == 0);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isNotMissing() {
+    return SelectionEvaluator.eval(size(), row -> lengths[row] != 0);
+  }
+
+  /**
+   * {@inheritDoc} Unsupported Operation This can't be used on a text column as the number of
+   * BooleanColumns would likely be excessive
+   */
+  @Override
+  public List<BooleanColumn> getDummies() {
+    throw new UnsupportedOperationException(
+        "StringColumns containing arbitary, non-categorical strings do not support the getDummies() method for performance reasons");
+  }
+
+  /** Returns null, as this data is not backed by a dictionaryMap */
+  @Override
+  public @Nullable DictionaryMap getDictionary() {
+    return null;
+  }
+}
@@ -1,7 +1,5 @@
 package tech.tablesaw.columns.temporal;
 
-import static tech.tablesaw.columns.temporal.TemporalPredicates.*;
-
 import java.time.Instant;
 import java.time.temporal.Temporal;
 import java.util.function.BiPredicate;
@@ -9,93 +7,102 @@ import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ColumnStats;
+import tech.tablesaw.columns.ZoneMap;
 import tech.tablesaw.columns.instant.PackedInstant;
 import tech.tablesaw.filtering.InstantFilterSpec;
 import tech.tablesaw.filtering.predicates.LongBiPredicate;
-import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.index.LongIndex;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 public interface TemporalFilters<T extends Temporal>
     extends Column<T>, InstantFilterSpec<Selection> {
 
   default Selection eval(LongPredicate predicate) {
-    Selection bitmap = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      long next = getLongInternal(idx);
-      if (predicate.test(next)) {
-        bitmap.add(idx);
-      }
-    }
-    return bitmap;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getLongInternal(idx)));
   }
 
   default Selection eval(LongBiPredicate predicate, long value) {
-    Selection bitmap = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      long next = getLongInternal(idx);
-      if (predicate.test(next, value)) {
-        bitmap.add(idx);
-      }
-    }
-    return bitmap;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getLongInternal(idx), value));
   }
 
   default Selection eval(LongBiPredicate predicate, DateTimeColumn otherColumn) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(this.getLongInternal(idx), otherColumn.getLongInternal(idx))) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(
+        size(), idx -> predicate.test(this.getLongInternal(idx), otherColumn.getLongInternal(idx)));
   }
 
   default Selection eval(BiPredicate<T, T> predicate, T valueToCompare) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx), valueToCompare)) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx), valueToCompare));
   }
 
   default Selection eval(Predicate<T> predicate) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx))) {
-        selection.add(idx);
-      }
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx)));
+  }
+
+  /**
+   * Returns a selection of the rows whose packed values are greater than or equal to low and less
+   * than or equal to high. The column's index is used if there is one, then a binary search if the
+   * column is sorted, and otherwise its zone map
+   */
+  default Selection evalRange(long low, long high) {
+    if (index() instanceof LongIndex) {
+      return ((LongIndex) index()).between(low, high);
+    }
+    ColumnStats<T> stats = columnStats();
+    if (stats.isAscending() || stats.isDescending()) {
+      return SelectionEvaluator.evalSorted(
+          size(),
+          stats.isAscending(),
+          idx -> {
+            long value = getLongInternal(idx);
+            return value < low ? -1 : value > high ? 1 : 0;
+          });
     }
-    return selection;
+    if (zoneMap() != null) {
+      return zoneMap().isBetweenInclusive(low, high);
+    }
+    return SelectionEvaluator.eval(
+        size(),
+        idx -> {
+          long value = getLongInternal(idx);
+          return value >= low && value <= high;
+        });
   }
 
   default Selection isBetweenExcluding(long lowPackedDateTime, long highPackedDateTime) {
-    return eval(PackedInstant::isAfter, lowPackedDateTime)
-        .and(eval(PackedInstant::isBefore, highPackedDateTime));
+    return evalRange(lowPackedDateTime + 1, highPackedDateTime - 1);
   }
 
   default Selection isBetweenIncluding(long lowPackedDateTime, long highPackedDateTime) {
-    return eval(PackedInstant::isOnOrAfter, lowPackedDateTime)
-        .and(eval(PackedInstant::isOnOrBefore, highPackedDateTime));
+    // missing values are never between two other values
+    long low = Math.max(lowPackedDateTime, Long.MIN_VALUE + 1);
+    return evalRange(low, highPackedDateTime);
   }
 
   default Selection isAfter(Instant value) {
-    return eval(isGreaterThan, PackedInstant.pack(value));
+    return evalRange(PackedInstant.pack(value) + 1, Long.MAX_VALUE);
   }
 
   default Selection isBefore(Instant value) {
-    return eval(isLessThan, PackedInstant.pack(value));
+    return evalRange(Long.MIN_VALUE, PackedInstant.pack(value) - 1);
   }
 
   default Selection isEqualTo(Instant value) {
-    return eval(isEqualTo, PackedInstant.pack(value));
+    long packed = PackedInstant.pack(value);
+    return evalRange(packed, packed);
   }
 
   int size();
 
   long getLongInternal(int index);
 
+  /**
+   * Returns the {@link ZoneMap} used to speed up range filters on this column, or null if this
+   * column doesn't maintain one
+   */
+  ZoneMap zoneMap();
+
   T get(int index);
 
   @Override
@@ -10,63 +10,32 @@ import java.util.function.Predicate;
 import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.filtering.predicates.IntBiPredicate;
-import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
 
 public interface TimeFilters extends Column<LocalTime> {
 
   TimeColumn where(Selection selection);
 
   default Selection eval(IntBiPredicate predicate, TimeColumn otherColumn) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(getIntInternal(idx), otherColumn.getIntInternal(idx))) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(
+        size(), idx -> predicate.test(getIntInternal(idx), otherColumn.getIntInternal(idx)));
   }
 
   default Selection eval(IntPredicate predicate) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      int next = getIntInternal(idx);
-      if (predicate.test(next)) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getIntInternal(idx)));
   }
 
   default Selection eval(IntBiPredicate predicate, int value) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      int next = getIntInternal(idx);
-      if (predicate.test(next, value)) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(getIntInternal(idx), value));
   }
 
   default Selection eval(BiPredicate<LocalTime, LocalTime> predicate, LocalTime valueToCompare) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx), valueToCompare)) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx), valueToCompare));
   }
 
   default Selection eval(Predicate<LocalTime> predicate) {
-    Selection selection = new BitmapBackedSelection();
-    for (int idx = 0; idx < size(); idx++) {
-      if (predicate.test(get(idx))) {
-        selection.add(idx);
-      }
-    }
-    return selection;
+    return SelectionEvaluator.eval(size(), idx -> predicate.test(get(idx)));
   }
 
   default Selection isMidnight() {
@@ -128,25 +97,13 @@ public interface TimeFilters extends Column<LocalTime> {
   }
 
   default Selection isNotEqualTo(LocalTime value) {
-    Selection results = new BitmapBackedSelection();
     int packedLocalTime = PackedLocalTime.pack(value);
-    for (int i = 0; i < size(); i++) {
-      if (packedLocalTime != getIntInternal(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> packedLocalTime != getIntInternal(i));
   }
 
   default Selection isEqualTo(LocalTime value) {
-    Selection results = new BitmapBackedSelection();
     int packedLocalTime = PackedLocalTime.pack(value);
-    for (int i = 0; i < size(); i++) {
-      if (packedLocalTime == getIntInternal(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> packedLocalTime == getIntInternal(i));
   }
 
   /**
@@ -154,13 +111,7 @@ public interface TimeFilters extends Column<LocalTime> {
    * in the given column Columnwise isEqualTo.
    */
   default Selection isEqualTo(TimeColumn column) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (getIntInternal(i) == column.getIntInternal(i)) {
-        results.add(i);
-      }
-    }
-    return results;
+    return SelectionEvaluator.eval(size(), i -> getIntInternal(i) == column.getIntInternal(i));
   }
 
   /**
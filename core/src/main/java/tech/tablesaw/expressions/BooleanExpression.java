@@ -0,0 +1,336 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.expressions;
+
+import com.google.common.annotations.Beta;
+import java.util.function.Function;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * A boolean expression over the rows of a table, built by comparing {@link NumericExpression}s and
+ * combining the comparisons with and, or and not. Applying the expression to a table returns a
+ * {@link Selection} of the rows for which it is true, so it can be passed directly to {@link
+ * Table#where(Function)}.
+ *
+ * <p>Missing values follow three-valued logic, as in SQL. A comparison with a missing value is
+ * neither true nor false but unknown, and so is its negation, so a row with a missing value is
+ * selected neither by {@code isNotEqualTo} nor by the {@link #not()} of any comparison on that row.
+ * And-ing an unknown with false gives false, or-ing it with true gives true, and any other
+ * combination with an unknown is unknown. Only the rows for which the expression is true are
+ * selected.
+ */
+@Beta
+public abstract class BooleanExpression implements Function<Table, Selection> {
+
+  /** Returns a selection of the rows of the given table for which this expression is true */
+  @Override
+  public final Selection apply(Table table) {
+    return new BitmapBackedSelection(evaluate(table).trueRows);
+  }
+
+  /**
+   * Returns the rows of the given table for which this expression is true and those for which it is
+   * false. Rows in neither are unknown because of a missing value
+   */
+  abstract Outcome evaluate(Table table);
+
+  public BooleanExpression and(BooleanExpression other) {
+    return new And(this, other);
+  }
+
+  public BooleanExpression or(BooleanExpression other) {
+    return new Or(this, other);
+  }
+
+  public BooleanExpression not() {
+    return new Not(this);
+  }
+
+  /** The rows for which an expression is true, and those for which it's false */
+  static final class Outcome {
+
+    final RoaringBitmap trueRows;
+    final RoaringBitmap falseRows;
+
+    Outcome(RoaringBitmap trueRows, RoaringBitmap falseRows) {
+      this.trueRows = trueRows;
+      this.falseRows = falseRows;
+    }
+  }
+
+  /** The comparison operators */
+  enum Comparator {
+    EQUAL("=="),
+    NOT_EQUAL("!="),
+    GREATER(">"),
+    GREATER_OR_EQUAL(">="),
+    LESS("<"),
+    LESS_OR_EQUAL("<=");
+
+    private final String symbol;
+
+    Comparator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    /** Returns the comparator that gives the same result when its arguments are swapped */
+    Comparator swapped() {
+      switch (this) {
+        case GREATER:
+          return LESS;
+        case GREATER_OR_EQUAL:
+          return LESS_OR_EQUAL;
+        case LESS:
+          return GREATER;
+        case LESS_OR_EQUAL:
+          return GREATER_OR_EQUAL;
+        default:
+          return this;
+      }
+    }
+  }
+
+  /** A comparison of two numeric expressions */
+  static final class Comparison extends BooleanExpression {
+
+    private final Comparator comparator;
+    private final NumericExpression left;
+    private final NumericExpression right;
+
+    Comparison(Comparator comparator, NumericExpression left, NumericExpression right) {
+      this.comparator = comparator;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    Outcome evaluate(Table table) {
+      RoaringBitmap result;
+      RoaringBitmap missing;
+      if (right instanceof NumericExpression.Literal) {
+        double[] values = left.values(table);
+        double scalar = ((NumericExpression.Literal) right).value();
+        result = compare(comparator, values, scalar);
+        missing = Double.isNaN(scalar) ? all(values.length) : missing(values);
+      } else if (left instanceof NumericExpression.Literal) {
+        double[] values = right.values(table);
+        double scalar = ((NumericExpression.Literal) left).value();
+        result = compare(comparator.swapped(), values, scalar);
+        missing = Double.isNaN(scalar) ? all(values.length) : missing(values);
+      } else {
+        double[] leftValues = left.values(table);
+        double[] rightValues = right.values(table);
+        result = compare(comparator, leftValues, rightValues);
+        missing = missing(leftValues);
+        missing.or(missing(rightValues));
+      }
+      // NaN != x is true, but a comparison with a missing value is unknown
+      result.andNot(missing);
+      RoaringBitmap falseRows = all(table.rowCount());
+      falseRows.andNot(result);
+      falseRows.andNot(missing);
+      return new Outcome(result, falseRows);
+    }
+
+    private static RoaringBitmap missing(double[] values) {
+      RoaringBitmap result = new RoaringBitmap();
+      for (int i = 0; i < values.length; i++) {
+        if (Double.isNaN(values[i])) {
+          result.add(i);
+        }
+      }
+      return result;
+    }
+
+    private static RoaringBitmap all(int rowCount) {
+      return RoaringBitmap.bitmapOfRange(0, rowCount);
+    }
+
+    private static RoaringBitmap compare(Comparator comparator, double[] values, double scalar) {
+      RoaringBitmap result = new RoaringBitmap();
+      switch (comparator) {
+        case EQUAL:
+          for (int i = 0; i < values.length; i++) {
+            if (values[i] == scalar) {
+              result.add(i);
+            }
+          }
+          break;
+        case NOT_EQUAL:
+          for (int i = 0; i < values.length; i++) {
+            if (values[i] != scalar) {
+              result.add(i);
+            }
+          }
+          break;
+        case GREATER:
+          for (int i = 0; i < values.length; i++) {
+            if (values[i] > scalar) {
+              result.add(i);
+            }
+          }
+          break;
+        case GREATER_OR_EQUAL:
+          for (int i = 0; i < values.length; i++) {
+            if (values[i] >= scalar) {
+              result.add(i);
+            }
+          }
+          break;
+        case LESS:
+          for (int i = 0; i < values.length; i++) {
+            if (values[i] < scalar) {
+              result.add(i);
+            }
+          }
+          break;
+        default:
+          for (int i = 0; i < values.length; i++) {
+            if (values[i] <= scalar) {
+              result.add(i);
+            }
+          }
+      }
+      return result;
+    }
+
+    private static RoaringBitmap compare(Comparator comparator, double[] left, double[] right) {
+      RoaringBitmap result = new RoaringBitmap();
+      switch (comparator) {
+        case EQUAL:
+          for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+              result.add(i);
+            }
+          }
+          break;
+        case NOT_EQUAL:
+          for (int i = 0; i < left.length; i++) {
+            if (left[i] != right[i]) {
+              result.add(i);
+            }
+          }
+          break;
+        case GREATER:
+          for (int i = 0; i < left.length; i++) {
+            if (left[i] > right[i]) {
+              result.add(i);
+            }
+          }
+          break;
+        case GREATER_OR_EQUAL:
+          for (int i = 0; i < left.length; i++) {
+            if (left[i] >= right[i]) {
+              result.add(i);
+            }
+          }
+          break;
+        case LESS:
+          for (int i = 0; i < left.length; i++) {
+            if (left[i] < right[i]) {
+              result.add(i);
+            }
+          }
+          break;
+        default:
+          for (int i = 0; i < left.length; i++) {
+            if (left[i] <= right[i]) {
+              result.add(i);
+            }
+          }
+      }
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "(" + left + " " + comparator.symbol + " " + right + ")";
+    }
+  }
+
+  /** True for the rows where both arguments are true, false where either is false */
+  static final class And extends BooleanExpression {
+
+    private final BooleanExpression left;
+    private final BooleanExpression right;
+
+    And(BooleanExpression left, BooleanExpression right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    Outcome evaluate(Table table) {
+      Outcome l = left.evaluate(table);
+      Outcome r = right.evaluate(table);
+      return new Outcome(
+          RoaringBitmap.and(l.trueRows, r.trueRows), RoaringBitmap.or(l.falseRows, r.falseRows));
+    }
+
+    @Override
+    public String toString() {
+      return "(" + left + " && " + right + ")";
+    }
+  }
+
+  /** True for the rows where either argument is true, false where both are false */
+  static final class Or extends BooleanExpression {
+
+    private final BooleanExpression left;
+    private final BooleanExpression right;
+
+    Or(BooleanExpression left, BooleanExpression right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    Outcome evaluate(Table table) {
+      Outcome l = left.evaluate(table);
+      Outcome r = right.evaluate(table);
+      return new Outcome(
+          RoaringBitmap.or(l.trueRows, r.trueRows), RoaringBitmap.and(l.falseRows, r.falseRows));
+    }
+
+    @Override
+    public String toString() {
+      return "(" + left + " || " + right + ")";
+    }
+  }
+
+  /** True for the rows where the argument is false, false where it is true */
+  static final class Not extends BooleanExpression {
+
+    private final BooleanExpression argument;
+
+    Not(BooleanExpression argument) {
+      this.argument = argument;
+    }
+
+    @Override
+    Outcome evaluate(Table table) {
+      Outcome outcome = argument.evaluate(table);
+      return new Outcome(outcome.falseRows, outcome.trueRows);
+    }
+
+    @Override
+    public String toString() {
+      return "!" + argument;
+    }
+  }
+}
@@ -0,0 +1,334 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.expressions;
+
+import com.google.common.annotations.Beta;
+import java.util.Arrays;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.Table;
+
+/**
+ * An arithmetic expression over the numeric columns of a table, built from column references,
+ * literals and the four arithmetic operators. Comparing two expressions produces a {@link
+ * BooleanExpression} that can be passed to {@link Table#where(java.util.function.Function)}.
+ *
+ * <p>Expressions are evaluated a column at a time rather than a row at a time: each node of the
+ * expression computes its result for every row in one tight loop over primitive arrays, so there is
+ * no per-row dispatch or boxing, and subexpressions made up only of literals are folded into a
+ * single constant when the expression is built. Missing values are represented as NaN, so
+ * arithmetic on a missing value produces a missing value. A comparison with a missing value is
+ * unknown rather than true or false, so the row isn't selected by the comparison or by its
+ * negation; see {@link BooleanExpression}.
+ *
+ * <p>For example, to select the rows where price * quantity exceeds 1000:
+ *
+ * <pre>
+ * table.where(column("price").times(column("quantity")).isGreaterThan(1000));
+ * </pre>
+ */
+@Beta
+public abstract class NumericExpression {
+
+  /** Returns an expression holding the values of the numeric column with the given name */
+  public static NumericExpression column(String columnName) {
+    return new ColumnReference(columnName);
+  }
+
+  /** Returns an expression holding the given value for every row */
+  public static NumericExpression literal(double value) {
+    return new Literal(value);
+  }
+
+  /**
+   * Returns the value of this expression for every row in the given table. The returned array may
+   * be modified by the caller
+   */
+  abstract double[] values(Table table);
+
+  /** Evaluates this expression against the given table, returning a new column of the results */
+  public DoubleColumn evaluate(Table table, String columnName) {
+    return DoubleColumn.create(columnName, values(table));
+  }
+
+  public NumericExpression plus(NumericExpression other) {
+    return Arithmetic.of(Arithmetic.Operator.ADD, this, other);
+  }
+
+  public NumericExpression plus(double value) {
+    return plus(literal(value));
+  }
+
+  public NumericExpression minus(NumericExpression other) {
+    return Arithmetic.of(Arithmetic.Operator.SUBTRACT, this, other);
+  }
+
+  public NumericExpression minus(double value) {
+    return minus(literal(value));
+  }
+
+  public NumericExpression times(NumericExpression other) {
+    return Arithmetic.of(Arithmetic.Operator.MULTIPLY, this, other);
+  }
+
+  public NumericExpression times(double value) {
+    return times(literal(value));
+  }
+
+  public NumericExpression dividedBy(NumericExpression other) {
+    return Arithmetic.of(Arithmetic.Operator.DIVIDE, this, other);
+  }
+
+  public NumericExpression dividedBy(double value) {
+    return dividedBy(literal(value));
+  }
+
+  public BooleanExpression isEqualTo(NumericExpression other) {
+    return new BooleanExpression.Comparison(BooleanExpression.Comparator.EQUAL, this, other);
+  }
+
+  public BooleanExpression isEqualTo(double value) {
+    return isEqualTo(literal(value));
+  }
+
+  public BooleanExpression isNotEqualTo(NumericExpression other) {
+    return new BooleanExpression.Comparison(BooleanExpression.Comparator.NOT_EQUAL, this, other);
+  }
+
+  public BooleanExpression isNotEqualTo(double value) {
+    return isNotEqualTo(literal(value));
+  }
+
+  public BooleanExpression isGreaterThan(NumericExpression other) {
+    return new BooleanExpression.Comparison(BooleanExpression.Comparator.GREATER, this, other);
+  }
+
+  public BooleanExpression isGreaterThan(double value) {
+    return isGreaterThan(literal(value));
+  }
+
+  public BooleanExpression isGreaterThanOrEqualTo(NumericExpression other) {
+    return new BooleanExpression.Comparison(
+        BooleanExpression.Comparator.GREATER_OR_EQUAL, this, other);
+  }
+
+  public BooleanExpression isGreaterThanOrEqualTo(double value) {
+    return isGreaterThanOrEqualTo(literal(value));
+  }
+
+  public BooleanExpression isLessThan(NumericExpression other) {
+    return new BooleanExpression.Comparison(BooleanExpression.Comparator.LESS, this, other);
+  }
+
+  public BooleanExpression isLessThan(double value) {
+    return isLessThan(literal(value));
+  }
+
+  public BooleanExpression isLessThanOrEqualTo(NumericExpression other) {
+    return new BooleanExpression.Comparison(
+        BooleanExpression.Comparator.LESS_OR_EQUAL, this, other);
+  }
+
+  public BooleanExpression isLessThanOrEqualTo(double value) {
+    return isLessThanOrEqualTo(literal(value));
+  }
+
+  /** An expression that reads the values of a numeric column */
+  static final class ColumnReference extends NumericExpression {
+
+    private final String columnName;
+
+    ColumnReference(String columnName) {
+      this.columnName = columnName;
+    }
+
+    @Override
+    double[] values(Table table) {
+      return table.numberColumn(columnName).asDoubleArray();
+    }
+
+    @Override
+    public String toString() {
+      return columnName;
+    }
+  }
+
+  /** An expression with the same value for every row */
+  static final class Literal extends NumericExpression {
+
+    private final double value;
+
+    Literal(double value) {
+      this.value = value;
+    }
+
+    @Override
+    double[] values(Table table) {
+      double[] result = new double[table.rowCount()];
+      Arrays.fill(result, value);
+      return result;
+    }
+
+    double value() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+  }
+
+  /** An arithmetic operation on two expressions */
+  static final class Arithmetic extends NumericExpression {
+
+    enum Operator {
+      ADD("+"),
+      SUBTRACT("-"),
+      MULTIPLY("*"),
+      DIVIDE("/");
+
+      private final String symbol;
+
+      Operator(String symbol) {
+        this.symbol = symbol;
+      }
+
+      double apply(double left, double right) {
+        switch (this) {
+          case ADD:
+            return left + right;
+          case SUBTRACT:
+            return left - right;
+          case MULTIPLY:
+            return left * right;
+          default:
+            return left / right;
+        }
+      }
+    }
+
+    private final Operator operator;
+    private final NumericExpression left;
+    private final NumericExpression right;
+
+    private Arithmetic(Operator operator, NumericExpression left, NumericExpression right) {
+      this.operator = operator;
+      this.left = left;
+      this.right = right;
+    }
+
+    /** Returns an expression applying the operator, folding it if both arguments are constant */
+    static NumericExpression of(
+        Operator operator, NumericExpression left, NumericExpression right) {
+      if (left instanceof Literal && right instanceof Literal) {
+        return new Literal(operator.apply(((Literal) left).value, ((Literal) right).value));
+      }
+      return new Arithmetic(operator, left, right);
+    }
+
+    @Override
+    double[] values(Table table) {
+      if (right instanceof Literal) {
+        double[] result = left.values(table);
+        applyScalar(result, ((Literal) right).value);
+        return result;
+      }
+      if (left instanceof Literal) {
+        double[] result = right.values(table);
+        applyScalarOnLeft(((Literal) left).value, result);
+        return result;
+      }
+      double[] result = left.values(table);
+      double[] other = right.values(table);
+      switch (operator) {
+        case ADD:
+          for (int i = 0; i < result.length; i++) {
+            result[i] += other[i];
+          }
+          break;
+        case SUBTRACT:
+          for (int i = 0; i < result.length; i++) {
+            result[i] -= other[i];
+          }
+          break;
+        case MULTIPLY:
+          for (int i = 0; i < result.length; i++) {
+            result[i] *= other[i];
+          }
+          break;
+        default:
+          for (int i = 0; i < result.length; i++) {
+            result[i] /= other[i];
+          }
+      }
+      return result;
+    }
+
+    /** Replaces each value with the result of applying the operator to it and the scalar */
+    private void applyScalar(double[] values, double scalar) {
+      switch (operator) {
+        case ADD:
+          for (int i = 0; i < values.length; i++) {
+            values[i] += scalar;
+          }
+          break;
+        case SUBTRACT:
+          for (int i = 0; i < values.length; i++) {
+            values[i] -= scalar;
+          }
+          break;
+        case MULTIPLY:
+          for (int i = 0; i < values.length; i++) {
+            values[i] *= scalar;
+          }
+          break;
+        default:
+          for (int i = 0; i < values.length; i++) {
+            values[i] /= scalar;
+          }
+      }
+    }
+
+    /** Replaces each value with the result of applying the operator to the scalar and it */
+    private void applyScalarOnLeft(double scalar, double[] values) {
+      switch (operator) {
+        case ADD:
+          for (int i = 0; i < values.length; i++) {
+            values[i] = scalar + values[i];
+          }
+          break;
+        case SUBTRACT:
+          for (int i = 0; i < values.length; i++) {
+            values[i] = scalar - values[i];
+          }
+          break;
+        case MULTIPLY:
+          for (int i = 0; i < values.length; i++) {
+            values[i] = scalar * values[i];
+          }
+          break;
+        default:
+          for (int i = 0; i < values.length; i++) {
+            values[i] = scalar / values[i];
+          }
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + left + " " + operator.symbol + " " + right + ")";
+    }
+  }
+}
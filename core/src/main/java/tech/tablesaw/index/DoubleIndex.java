@@ -52,6 +52,12 @@ public class DoubleIndex implements Index {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection getNumeric(double value) {
+    return Double.isNaN(value) ? new BitmapBackedSelection() : get(value);
+  }
+
   /**
    * Returns a bitmap containing row numbers of all cells matching the given int
    *
@@ -52,6 +52,14 @@ public class FloatIndex implements Index {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection getNumeric(double value) {
+    return Double.isNaN(value) || (float) value != value
+        ? new BitmapBackedSelection()
+        : get((float) value);
+  }
+
   /**
    * Returns a bitmap containing row numbers of all cells matching the given int
    *
@@ -1,9 +1,78 @@
 package tech.tablesaw.index;
 
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.dates.DateColumnType;
+import tech.tablesaw.columns.datetimes.DateTimeColumnType;
+import tech.tablesaw.columns.instant.InstantColumnType;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.columns.numbers.FloatColumnType;
+import tech.tablesaw.columns.numbers.IntColumnType;
+import tech.tablesaw.columns.numbers.LongColumnType;
+import tech.tablesaw.columns.numbers.ShortColumnType;
+import tech.tablesaw.columns.strings.StringColumnType;
+import tech.tablesaw.columns.times.TimeColumnType;
+import tech.tablesaw.selection.Selection;
+
 /**
  * A marker interface for all index types
  *
  * <p>Indexes are implemented as maps where each entry connects a column value to the set of row
  * indexes corresponding to the value
  */
-public interface Index {}
+public interface Index {
+
+  /**
+   * Returns a new index of the appropriate type for the given column
+   *
+   * @throws IllegalArgumentException if columns of the given type can't be indexed
+   */
+  static Index forColumn(Column<?> column) {
+    ColumnType type = column.type();
+    if (type instanceof DateColumnType) {
+      return new IntIndex((DateColumn) column);
+    } else if (type instanceof DateTimeColumnType) {
+      return new LongIndex((DateTimeColumn) column);
+    } else if (type instanceof InstantColumnType) {
+      return new LongIndex((InstantColumn) column);
+    } else if (type instanceof TimeColumnType) {
+      return new IntIndex((TimeColumn) column);
+    } else if (type instanceof StringColumnType) {
+      return new StringIndex((StringColumn) column);
+    } else if (type instanceof IntColumnType) {
+      return new IntIndex((IntColumn) column);
+    } else if (type instanceof LongColumnType) {
+      return new LongIndex((LongColumn) column);
+    } else if (type instanceof ShortColumnType) {
+      return new ShortIndex((ShortColumn) column);
+    } else if (type instanceof BooleanColumnType) {
+      return new ByteIndex((BooleanColumn) column);
+    } else if (type instanceof DoubleColumnType) {
+      return new DoubleIndex((DoubleColumn) column);
+    } else if (type instanceof FloatColumnType) {
+      return new FloatIndex((FloatColumn) column);
+    }
+    throw new IllegalArgumentException("Indexing attempted on unsupported column type " + type);
+  }
+
+  /**
+   * Returns the rows whose value equals the given number, or null if this index isn't over a
+   * numeric column. A number the column's type can't hold exactly, like a fraction in an index over
+   * ints, matches no rows, and neither does a missing value
+   */
+  default Selection getNumeric(double value) {
+    return null;
+  }
+}
@@ -101,6 +101,14 @@ public class IntIndex implements Index {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection getNumeric(double value) {
+    return value == Math.rint(value) && value > Integer.MIN_VALUE && value <= Integer.MAX_VALUE
+        ? get((int) value)
+        : new BitmapBackedSelection();
+  }
+
   /**
    * Returns a bitmap {@link Selection} containing row numbers of all cells matching the given int
    *
@@ -126,6 +134,23 @@ public class IntIndex implements Index {
     return get(PackedLocalDate.pack(value));
   }
 
+  /**
+   * Returns a {@link Selection} of all values greater than or equal to low and less than or equal
+   * to high
+   */
+  public Selection between(int low, int high) {
+    Selection selection = new BitmapBackedSelection();
+    if (low > high) {
+      return selection;
+    }
+    Int2ObjectSortedMap<IntArrayList> range =
+        high == Integer.MAX_VALUE ? index.tailMap(low) : index.subMap(low, high + 1);
+    for (IntArrayList keys : range.values()) {
+      addAllToSelection(keys, selection);
+    }
+    return selection;
+  }
+
   /** Returns a {@link Selection} of all values at least as large as the given value */
   public Selection atLeast(int value) {
     Selection selection = new BitmapBackedSelection();
@@ -76,6 +76,14 @@ public class LongIndex implements Index {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection getNumeric(double value) {
+    return value == Math.rint(value) && value > Long.MIN_VALUE && value < Long.MAX_VALUE
+        ? get((long) value)
+        : new BitmapBackedSelection();
+  }
+
   /**
    * Returns a bitmap containing row numbers of all cells matching the given long
    *
@@ -101,6 +109,23 @@ public class LongIndex implements Index {
     return get(PackedLocalDateTime.pack(value));
   }
 
+  /**
+   * Returns a {@link Selection} of all values greater than or equal to low and less than or equal
+   * to high
+   */
+  public Selection between(long low, long high) {
+    Selection selection = new BitmapBackedSelection();
+    if (low > high) {
+      return selection;
+    }
+    Long2ObjectSortedMap<IntArrayList> range =
+        high == Long.MAX_VALUE ? index.tailMap(low) : index.subMap(low, high + 1);
+    for (IntArrayList keys : range.values()) {
+      addAllToSelection(keys, selection);
+    }
+    return selection;
+  }
+
   /** Returns a {@link Selection} of all values at least as large as the given value */
   public Selection atLeast(long value) {
     Selection selection = new BitmapBackedSelection();
@@ -57,6 +57,14 @@ public class ShortIndex implements Index {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection getNumeric(double value) {
+    return value == Math.rint(value) && value > Short.MIN_VALUE && value <= Short.MAX_VALUE
+        ? get((short) value)
+        : new BitmapBackedSelection();
+  }
+
   /**
    * Returns a bitmap containing row numbers of all cells matching the given int
    *
@@ -6,6 +6,8 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import com.univocity.parsers.common.AbstractParser;
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -15,6 +17,11 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.tablesaw.api.*;
@@ -167,11 +174,141 @@ public abstract class FileReader {
       AbstractParser<?> parser,
       int sampleSize) {
     parser.beginParsing(reader);
-    Table table = Table.create(options.tableName());
 
     List<String> headerRow =
         Lists.newArrayList(getColumnNames(options, columnTypeReadOptions, parser));
+    ColumnType[] types = columnTypes(headerRow, columnTypeReadOptions);
+    Table table = createTable(options, headerRow, types);
+
+    if (!headerOnly) {
+      addRows(options, types, parser, table, columnIndexes(headerRow, types), sampleSize);
+    }
 
+    return table;
+  }
+
+  /**
+   * Parses a file that has been split into parts, each beginning at the start of a record, with the
+   * parts running in parallel on the given executor. The first part supplies the header, as it
+   * would for {@link #parseRows}, and every other part is parsed into an empty copy of the table it
+   * creates. The parts are appended in order, so the result matches parsing the file as a whole.
+   *
+   * <p>Sampling isn't supported, and the row number reported for a row that can't be added is
+   * counted from the start of the part holding it, so callers may want to parse the file again as a
+   * whole if this fails.
+   *
+   * @param parts opens a reader for each part of the file, in order
+   * @param parsers supplies a new parser, configured the same way, for each part
+   */
+  protected Table parseRowsInParts(
+      ReadOptions options,
+      ReadOptions.ColumnTypeReadOptions columnTypeReadOptions,
+      List<Callable<Reader>> parts,
+      Supplier<AbstractParser<?>> parsers,
+      ExecutorService executor) {
+
+    AbstractParser<?> headerParser = parsers.get();
+    Reader headerReader = openPart(parts.get(0));
+    List<Future<Table>> results = new ArrayList<>();
+    try {
+      headerParser.beginParsing(headerReader);
+      List<String> headerRow =
+          Lists.newArrayList(getColumnNames(options, columnTypeReadOptions, headerParser));
+      ColumnType[] types = columnTypes(headerRow, columnTypeReadOptions);
+      Table table = createTable(options, headerRow, types);
+      int[] columnIndexes = columnIndexes(headerRow, types);
+
+      results.add(
+          executor.submit(
+              () -> {
+                try {
+                  addRows(
+                      options, types, headerParser, table, columnIndexes, UNLIMITED_SAMPLE_SIZE);
+                  return table;
+                } finally {
+                  headerParser.stopParsing();
+                  headerReader.close();
+                }
+              }));
+      for (Callable<Reader> part : parts.subList(1, parts.size())) {
+        Table partTable = table.emptyCopy();
+        results.add(
+            executor.submit(
+                () -> {
+                  AbstractParser<?> parser = parsers.get();
+                  try (Reader reader = part.call()) {
+                    parser.beginParsing(reader);
+                    addRows(
+                        options, types, parser, partTable, columnIndexes, UNLIMITED_SAMPLE_SIZE);
+                    return partTable;
+                  } finally {
+                    parser.stopParsing();
+                  }
+                }));
+      }
+
+      // the first part adds its rows to the table itself, so it must finish before the others are
+      // appended
+      waitFor(results.get(0));
+      for (int i = 1; i < results.size(); i++) {
+        table.append(waitFor(results.get(i)));
+        // let the part be collected once its rows have been copied
+        results.set(i, null);
+      }
+      return table;
+    } catch (RuntimeException e) {
+      for (Future<Table> result : results) {
+        if (result != null) {
+          result.cancel(true);
+        }
+      }
+      // the first part's task may not have started, so it can't be relied on to close its reader
+      closeQuietly(headerReader);
+      throw e;
+    }
+  }
+
+  private static Reader openPart(Callable<Reader> part) {
+    try {
+      return part.call();
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Table waitFor(Future<Table> result) {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeIOException(new InterruptedIOException("Interrupted while reading"));
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof IOException) {
+        throw new RuntimeIOException((IOException) cause);
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private static void closeQuietly(Reader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      logger.debug("Unable to close reader", e);
+    }
+  }
+
+  /** Returns the type of each column in the header row, including those to be skipped */
+  private ColumnType[] columnTypes(
+      List<String> headerRow, ReadOptions.ColumnTypeReadOptions columnTypeReadOptions) {
     @SuppressWarnings({"UnstableApiUsage", "OptionalGetWithoutIsPresent"})
     ColumnType[] types =
         Streams.mapWithIndex(
@@ -180,7 +317,12 @@ public abstract class FileReader {
             .filter(Optional::isPresent)
             .map(Optional::get)
             .toArray(ColumnType[]::new);
+    return types;
+  }
 
+  /** Creates an empty table with a column for each header that isn't skipped */
+  private Table createTable(ReadOptions options, List<String> headerRow, ColumnType[] types) {
+    Table table = Table.create(options.tableName());
     for (int x = 0; x < types.length; x++) {
       if (types[x] != SKIP) {
         String columnName = cleanName(headerRow.get(x));
@@ -193,18 +335,17 @@ public abstract class FileReader {
         table.addColumns(newColumn);
       }
     }
+    return table;
+  }
 
-    if (!headerOnly) {
-      String[] columnNames = selectColumnNames(headerRow, types);
-      int[] columnIndexes = new int[columnNames.length];
-      for (int i = 0; i < columnIndexes.length; i++) {
-        // get the index in the original table, which includes skipped fields
-        columnIndexes[i] = headerRow.indexOf(columnNames[i]);
-      }
-      addRows(options, types, parser, table, columnIndexes, sampleSize);
+  /** Returns the index in the header row, which includes skipped fields, of each column read */
+  private int[] columnIndexes(List<String> headerRow, ColumnType[] types) {
+    String[] columnNames = selectColumnNames(headerRow, types);
+    int[] columnIndexes = new int[columnNames.length];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      columnIndexes[i] = headerRow.indexOf(columnNames[i]);
     }
-
-    return table;
+    return columnIndexes;
   }
 
   private void addRows(
@@ -0,0 +1,99 @@
+package tech.tablesaw.io.csv;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Splits a delimited file into byte ranges that each hold whole records, so the ranges can be
+ * parsed independently. A record may span lines when a quoted value holds a line break, so the file
+ * is pre-scanned once, following the quoting just far enough to tell which line breaks end a
+ * record. The scan works on bytes and only looks for the line feed, separator, quote and comment
+ * characters, so it requires a charset that encodes those as the same single bytes as ASCII, like
+ * UTF-8 or ISO-8859-1.
+ */
+final class CsvChunker {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  // where the scan is within a record
+  private static final int FIELD_START = 0;
+  private static final int UNQUOTED = 1;
+  private static final int QUOTED = 2;
+  private static final int QUOTE_IN_QUOTED = 3;
+  private static final int COMMENT = 4;
+
+  private final byte separator;
+  private final byte quote;
+  private final byte comment;
+
+  CsvChunker(byte separator, byte quote, byte comment) {
+    this.separator = separator;
+    this.quote = quote;
+    this.comment = comment;
+  }
+
+  /**
+   * Returns the offsets that divide the file into chunks of at least {@code chunkBytes}, except for
+   * the last. The first offset is 0 and the last is the length of the file, and every other offset
+   * is the position just after a line feed that ends a record.
+   */
+  long[] boundaries(File file, long chunkBytes) throws IOException {
+    LongArrayList boundaries = new LongArrayList();
+    boundaries.add(0);
+    long length = file.length();
+    long nextBoundary = chunkBytes;
+    int state = FIELD_START;
+    boolean lineStart = true;
+    byte[] buffer = new byte[BUFFER_SIZE];
+    long position = 0;
+    try (InputStream in = new FileInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) > 0) {
+        for (int i = 0; i < read; i++) {
+          byte b = buffer[i];
+          if (state == QUOTED) {
+            // the common case inside a long quoted value
+            if (b == quote) {
+              state = QUOTE_IN_QUOTED;
+            }
+            continue;
+          }
+          if (b == '\n') {
+            long end = position + i + 1;
+            if (end >= nextBoundary && end < length) {
+              boundaries.add(end);
+              nextBoundary = end + chunkBytes;
+            }
+            state = FIELD_START;
+            lineStart = true;
+            continue;
+          }
+          if (state == COMMENT) {
+            continue;
+          }
+          if (lineStart && b == comment) {
+            state = COMMENT;
+          } else if (state == QUOTE_IN_QUOTED) {
+            // a doubled quote is an escaped quote, otherwise the value has ended
+            state = b == quote ? QUOTED : b == separator ? FIELD_START : UNQUOTED;
+          } else if (b == separator) {
+            state = FIELD_START;
+          } else if (state == FIELD_START) {
+            if (b == quote) {
+              state = QUOTED;
+            } else if (b != ' ' && b != '\t' && b != '\r') {
+              state = UNQUOTED;
+            }
+          }
+          lineStart = false;
+        }
+        position += read;
+      }
+    }
+    boundaries.add(length);
+    return boundaries.toLongArray();
+  }
+}
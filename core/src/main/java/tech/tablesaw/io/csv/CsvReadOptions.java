@@ -37,6 +37,7 @@ public class CsvReadOptions extends ReadOptions {
   private final Character commentPrefix;
   private final boolean lineSeparatorDetectionEnabled;
   private final int sampleSize;
+  private final int parallelism;
 
   private CsvReadOptions(CsvReadOptions.Builder builder) {
     super(builder);
@@ -48,6 +49,7 @@ public class CsvReadOptions extends ReadOptions {
     commentPrefix = builder.commentPrefix;
     lineSeparatorDetectionEnabled = builder.lineSeparatorDetectionEnabled;
     sampleSize = builder.sampleSize;
+    parallelism = builder.parallelism;
   }
 
   @Override
@@ -57,6 +59,7 @@ public class CsvReadOptions extends ReadOptions {
     CsvReadOptions that = (CsvReadOptions) o;
     return lineSeparatorDetectionEnabled == that.lineSeparatorDetectionEnabled
         && sampleSize == that.sampleSize
+        && parallelism == that.parallelism
         && Objects.equals(separator, that.separator)
         && Objects.equals(quoteChar, that.quoteChar)
         && Objects.equals(escapeChar, that.escapeChar)
@@ -75,7 +78,8 @@ public class CsvReadOptions extends ReadOptions {
         maxNumberOfColumns,
         commentPrefix,
         lineSeparatorDetectionEnabled,
-        sampleSize);
+        sampleSize,
+        parallelism);
   }
 
   public static Builder builder(Source source) {
@@ -179,6 +183,10 @@ public class CsvReadOptions extends ReadOptions {
     return sampleSize;
   }
 
+  public int parallelism() {
+    return parallelism;
+  }
+
   public static class Builder extends ReadOptions.Builder {
 
     private Character separator;
@@ -189,6 +197,7 @@ public class CsvReadOptions extends ReadOptions {
     private Character commentPrefix;
     private boolean lineSeparatorDetectionEnabled = true;
     private int sampleSize = -1;
+    private int parallelism = 1;
 
     protected Builder(Source source) {
       super(source);
@@ -287,6 +296,23 @@ public class CsvReadOptions extends ReadOptions {
       return this;
     }
 
+    /**
+     * Defines the number of threads used to parse a file. When it's greater than one, a large file
+     * is split into chunks at record boundaries, the chunks are parsed in parallel, and the results
+     * are joined in order. Only files are split, and only when no sample size is given and the
+     * separator, quote, and line ending can be found by scanning bytes. The default is 1, which
+     * parses on the calling thread.
+     *
+     * @param parallelism - must be positive
+     */
+    public Builder parallelism(int parallelism) {
+      if (parallelism < 1) {
+        throw new IllegalArgumentException("Parallelism must be positive, but was " + parallelism);
+      }
+      this.parallelism = parallelism;
+      return this;
+    }
+
     @Override
     public CsvReadOptions build() {
       return new CsvReadOptions(this);
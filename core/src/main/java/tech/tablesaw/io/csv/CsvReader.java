@@ -14,15 +14,29 @@
 
 package tech.tablesaw.io.csv;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 import com.univocity.parsers.common.AbstractParser;
 import com.univocity.parsers.csv.CsvFormat;
 import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.annotation.concurrent.Immutable;
 import org.apache.commons.math3.util.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.*;
@@ -30,8 +44,16 @@ import tech.tablesaw.io.*;
 @Immutable
 public class CsvReader extends FileReader implements DataReader<CsvReadOptions> {
 
+  private static final Logger logger = LoggerFactory.getLogger(CsvReader.class);
+
   private static final CsvReader INSTANCE = new CsvReader();
 
+  /** Chunks smaller than this aren't worth parsing on a thread of their own */
+  private static final long MIN_CHUNK_BYTES = 1 << 20;
+
+  /** Each thread gets several chunks, so one that finishes early can take on more of the file */
+  private static final int CHUNKS_PER_THREAD = 4;
+
   static {
     register(Table.defaultReaderRegistry);
   }
@@ -96,6 +118,18 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     AbstractParser<?> parser = csvParser(options);
 
     try {
+      if (!headerOnly) {
+        long[] boundaries = chunkBoundaries(options);
+        if (boundaries.length > 2) {
+          try {
+            return readChunks(options, columnTypeReadOptions, boundaries);
+          } catch (RuntimeException e) {
+            // reading the file as a whole reports the problem with its row number in the file,
+            // rather than in the chunk
+            logger.debug("Unable to read the file in chunks. Reading it on one thread", e);
+          }
+        }
+      }
       return parseRows(
           options, headerOnly, reader, columnTypeReadOptions, parser, options.sampleSize());
     } finally {
@@ -109,6 +143,94 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     }
   }
 
+  /**
+   * Returns the offsets at which to split the source file so its chunks can be parsed in parallel,
+   * or an empty array if it's not to be split
+   */
+  private long[] chunkBoundaries(CsvReadOptions options) throws IOException {
+    File file = options.source().file();
+    if (options.parallelism() < 2
+        || file == null
+        || options.sampleSize() >= 0
+        || !isSplittable(options)) {
+      return new long[0];
+    }
+    long chunkBytes =
+        Math.max(
+            MIN_CHUNK_BYTES, file.length() / ((long) options.parallelism() * CHUNKS_PER_THREAD));
+    if (file.length() < 2 * chunkBytes) {
+      return new long[0];
+    }
+    CsvFormat format = csvFormat(options);
+    CsvChunker chunker =
+        new CsvChunker(
+            (byte) format.getDelimiter(), (byte) format.getQuote(), (byte) format.getComment());
+    return chunker.boundaries(file, chunkBytes);
+  }
+
+  /**
+   * Returns true if the records in the source file can be found by scanning its bytes. That needs a
+   * charset that encodes the characters the scan looks for as single ASCII bytes, quotes that are
+   * escaped by doubling them, and records that end with a line feed
+   */
+  private boolean isSplittable(CsvReadOptions options) {
+    CsvFormat format = csvFormat(options);
+    if (format.getQuoteEscape() != format.getQuote()) {
+      return false;
+    }
+    if (options.lineEnding() != null && !options.lineEnding().endsWith("\n")) {
+      return false;
+    }
+    Charset charset = options.source().getCharset();
+    if (charset == null
+        || !charset.canEncode()
+        || !(charset.equals(StandardCharsets.UTF_8)
+            || charset.newEncoder().maxBytesPerChar() == 1)) {
+      return false;
+    }
+    char[] scanned = {'\n', format.getDelimiter(), format.getQuote(), format.getComment()};
+    for (char c : scanned) {
+      if (c >= 0x80 || !Arrays.equals(String.valueOf(c).getBytes(charset), new byte[] {(byte) c})) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Parses the chunks of the source file between the given offsets in parallel */
+  private Table readChunks(
+      CsvReadOptions options,
+      ReadOptions.ColumnTypeReadOptions columnTypeReadOptions,
+      long[] boundaries) {
+    File file = options.source().file();
+    Charset charset = options.source().getCharset();
+    List<Callable<Reader>> chunks = new ArrayList<>();
+    for (int i = 0; i < boundaries.length - 1; i++) {
+      long start = boundaries[i];
+      long end = boundaries[i + 1];
+      chunks.add(() -> openChunk(file, charset, start, end));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(options.parallelism());
+    try {
+      return parseRowsInParts(
+          options, columnTypeReadOptions, chunks, () -> csvParser(options), executor);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Reader openChunk(File file, Charset charset, long start, long end)
+      throws IOException {
+    FileInputStream in = new FileInputStream(file);
+    try {
+      in.getChannel().position(start);
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+    return new InputStreamReader(ByteStreams.limit(in, end - start), charset);
+  }
+
   /**
    * Returns a string representation of the column types in file {@code csvFilename}, as determined
    * by the type-detection algorithm
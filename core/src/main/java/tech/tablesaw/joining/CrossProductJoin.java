@@ -95,6 +95,7 @@ public class CrossProductJoin implements JoinStrategy {
     }
 
     Table result = emptyTableFromColumns(table1, allowDuplicates, cols);
+    JoinMemoryGuard guard = new JoinMemoryGuard(table1, table2);
 
     validateIndexes(table1Indexes, table2Indexes);
     if (table1.rowCount() == 0 && (joinType == JoinType.LEFT_OUTER || joinType == JoinType.INNER)) {
@@ -129,7 +130,8 @@ public class CrossProductJoin implements JoinStrategy {
             table1Rows,
             table2Rows,
             resultIgnoreColIndexes,
-            keepAllJoinKeyColumns);
+            keepAllJoinKeyColumns,
+            guard);
 
         table2DoneRows = table2DoneRows.or(table2Rows);
         if (table2DoneRows.size() == table2.rowCount()) {
@@ -165,7 +167,8 @@ public class CrossProductJoin implements JoinStrategy {
               table1Rows,
               table2Rows,
               resultIgnoreColIndexes,
-              keepAllJoinKeyColumns);
+              keepAllJoinKeyColumns,
+              guard);
         }
         table1DoneRows = table1DoneRows.or(table1Rows);
         if (joinType == JoinType.FULL_OUTER || joinType == JoinType.RIGHT_OUTER) {
@@ -219,33 +222,16 @@ public class CrossProductJoin implements JoinStrategy {
     return joinColumnIndexes.stream().map(c -> indexFor(table, c)).collect(Collectors.toList());
   }
 
-  /** Create a reverse index for a given column. */
+  /**
+   * Returns a reverse index for a given column. The column's own index is used if it has one,
+   * otherwise a new one is built
+   */
   private Index indexFor(Table table, int colIndex) {
-    ColumnType type = table.column(colIndex).type();
-    if (type instanceof DateColumnType) {
-      return new IntIndex(table.dateColumn(colIndex));
-    } else if (type instanceof DateTimeColumnType) {
-      return new LongIndex(table.dateTimeColumn(colIndex));
-    } else if (type instanceof InstantColumnType) {
-      return new LongIndex(table.instantColumn(colIndex));
-    } else if (type instanceof TimeColumnType) {
-      return new IntIndex(table.timeColumn(colIndex));
-    } else if (type instanceof StringColumnType) {
-      return new StringIndex(table.stringColumn(colIndex));
-    } else if (type instanceof IntColumnType) {
-      return new IntIndex(table.intColumn(colIndex));
-    } else if (type instanceof LongColumnType) {
-      return new LongIndex(table.longColumn(colIndex));
-    } else if (type instanceof ShortColumnType) {
-      return new ShortIndex(table.shortColumn(colIndex));
-    } else if (type instanceof BooleanColumnType) {
-      return new ByteIndex(table.booleanColumn(colIndex));
-    } else if (type instanceof DoubleColumnType) {
-      return new DoubleIndex(table.doubleColumn(colIndex));
-    } else if (type instanceof FloatColumnType) {
-      return new FloatIndex(table.floatColumn(colIndex));
+    Column<?> column = table.column(colIndex);
+    if (column.isIndexed()) {
+      return column.index();
     }
-    throw new IllegalArgumentException("Joining attempted on unsupported column type " + type);
+    return Index.forColumn(column);
   }
 
   /**
@@ -414,6 +400,7 @@ public class CrossProductJoin implements JoinStrategy {
    * @param table2Rows the selection of rows in table2.
    * @param ignoreColumns a set of column indexes in the result to ignore. They are redundant join
    *     columns.
+   * @param guard checks the size of the result against the current memory budget.
    */
   @SuppressWarnings({"rawtypes", "unchecked"})
   private void crossProduct(
@@ -423,7 +410,9 @@ public class CrossProductJoin implements JoinStrategy {
       Selection table1Rows,
       Selection table2Rows,
       Set<Integer> ignoreColumns,
-      boolean keepTable2JoinKeyColumns) {
+      boolean keepTable2JoinKeyColumns,
+      JoinMemoryGuard guard) {
+    guard.reserve(destination.rowCount() + (long) table1Rows.size() * table2Rows.size());
     for (int c = 0; c < table1.columnCount() + table2.columnCount(); c++) {
       if (!keepTable2JoinKeyColumns && ignoreColumns.contains(c)) {
         continue;
@@ -199,13 +199,13 @@ public class DataFrameJoiner extends AbstractJoiner {
     int minCardinalityRight = Integer.MAX_VALUE;
 
     for (int i = 0; i < rightJoinColumnNames.length; i++) {
-      int cardinality = table.column(leftJoinColumnNames[i]).countUnique();
+      int cardinality = table.column(leftJoinColumnNames[i]).columnStats().countUnique();
       if (cardinality < minCardinalityLeft) {
         minCardinalityLeft = cardinality;
       }
     }
     for (String rightJoinColumnName : rightJoinColumnNames) {
-      int cardinality = rightTables.get(0).column(rightJoinColumnName).countUnique();
+      int cardinality = rightTables.get(0).column(rightJoinColumnName).columnStats().countUnique();
       if (cardinality < minCardinalityRight) {
         minCardinalityRight = cardinality;
       }
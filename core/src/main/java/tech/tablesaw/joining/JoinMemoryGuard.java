@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.joining;
+
+import tech.tablesaw.api.MemoryBudget;
+import tech.tablesaw.api.Table;
+
+/**
+ * Reserves the size of a join's result from the current thread's {@link MemoryBudget} as rows are
+ * added, so that a join that matches far more rows than expected fails early rather than running
+ * out of memory
+ */
+final class JoinMemoryGuard {
+
+  /** The number of rows a join adds between checks, when it adds rows one at a time */
+  static final int CHECK_INTERVAL = 1024;
+
+  /** The estimated size of a result row, or 0 if there is no budget to check against */
+  private final long rowBytes;
+
+  /** The number of result rows reserved from the budget so far */
+  private long reservedRows;
+
+  JoinMemoryGuard(Table left, Table right) {
+    rowBytes = MemoryBudget.current() == null ? 0 : bytesPerRow(left) + bytesPerRow(right);
+  }
+
+  /**
+   * Reserves room for a result with the given number of rows, of which the rows reserved by earlier
+   * calls are already accounted for
+   */
+  void reserve(long resultRows) {
+    if (rowBytes > 0 && resultRows > reservedRows) {
+      MemoryBudget.reserve("join", () -> (resultRows - reservedRows) * rowBytes);
+      reservedRows = resultRows;
+    }
+  }
+
+  private static long bytesPerRow(Table table) {
+    return table.rowCount() == 0 ? 0 : Math.max(1, table.memoryUsage() / table.rowCount());
+  }
+}
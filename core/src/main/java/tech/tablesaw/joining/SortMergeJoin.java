@@ -81,8 +81,8 @@ class SortMergeJoin implements JoinStrategy {
     this.leftJoinColumnPositions = leftJoinColumnIndexes;
     rightJoinColumnPositions = getJoinIndexes(t2, table2JoinColumnNames);
 
-    Table table1 = t1.sortAscendingOn(leftjoinColumnNames);
-    Table table2 = t2.sortAscendingOn(table2JoinColumnNames);
+    Table table1 = sortedForJoin(t1, leftjoinColumnNames);
+    Table table2 = sortedForJoin(t2, table2JoinColumnNames);
 
     Column<?>[] cols =
         Streams.concat(table1.columns().stream(), table2.columns().stream())
@@ -95,6 +95,7 @@ class SortMergeJoin implements JoinStrategy {
         keepAllJoinKeyColumns ? new int[0] : getIgnoredColumns(table1, joinType, cols);
 
     Table result = emptyTableFromColumns(table1, allowDuplicates, cols);
+    JoinMemoryGuard guard = new JoinMemoryGuard(table1, table2);
 
     // add indexes for outer join processing
     IntColumn indexLeft = IntColumn.indexColumn(LEFT_RECORD_ID_NAME, table1.rowCount(), 0);
@@ -116,13 +117,13 @@ class SortMergeJoin implements JoinStrategy {
       return result;
     }
     if (joinType == JoinType.INNER) {
-      joinInner(result, table1, table2, resultIgnoreColIndexes);
+      joinInner(result, table1, table2, resultIgnoreColIndexes, guard);
     } else if (joinType == JoinType.LEFT_OUTER) {
-      joinLeft(result, table1, table2, resultIgnoreColIndexes);
+      joinLeft(result, table1, table2, resultIgnoreColIndexes, guard);
     } else if (joinType == JoinType.RIGHT_OUTER) {
-      joinRight(result, table1, table2, resultIgnoreColIndexes);
+      joinRight(result, table1, table2, resultIgnoreColIndexes, guard);
     } else if (joinType == JoinType.FULL_OUTER) {
-      joinFull(result, table1, table2, resultIgnoreColIndexes);
+      joinFull(result, table1, table2, resultIgnoreColIndexes, guard);
     }
     result.removeColumns(LEFT_RECORD_ID_NAME, RIGHT_RECORD_ID_NAME);
 
@@ -139,6 +140,18 @@ class SortMergeJoin implements JoinStrategy {
    *
    * @param resultIgnoreColIndexes The positions of the secondary join columns
    */
+  /**
+   * Returns the given table sorted on the join columns. If it's already sorted, a new table sharing
+   * its columns is returned instead of a sorted copy. The join only reads those columns, and the
+   * record id column it adds goes into the new table rather than the caller's
+   */
+  private static Table sortedForJoin(Table table, String... joinColumnNames) {
+    if (table.isSortedOn(joinColumnNames)) {
+      return Table.create(table.name(), table.columns());
+    }
+    return table.sortAscendingOn(joinColumnNames);
+  }
+
   private void renameJoinColumns(Table result, Table left, int[] resultIgnoreColIndexes) {
 
     String table2Alias = TABLE_ALIAS + joinTableId.get();
@@ -231,7 +244,8 @@ class SortMergeJoin implements JoinStrategy {
     return ignoreColumns;
   }
 
-  private void joinInner(Table destination, Table left, Table right, int[] ignoreColumns) {
+  private void joinInner(
+      Table destination, Table left, Table right, int[] ignoreColumns, JoinMemoryGuard guard) {
 
     Comparator<Row> comparator = getRowComparator(left, rightJoinColumnPositions);
 
@@ -249,7 +263,7 @@ class SortMergeJoin implements JoinStrategy {
         mark = rightRow.getRowNumber();
       }
       if (comparator.compare(leftRow, rightRow) == 0 && (leftRow.hasNext() || rightRow.hasNext())) {
-        addValues(destination, leftRow, rightRow);
+        addValues(destination, leftRow, rightRow, guard);
         if (rightRow.hasNext()) {
           rightRow.next();
         } else {
@@ -274,21 +288,23 @@ class SortMergeJoin implements JoinStrategy {
     }
     // add the last value if you end on a match
     if (comparator.compare(leftRow, rightRow) == 0) {
-      addValues(destination, leftRow, rightRow);
+      addValues(destination, leftRow, rightRow, guard);
     }
   }
 
-  private void joinLeft(Table destination, Table left, Table right, int[] ignoreColumns) {
+  private void joinLeft(
+      Table destination, Table left, Table right, int[] ignoreColumns, JoinMemoryGuard guard) {
 
-    joinInner(destination, left, right, ignoreColumns);
+    joinInner(destination, left, right, ignoreColumns, guard);
     Selection unmatched =
         left.intColumn(LEFT_RECORD_ID_NAME)
             .isNotIn(destination.intColumn(LEFT_RECORD_ID_NAME).unique());
     addLeftOnlyValues(destination, left, unmatched);
   }
 
-  private void joinRight(Table destination, Table left, Table right, int[] ignoreColumns) {
-    joinInner(destination, left, right, ignoreColumns);
+  private void joinRight(
+      Table destination, Table left, Table right, int[] ignoreColumns, JoinMemoryGuard guard) {
+    joinInner(destination, left, right, ignoreColumns, guard);
     Selection unmatched =
         right
             .intColumn(RIGHT_RECORD_ID_NAME)
@@ -296,11 +312,12 @@ class SortMergeJoin implements JoinStrategy {
     addRightOnlyValues(destination, left, right, unmatched);
   }
 
-  private void joinFull(Table destination, Table left, Table right, int[] ignoreColumns) {
+  private void joinFull(
+      Table destination, Table left, Table right, int[] ignoreColumns, JoinMemoryGuard guard) {
 
     Table tempDestination = destination.emptyCopy();
 
-    joinInner(destination, left, right, ignoreColumns);
+    joinInner(destination, left, right, ignoreColumns, guard);
 
     Selection unmatchedLeft =
         left.intColumn(LEFT_RECORD_ID_NAME)
@@ -394,8 +411,11 @@ class SortMergeJoin implements JoinStrategy {
     }
   }
 
-  private void addValues(Table destination, Row leftRow, Row rightRow) {
+  private void addValues(Table destination, Row leftRow, Row rightRow, JoinMemoryGuard guard) {
 
+    if (destination.rowCount() % JoinMemoryGuard.CHECK_INTERVAL == 0) {
+      guard.reserve(destination.rowCount() + (long) JoinMemoryGuard.CHECK_INTERVAL);
+    }
     Row destRow = destination.appendRow();
 
     // update positionally, but take into account the RECORD_ID COLUMNS at the end of the dest table
@@ -91,9 +91,15 @@ public class BitmapBackedSelection implements Selection {
     return bitmap.toArray();
   }
 
+  /** Returns a copy of the bitmap that backs this selection */
+  public RoaringBitmap toBitmap() {
+    return bitmap.clone();
+  }
+
   private RoaringBitmap toBitmap(Selection otherSelection) {
     if (otherSelection instanceof BitmapBackedSelection) {
-      return ((BitmapBackedSelection) otherSelection).bitmap.clone();
+      // the bitmap operations below don't modify their argument, so it needn't be copied
+      return ((BitmapBackedSelection) otherSelection).bitmap;
     }
     RoaringBitmap bits = new RoaringBitmap();
     for (int i : otherSelection) {
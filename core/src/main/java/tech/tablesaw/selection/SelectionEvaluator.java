@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.selection;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Builds a {@link Selection} by testing every row in a range.
+ *
+ * <p>{@link #eval(int, IntPredicate)} tests the rows one at a time, in order, on the calling
+ * thread. {@link #evalParallel(int, IntPredicate)} is an opt-in alternative for large ranges: it
+ * splits the range into chunks that are tested in parallel on the common {@link ForkJoinPool}, and
+ * merges the results for each chunk. Chunks are aligned to the 2^16 row containers used by the
+ * underlying bitmaps, so each chunk fills its own containers and the merge doesn't need to combine
+ * any of them.
+ */
+public final class SelectionEvaluator {
+
+  /** The number of rows held by each container in a RoaringBitmap */
+  private static final int CONTAINER_SIZE = 1 << 16;
+
+  private SelectionEvaluator() {}
+
+  /**
+   * Returns a selection containing every row from 0 (inclusive) to rowCount (exclusive) for which
+   * the given predicate is true. The rows are tested in order on the calling thread
+   */
+  public static Selection eval(int rowCount, IntPredicate rowPredicate) {
+    return new BitmapBackedSelection(evalRange(0, rowCount, rowPredicate));
+  }
+
+  /**
+   * Returns the same selection as {@link #eval(int, IntPredicate)}, but tests the rows in parallel
+   * on the common {@link ForkJoinPool} when the range spans more than one bitmap container.
+   *
+   * <p>The predicate may be called from several threads at once and in any row order, so it must be
+   * thread-safe: it must not depend on the order it's called in, or update state that's shared
+   * between calls, and anything it reads must not be modified until this method returns
+   */
+  public static Selection evalParallel(int rowCount, IntPredicate rowPredicate) {
+    int containers = (rowCount + CONTAINER_SIZE - 1) / CONTAINER_SIZE;
+    if (containers <= 1) {
+      return eval(rowCount, rowPredicate);
+    }
+    int parallelism = ForkJoinPool.getCommonPoolParallelism();
+    // a few chunks per thread helps balance the load when some chunks are slower than others
+    int containersPerChunk = Math.max(1, containers / (parallelism * 4));
+    RoaringBitmap bitmap =
+        ForkJoinPool.commonPool()
+            .invoke(new ChunkTask(0, containers, containersPerChunk, rowCount, rowPredicate));
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  /**
+   * Returns a selection of the rows of a sorted column that fall within a range of values, found by
+   * binary search rather than by testing every row. The given function returns a negative number
+   * for a row whose value is below the range, zero for a row within it, and a positive number for a
+   * row above it. The rows must be in ascending order if {@code ascending} is true, and in
+   * descending order otherwise, so that the rows within the range are contiguous
+   */
+  public static Selection evalSorted(int rowCount, boolean ascending, IntUnaryOperator position) {
+    int sign = ascending ? 1 : -1;
+    int start = firstRow(rowCount, row -> position.applyAsInt(row) * sign >= 0);
+    int end = firstRow(rowCount, row -> position.applyAsInt(row) * sign > 0);
+    return start < end ? Selection.withRange(start, end) : new BitmapBackedSelection();
+  }
+
+  /**
+   * Returns the first row in 0 (inclusive) to rowCount (exclusive) for which the given predicate is
+   * true, or rowCount if there is none. The predicate must be false for every row before that one,
+   * and true for every row after it
+   */
+  private static int firstRow(int rowCount, IntPredicate rowPredicate) {
+    int low = 0;
+    int high = rowCount;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (rowPredicate.test(middle)) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  private static RoaringBitmap evalRange(int start, int end, IntPredicate rowPredicate) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int row = start; row < end; row++) {
+      if (rowPredicate.test(row)) {
+        bitmap.add(row);
+      }
+    }
+    return bitmap;
+  }
+
+  /** Evaluates the rows in a range of containers, splitting the range until it's small enough */
+  private static final class ChunkTask extends RecursiveTask<RoaringBitmap> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int firstContainer;
+    private final int lastContainer;
+    private final int containersPerChunk;
+    private final int rowCount;
+    private final IntPredicate rowPredicate;
+
+    private ChunkTask(
+        int firstContainer,
+        int lastContainer,
+        int containersPerChunk,
+        int rowCount,
+        IntPredicate rowPredicate) {
+      this.firstContainer = firstContainer;
+      this.lastContainer = lastContainer;
+      this.containersPerChunk = containersPerChunk;
+      this.rowCount = rowCount;
+      this.rowPredicate = rowPredicate;
+    }
+
+    @Override
+    protected RoaringBitmap compute() {
+      if (lastContainer - firstContainer <= containersPerChunk) {
+        int start = firstContainer * CONTAINER_SIZE;
+        int end = (int) Math.min((long) lastContainer * CONTAINER_SIZE, rowCount);
+        return evalRange(start, end, rowPredicate);
+      }
+      int middle = (firstContainer + lastContainer) >>> 1;
+      ChunkTask low =
+          new ChunkTask(firstContainer, middle, containersPerChunk, rowCount, rowPredicate);
+      ChunkTask high =
+          new ChunkTask(middle, lastContainer, containersPerChunk, rowCount, rowPredicate);
+      high.fork();
+      RoaringBitmap result = low.compute();
+      result.or(high.join());
+      return result;
+    }
+  }
+}
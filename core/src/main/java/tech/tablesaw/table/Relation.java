@@ -297,7 +297,7 @@ public abstract class Relation implements Iterable<Row> {
     }
     summaryTable.addColumns(StringColumn.create("Measure"));
     for (int i = 0; i < this.columnCount(); i++) {
-      Table columnSummary = this.column(i).summary();
+      Table columnSummary = this.column(i).columnStats().summary();
       columnSummary.column(1).setName(this.column(i).name());
       summaryTable =
           summaryTable
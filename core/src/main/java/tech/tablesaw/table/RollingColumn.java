@@ -1,10 +1,10 @@
 package tech.tablesaw.table;
 
 import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.RollingAccumulator;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
-import tech.tablesaw.selection.Selection;
 
 /** Does a calculation on a rolling basis (e.g. mean for last 20 days) */
 public class RollingColumn {
@@ -35,15 +35,19 @@ public class RollingColumn {
   /** Performs the calculation and returns a new column containing the results */
   @SuppressWarnings({"unchecked"})
   public <INCOL extends Column<?>, OUT> Column<?> calc(AggregateFunction<INCOL, OUT> function) {
-    // TODO: the subset operation copies the array. creating a view would likely be more efficient
     Column<?> result = function.returnType().create(generateNewColumnName(function));
     for (int i = 0; i < window - 1; i++) {
       result.appendMissing();
     }
+    RollingAccumulator accumulator = function.rollingAccumulator();
+    if (accumulator != null
+        && result instanceof DoubleColumn
+        && function.isCompatibleColumn(column.type())) {
+      slide(accumulator, (DoubleColumn) result);
+      return result;
+    }
     for (int origColIndex = 0; origColIndex < column.size() - window + 1; origColIndex++) {
-      Selection selection = new BitmapBackedSelection();
-      selection.addRange(origColIndex, origColIndex + window);
-      INCOL subsetCol = (INCOL) column.subset(selection.toArray());
+      INCOL subsetCol = (INCOL) column.view(origColIndex, origColIndex + window);
       OUT answer = function.summarize(subsetCol);
       if (answer instanceof Number) {
         Number number = (Number) answer;
@@ -54,4 +58,27 @@ public class RollingColumn {
     }
     return result;
   }
+
+  /**
+   * Computes the function in a single pass over the column, adding each row to the accumulator as
+   * the window reaches it and removing it once the window has moved past. Non-numeric columns are
+   * only compatible with functions that ignore the values, like counts, so their rows are added as
+   * zeros
+   */
+  private void slide(RollingAccumulator accumulator, DoubleColumn result) {
+    NumericColumn<?> numbers = column instanceof NumericColumn ? (NumericColumn<?>) column : null;
+    for (int row = 0; row < column.size(); row++) {
+      if (column.isMissing(row)) {
+        accumulator.addMissing();
+      } else {
+        accumulator.add(numbers == null ? 0 : numbers.getDouble(row));
+      }
+      if (row >= window) {
+        accumulator.removeLeftMost();
+      }
+      if (row >= window - 1) {
+        result.append(accumulator.value());
+      }
+    }
+  }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * A fixed range of consecutive rows in a table, seen column by column. Batches let code loop over
+ * plain primitive arrays for each column rather than visiting a table one {@link
+ * tech.tablesaw.api.Row} at a time, which suits loops the JIT can unroll and vectorize:
+ *
+ * <pre>{@code
+ * double total = 0;
+ * Iterator<TableBatch> batches = table.batchIterator(4096);
+ * while (batches.hasNext()) {
+ *   TableBatch batch = batches.next();
+ *   double[] price = batch.doubles("price");
+ *   int[] quantity = batch.ints("quantity");
+ *   for (int i = 0; i < batch.rowCount(); i++) {
+ *     total += price[i] * quantity[i];
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>The arrays are copies of the batch's values, so changing them does not change the table, and
+ * missing values appear as the column's missing value indicator. The columns returned by {@link
+ * #column(String)} are views of the table where the column type supports them.
+ */
+public class TableBatch {
+
+  private final Table table;
+  private final int start;
+  private final int end;
+
+  /**
+   * Constructs a batch over the rows of the given table from start inclusive to end exclusive
+   *
+   * @throws IndexOutOfBoundsException if the rows are not within the table
+   */
+  public TableBatch(Table table, int start, int end) {
+    Preconditions.checkPositionIndexes(start, end, table.rowCount());
+    this.table = table;
+    this.start = start;
+    this.end = end;
+  }
+
+  /** Returns the table the batch was taken from */
+  public Table getTable() {
+    return table;
+  }
+
+  /** Returns the index in the table of the first row in the batch */
+  public int startRow() {
+    return start;
+  }
+
+  /** Returns one more than the index in the table of the last row in the batch */
+  public int endRow() {
+    return end;
+  }
+
+  /** Returns the number of rows in the batch */
+  public int rowCount() {
+    return end - start;
+  }
+
+  /** Returns the rows of the named column that fall within the batch */
+  public Column<?> column(String columnName) {
+    return table.column(columnName).view(start, end);
+  }
+
+  /** Returns the rows of the column at the given index that fall within the batch */
+  public Column<?> column(int columnIndex) {
+    return table.column(columnIndex).view(start, end);
+  }
+
+  /** Returns the rows of every column in the table that fall within the batch */
+  public List<Column<?>> columns() {
+    List<Column<?>> columns = new ArrayList<>(table.columnCount());
+    for (int i = 0; i < table.columnCount(); i++) {
+      columns.add(column(i));
+    }
+    return columns;
+  }
+
+  /** Returns the batch as a table whose columns are views of the batch's rows */
+  public Table asTable() {
+    return Table.create(table.name(), columns());
+  }
+
+  /**
+   * Returns the values of the named numeric column in the batch as doubles. Missing values are
+   * returned as NaN
+   */
+  public double[] doubles(String columnName) {
+    NumericColumn<?> column = table.numberColumn(columnName);
+    if (column instanceof DoubleColumn) {
+      return ((DoubleColumn) column).view(start, end).asDoubleArray();
+    }
+    double[] values = new double[rowCount()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = column.getDouble(start + i);
+    }
+    return values;
+  }
+
+  /** Returns the values of the named float column in the batch */
+  public float[] floats(String columnName) {
+    FloatColumn column = table.floatColumn(columnName);
+    float[] values = new float[rowCount()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = column.getFloat(start + i);
+    }
+    return values;
+  }
+
+  /** Returns the values of the named int column in the batch */
+  public int[] ints(String columnName) {
+    return table.intColumn(columnName).view(start, end).asIntArray();
+  }
+
+  /** Returns the values of the named long column in the batch */
+  public long[] longs(String columnName) {
+    return table.longColumn(columnName).view(start, end).asLongArray();
+  }
+
+  /** Returns the values of the named short column in the batch */
+  public short[] shorts(String columnName) {
+    ShortColumn column = table.shortColumn(columnName);
+    short[] values = new short[rowCount()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = column.getShort(start + i);
+    }
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    return "TableBatch{" + table.name() + ", rows " + start + " to " + end + "}";
+  }
+}
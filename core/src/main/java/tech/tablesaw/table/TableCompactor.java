@@ -0,0 +1,209 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ColumnStats;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.columns.strings.ByteDictionaryMap;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.columns.strings.IntDictionaryMap;
+import tech.tablesaw.columns.strings.ShortDictionaryMap;
+
+/**
+ * Shrinks the columns of a table in place without changing any of their values. Used by {@link
+ * Table#compact()}.
+ *
+ * <p>Each column is replaced by the narrowest column type that holds every one of its values
+ * exactly: long columns become int or short columns, int columns become short columns, and double
+ * columns become float columns when every value survives the round trip through a float. String
+ * columns whose dictionary uses wider keys than their number of unique values needs are re-encoded
+ * with the smallest dictionary. Finally, the spare capacity every column keeps for values that
+ * might be appended is released.
+ *
+ * <p>A narrowed column keeps the print formatter, locale and secondary index of the column it
+ * replaces. Columns with a zone map, whether enabled explicitly or provided by compressed storage,
+ * are left as they are, since the narrower column would lose it.
+ */
+public class TableCompactor {
+
+  /** The most unique values, including the missing value, a ByteDictionaryMap can hold */
+  private static final int BYTE_DICTIONARY_LIMIT = Byte.MAX_VALUE - Byte.MIN_VALUE;
+
+  /** The most unique values, including the missing value, a ShortDictionaryMap can hold */
+  private static final int SHORT_DICTIONARY_LIMIT = Short.MAX_VALUE - Short.MIN_VALUE;
+
+  private final Table table;
+
+  public TableCompactor(Table table) {
+    this.table = table;
+  }
+
+  /**
+   * Compacts every column of the table, and returns a table describing the result, with the type of
+   * each column before and after, and an estimate of the bytes saved
+   */
+  public Table compact() {
+    StringColumn names = StringColumn.create("Column Name");
+    StringColumn typesBefore = StringColumn.create("Type Before");
+    StringColumn typesAfter = StringColumn.create("Type After");
+    LongColumn bytesSaved = LongColumn.create("Bytes Saved");
+    for (int i = 0; i < table.columnCount(); i++) {
+      Column<?> column = table.column(i);
+      Column<?> compacted = narrow(column);
+      long saved = valueBytes(column) - valueBytes(compacted);
+      saved += compacted.trimToSize();
+      if (compacted != column) {
+        table.replaceColumn(i, compacted);
+      }
+      names.append(column.name());
+      typesBefore.append(column.type().name());
+      typesAfter.append(compacted.type().name());
+      bytesSaved.append(saved);
+    }
+    return Table.create(
+        "Compaction of " + table.name(), names, typesBefore, typesAfter, bytesSaved);
+  }
+
+  /**
+   * Returns a copy of the given column using the narrowest type that holds its values exactly, or
+   * the column itself if it can't be narrowed
+   */
+  private static Column<?> narrow(Column<?> column) {
+    if (column instanceof LongColumn) {
+      return narrow((LongColumn) column);
+    }
+    if (column instanceof IntColumn) {
+      return narrow((IntColumn) column);
+    }
+    if (column instanceof DoubleColumn) {
+      return narrow((DoubleColumn) column);
+    }
+    if (column instanceof StringColumn) {
+      return narrow((StringColumn) column);
+    }
+    return column;
+  }
+
+  private static Column<?> narrow(LongColumn column) {
+    if (column.zoneMap() != null) {
+      return column;
+    }
+    ColumnStats<Long> stats = column.columnStats();
+    long min = stats.min().orElse(Long.MAX_VALUE);
+    long max = stats.max().orElse(Long.MIN_VALUE);
+    // the smallest value of each narrower type is its missing value, so it can't hold real data
+    if (min > Short.MIN_VALUE && max <= Short.MAX_VALUE) {
+      return withSettingsOf(column, column.asShortColumn());
+    }
+    if (min > Integer.MIN_VALUE && max <= Integer.MAX_VALUE) {
+      return withSettingsOf(column, column.asIntColumn());
+    }
+    return column;
+  }
+
+  private static Column<?> narrow(IntColumn column) {
+    if (column.zoneMap() != null) {
+      return column;
+    }
+    ColumnStats<Integer> stats = column.columnStats();
+    int min = stats.min().orElse(Integer.MAX_VALUE);
+    int max = stats.max().orElse(Integer.MIN_VALUE);
+    if (min > Short.MIN_VALUE && max <= Short.MAX_VALUE) {
+      return withSettingsOf(column, column.asShortColumn());
+    }
+    return column;
+  }
+
+  private static Column<?> narrow(DoubleColumn column) {
+    for (int row = 0; row < column.size(); row++) {
+      double value = column.getDouble(row);
+      if (!DoubleColumnType.valueIsMissing(value) && (float) value != value) {
+        return column;
+      }
+    }
+    return withSettingsOf(column, column.asFloatColumn());
+  }
+
+  /** Gives the narrowed column the formatting and index of the original, and returns it */
+  private static Column<?> withSettingsOf(
+      NumberColumn<?, ?> original, NumberColumn<?, ?> narrowed) {
+    narrowed.copyFormattingFrom(original);
+    if (original.isIndexed()) {
+      narrowed.createIndex();
+    }
+    return narrowed;
+  }
+
+  private static Column<?> narrow(StringColumn column) {
+    DictionaryMap dictionary = column.getDictionary();
+    int keyBytes = keyBytes(dictionary);
+    if (keyBytes == 0) {
+      return column;
+    }
+    int unique = column.columnStats().countUnique();
+    int neededBytes =
+        unique < BYTE_DICTIONARY_LIMIT
+            ? Byte.BYTES
+            : unique < SHORT_DICTIONARY_LIMIT ? Short.BYTES : Integer.BYTES;
+    if (neededBytes >= keyBytes) {
+      return column;
+    }
+    // appending every value to a new column builds the smallest dictionary that holds them
+    StringColumn narrowed = StringColumn.create(column.name());
+    for (int row = 0; row < column.size(); row++) {
+      narrowed.append(column.get(row));
+    }
+    if (dictionary.isBitmapIndexEnabled()) {
+      narrowed.enableBitmapIndex();
+    }
+    if (column.isIndexed()) {
+      narrowed.createIndex();
+    }
+    narrowed.setPrintFormatter(column.getPrintFormatter());
+    return narrowed;
+  }
+
+  /**
+   * Returns the width in bytes of the keys the given dictionary stores for each row, or 0 if it
+   * doesn't store keys
+   */
+  private static int keyBytes(DictionaryMap dictionary) {
+    if (dictionary instanceof ByteDictionaryMap) {
+      return Byte.BYTES;
+    }
+    if (dictionary instanceof ShortDictionaryMap) {
+      return Short.BYTES;
+    }
+    if (dictionary instanceof IntDictionaryMap) {
+      return Integer.BYTES;
+    }
+    return 0;
+  }
+
+  /** Returns the number of bytes needed to hold the values of the given column, without slack */
+  private static long valueBytes(Column<?> column) {
+    if (column instanceof StringColumn) {
+      return (long) column.size() * keyBytes(((StringColumn) column).getDictionary());
+    }
+    return (long) column.size() * column.type().byteSize();
+  }
+}
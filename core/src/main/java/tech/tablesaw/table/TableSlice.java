@@ -27,6 +27,7 @@ import javax.annotation.Nullable;
 import tech.tablesaw.aggregate.NumericAggregateFunction;
 import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.Row;
+import tech.tablesaw.api.RowCursor;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.selection.Selection;
@@ -92,6 +93,33 @@ public class TableSlice extends Relation {
     return column(table.columnIndex(columnName));
   }
 
+  /**
+   * Returns the column at the given index as it appears in this slice, like {@link #column(int)},
+   * but as a view that reads through to the underlying table rather than as a copy. See {@link
+   * Column#view(int[])}.
+   *
+   * <p>The view holds the rows of the slice as they were when it was created, so it isn't changed
+   * by later changes to the slice's selection or sort order, but it does see later changes to the
+   * values in those rows of the table
+   */
+  public Column<?> columnView(int columnIndex) {
+    Column<?> col = table.column(columnIndex);
+    if (isSorted()) {
+      return col.view(sortOrder);
+    } else if (hasSelection()) {
+      return col.view(selection.toArray());
+    }
+    return col.view(0, col.size());
+  }
+
+  /**
+   * Returns the column with the given name as it appears in this slice, as a view that reads
+   * through to the underlying table. See {@link #columnView(int)}
+   */
+  public Column<?> columnView(String columnName) {
+    return columnView(table.columnIndex(columnName));
+  }
+
   /** {@inheritDoc} */
   @Override
   public int columnCount() {
@@ -238,7 +266,7 @@ public class TableSlice extends Relation {
   public double reduce(String numberColumnName, NumericAggregateFunction function) {
     NumericColumn<?> column = table.numberColumn(numberColumnName);
     if (hasSelection()) {
-      return function.summarize(column.where(selection));
+      return function.summarize((NumericColumn<?>) column.view(selection.toArray()));
     }
     return function.summarize(column);
   }
@@ -266,6 +294,14 @@ public class TableSlice extends Relation {
     };
   }
 
+  /**
+   * Returns a cursor over the rows in this slice, whose typed accessors avoid the per-value lookups
+   * made by {@link Row}
+   */
+  public RowCursor cursor() {
+    return new RowCursor(this);
+  }
+
   private boolean hasSelection() {
     return selection != null;
   }
@@ -314,7 +350,19 @@ public class TableSlice extends Relation {
     } else {
       newRows = IntStream.range(0, table.rowCount()).toArray();
     }
-    IntArrays.parallelQuickSort(newRows, rowComparator);
+    if (!isOrdered(newRows, rowComparator)) {
+      IntArrays.parallelQuickSort(newRows, rowComparator);
+    }
     return newRows;
   }
+
+  /** Returns true if the given rows are already in the order given by the comparator */
+  private static boolean isOrdered(int[] rows, IntComparator rowComparator) {
+    for (int i = 1; i < rows.length; i++) {
+      if (rowComparator.compare(rows[i - 1], rows[i]) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
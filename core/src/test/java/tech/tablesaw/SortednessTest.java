@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+import tech.tablesaw.selection.SelectionEvaluator;
+
+public class SortednessTest {
+
+  private static final Random RANDOM = new Random(7);
+
+  /** Returns the rows selected by testing each value, for comparison with a binary search */
+  private static Selection scan(DoubleColumn column, double low, double high) {
+    return SelectionEvaluator.eval(
+        column.size(), i -> column.getDouble(i) >= low && column.getDouble(i) <= high);
+  }
+
+  @Test
+  public void sortedNumberFiltersMatchScans() {
+    DoubleColumn ascending = DoubleColumn.create("values");
+    for (int i = 0; i < 1_000; i++) {
+      ascending.append(RANDOM.nextInt(200) - 100);
+    }
+    ascending.appendMissing();
+    ascending.sortAscending();
+    assertTrue(ascending.columnStats().isAscending());
+
+    DoubleColumn descending = ascending.copy();
+    descending.sortDescending();
+    assertTrue(descending.columnStats().isDescending());
+
+    for (DoubleColumn column : new DoubleColumn[] {ascending, descending}) {
+      assertEquals(scan(column, -10, 25), column.isBetweenInclusive(-10, 25));
+      assertEquals(scan(column, 0, 0), column.isEqualTo(0));
+      assertEquals(scan(column, 51, Double.POSITIVE_INFINITY), column.isGreaterThan(50));
+      assertEquals(scan(column, Double.NEGATIVE_INFINITY, -51), column.isLessThan(-50));
+      assertEquals(0, column.isGreaterThan(1_000).size());
+      assertEquals(column.size() - 1, column.isLessThanOrEqualTo(1_000).size());
+    }
+  }
+
+  @Test
+  public void sortedTemporalFiltersMatchScans() {
+    DateColumn dates = DateColumn.create("dates");
+    DateTimeColumn dateTimes = DateTimeColumn.create("dateTimes");
+    LocalDate start = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < 500; i++) {
+      dates.append(start.plusDays(i / 3));
+      dateTimes.append(start.atStartOfDay().plusHours(i));
+    }
+    LocalDate cutoff = start.plusDays(40);
+    assertTrue(dates.columnStats().isAscending());
+    assertEquals(dates.eval((LocalDate d) -> d.isAfter(cutoff)), dates.isAfter(cutoff));
+    assertEquals(dates.eval((LocalDate d) -> d.equals(cutoff)), dates.isEqualTo(cutoff));
+
+    LocalDateTime low = cutoff.atStartOfDay();
+    LocalDateTime high = low.plusHours(30);
+    assertEquals(
+        dateTimes.eval((LocalDateTime d) -> !d.isBefore(low) && !d.isAfter(high)),
+        dateTimes.isBetweenIncluding(low, high));
+  }
+
+  @Test
+  public void tablesKnowWhenTheyAreSorted() {
+    Table table =
+        Table.create(
+            "t",
+            IntColumn.create("a", 1, 1, 2, 2, 3),
+            IntColumn.create("b", 5, 6, 1, 9, 0),
+            IntColumn.create("c", 3, 1, 4, 1, 5));
+    assertTrue(table.isSortedOn("a"));
+    assertTrue(table.isSortedOn("a", "b"));
+    assertFalse(table.isSortedOn("b"));
+    assertFalse(table.isSortedOn("a", "c"));
+    assertTrue(table.isSortedOn("a", "-c"));
+
+    table.intColumn("a").set(4, 0);
+    assertFalse(table.isSortedOn("a"));
+    assertTrue(table.sortOn("a").isSortedOn("a"));
+  }
+
+  @Test
+  public void mergeJoinOnSortedTablesLeavesInputsUnchanged() {
+    IntColumn leftIds = IntColumn.create("id");
+    IntColumn rightIds = IntColumn.create("id");
+    DoubleColumn leftValues = DoubleColumn.create("left");
+    DoubleColumn rightValues = DoubleColumn.create("right");
+    // a single id on the left, so the joiner chooses a sort merge join
+    for (int i = 0; i < 1_200; i++) {
+      leftIds.append(0);
+      leftValues.append(i);
+    }
+    for (int i = 0; i < 3; i++) {
+      rightIds.append(0);
+      rightValues.append(-i);
+    }
+    Table left = Table.create("left", leftIds, leftValues);
+    Table right = Table.create("right", rightIds, rightValues);
+    Table joined = left.joinOn("id").with(right).join();
+
+    assertEquals(3_600, joined.rowCount());
+    assertEquals(2, left.columnCount());
+    assertEquals(2, right.columnCount());
+    assertEquals(3, joined.columnCount());
+  }
+}
@@ -3,8 +3,12 @@ package tech.tablesaw.analytic;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.common.collect.ImmutableList;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.analytic.AggregateFunctions.Count;
 import tech.tablesaw.analytic.AggregateFunctions.Max;
+import tech.tablesaw.analytic.AggregateFunctions.Mean;
+import tech.tablesaw.analytic.AggregateFunctions.Min;
 import tech.tablesaw.analytic.AggregateFunctions.Sum;
 
 class AnalyticAggregateFunctionsTest {
@@ -40,4 +44,86 @@ class AnalyticAggregateFunctionsTest {
     function.addRightMost(3);
     assertEquals(10, function.getValue());
   }
+
+  @Test
+  public void testMinSlidingWithMissing() {
+    AggregateFunction<Integer, Double> function = new Min<Integer>().functionForSlidingWindows();
+    function.addRightMostDouble(1);
+    function.addRightMostMissing();
+    function.addRightMostDouble(5);
+    assertEquals(1, function.getDoubleValue());
+    function.removeLeftMost();
+    assertEquals(5, function.getDoubleValue());
+    function.removeLeftMost();
+    function.removeLeftMost();
+    assertTrue(Double.isNaN(function.getDoubleValue()));
+  }
+
+  @Test
+  public void testCountSlidingWithMissing() {
+    AggregateFunction<String, Integer> function = new Count<String>().functionForSlidingWindows();
+    function.addRightMost("a");
+    function.addRightMostMissing();
+    function.addRightMost("b");
+    assertEquals(2, function.getValue());
+    function.removeLeftMost();
+    assertEquals(1, function.getValue());
+    function.removeLeftMost();
+    assertEquals(1, function.getValue());
+  }
+
+  @Test
+  public void testSumSlidingCompensated() {
+    AggregateFunction<Double, Double> function = new Sum<Double>().functionForSlidingWindows();
+    function.addRightMostDouble(1e16);
+    function.addRightMostDouble(1);
+    function.addRightMostDouble(1);
+    function.removeLeftMost();
+    assertEquals(2, function.getDoubleValue());
+  }
+
+  @Test
+  public void testSlidingMatchesBruteForce() {
+    Random random = new Random(42);
+    double[] values = new double[500];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(1000) - 500;
+    }
+    int width = 17;
+    AggregateFunction<Double, Double> max = new Max<Double>().functionForSlidingWindows();
+    AggregateFunction<Double, Double> min = new Min<Double>().functionForSlidingWindows();
+    AggregateFunction<Double, Double> mean = new Mean<Double>().functionForSlidingWindows();
+    for (int i = 0; i < values.length; i++) {
+      for (AggregateFunction<Double, Double> function : ImmutableList.of(max, min, mean)) {
+        if (Double.isNaN(values[i])) {
+          function.addRightMostMissing();
+        } else {
+          function.addRightMostDouble(values[i]);
+        }
+        if (i >= width) {
+          function.removeLeftMost();
+        }
+      }
+      double expectedMax = Double.NEGATIVE_INFINITY;
+      double expectedMin = Double.POSITIVE_INFINITY;
+      double sum = 0;
+      int count = 0;
+      for (int j = Math.max(0, i - width + 1); j <= i; j++) {
+        if (!Double.isNaN(values[j])) {
+          expectedMax = Math.max(expectedMax, values[j]);
+          expectedMin = Math.min(expectedMin, values[j]);
+          sum += values[j];
+          count++;
+        }
+      }
+      if (count == 0) {
+        assertTrue(Double.isNaN(max.getDoubleValue()));
+        assertTrue(Double.isNaN(mean.getDoubleValue()));
+      } else {
+        assertEquals(expectedMax, max.getDoubleValue());
+        assertEquals(expectedMin, min.getDoubleValue());
+        assertEquals(sum / count, mean.getDoubleValue(), 1e-9);
+      }
+    }
+  }
 }
@@ -6,9 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 
@@ -719,4 +726,273 @@ class AnalyticQueryEngineTest {
 
     assertEquals(ImmutableList.of("rowNumber", "rank", "denseRank"), result.columnNames());
   }
+
+  @Test
+  public void testParallelPartitionsMatchSerial() {
+    Random random = new Random(7);
+    int rowCount = 20_000;
+    IntColumn key = IntColumn.create("key");
+    DoubleColumn value = DoubleColumn.create("value");
+    for (int i = 0; i < rowCount; i++) {
+      // skewed partitions: key 0 holds about half the rows
+      key.append(random.nextBoolean() ? 0 : random.nextInt(500));
+      value.append(random.nextInt(1000));
+    }
+    Table table = Table.create("table", key, value);
+
+    AnalyticQuery aggregateQuery =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("key")
+            .orderBy("value")
+            .rowsBetween()
+            .preceding(3)
+            .andCurrentRow()
+            .sum("value")
+            .as("sum")
+            .max("value")
+            .as("max")
+            .build();
+    AnalyticQuery numberingQuery =
+        AnalyticQuery.numberingQuery()
+            .from(table)
+            .partitionBy("key")
+            .orderBy("value")
+            .rank()
+            .as("rank")
+            .build();
+
+    Table serialAggregates = aggregateQuery.execute();
+    Table serialNumbers = numberingQuery.execute();
+    Table parallelAggregates = aggregateQuery.executeParallel();
+    Table parallelNumbers = numberingQuery.executeParallel();
+
+    assertArrayEquals(
+        serialAggregates.doubleColumn("sum").asDoubleArray(),
+        parallelAggregates.doubleColumn("sum").asDoubleArray());
+    assertArrayEquals(
+        serialAggregates.doubleColumn("max").asDoubleArray(),
+        parallelAggregates.doubleColumn("max").asDoubleArray());
+    assertArrayEquals(
+        serialNumbers.intColumn("rank").asIntArray(),
+        parallelNumbers.intColumn("rank").asIntArray());
+  }
+
+  @Test
+  public void testParallelRunsOverManyPartitionsMatchSerial() {
+    Random random = new Random(11);
+    int rowCount = 20_000;
+    StringColumn key = StringColumn.create("key");
+    IntColumn value = IntColumn.create("value");
+    for (int i = 0; i < rowCount; i++) {
+      key.append("k" + random.nextInt(2_000));
+      value.append(random.nextInt(100));
+    }
+    Table table = Table.create("table", key, value);
+
+    AnalyticQuery rowsQuery =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("key")
+            .orderBy("value")
+            .rowsBetween()
+            .preceding(2)
+            .andFollowing(1)
+            .sum("value")
+            .as("sum")
+            .build();
+    AnalyticQuery rangeQuery =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("key")
+            .orderBy("value")
+            .rangeBetween()
+            .preceding(10)
+            .andCurrentRow()
+            .count("value")
+            .as("count")
+            .build();
+    AnalyticQuery numberingQuery =
+        AnalyticQuery.numberingQuery()
+            .from(table)
+            .partitionBy("key")
+            .orderBy("value")
+            .denseRank()
+            .as("denseRank")
+            .build();
+
+    double[] sums = rowsQuery.execute().doubleColumn("sum").asDoubleArray();
+    int[] counts = rangeQuery.execute().intColumn("count").asIntArray();
+    int[] ranks = numberingQuery.execute().intColumn("denseRank").asIntArray();
+    for (int run = 0; run < 20; run++) {
+      assertArrayEquals(sums, rowsQuery.executeParallel().doubleColumn("sum").asDoubleArray());
+      assertArrayEquals(counts, rangeQuery.executeParallel().intColumn("count").asIntArray());
+      assertArrayEquals(
+          ranks, numberingQuery.executeParallel().intColumn("denseRank").asIntArray());
+    }
+  }
+
+  @Test
+  public void testRangePrecedingDurationOverInstants() {
+    Instant start = Instant.parse("2021-03-01T10:00:00Z");
+    Random random = new Random(3);
+    InstantColumn time = InstantColumn.create("time");
+    DoubleColumn amount = DoubleColumn.create("amount");
+    StringColumn card = StringColumn.create("card");
+    Instant next = start;
+    for (int i = 0; i < 300; i++) {
+      next = next.plusSeconds(random.nextInt(180));
+      time.append(next);
+      amount.append(random.nextInt(10) == 0 ? Double.NaN : random.nextInt(100));
+      card.append(random.nextBoolean() ? "a" : "b");
+    }
+    Table table = Table.create("events", card, time, amount);
+
+    Table result =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("card")
+            .orderBy("time")
+            .rangeBetween()
+            .preceding(Duration.ofMinutes(5))
+            .andCurrentRow()
+            .sum("amount")
+            .as("sum")
+            .count("amount")
+            .as("count")
+            .max("amount")
+            .as("max")
+            .execute();
+
+    for (int i = 0; i < table.rowCount(); i++) {
+      Instant t = time.get(i);
+      double sum = 0;
+      int count = 0;
+      double max = Double.NEGATIVE_INFINITY;
+      for (int j = 0; j < table.rowCount(); j++) {
+        Instant other = time.get(j);
+        if (card.get(j).equals(card.get(i))
+            && !other.isAfter(t)
+            && !other.isBefore(t.minus(Duration.ofMinutes(5)))
+            && !amount.isMissing(j)) {
+          sum += amount.getDouble(j);
+          count++;
+          max = Math.max(max, amount.getDouble(j));
+        }
+      }
+      assertEquals(count, result.intColumn("count").getInt(i));
+      if (count == 0) {
+        assertTrue(result.doubleColumn("sum").isMissing(i));
+      } else {
+        assertEquals(sum, result.doubleColumn("sum").getDouble(i), 1e-9);
+        assertEquals(max, result.doubleColumn("max").getDouble(i));
+      }
+    }
+  }
+
+  @Test
+  public void testRangeOverDateTimesWithPeersAndGaps() {
+    LocalDateTime start = LocalDateTime.of(2021, 3, 1, 10, 0);
+    DateTimeColumn time =
+        DateTimeColumn.create(
+            "time",
+            start,
+            start.plusMinutes(1),
+            start.plusMinutes(1),
+            start.plusMinutes(10),
+            null,
+            start.plusMinutes(12));
+    DoubleColumn value = DoubleColumn.create("value", 1, 2, 4, 8, 16, 32);
+    Table table = Table.create("t", time, value);
+
+    Table result =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy()
+            .orderBy("time")
+            .rangeBetween()
+            .preceding(Duration.ofMinutes(10))
+            .andPreceding(Duration.ofMinutes(1))
+            .sum("value")
+            .as("sum")
+            .execute();
+
+    // rows at the same time are peers: neither precedes the other by a minute
+    assertArrayEquals(
+        new double[] {Double.NaN, 1, 1, 7, Double.NaN, 8},
+        result.doubleColumn("sum").asDoubleArray());
+  }
+
+  @Test
+  public void testRangeNumericDescending() {
+    Table table =
+        Table.create(
+            "t",
+            DoubleColumn.create("key", 1, 2, 3, 5, 8),
+            DoubleColumn.create("value", 1, 10, 100, 1000, 10000));
+
+    Table result =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy()
+            .orderBy("-key")
+            .rangeBetween()
+            .currentRow()
+            .andFollowing(2)
+            .sum("value")
+            .as("sum")
+            .execute();
+
+    // ordered descending, the two following values are the two below the current one
+    assertArrayEquals(
+        new double[] {1, 11, 111, 1100, 10000}, result.doubleColumn("sum").asDoubleArray());
+  }
+
+  @Test
+  public void testRangeInvalidOrderBy() {
+    Table table =
+        Table.create(
+            "t",
+            StringColumn.create("s", "a", "b"),
+            DoubleColumn.create("d", 1, 2),
+            DoubleColumn.create("e", 1, 2));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            AnalyticQuery.query()
+                .from(table)
+                .partitionBy()
+                .orderBy("d", "e")
+                .rangeBetween()
+                .preceding(1)
+                .andCurrentRow()
+                .sum("d")
+                .as("sum")
+                .execute());
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            AnalyticQuery.query()
+                .from(table)
+                .partitionBy()
+                .orderBy("d")
+                .rangeBetween()
+                .preceding(Duration.ofMinutes(1))
+                .andCurrentRow()
+                .sum("d")
+                .as("sum")
+                .execute());
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            AnalyticQuery.quickQuery()
+                .from(table)
+                .rangeBetween()
+                .preceding(1)
+                .andCurrentRow()
+                .sum("d")
+                .as("sum")
+                .execute());
+  }
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.analytic.WindowFrame.WindowBoundTypes;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
@@ -142,4 +143,43 @@ class WindowFrameTest {
         WindowFrame.builder().setLeftPreceding(5).setRightCurrentRow().build().windowGrowthType();
     assertEquals(WindowGrowthType.SLIDING, growthType);
   }
+
+  @Test
+  public void testRange() {
+    WindowFrame frame =
+        WindowFrame.builder()
+            .setRange()
+            .setLeftPreceding(Duration.ofMinutes(5))
+            .setRightCurrentRow()
+            .build();
+    String expectedString = "RANGE BETWEEN PT5M PRECEDING AND CURRENT_ROW";
+
+    assertTrue(frame.isRange());
+    assertTrue(frame.hasDurationOffsets());
+    assertEquals(-300_000, frame.getLeftOffset());
+    assertEquals(expectedString, frame.toSqlString());
+
+    frame = WindowFrame.builder().setRange().setLeftPreceding(2.5).setRightFollowing(1.0).build();
+    assertEquals("RANGE BETWEEN 2.5 PRECEDING AND 1 FOLLOWING", frame.toSqlString());
+  }
+
+  @Test
+  public void testRangeInvalid() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            WindowFrame.builder()
+                .setRange()
+                .setLeftPreceding(Duration.ofMinutes(5))
+                .setRightFollowing(3.0)
+                .build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            WindowFrame.builder()
+                .setRange()
+                .setLeftPreceding(Duration.ofMinutes(1))
+                .setRightPreceding(Duration.ofMinutes(2))
+                .build());
+  }
 }
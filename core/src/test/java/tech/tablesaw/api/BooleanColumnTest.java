@@ -358,6 +358,19 @@ public class BooleanColumnTest {
     assertEquals(0, column.isMissing().size());
   }
 
+  @Test
+  public void settingEncodedValuesDiscardsCachedStats() {
+    assertEquals(0, column.columnStats().countMissing());
+    byte[] trueValues = column.trueBytes();
+    column.missingBytes(trueValues);
+    assertEquals(2, column.columnStats().countMissing());
+    column.falseBytes(trueValues);
+    assertEquals(0, column.columnStats().countMissing());
+    column.trueBytes(trueValues);
+    assertEquals(2, column.columnStats().countUnique());
+    assertTrue(column.columnStats().max().get());
+  }
+
   /** Returns true if the last item added to the column is true and false otherwise */
   private boolean lastEntry() {
     return column.get(column.size() - 1);
@@ -0,0 +1,164 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.storage.ColumnStorage;
+import tech.tablesaw.joining.DataFrameJoiner;
+
+public class MemoryBudgetTest {
+
+  private static Table table(int rows) {
+    IntColumn ids = IntColumn.create("id");
+    DoubleColumn values = DoubleColumn.create("value");
+    StringColumn names = StringColumn.create("name");
+    for (int i = 0; i < rows; i++) {
+      ids.append(i % 50);
+      values.append(i * 0.5);
+      names.append("name" + (i % 10));
+    }
+    return Table.create("t", ids, values, names);
+  }
+
+  @Test
+  public void memoryUsageGrowsWithRows() {
+    IntColumn small = IntColumn.create("small");
+    IntColumn large = IntColumn.create("large");
+    for (int i = 0; i < 100_000; i++) {
+      if (i < 100) {
+        small.append(i);
+      }
+      large.append(i);
+    }
+    assertTrue(small.memoryUsage() > 0);
+    assertTrue(large.memoryUsage() > 100_000 * Integer.BYTES);
+    assertTrue(large.memoryUsage() > small.memoryUsage());
+  }
+
+  @Test
+  public void compressedColumnsUseLessMemory() {
+    IntColumn heap = IntColumn.create("heap");
+    IntColumn compressed = IntColumn.create("compressed", ColumnStorage.compressed());
+    for (int i = 0; i < 10_000; i++) {
+      heap.append(i % 16);
+      compressed.append(i % 16);
+    }
+    assertTrue(compressed.memoryUsage() < heap.memoryUsage());
+  }
+
+  @Test
+  public void stringColumnsCountTheirDictionary() {
+    StringColumn repeated = StringColumn.create("repeated");
+    StringColumn unique = StringColumn.create("unique");
+    for (int i = 0; i < 1_000; i++) {
+      repeated.append("a");
+      unique.append("value-" + i);
+    }
+    assertTrue(unique.memoryUsage() > repeated.memoryUsage());
+  }
+
+  @Test
+  public void tableMemoryUsageSumsColumns() {
+    Table table = table(1_000);
+    long expected = 0;
+    for (Column<?> column : table.columns()) {
+      expected += column.memoryUsage();
+    }
+    assertEquals(expected, table.memoryUsage());
+  }
+
+  @Test
+  public void sortFailsWhenOverBudget() {
+    Table table = table(1_000);
+    try (MemoryBudget budget = MemoryBudget.limit(100)) {
+      MemoryBudgetExceededException e =
+          assertThrows(MemoryBudgetExceededException.class, () -> table.sortOn("id"));
+      assertEquals(100, e.getBudgetBytes());
+      assertTrue(e.getRequiredBytes() > 100);
+      assertEquals(0, budget.reserved());
+    }
+    assertEquals(1_000, table.sortOn("id").rowCount());
+  }
+
+  @Test
+  public void sortingASortedTableNeedsNoBudget() {
+    Table table = table(1_000);
+    try (MemoryBudget budget = MemoryBudget.limit(100)) {
+      // the values are already ascending, so the sorted table is a copy sharing their data
+      assertEquals(1_000, table.sortOn("value").rowCount());
+      assertEquals(0, budget.reserved());
+    }
+  }
+
+  @Test
+  public void joinFailsWhenOverBudget() {
+    Table left = table(1_000);
+    Table right = table(1_000);
+    long inputs = left.memoryUsage() + right.memoryUsage();
+    try (MemoryBudget budget = MemoryBudget.limit(inputs * 4)) {
+      // every id matches twenty rows on each side, so the result is twenty times the input size
+      assertThrows(
+          MemoryBudgetExceededException.class,
+          () -> new DataFrameJoiner(left, "id").allowDuplicateColumnNames(true).with(right).join());
+      assertTrue(budget.reserved() <= budget.bytes());
+    }
+  }
+
+  @Test
+  public void budgetsAccumulateAcrossOperations() {
+    Table table = table(1_000);
+    try (MemoryBudget budget = MemoryBudget.limit(table.memoryUsage() * 3)) {
+      table.sortOn("id");
+      long afterOne = budget.reserved();
+      assertTrue(afterOne > table.memoryUsage());
+      table.sortOn("name");
+      assertEquals(budget.bytes() - budget.reserved(), budget.remaining());
+      // two sorted copies fit, but not a third
+      assertThrows(MemoryBudgetExceededException.class, () -> table.sortOn("id", "value"));
+      assertEquals(2 * afterOne, budget.reserved());
+    }
+  }
+
+  @Test
+  public void budgetsNest() {
+    assertNull(MemoryBudget.current());
+    assertTrue(MemoryBudget.allows(Long.MAX_VALUE));
+    try (MemoryBudget outer = MemoryBudget.limit(1_000)) {
+      try (MemoryBudget inner = MemoryBudget.limit(10)) {
+        assertSame(inner, MemoryBudget.current());
+        assertFalse(MemoryBudget.allows(100));
+      }
+      assertSame(outer, MemoryBudget.current());
+      assertTrue(MemoryBudget.allows(100));
+      try (MemoryBudget inner = MemoryBudget.limit(5_000)) {
+        // an inner budget can't hand out more than is left in the outer one
+        assertEquals(1_000, inner.remaining());
+        MemoryBudget.reserve("test", () -> 600);
+        assertEquals(600, inner.reserved());
+      }
+      assertEquals(600, outer.reserved());
+      assertFalse(MemoryBudget.allows(500));
+    }
+    assertNull(MemoryBudget.current());
+  }
+}
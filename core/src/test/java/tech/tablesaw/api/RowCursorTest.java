@@ -0,0 +1,99 @@
+package tech.tablesaw.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.table.TableSlice;
+
+public class RowCursorTest {
+
+  private static Table table() {
+    return Table.create(
+        "orders",
+        StringColumn.create("item", "a", "b", "c", "d"),
+        DoubleColumn.create("price", 1.5, 2.0, 3.0, 4.0),
+        IntColumn.create("quantity", 2, 1, 4, 3),
+        DateColumn.create(
+            "date",
+            LocalDate.of(2020, 1, 1),
+            LocalDate.of(2020, 1, 2),
+            LocalDate.of(2020, 1, 3),
+            LocalDate.of(2020, 1, 4)),
+        BooleanColumn.create("shipped", true, false, true, false));
+  }
+
+  @Test
+  public void iterateTable() {
+    Table table = table();
+    RowCursor cursor = table.cursor();
+    RowCursor.DoubleAccessor price = cursor.doubleAccessor("price");
+    RowCursor.IntAccessor quantity = cursor.intAccessor("quantity");
+    RowCursor.NumberAccessor number = cursor.numberAccessor("Quantity");
+    RowCursor.BooleanAccessor shipped = cursor.booleanAccessor("shipped");
+
+    double total = 0;
+    double quantities = 0;
+    int shippedCount = 0;
+    while (cursor.next()) {
+      total += price.get() * quantity.get();
+      quantities += number.get();
+      if (shipped.isTrue()) {
+        shippedCount++;
+      }
+    }
+    assertEquals(3.0 + 2.0 + 12.0 + 12.0, total);
+    assertEquals(10.0, quantities);
+    assertEquals(2, shippedCount);
+    assertFalse(cursor.next());
+
+    cursor.reset();
+    assertTrue(cursor.next());
+    assertEquals(0, cursor.position());
+  }
+
+  @Test
+  public void iterateSlice() {
+    Table table = table();
+    TableSlice slice = new TableSlice(table, Selection.with(1, 2, 3));
+    slice.sortOn(Sort.on("quantity", Sort.Order.ASCEND));
+    RowCursor cursor = slice.cursor();
+    RowCursor.StringAccessor item = cursor.stringAccessor("item");
+    RowCursor.DateAccessor date = cursor.dateAccessor("date");
+
+    StringBuilder items = new StringBuilder();
+    while (cursor.next()) {
+      items.append(item.get());
+    }
+    assertEquals("bdc", items.toString());
+    assertEquals(3, cursor.rowCount());
+
+    cursor.at(2);
+    assertEquals(2, cursor.backingRow());
+    assertEquals(LocalDate.of(2020, 1, 3), date.get());
+  }
+
+  @Test
+  public void setValues() {
+    Table table = table();
+    RowCursor cursor = table.cursor();
+    RowCursor.DoubleAccessor price = cursor.doubleAccessor("price");
+    while (cursor.next()) {
+      price.set(price.get() * 2);
+    }
+    assertEquals(8.0, table.doubleColumn("price").getDouble(3));
+  }
+
+  @Test
+  public void wrongTypeOrMissingColumn() {
+    RowCursor cursor = table().cursor();
+    assertThrows(IllegalArgumentException.class, () -> cursor.intAccessor("price"));
+    assertThrows(IllegalStateException.class, () -> cursor.doubleAccessor("cost"));
+    assertThrows(IndexOutOfBoundsException.class, () -> cursor.at(4));
+  }
+}
@@ -544,6 +544,40 @@ class StringColumnTest {
     assertEquals("run run run", result.get(1));
   }
 
+  @Test
+  void testMapValuesMergesDictionaryEntries() {
+    StringColumn column = StringColumn.create("letters", "A", "a", "", "B", "A", "b");
+    StringColumn result = column.lowerCase();
+    assertEquals("letters[lcase]", result.name());
+    assertEquals(6, result.size());
+    assertEquals(Arrays.asList("a", "a", "", "b", "a", "b"), result.asList());
+    assertEquals(3, result.countOccurrences("a"));
+    assertEquals(2, result.countOccurrences("b"));
+    assertEquals(1, result.countMissing());
+    assertEquals(3, result.countUnique());
+    assertEquals(3, result.isEqualTo("a").size());
+
+    // the mapped column can still be modified
+    result.append("c");
+    result.set(0, "b");
+    assertEquals(3, result.countOccurrences("b"));
+    assertEquals(2, result.countOccurrences("a"));
+    assertEquals("A", column.get(0));
+  }
+
+  @Test
+  void testMapValuesOnShortDictionary() {
+    StringColumn column = StringColumn.create("values");
+    for (int i = 0; i < 1000; i++) {
+      column.append("Value " + (i % 300));
+    }
+    StringColumn result = column.mapValues("mod", value -> value.substring(0, value.length() - 1));
+    assertEquals(1000, result.size());
+    assertEquals(30, result.countUnique());
+    assertEquals("Value 29", result.get(299));
+    assertEquals(40, result.countOccurrences("Value 1"));
+  }
+
   @Test
   void testAbbreviate() {
     String[] words = {"running", "Stop Breaking Down", "Backwards Writing"};
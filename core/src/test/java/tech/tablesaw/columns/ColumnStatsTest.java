@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+
+public class ColumnStatsTest {
+
+  @Test
+  public void statisticsDescribeTheColumn() {
+    IntColumn column = IntColumn.create("values", 4, 2, 9, 2);
+    column.appendMissing();
+    ColumnStats<Integer> stats = column.columnStats();
+    assertEquals(Optional.of(2), stats.min());
+    assertEquals(Optional.of(9), stats.max());
+    assertEquals(1, stats.countMissing());
+    assertEquals(4, stats.countUnique());
+    assertFalse(stats.isAscending());
+    assertFalse(stats.isDescending());
+  }
+
+  @Test
+  public void statisticsAreCachedUntilTheColumnChanges() {
+    IntColumn column = IntColumn.create("values", 1, 2, 3);
+    ColumnStats<Integer> stats = column.columnStats();
+    assertTrue(stats.isAscending());
+    assertSame(stats, column.columnStats());
+
+    column.append(0);
+    ColumnStats<Integer> updated = column.columnStats();
+    assertNotSame(stats, updated);
+    assertFalse(updated.isAscending());
+    assertEquals(Optional.of(0), updated.min());
+
+    column.sortDescending();
+    assertTrue(column.columnStats().isDescending());
+    column.set(0, 10);
+    assertEquals(Optional.of(10), column.columnStats().max());
+  }
+
+  @Test
+  public void emptyAndMissingColumnsHaveNoRange() {
+    StringColumn column = StringColumn.create("names");
+    assertEquals(Optional.empty(), column.columnStats().min());
+    column.appendMissing();
+    assertEquals(Optional.empty(), column.columnStats().max());
+    assertEquals(1, column.columnStats().countMissing());
+    column.append("b").append("a");
+    assertEquals(Optional.of("a"), column.columnStats().min());
+  }
+
+  @Test
+  public void viewsAreNotCached() {
+    IntColumn column = IntColumn.create("values", 1, 2, 3);
+    IntColumn view = column.view(0, 3);
+    assertEquals(Optional.of(3), view.columnStats().max());
+    column.set(1, 7);
+    assertEquals(Optional.of(7), view.columnStats().max());
+  }
+
+  @Test
+  public void summaryCopiesCanBeModified() {
+    IntColumn column = IntColumn.create("values", 1, 2, 3);
+    column.columnStats().summary().column(1).setName("changed");
+    assertEquals(
+        column.summary().column(1).name(), column.columnStats().summary().column(1).name());
+  }
+}
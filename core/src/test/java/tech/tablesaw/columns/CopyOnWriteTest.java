@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.Table;
+
+public class CopyOnWriteTest {
+
+  @Test
+  public void modifyingCopyLeavesOriginalUnchanged() {
+    IntColumn original = IntColumn.create("i", 1, 2, 3);
+    IntColumn copy = original.copy();
+    copy.set(0, 10);
+    copy.append(4);
+
+    assertArrayEquals(new int[] {1, 2, 3}, original.asIntArray());
+    assertArrayEquals(new int[] {10, 2, 3, 4}, copy.asIntArray());
+  }
+
+  @Test
+  public void modifyingOriginalLeavesCopiesUnchanged() {
+    DoubleColumn original = DoubleColumn.create("d", 3.0, 1.0, 2.0);
+    DoubleColumn copy1 = original.copy();
+    DoubleColumn copy2 = original.copy();
+    original.sortAscending();
+    copy1.append(4.0);
+
+    assertArrayEquals(new double[] {1.0, 2.0, 3.0}, original.asDoubleArray());
+    assertArrayEquals(new double[] {3.0, 1.0, 2.0, 4.0}, copy1.asDoubleArray());
+    assertArrayEquals(new double[] {3.0, 1.0, 2.0}, copy2.asDoubleArray());
+
+    // the last column sharing the data modifies it in place
+    copy2.set(0, 5.0);
+    assertEquals(5.0, copy2.getDouble(0));
+  }
+
+  @Test
+  public void copyOfCopy() {
+    DateColumn original = DateColumn.create("date");
+    original.append(LocalDate.of(2020, 1, 1));
+    DateColumn copy = original.copy().copy();
+    original.clear();
+
+    assertEquals(0, original.size());
+    assertEquals(LocalDate.of(2020, 1, 1), copy.get(0));
+  }
+
+  @Test
+  public void tableCopiesAreIndependent() {
+    Table table = Table.create("t", IntColumn.create("i", 1, 2, 3));
+    Table copy = table.copy();
+    copy.intColumn("i").set(1, 20);
+    table.intColumn("i").append(4);
+
+    assertArrayEquals(new int[] {1, 2, 3, 4}, table.intColumn("i").asIntArray());
+    assertArrayEquals(new int[] {1, 20, 3}, copy.intColumn("i").asIntArray());
+    assertEquals("t", copy.name());
+  }
+
+  @Test
+  public void viewsDontDetachSharedData() {
+    LongColumn original = LongColumn.create("l", 1, 2, 3, 4);
+    LongColumn copy = original.copy();
+    LongColumn view = original.view(new int[] {3, 1});
+    assertArrayEquals(new long[] {4, 2}, view.asLongArray());
+
+    // the view follows the original when its first write gives it a copy of its own
+    original.set(3, 40);
+    assertArrayEquals(new long[] {40, 2}, view.asLongArray());
+    assertEquals(4, copy.getLong(3));
+  }
+
+  @Test
+  public void takingAViewLeavesTheDataShared() {
+    IntColumn original = IntColumn.create("i", 1, 2, 3);
+    IntColumn copy = original.copy();
+    original.view(0, 2);
+    // true only if the original hasn't already stopped sharing
+    assertTrue(copy.detachSharedData());
+  }
+
+  @Test
+  public void copiesShareDataAfterAView() {
+    IntColumn original = IntColumn.create("i", 1, 2, 3);
+    IntColumn view = original.view(0, 2);
+    IntColumn copy = original.copy();
+    assertTrue(copy.detachSharedData());
+
+    IntColumn later = original.copy();
+    original.set(0, 10);
+    assertEquals(10, view.getInt(0));
+    assertEquals(1, later.getInt(0));
+  }
+}
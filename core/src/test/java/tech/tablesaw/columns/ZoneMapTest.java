@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.columns.instant.PackedInstant;
+
+public class ZoneMapTest {
+
+  @Test
+  public void blockStatistics() {
+    LongColumn column = LongColumn.create("values").enableZoneMap(4);
+    for (long i = 0; i < 10; i++) {
+      column.append(i);
+    }
+    column.appendMissing();
+    ZoneMap zoneMap = column.zoneMap();
+    assertEquals(3, zoneMap.blockCount());
+    assertEquals(4, zoneMap.min(1));
+    assertEquals(7, zoneMap.max(1));
+    assertEquals(1, zoneMap.missingCount(2));
+  }
+
+  @Test
+  public void longRangeFilters() {
+    LongColumn column = LongColumn.create("values").enableZoneMap(4);
+    LongColumn plain = LongColumn.create("values");
+    for (long i = 0; i < 20; i++) {
+      column.append(i);
+      plain.append(i);
+    }
+    column.setMissing(5);
+    plain.setMissing(5);
+    assertArrayEquals(
+        plain.isBetweenInclusive(3, 9).toArray(), column.isBetweenInclusive(3, 9).toArray());
+    assertArrayEquals(
+        plain.isBetweenExclusive(3.5, 9).toArray(), column.isBetweenExclusive(3.5, 9).toArray());
+    assertArrayEquals(plain.isLessThan(7).toArray(), column.isLessThan(7).toArray());
+    assertArrayEquals(plain.isGreaterThan(17.2).toArray(), column.isGreaterThan(17.2).toArray());
+    assertArrayEquals(plain.isEqualTo(12).toArray(), column.isEqualTo(12).toArray());
+    assertEquals(0, column.isEqualTo(12.5).size());
+  }
+
+  @Test
+  public void appendedColumnsAreCovered() {
+    IntColumn column = IntColumn.indexColumn("values", 6, 0).enableZoneMap(4);
+    assertEquals(0, column.isGreaterThan(100).size());
+    column.append(IntColumn.create("more", 7, 500, 8));
+    column.append(9);
+    ZoneMap zoneMap = column.zoneMap();
+    assertArrayEquals(new int[] {7}, column.isGreaterThan(100).toArray());
+    assertEquals(3, zoneMap.blockCount());
+    assertEquals(500, zoneMap.max(1));
+    assertEquals(9, zoneMap.max(2));
+  }
+
+  @Test
+  public void setInvalidatesBlock() {
+    IntColumn column = IntColumn.indexColumn("values", 20, 0).enableZoneMap(4);
+    assertEquals(0, column.isGreaterThan(100).size());
+    column.set(6, 1000);
+    assertArrayEquals(new int[] {6}, column.isGreaterThan(100).toArray());
+    column.sortDescending();
+    assertArrayEquals(new int[] {0}, column.isGreaterThan(100).toArray());
+  }
+
+  @Test
+  public void enabledAfterLoad() {
+    DateColumn column = DateColumn.create("dates");
+    LocalDate start = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < 100; i++) {
+      column.append(start.plusDays(i));
+    }
+    column.appendMissing();
+    column.enableZoneMap(8);
+    assertEquals(10, column.isBetweenIncluding(start.plusDays(10), start.plusDays(19)).size());
+    assertEquals(8, column.isBetweenExcluding(start.plusDays(10), start.plusDays(19)).size());
+    assertEquals(3, column.isAfter(start.plusDays(96)).size());
+    // missing values sort before every date
+    assertEquals(3, column.isBefore(start.plusDays(2)).size());
+    assertEquals(1, column.isEqualTo(start.plusDays(50)).size());
+  }
+
+  @Test
+  public void instantFilters() {
+    InstantColumn column = InstantColumn.create("instants").enableZoneMap(16);
+    Instant start = Instant.parse("2020-01-01T00:00:00Z");
+    for (int i = 0; i < 100; i++) {
+      column.append(start.plusSeconds(60L * i));
+    }
+    column.appendMissing();
+    long low = PackedInstant.pack(start.plusSeconds(600));
+    long high = PackedInstant.pack(start.plusSeconds(1200));
+    assertEquals(11, column.isBetweenIncluding(low, high).size());
+    assertEquals(49, column.isAfter(start.plusSeconds(60 * 50)).size());
+    assertEquals(1, column.isEqualTo(start.plusSeconds(60 * 50)).size());
+  }
+
+  @Test
+  public void concurrentFiltersSeeConsistentStatistics() {
+    IntColumn plain = IntColumn.create("values");
+    for (int i = 0; i < 100_000; i++) {
+      plain.append(i % 1000);
+    }
+    int[] expected = plain.isBetweenInclusive(100, 200).toArray();
+    for (int attempt = 0; attempt < 20; attempt++) {
+      // the statistics are built lazily by whichever filter runs first
+      IntColumn column = plain.copy().enableZoneMap(64);
+      IntStream.range(0, 8)
+          .parallel()
+          .forEach(i -> assertArrayEquals(expected, column.isBetweenInclusive(100, 200).toArray()));
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package tech.tablesaw.columns.booleans;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import org.junit.jupiter.api.Test;
+
+class BitSetBooleanDataTest {
+
+  @Test
+  void constructedFromBytes() {
+    byte[] values = {0, 1, -128, 1, 0, 0, -128, 1};
+    BooleanData data = new BitSetBooleanData(new ByteArrayList(values));
+    assertEquals(values.length, data.size());
+    assertArrayEquals(values, data.toByteArray());
+    assertEquals(3, data.countTrue());
+    assertEquals(3, data.countFalse());
+    assertEquals(2, data.countMissing());
+    assertArrayEquals(new int[] {1, 3, 7}, data.isTrue().toArray());
+  }
+}
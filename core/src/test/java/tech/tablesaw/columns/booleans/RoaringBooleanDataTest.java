@@ -0,0 +1,87 @@
+package tech.tablesaw.columns.booleans;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteIterator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.selection.Selection;
+
+class RoaringBooleanDataTest {
+
+  private static final byte[] VALUES = {1, 0, -128, 1, 1, 0, -128, 0};
+
+  private static BooleanData roaring() {
+    return new RoaringBooleanData(new ByteArrayList(VALUES));
+  }
+
+  @Test
+  void matchesBitSetData() {
+    BooleanData roaring = roaring();
+    BooleanData bitSet = new BitSetBooleanData();
+    for (byte b : VALUES) {
+      bitSet.add(b);
+    }
+    assertEquals(bitSet.size(), roaring.size());
+    assertArrayEquals(bitSet.toByteArray(), roaring.toByteArray());
+    assertEquals(bitSet.countTrue(), roaring.countTrue());
+    assertEquals(bitSet.countFalse(), roaring.countFalse());
+    assertEquals(bitSet.countMissing(), roaring.countMissing());
+    assertArrayEquals(bitSet.isFalse().toArray(), roaring.isFalse().toArray());
+    assertArrayEquals(bitSet.isMissing().toArray(), roaring.isMissing().toArray());
+
+    ByteIterator iterator = roaring.iterator();
+    for (byte b : VALUES) {
+      assertEquals(b, iterator.nextByte());
+    }
+    assertEquals(false, iterator.hasNext());
+  }
+
+  @Test
+  void sorting() {
+    BooleanData data = roaring();
+    data.sortAscending();
+    assertArrayEquals(new byte[] {-128, -128, 0, 0, 0, 1, 1, 1}, data.toByteArray());
+    data.sortDescending();
+    assertArrayEquals(new byte[] {1, 1, 1, 0, 0, 0, -128, -128}, data.toByteArray());
+  }
+
+  @Test
+  void byteEncodingsRoundTrip() {
+    BooleanData data = roaring();
+    BooleanData copy = new RoaringBooleanData();
+    copy.setTrueBytes(data.trueBytes());
+    copy.setFalseBytes(data.falseBytes());
+    copy.setMissingBytes(data.missingBytes());
+    assertArrayEquals(data.toByteArray(), copy.toByteArray());
+  }
+
+  @Test
+  void logicalOperationsOnSparseColumns() {
+    Random random = new Random(3);
+    int size = 100_000;
+    BooleanColumn a = BooleanColumn.create("a");
+    BooleanColumn b = BooleanColumn.create("b");
+    for (int i = 0; i < size; i++) {
+      a.append(random.nextInt(100) == 0);
+      b.append(random.nextInt(100) == 0);
+    }
+    Selection and = a.and(b).asSelection();
+    Selection or = a.or(b).asSelection();
+    for (int i = 0; i < size; i++) {
+      assertEquals(a.get(i) && b.get(i), and.contains(i));
+      assertEquals(a.get(i) || b.get(i), or.contains(i));
+    }
+    assertEquals(size, a.and(b).size());
+    assertEquals(a.countTrue() + b.countTrue() - and.size(), or.size());
+
+    long before = a.memoryUsage();
+    a.trimToSize();
+    assertTrue(a.memoryUsage() <= before);
+    assertTrue(a.memoryUsage() < size / 8);
+  }
+}
@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.aggregate.NumericAggregateFunction;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
 
 public class NumberRollingColumnTest {
 
@@ -17,4 +20,45 @@ public class NumberRollingColumnTest {
     assertArrayEquals(sma5, result.asDoubleArray(), 0.000001);
     assertEquals("data 5-period Mean", result.name());
   }
+
+  @Test
+  public void testIncrementalFunctionsMatchWindowSummaries() {
+    double missing = DoubleColumnType.missingValueIndicator();
+    DoubleColumn data =
+        DoubleColumn.create(
+            "data",
+            new double[] {4, missing, 1e9, 3, -2, missing, missing, missing, 7, 7, 0.5, -1e9, 6});
+    NumericAggregateFunction[] functions = {
+      AggregateFunctions.sum,
+      AggregateFunctions.mean,
+      AggregateFunctions.min,
+      AggregateFunctions.max,
+      AggregateFunctions.variance,
+      AggregateFunctions.stdDev
+    };
+    for (int window = 1; window <= 5; window++) {
+      for (NumericAggregateFunction function : functions) {
+        DoubleColumn result = (DoubleColumn) data.rolling(window).calc(function);
+        assertEquals(data.size(), result.size());
+        for (int row = window - 1; row < data.size(); row++) {
+          double expected = function.summarize(data.inRange(row - window + 1, row + 1));
+          double tolerance = Double.isNaN(expected) ? 0 : 1e-9 * Math.max(1, Math.abs(expected));
+          assertEquals(expected, result.getDouble(row), tolerance, function + " at row " + row);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRollingCounts() {
+    IntColumn data = IntColumn.create("data", 1, IntColumnType.missingValueIndicator(), 3, 4);
+    assertArrayEquals(
+        new double[] {DoubleColumnType.missingValueIndicator(), 1, 1, 2},
+        ((DoubleColumn) data.rolling(2).calc(AggregateFunctions.countNonMissing)).asDoubleArray(),
+        0.0);
+    assertArrayEquals(
+        new double[] {DoubleColumnType.missingValueIndicator(), 1, 1, 0},
+        ((DoubleColumn) data.rolling(2).calc(AggregateFunctions.countMissing)).asDoubleArray(),
+        0.0);
+  }
 }
@@ -0,0 +1,278 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+
+public class ColumnStorageTest {
+
+  @Test
+  public void offHeapColumnsSpanSegments() {
+    int rows = BufferSegments.SEGMENT_ELEMENTS * 2 + 10;
+    DoubleColumn column = DoubleColumn.create("values", ColumnStorage.offHeap());
+    for (int i = 0; i < rows; i++) {
+      column.append(i);
+    }
+    assertEquals(rows, column.size());
+    assertEquals(
+        BufferSegments.SEGMENT_ELEMENTS + 1, column.getDouble(BufferSegments.SEGMENT_ELEMENTS + 1));
+    assertEquals((double) rows * (rows - 1) / 2, column.sum());
+    assertEquals(10, column.isGreaterThanOrEqualTo(rows - 10).size());
+
+    column.set(5, -1.0);
+    column.sortAscending();
+    assertEquals(-1.0, column.getDouble(0));
+    assertEquals(rows - 1, column.getDouble(rows - 1));
+  }
+
+  @Test
+  public void offHeapColumnsBehaveLikeHeapColumns() {
+    IntColumn heap = IntColumn.create("ints", 5, 3, 1, 4, 2);
+    IntColumn offHeap = IntColumn.create("ints", ColumnStorage.offHeap());
+    offHeap.append(heap);
+    offHeap.appendMissing();
+    assertEquals(1, offHeap.countMissing());
+    assertArrayEquals(new int[] {5, 3, 1, 4, 2}, offHeap.removeMissing().asIntArray());
+    assertArrayEquals(
+        new int[] {1, 2}, ((IntColumn) offHeap.where(offHeap.isLessThan(3))).asIntArray());
+
+    Table table = Table.create("t", offHeap.removeMissing(), heap.copy().setName("other"));
+    assertEquals(5, table.sortOn("ints").rowCount());
+
+    offHeap.clear();
+    assertEquals(0, offHeap.size());
+  }
+
+  @Test
+  public void temporalColumnsCanBeOffHeap() {
+    DateColumn dates = DateColumn.create("dates", ColumnStorage.offHeap());
+    LocalDate start = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < 100; i++) {
+      dates.append(start.plusDays(i));
+    }
+    assertEquals(start.plusDays(99), dates.max());
+    Selection march = dates.isInMarch();
+    assertEquals(31, march.size());
+  }
+
+  @Test
+  public void chunkedColumnsShareChunksWhenAppended() {
+    int rows = Chunks.CHUNK_SIZE * 3 + 5;
+    IntColumn first = IntColumn.create("values", ColumnStorage.chunked());
+    for (int i = 0; i < rows; i++) {
+      first.append(i);
+    }
+    IntColumn combined = IntColumn.create("values", ColumnStorage.chunked());
+    combined.append(first).append(first);
+    assertEquals(rows * 2, combined.size());
+    assertEquals(rows - 1, combined.getInt(rows * 2 - 1));
+    assertEquals(Chunks.CHUNK_SIZE, combined.getInt(rows + Chunks.CHUNK_SIZE));
+
+    // writes to a shared chunk are not seen by the other column
+    combined.set(1, -1);
+    first.set(2, -2);
+    assertEquals(1, first.getInt(1));
+    assertEquals(2, combined.getInt(2));
+    assertEquals(-1, combined.getInt(1));
+    assertEquals(-2, first.getInt(2));
+  }
+
+  @Test
+  public void chunkedListsSupportListOperations() {
+    IntChunkedList list = new IntChunkedList();
+    for (int i = 0; i < 100_000; i++) {
+      list.add(i);
+    }
+    list.add(0, -1);
+    assertEquals(-1, list.getInt(0));
+    assertEquals(99_999, list.getInt(100_000));
+    list.removeInt(0);
+    list.removeElements(10, 70_000);
+    assertEquals(30_010, list.size());
+    assertEquals(70_000, list.getInt(10));
+    list.addAll(list);
+    assertEquals(60_020, list.size());
+    assertEquals(9, list.toIntArray()[30_019]);
+    list.size(10);
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, list.toIntArray());
+    list.clear();
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  public void chunkedListsCheckIndexes() {
+    DoubleChunkedList list = new DoubleChunkedList();
+    list.add(1.0);
+    list.add(2.0);
+    assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.set(2, 3.0));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 3.0));
+    // the chunk has room past the end of the list, but writing there must not change its size
+    assertEquals(2, list.size());
+    list.size(5);
+    assertArrayEquals(new double[] {1, 2, 0, 0, 0}, list.toDoubleArray(), 0.0);
+    list.set(4, 5.0);
+    list.size(1);
+    list.size(5);
+    assertArrayEquals(new double[] {1, 0, 0, 0, 0}, list.toDoubleArray(), 0.0);
+  }
+
+  @Test
+  public void compressedColumnsBehaveLikeHeapColumns() {
+    Random random = new Random(7);
+    IntColumn heap = IntColumn.create("ints");
+    IntColumn compressed = IntColumn.create("ints", ColumnStorage.compressed());
+    for (int i = 0; i < 10_000; i++) {
+      int value;
+      if (i % 97 == 0) {
+        heap.appendMissing();
+        compressed.appendMissing();
+        continue;
+      } else if (i < 3000) {
+        value = random.nextInt(100);
+      } else if (i < 6000) {
+        value = i / 500;
+      } else {
+        value = random.nextInt();
+      }
+      heap.append(value);
+      compressed.append(value);
+    }
+    assertArrayEquals(heap.asIntArray(), compressed.asIntArray());
+    assertEquals(heap.countMissing(), compressed.countMissing());
+    assertEquals(heap.where(heap.isMissing()).size(), compressed.isMissing().size());
+    assertEquals(heap.isBetweenInclusive(5, 9), compressed.isBetweenInclusive(5, 9));
+    assertEquals(heap.isGreaterThan(100), compressed.isGreaterThan(100));
+    assertEquals(heap.sum(), compressed.sum());
+    assertEquals(heap.min(), compressed.min());
+    assertEquals(heap.max(), compressed.max());
+
+    heap.set(10, 12345);
+    compressed.set(10, 12345);
+    heap.sortAscending();
+    compressed.sortAscending();
+    assertArrayEquals(heap.asIntArray(), compressed.asIntArray());
+    Table table = Table.create("t", compressed);
+    table = table.dropRange(100, 5000);
+    assertEquals(heap.size() - 4900, table.rowCount());
+    assertEquals(heap.getInt(5000), table.intColumn("ints").getInt(100));
+  }
+
+  @Test
+  public void compressedListsInsertAndAppendInBulk() {
+    IntEncodedList list = new IntEncodedList();
+    IntArrayList expected = new IntArrayList();
+    for (int i = 0; i < 5000; i++) {
+      list.add(list.size(), i % 13);
+      expected.add(i % 13);
+    }
+    list.add(1500, -7);
+    expected.add(1500, -7);
+    list.addAll(3000, IntArrayList.wrap(new int[] {1, 2, 3}));
+    expected.addAll(3000, IntArrayList.wrap(new int[] {1, 2, 3}));
+    list.addAll(list);
+    expected.addAll(expected.clone());
+    assertArrayEquals(expected.toIntArray(), list.toIntArray());
+    list.removeElements(10, 4000);
+    expected.removeElements(10, 4000);
+    assertArrayEquals(expected.toIntArray(), list.toIntArray());
+
+    LongColumn first = LongColumn.create("values", ColumnStorage.compressed());
+    for (long i = 0; i < 200_000; i++) {
+      first.append(i * 10);
+    }
+    LongColumn combined = LongColumn.create("values", ColumnStorage.compressed());
+    combined.append(first).append(first);
+    assertEquals(400_000, combined.size());
+    assertEquals(1_999_990L, combined.getLong(399_999));
+  }
+
+  @Test
+  public void compressedColumnsAreSmaller() {
+    LongEncodedList timestamps = new LongEncodedList();
+    LongEncodedList flags = new LongEncodedList();
+    long start = 1_600_000_000_000L;
+    for (int i = 0; i < 100_000; i++) {
+      timestamps.add(start + i * 1000L + (i % 7));
+      flags.add(i / 20_000);
+    }
+    long rawBytes = 100_000L * Long.BYTES;
+    assertTrue(timestamps.encodedBytes() * 5 < rawBytes);
+    assertTrue(flags.encodedBytes() * 50 < rawBytes);
+    assertEquals(start + 99_999 * 1000L + 99_999 % 7, timestamps.getLong(99_999));
+
+    LongColumn column = LongColumn.create("ts", ColumnStorage.compressed());
+    for (int i = 0; i < 100_000; i++) {
+      column.append(timestamps.getLong(i));
+    }
+    assertEquals(1000, column.isBetweenInclusive(start + 5_000_000, start + 5_999_999).size());
+    assertEquals((double) start, column.min());
+
+    DateColumn dates = DateColumn.create("dates", ColumnStorage.compressed());
+    LocalDate first = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < 3000; i++) {
+      dates.append(first.plusDays(i / 3));
+    }
+    assertEquals(first.plusDays(999), dates.max());
+    assertEquals(279, dates.isInMarch().size());
+  }
+
+  @Test
+  public void mappedColumnsCanBeReopened(@TempDir Path directory) {
+    Path file = directory.resolve("ids.col");
+    LongColumn ids = LongColumn.create("ids", ColumnStorage.mapped(file));
+    for (long i = 0; i < 1000; i++) {
+      ids.append(i * 3);
+    }
+    ids.set(0, 42L);
+
+    LongColumn reopened = LongColumn.create("ids", ColumnStorage.mapped(file));
+    assertEquals(1000, reopened.size());
+    assertEquals(42L, reopened.getLong(0));
+    assertEquals(2997L, reopened.getLong(999));
+    reopened.append(7L);
+    assertEquals(1001, LongColumn.create("ids", ColumnStorage.mapped(file)).size());
+    assertTrue(file.toFile().length() > 1000 * Long.BYTES);
+  }
+
+  @Test
+  public void mappedFilesHoldOneColumn(@TempDir Path directory) {
+    Path file = directory.resolve("values.col");
+    ColumnStorage storage = ColumnStorage.mapped(file);
+    IntColumn ints = IntColumn.create("ints", storage);
+    ints.append(1);
+    assertThrows(IllegalStateException.class, () -> DoubleColumn.create("doubles", storage));
+    assertThrows(
+        IllegalStateException.class, () -> LongColumn.create("longs", ColumnStorage.mapped(file)));
+    assertEquals(1, IntColumn.create("ints", ColumnStorage.mapped(file)).getInt(0));
+  }
+}
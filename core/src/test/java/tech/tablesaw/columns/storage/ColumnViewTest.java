@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.aggregate.AggregateFunctions.sum;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+import tech.tablesaw.table.TableSlice;
+
+public class ColumnViewTest {
+
+  @Test
+  public void viewsReadThroughUntilChanged() {
+    IntColumn column = IntColumn.create("values", 10, 20, 30, 40, 50);
+    IntColumn view = column.view(new int[] {4, 0, 2});
+    assertArrayEquals(new int[] {50, 10, 30}, view.asIntArray());
+
+    column.set(0, 11);
+    assertEquals(11, view.getInt(1));
+
+    view.set(1, -1);
+    view.append(60);
+    assertArrayEquals(new int[] {50, -1, 30, 60}, view.asIntArray());
+    assertEquals(11, column.getInt(0));
+    assertEquals(5, column.size());
+
+    column.set(4, 0);
+    assertEquals(50, view.getInt(0));
+  }
+
+  @Test
+  public void viewStatisticsFollowTheViewedColumn() {
+    IntColumn column = IntColumn.create("values", 10, 20, 30, 40, 50);
+    IntColumn view = column.view(1, 4);
+    IntColumn viewOfView = view.view(0, 2);
+    assertTrue(view.columnStats().isAscending());
+    assertSame(view.columnStats(), view.columnStats());
+    assertSame(viewOfView.columnStats(), viewOfView.columnStats());
+
+    column.set(2, 5);
+    assertFalse(view.columnStats().isAscending());
+    assertFalse(viewOfView.columnStats().isAscending());
+    assertEquals(5, view.columnStats().min().orElse(0));
+  }
+
+  @Test
+  public void viewsFollowColumnsThatShareTheirData() {
+    IntColumn column = IntColumn.create("values", 10, 20, 30, 40, 50);
+    IntColumn copy = column.copy();
+    IntColumn view = column.view(0, 3);
+    column.set(0, 11);
+    assertEquals(11, view.getInt(0));
+    assertEquals(10, copy.getInt(0));
+
+    // a copy taken after the view doesn't take the data away from it either
+    IntColumn later = column.copy();
+    column.set(1, 21);
+    assertEquals(21, view.getInt(1));
+    assertEquals(20, later.getInt(1));
+    later.set(2, 31);
+    assertEquals(30, view.getInt(2));
+  }
+
+  @Test
+  public void rangeViews() {
+    DoubleColumn column = DoubleColumn.create("values", 1, 2, 3, 4, 5);
+    DoubleColumn view = column.view(1, 4);
+    assertEquals(3, view.size());
+    assertEquals(9.0, view.sum());
+    assertArrayEquals(new double[] {2, 3, 4}, view.asDoubleArray());
+    view.sortDescending();
+    assertArrayEquals(new double[] {4, 3, 2}, view.asDoubleArray());
+    assertArrayEquals(new double[] {1, 2, 3, 4, 5}, column.asDoubleArray());
+  }
+
+  @Test
+  public void temporalViews() {
+    LocalDate start = LocalDate.of(2021, 1, 1);
+    DateColumn dates = DateColumn.create("dates");
+    for (int i = 0; i < 10; i++) {
+      dates.append(start.plusDays(i));
+    }
+    DateColumn view = dates.view(new int[] {9, 3});
+    assertEquals(start.plusDays(9), view.get(0));
+    assertEquals(start.plusDays(3), view.min());
+  }
+
+  @Test
+  public void slicesViewTheirTable() {
+    Table table =
+        Table.create(
+            "t",
+            StringColumn.create("group", "a", "b", "a", "b", "a"),
+            DoubleColumn.create("amount", 1, 2, 3, 4, 5));
+    for (TableSlice slice : table.splitOn("group")) {
+      double expected = slice.name().endsWith("a") ? 9 : 6;
+      assertEquals(expected, slice.reduce("amount", sum));
+      assertEquals(expected, ((DoubleColumn) slice.column("amount")).sum());
+      assertEquals(expected, ((DoubleColumn) slice.columnView("amount")).sum());
+    }
+  }
+
+  @Test
+  public void sliceColumnsAreCopiesUnlessViewed() {
+    DoubleColumn amount = DoubleColumn.create("amount", 1, 2, 3, 4, 5);
+    Table table = Table.create("t", amount);
+    TableSlice slice = new TableSlice(table, Selection.with(1, 3));
+    DoubleColumn copy = (DoubleColumn) slice.column("amount");
+    DoubleColumn view = (DoubleColumn) slice.columnView("amount");
+    amount.set(1, 20.0);
+    assertEquals(2.0, copy.getDouble(0));
+    assertEquals(20.0, view.getDouble(0));
+  }
+
+  @Test
+  public void slicesFollowChangesToTheirSelection() {
+    Table table = Table.create("t", DoubleColumn.create("amount", 1, 2, 3, 4, 5));
+    Selection selection = Selection.with(0, 1);
+    TableSlice slice = new TableSlice(table, selection);
+    assertEquals(3.0, ((DoubleColumn) slice.column("amount")).sum());
+    selection.add(4);
+    assertEquals(3, slice.rowCount());
+    assertEquals(3, slice.column("amount").size());
+    assertEquals(8.0, ((DoubleColumn) slice.columnView("amount")).sum());
+    assertEquals(8.0, slice.reduce("amount", sum));
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.strings;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.StringColumn;
+
+public class KeyBitmapIndexTest {
+
+  private static final String[] VALUES = {"red", "green", "blue", "", "red", "blue", "red"};
+
+  @Test
+  public void filtersMatchUnindexedResults() {
+    StringColumn plain = StringColumn.create("colors", VALUES);
+    StringColumn indexed = StringColumn.create("colors").enableBitmapIndex();
+    for (String value : VALUES) {
+      indexed.append(value);
+    }
+    assertArrayEquals(plain.isEqualTo("red").toArray(), indexed.isEqualTo("red").toArray());
+    assertArrayEquals(plain.isEqualTo("").toArray(), indexed.isEqualTo("").toArray());
+    assertEquals(0, indexed.isEqualTo("purple").size());
+    assertArrayEquals(
+        plain.isIn("green", "blue", "purple").toArray(),
+        indexed.isIn("green", "blue", "purple").toArray());
+    assertArrayEquals(
+        plain.isNotIn(Arrays.asList("red", "")).toArray(),
+        indexed.isNotIn(Arrays.asList("red", "")).toArray());
+  }
+
+  @Test
+  public void modificationsUpdateBitmaps() {
+    StringColumn column = StringColumn.create("colors", VALUES).enableBitmapIndex();
+    column.set(0, "green");
+    column.append("green");
+    assertArrayEquals(new int[] {0, 1, 7}, column.isEqualTo("green").toArray());
+    assertArrayEquals(new int[] {4, 6}, column.isEqualTo("red").toArray());
+    column.sortAscending();
+    assertArrayEquals(new int[] {3, 4, 5}, column.isEqualTo("green").toArray());
+  }
+
+  @Test
+  public void survivesPromotion() {
+    StringColumn column = StringColumn.create("values").enableBitmapIndex();
+    for (int i = 0; i < 1000; i++) {
+      column.append(String.valueOf(i % 300));
+    }
+    assertTrue(column.getDictionary() instanceof ShortDictionaryMap);
+    assertTrue(column.getDictionary().isBitmapIndexEnabled());
+    assertArrayEquals(new int[] {299, 599, 899}, column.isEqualTo("299").toArray());
+  }
+}
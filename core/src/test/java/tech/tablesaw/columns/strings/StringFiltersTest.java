@@ -261,4 +261,22 @@ public class StringFiltersTest {
     DoubleColumn nc = stringColumn1.countTokens(" ");
     assertEquals(3, nc.sum(), 0.00001);
   }
+
+  @Test
+  public void testPredicatesOnLargeDictionaries() throws Exception {
+    StringColumn shortKeys = StringColumn.create("short");
+    StringColumn intKeys =
+        StringColumn.createInternal("int", new IntDictionaryMap(new ByteDictionaryMap()));
+    for (int i = 0; i < 70_000; i++) {
+      shortKeys.append("value" + (i % 1000));
+      intKeys.append("value" + (i % 1000));
+    }
+    assertTrue(shortKeys.getDictionary() instanceof ShortDictionaryMap);
+    assertTrue(intKeys.getDictionary() instanceof IntDictionaryMap);
+    assertEquals(700, shortKeys.endsWith("99").size());
+    assertEquals(7_000, intKeys.endsWith("9").size());
+    assertEquals(700, shortKeys.enableBitmapIndex().matchesRegex("value12\\d").size());
+    assertEquals(70_000, shortKeys.startsWith("value").size());
+    assertEquals(0, intKeys.startsWith("other").size());
+  }
 }
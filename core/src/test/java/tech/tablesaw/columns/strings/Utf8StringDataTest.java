@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.strings;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class Utf8StringDataTest {
+
+  private static final String[] VALUES = {
+    "https://example.com/a", "", "naïve café", "日本語", "😀 smile", "�", "日本"
+  };
+
+  @Test
+  public void valuesRoundTrip() {
+    Utf8StringData data = Utf8StringData.create(VALUES);
+    assertEquals(VALUES.length, data.size());
+    assertArrayEquals(VALUES, data.asObjectArray());
+    assertTrue(data.isMissing(1));
+    assertEquals(1, data.countMissing());
+    assertArrayEquals("日本語".getBytes(StandardCharsets.UTF_8), data.asBytes(3));
+  }
+
+  @Test
+  public void unpairedSurrogatesRoundTrip() {
+    String[] values = {
+      "a\uD83D", "\uDE00b", "x\uDE00\uD83Dy", "\uD83D\uDE00", "\uD83D", "\uFFFD", "plain"
+    };
+    Utf8StringData data = Utf8StringData.create(values);
+    assertArrayEquals(values, data.asObjectArray());
+    assertEquals(4, data.firstIndexOf("\uD83D"));
+    assertArrayEquals(new int[] {0, 2, 3, 4}, data.containsString("\uD83D").toArray());
+    assertArrayEquals(new int[] {3, 4}, data.startsWith("\uD83D").toArray());
+    assertArrayEquals(new int[] {1}, data.startsWith("\uDE00").toArray());
+
+    data.set(6, "\uDBFF");
+    assertEquals("\uDBFF", data.get(6));
+    data.compact();
+    assertEquals("x\uDE00\uD83Dy", data.get(2));
+
+    data.sortAscending();
+    String[] expected = {
+      "a\uD83D", "\uDE00b", "x\uDE00\uD83Dy", "\uD83D\uDE00", "\uD83D", "\uFFFD", "\uDBFF"
+    };
+    Arrays.sort(expected);
+    assertArrayEquals(expected, data.asObjectArray());
+  }
+
+  @Test
+  public void sortMatchesStringOrder() {
+    Utf8StringData data = Utf8StringData.create(VALUES);
+    data.sortAscending();
+    String[] expected = VALUES.clone();
+    Arrays.sort(expected);
+    assertArrayEquals(expected, data.asObjectArray());
+
+    data.sortDescending();
+    Arrays.sort(expected, (a, b) -> b.compareTo(a));
+    assertArrayEquals(expected, data.asObjectArray());
+  }
+
+  @Test
+  public void filtersOnBytes() {
+    Utf8StringData data = Utf8StringData.create(VALUES);
+    assertArrayEquals(new int[] {3, 6}, data.startsWith("日本").toArray());
+    assertArrayEquals(new int[] {2}, data.endsWith("café").toArray());
+    assertArrayEquals(new int[] {2}, data.containsString("é").toArray());
+    assertArrayEquals(new int[] {4}, data.containsString("😀").toArray());
+    assertArrayEquals(new int[] {1}, data.isEmptyString().toArray());
+    assertArrayEquals(new int[] {6}, data.isEqualTo("日本").toArray());
+    assertArrayEquals(new int[] {0, 3}, data.isIn("日本語", "https://example.com/a").toArray());
+    assertEquals(5, data.isNotIn("日本語", "https://example.com/a").size());
+    assertEquals(6, data.firstIndexOf("日本"));
+    assertFalse(data.contains("日"));
+  }
+
+  @Test
+  public void uniqueValuesAndCounts() {
+    Utf8StringData data = Utf8StringData.create("a", "b", "a", "", "c", "a", "");
+    assertEquals(4, data.countUnique());
+    assertEquals(new HashSet<>(Arrays.asList("a", "b", "c", "")), data.asSet());
+    assertEquals(3, data.countOccurrences("a"));
+    assertTrue(data.equals(0, 2));
+    assertFalse(data.equals(0, 1));
+
+    Table counts = data.countByCategory("letters");
+    assertEquals(4, counts.rowCount());
+    int row = counts.stringColumn("Category").firstIndexOf("a");
+    assertEquals(3, counts.intColumn("Count").getInt(row));
+  }
+
+  @Test
+  public void setReclaimsReplacedBytes() {
+    Utf8StringData data = Utf8StringData.create();
+    for (int i = 0; i < 1000; i++) {
+      data.append("value " + i);
+    }
+    long size = data.arenaSize();
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 1000; i++) {
+        data.set(i, "other " + i);
+      }
+    }
+    assertEquals("other 999", data.get(999));
+    assertTrue(data.arenaSize() <= size * 4);
+  }
+
+  @Test
+  public void copiesAreIndependent() {
+    Utf8StringData data = Utf8StringData.create(VALUES);
+    Utf8StringData copy = data.copy();
+    copy.set(0, "changed");
+    assertEquals("https://example.com/a", data.get(0));
+    assertEquals("changed", copy.get(0));
+    assertArrayEquals(
+        new String[] {"", "https://example.com/a", ""},
+        data.lag(1).subset(new int[] {0, 1, 2}).asObjectArray());
+    assertEquals(VALUES.length - 1, data.removeMissing().size());
+  }
+
+  @Test
+  public void highCardinalityColumnsUseTheArena() {
+    StringColumn column = StringColumn.create("urls");
+    for (int i = 0; i < 100_000; i++) {
+      column.append("https://example.com/page/" + i);
+    }
+    assertTrue(column.getDictionary() instanceof NullDictionaryMap);
+    assertEquals(100_000, column.countUnique());
+    assertEquals(11, column.startsWith("https://example.com/page/9999").size());
+    assertEquals(1, column.isEqualTo("https://example.com/page/12345").size());
+    assertEquals(1, column.endsWith("/page/42").size());
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.expressions;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.expressions.NumericExpression.column;
+import static tech.tablesaw.expressions.NumericExpression.literal;
+
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+
+public class NumericExpressionTest {
+
+  private final Table table =
+      Table.create(
+          "orders",
+          DoubleColumn.create("price", 2.5, 10, 40, 100),
+          IntColumn.create("quantity", 4, 20, 30, Integer.MIN_VALUE));
+
+  @Test
+  public void arithmetic() {
+    DoubleColumn total = column("price").times(column("quantity")).plus(1).evaluate(table, "total");
+    assertEquals("total", total.name());
+    assertArrayEquals(new double[] {11, 201, 1201, Double.NaN}, total.asDoubleArray(), 0.0);
+    DoubleColumn inverse = literal(1).dividedBy(column("price")).evaluate(table, "inverse");
+    assertArrayEquals(new double[] {0.4, 0.1, 0.025, 0.01}, inverse.asDoubleArray(), 1e-12);
+  }
+
+  @Test
+  public void constantsAreFolded() {
+    NumericExpression folded = literal(2).times(3).minus(1);
+    assertTrue(folded instanceof NumericExpression.Literal);
+    assertEquals(5, ((NumericExpression.Literal) folded).value(), 0.0);
+  }
+
+  @Test
+  public void comparisons() {
+    Table large = table.where(column("price").times(column("quantity")).isGreaterThan(1000));
+    assertArrayEquals(new int[] {30}, large.intColumn("quantity").asIntArray());
+    assertEquals(2, table.where(literal(20).isLessThanOrEqualTo(column("price"))).rowCount());
+    assertEquals(1, table.where(column("quantity").isEqualTo(column("price").times(2))).rowCount());
+  }
+
+  @Test
+  public void missingValuesNeverCompare() {
+    assertEquals(3, table.where(column("quantity").isGreaterThan(0)).rowCount());
+    assertEquals(0, table.where(column("quantity").isLessThan(0)).rowCount());
+    assertEquals(3, table.where(column("quantity").isNotEqualTo(0)).rowCount());
+    assertEquals(0, table.where(column("quantity").isNotEqualTo(literal(Double.NaN))).rowCount());
+  }
+
+  @Test
+  public void negatedComparisonsSkipMissingValues() {
+    BooleanExpression few = column("quantity").isLessThan(25);
+    assertEquals(2, table.where(few).rowCount());
+    assertEquals(1, table.where(few.not()).rowCount());
+    assertEquals(2, table.where(column("quantity").isEqualTo(20).not()).rowCount());
+    assertEquals(2, table.where(column("quantity").isNotEqualTo(20)).rowCount());
+  }
+
+  @Test
+  public void unknownCombinations() {
+    // the last row has a missing quantity and a price of 100
+    BooleanExpression unknown = column("quantity").isGreaterThan(0);
+    BooleanExpression cheap = column("price").isLessThan(200);
+    BooleanExpression expensive = column("price").isGreaterThan(200);
+    assertEquals(4, table.where(unknown.or(cheap)).rowCount());
+    assertEquals(3, table.where(unknown.or(expensive)).rowCount());
+    assertEquals(0, table.where(unknown.or(expensive).not()).rowCount());
+    assertEquals(3, table.where(unknown.and(cheap)).rowCount());
+    assertEquals(4, table.where(unknown.and(expensive).not()).rowCount());
+  }
+
+  @Test
+  public void booleanLogic() {
+    BooleanExpression cheap = column("price").isLessThan(20);
+    BooleanExpression many = column("quantity").isGreaterThanOrEqualTo(20);
+    assertEquals(1, table.where(cheap.and(many)).rowCount());
+    assertEquals(3, table.where(cheap.or(many)).rowCount());
+    assertEquals(2, table.where(cheap.not()).rowCount());
+  }
+}
@@ -16,11 +16,14 @@ package tech.tablesaw.index;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.DateAndTimePredicates;
 import tech.tablesaw.columns.dates.PackedLocalDate;
@@ -65,6 +68,15 @@ public class IntIndexTest {
     assertEquals(fromCol, fromIdx1);
   }
 
+  @Test
+  public void testGetNumeric() {
+    assertEquals(index.get(71), index.getNumeric(71));
+    int packedDate = PackedLocalDate.pack(LocalDate.of(2001, 12, 12));
+    assertEquals(dateIndex.get(packedDate), dateIndex.getNumeric(packedDate));
+    assertTrue(dateIndex.getNumeric(packedDate + 0.5).isEmpty());
+    assertNull(Index.forColumn(StringColumn.create("s", "a")).getNumeric(1));
+  }
+
   @Test
   public void testGTE() {
     Selection fromCol =
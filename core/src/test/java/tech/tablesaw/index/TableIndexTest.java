@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.io.csv.CsvReadOptions;
+
+public class TableIndexTest {
+
+  private ColumnType[] types = {
+    ColumnType.LOCAL_DATE, // date of poll
+    ColumnType.DOUBLE, // approval rating (pct)
+    ColumnType.STRING // polling org
+  };
+
+  private Table table;
+  private Table indexed;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    table = Table.read().csv(CsvReadOptions.builder("../data/bush.csv").columnTypes(types));
+    indexed = table.copy().createIndex("date", "approval", "who");
+  }
+
+  @Test
+  public void filtersMatchUnindexedResults() {
+    LocalDate date = LocalDate.of(2002, 6, 1);
+    assertTrue(indexed.dateColumn("date").isIndexed());
+    assertEquals(
+        table.dateColumn("date").isBefore(date), indexed.dateColumn("date").isBefore(date));
+    assertEquals(
+        table.dateColumn("date").isOnOrAfter(date), indexed.dateColumn("date").isOnOrAfter(date));
+    assertEquals(
+        table.dateColumn("date").isBetweenIncluding(date, date.plusMonths(3)),
+        indexed.dateColumn("date").isBetweenIncluding(date, date.plusMonths(3)));
+    assertEquals(
+        table.doubleColumn("approval").isEqualTo(71),
+        indexed.doubleColumn("approval").isEqualTo(71));
+    assertEquals(
+        table.doubleColumn("approval").isIn(Arrays.asList(60, 71.0, 90)),
+        indexed.doubleColumn("approval").isIn(Arrays.asList(60, 71.0, 90)));
+    assertEquals(
+        table.stringColumn("who").isEqualTo("fox"), indexed.stringColumn("who").isEqualTo("fox"));
+    assertEquals(
+        table.stringColumn("who").isIn("fox", "gallup"),
+        indexed.stringColumn("who").isIn("fox", "gallup"));
+  }
+
+  @Test
+  public void modificationsInvalidateIndex() {
+    IntColumn column = IntColumn.indexColumn("values", 10, 0).createIndex();
+    assertEquals(1, column.isEqualTo(3).size());
+    column.set(4, 3);
+    assertEquals(2, column.isEqualTo(3).size());
+    column.append(3);
+    assertEquals(3, column.isEqualTo(3).size());
+    assertEquals(0, column.isEqualTo(3.5).size());
+
+    StringColumn strings = StringColumn.create("strings", "a", "b", "a").createIndex();
+    strings.append("b");
+    assertEquals(2, strings.isEqualTo("b").size());
+  }
+
+  @Test
+  public void dropIndex() {
+    IntColumn column = IntColumn.indexColumn("values", 10, 0).createIndex();
+    assertTrue(column.isIndexed());
+    column.dropIndex();
+    assertFalse(column.isIndexed());
+    assertNull(column.index());
+    assertEquals(1, column.isEqualTo(3).size());
+  }
+
+  @Test
+  public void joinUsesColumnIndex() {
+    Table left = Table.create("left", IntColumn.create("id", 1, 2, 3, 4));
+    Table right =
+        Table.create(
+            "right",
+            IntColumn.create("id", 2, 4, 4, 6),
+            StringColumn.create("name", "b", "d", "dd", "f"));
+    right.createIndex("id");
+    Table joined = left.joinOn("id").inner(right);
+    assertEquals(3, joined.rowCount());
+  }
+}
@@ -0,0 +1,51 @@
+package tech.tablesaw.io.csv;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CsvChunkerTest {
+
+  private final CsvChunker chunker = new CsvChunker((byte) ',', (byte) '"', (byte) '#');
+
+  @TempDir Path folder;
+
+  @Test
+  public void splitsAfterEachRecordOnceChunkIsFull() throws IOException {
+    File file = write("a,b\n1,2\n3,4\n5,6\n");
+    assertArrayEquals(new long[] {0, 4, 8, 12, 16}, chunker.boundaries(file, 1));
+    assertArrayEquals(new long[] {0, 8, 16}, chunker.boundaries(file, 5));
+    assertArrayEquals(new long[] {0, 16}, chunker.boundaries(file, 100));
+  }
+
+  @Test
+  public void neverSplitsInsideQuotes() throws IOException {
+    // the line feeds at 3 and 14 are inside quoted values, and the doubled quote doesn't end one
+    File file = write("a,\"\nx\",b\n\"y \"\"\n\",c\n");
+    assertArrayEquals(new long[] {0, 9, 19}, chunker.boundaries(file, 1));
+  }
+
+  @Test
+  public void quotesOnlyOpenAtTheStartOfAValue() throws IOException {
+    File file = write("5\"6,x\n7,8\n");
+    assertArrayEquals(new long[] {0, 6, 10}, chunker.boundaries(file, 1));
+  }
+
+  @Test
+  public void ignoresQuotesInComments() throws IOException {
+    File file = write("# a \"comment\nx,y\n1,2\n");
+    assertArrayEquals(new long[] {0, 13, 17, 21}, chunker.boundaries(file, 1));
+  }
+
+  private File write(String contents) throws IOException {
+    Path path = folder.resolve("data.csv");
+    Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    return path.toFile();
+  }
+}
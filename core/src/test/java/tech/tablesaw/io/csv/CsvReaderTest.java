@@ -34,6 +34,9 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -47,6 +50,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.DateTimeColumn;
@@ -1013,4 +1017,54 @@ public class CsvReaderTest {
 
     assertArrayEquals(new ColumnType[] {SHORT, STRING}, columnTypes);
   }
+
+  @Test
+  public void testParallelReadMatchesSerialRead(@TempDir Path folder) throws IOException {
+    StringBuilder csv = new StringBuilder("id,name,amount,note\n");
+    for (int i = 0; i < 100_000; i++) {
+      csv.append(i).append(",name ").append(i % 97).append(',').append(i * 0.25).append(',');
+      if (i % 7 == 0) {
+        csv.append("\"a \"\"quoted\"\", multi\nline note\"");
+      } else {
+        csv.append("plain");
+      }
+      csv.append('\n');
+      if (i % 1000 == 0) {
+        csv.append("# a comment with a \" quote\n");
+      }
+    }
+    Path path = folder.resolve("large.csv");
+    Files.write(path, csv.toString().getBytes(StandardCharsets.UTF_8));
+
+    Table serial = Table.read().csv(CsvReadOptions.builder(path.toFile()));
+    Table parallel = Table.read().csv(CsvReadOptions.builder(path.toFile()).parallelism(4));
+
+    assertEquals(100_000, parallel.rowCount());
+    assertEquals(serial.columnNames(), parallel.columnNames());
+    for (int i = 0; i < serial.columnCount(); i++) {
+      assertEquals(serial.column(i).type(), parallel.column(i).type());
+      assertEquals(serial.column(i).asList(), parallel.column(i).asList());
+    }
+  }
+
+  @Test
+  public void testParallelReadReportsRowNumberInFile(@TempDir Path folder) throws IOException {
+    StringBuilder csv = new StringBuilder("id,value\n");
+    for (int i = 1; i <= 400_000; i++) {
+      csv.append(i).append(',').append(i == 350_000 ? "1,2" : "1").append('\n');
+    }
+    Path path = folder.resolve("invalid.csv");
+    Files.write(path, csv.toString().getBytes(StandardCharsets.UTF_8));
+
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                Table.read()
+                    .csv(
+                        CsvReadOptions.builder(path.toFile())
+                            .columnTypes(new ColumnType[] {INTEGER, INTEGER})
+                            .parallelism(4)));
+    assertTrue(e.getMessage().startsWith("Row number 350000 contains 3 columns"), e.getMessage());
+  }
 }
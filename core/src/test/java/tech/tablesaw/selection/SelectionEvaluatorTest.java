@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.selection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+
+public class SelectionEvaluatorTest {
+
+  private static final int ROWS = 300_000;
+
+  @Test
+  public void parallelMatchesSerial() {
+    Selection serial = SelectionEvaluator.eval(ROWS, row -> row % 7 == 3);
+    Selection parallel = SelectionEvaluator.evalParallel(ROWS, row -> row % 7 == 3);
+    assertEquals(serial, parallel);
+    assertEquals((ROWS - 3 + 6) / 7, parallel.size());
+  }
+
+  @Test
+  public void serialByDefault() {
+    // a stateful predicate is only safe because eval tests the rows in order on this thread
+    AtomicInteger expected = new AtomicInteger();
+    Thread caller = Thread.currentThread();
+    Selection selection =
+        SelectionEvaluator.eval(
+            ROWS, row -> Thread.currentThread() == caller && row == expected.getAndIncrement());
+    assertEquals(ROWS, selection.size());
+  }
+
+  @Test
+  public void columnFiltersMatchParallel() {
+    double[] values = new double[ROWS];
+    String[] strings = new String[ROWS];
+    for (int i = 0; i < ROWS; i++) {
+      values[i] = i % 1000;
+      strings[i] = i % 3 == 0 ? "fizz" : "buzz";
+    }
+    DoubleColumn numbers = DoubleColumn.create("numbers", values);
+    StringColumn words = StringColumn.create("words", strings);
+
+    assertEquals(
+        numbers.isCloseTo(500, 10),
+        SelectionEvaluator.evalParallel(ROWS, i -> Math.abs(numbers.getDouble(i) - 500) < 10));
+    assertEquals(
+        words.startsWith("fi"),
+        SelectionEvaluator.evalParallel(ROWS, i -> words.get(i).startsWith("fi")));
+    assertEquals(ROWS / 3, words.startsWith("fi").size());
+  }
+
+  @Test
+  public void emptyRange() {
+    assertEquals(0, SelectionEvaluator.eval(0, row -> true).size());
+    assertEquals(0, SelectionEvaluator.evalParallel(0, row -> true).size());
+  }
+
+  @Test
+  public void smallRangeStaysOnCallingThread() {
+    Thread caller = Thread.currentThread();
+    Selection selection =
+        SelectionEvaluator.evalParallel(1000, row -> Thread.currentThread() == caller);
+    assertEquals(1000, selection.size());
+    assertTrue(selection.contains(999));
+  }
+}
@@ -2,6 +2,7 @@ package tech.tablesaw.table;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tech.tablesaw.aggregate.AggregateFunctions.countNonMissing;
 import static tech.tablesaw.aggregate.AggregateFunctions.countTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.latestDateTime;
 
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
 
 public class RollingColumnTest {
 
@@ -52,4 +54,15 @@ public class RollingColumnTest {
     assertEquals(1, result.getDouble(3), 0.0);
     assertEquals(2, result.getDouble(4), 0.0);
   }
+
+  @Test
+  public void testRollingCountOfStrings() {
+    StringColumn strings = StringColumn.create("data", "a", "", "b", "c", "");
+    DoubleColumn result = (DoubleColumn) strings.rolling(3).calc(countNonMissing);
+
+    assertEquals(Double.NaN, result.getDouble(1), 0.0);
+    assertEquals(2, result.getDouble(2), 0.0);
+    assertEquals(2, result.getDouble(3), 0.0);
+    assertEquals(2, result.getDouble(4), 0.0);
+  }
 }
@@ -0,0 +1,78 @@
+package tech.tablesaw.table;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class TableBatchTest {
+
+  private static Table table() {
+    return Table.create(
+        "t",
+        IntColumn.indexColumn("i", 10, 0),
+        DoubleColumn.create("d", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+        LongColumn.create("l", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+        FloatColumn.create("f", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+        ShortColumn.create("s", new short[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}),
+        StringColumn.create("str", "a", "b", "c", "d", "e", "f", "g", "h", "i", "j"));
+  }
+
+  @Test
+  public void batchesCoverEveryRow() {
+    List<TableBatch> batches = table().batches(4).collect(Collectors.toList());
+    assertEquals(3, batches.size());
+    assertEquals(4, batches.get(0).rowCount());
+    assertEquals(8, batches.get(2).startRow());
+    assertEquals(2, batches.get(2).rowCount());
+    assertArrayEquals(new int[] {8, 9}, batches.get(2).ints("i"));
+  }
+
+  @Test
+  public void primitiveArrays() {
+    TableBatch batch = table().batchIterator(3).next();
+    assertArrayEquals(new double[] {0, 1, 2}, batch.doubles("d"));
+    assertArrayEquals(new double[] {0, 1, 2}, batch.doubles("i"));
+    assertArrayEquals(new long[] {0, 1, 2}, batch.longs("l"));
+    assertArrayEquals(new float[] {0, 1, 2}, batch.floats("f"));
+    assertArrayEquals(new short[] {0, 1, 2}, batch.shorts("s"));
+  }
+
+  @Test
+  public void columnsAndTable() {
+    Table table = table();
+    TableBatch batch = new TableBatch(table, 5, 7);
+    assertEquals("f", batch.column("str").getString(0));
+    Table batchTable = batch.asTable();
+    assertEquals(2, batchTable.rowCount());
+    assertEquals(table.columnCount(), batchTable.columnCount());
+
+    double total = table.batches(4).mapToDouble(b -> sum(b.doubles("d"))).sum();
+    assertEquals(45, total);
+  }
+
+  @Test
+  public void invalidBatches() {
+    Table table = table();
+    assertThrows(IllegalArgumentException.class, () -> table.batches(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> new TableBatch(table, 8, 11));
+  }
+
+  private static double sum(double[] values) {
+    double sum = 0;
+    for (double value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+}
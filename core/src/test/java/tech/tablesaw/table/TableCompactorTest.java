@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.strings.ByteDictionaryMap;
+import tech.tablesaw.columns.strings.ShortDictionaryMap;
+
+public class TableCompactorTest {
+
+  @Test
+  public void narrowsNumericColumnsWithoutLosingValues() {
+    LongColumn small = LongColumn.create("small", 1, 2, -3);
+    small.appendMissing();
+    LongColumn medium = LongColumn.create("medium", 1, 100_000);
+    medium.append(-40_000);
+    medium.appendMissing();
+    LongColumn large = LongColumn.create("large", 1, 2, 3, 1L << 40);
+    IntColumn boundary = IntColumn.create("boundary", 1, Short.MIN_VALUE, 3, 4);
+    DoubleColumn halves = DoubleColumn.create("halves", 0.5, 1.5, Double.NaN, -2);
+    DoubleColumn tenths = DoubleColumn.create("tenths", 0.1, 0.2, 0.3, 0.4);
+    Table table = Table.create("t", small, medium, large, boundary, halves, tenths);
+
+    Table report = table.compact();
+
+    assertEquals(ColumnType.SHORT, table.column("small").type());
+    assertEquals(ColumnType.INTEGER, table.column("medium").type());
+    assertEquals(ColumnType.LONG, table.column("large").type());
+    assertEquals(ColumnType.INTEGER, table.column("boundary").type());
+    assertEquals(ColumnType.FLOAT, table.column("halves").type());
+    assertEquals(ColumnType.DOUBLE, table.column("tenths").type());
+
+    assertEquals(-3, table.shortColumn("small").getShort(2));
+    assertTrue(table.column("small").isMissing(3));
+    assertEquals(-40_000, table.intColumn("medium").getInt(2));
+    assertTrue(table.column("medium").isMissing(3));
+    assertTrue(table.column("halves").isMissing(2));
+    assertEquals(-2.0, table.floatColumn("halves").getDouble(3));
+
+    assertEquals(6, report.rowCount());
+    assertEquals("LONG", report.stringColumn("Type Before").get(0));
+    assertEquals("SHORT", report.stringColumn("Type After").get(0));
+    assertTrue(report.longColumn("Bytes Saved").getLong(0) >= 4 * (Long.BYTES - Short.BYTES));
+  }
+
+  @Test
+  public void reencodesOversizedDictionaries() {
+    StringColumn column = StringColumn.create("codes");
+    for (int i = 0; i < 1000; i++) {
+      column.append("code " + i);
+    }
+    assertTrue(column.getDictionary() instanceof ShortDictionaryMap);
+    for (int i = 0; i < 1000; i++) {
+      column.set(i, "code " + (i % 10));
+    }
+    Table table = Table.create("t", column);
+
+    table.compact();
+
+    StringColumn compacted = table.stringColumn("codes");
+    assertTrue(compacted.getDictionary() instanceof ByteDictionaryMap);
+    assertEquals(10, compacted.countUnique());
+    assertEquals("code 7", compacted.get(997));
+    assertEquals(1000, compacted.size());
+  }
+
+  @Test
+  public void narrowedColumnsKeepTheirSettings() {
+    LongColumn indexed = LongColumn.create("indexed", 1_000, 2_000, 3_000);
+    indexed.setPrintFormatter(NumberColumnFormatter.intsWithGrouping());
+    indexed.createIndex();
+    LongColumn zoned = LongColumn.create("zoned", 1, 2, 3).enableZoneMap();
+    StringColumn names = StringColumn.create("names");
+    for (int i = 0; i < 1000; i++) {
+      names.append("name " + i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      names.set(i, "name " + (i % 10));
+    }
+    names.createIndex();
+    Table table = Table.create("t", indexed, zoned);
+    Table strings = Table.create("s", names);
+
+    table.compact();
+    strings.compact();
+
+    assertEquals(ColumnType.SHORT, table.column("indexed").type());
+    assertTrue(table.column("indexed").isIndexed());
+    assertEquals("2,000", table.column("indexed").getString(1));
+    assertEquals(ColumnType.LONG, table.column("zoned").type());
+    assertNotNull(table.longColumn("zoned").zoneMap());
+    assertTrue(strings.stringColumn("names").getDictionary() instanceof ByteDictionaryMap);
+    assertTrue(strings.column("names").isIndexed());
+  }
+
+  @Test
+  public void trimsSpareCapacity() {
+    IntColumn ids = IntColumn.create("ids");
+    for (int i = 0; i < 1000; i++) {
+      ids.append(i * 1000);
+    }
+    assertTrue(ids.trimToSize() > 0);
+    assertEquals(0, ids.trimToSize());
+    assertEquals(999_000, ids.getInt(999));
+  }
+}